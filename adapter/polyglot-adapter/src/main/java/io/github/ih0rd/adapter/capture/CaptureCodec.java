@@ -0,0 +1,462 @@
+package io.github.ih0rd.adapter.capture;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/// # CaptureCodec
+///
+/// Binary format of capture files.
+///
+/// ```
+/// header      "PGIC" | version u2
+/// invocation  interface name | method name | parameter count (varint) | parameter type names
+///             | offset micros (varint) | elapsed nanos (varint) | failed (u1)
+///             | argument count (varint) | values
+/// name        varint: 0 followed by a new string (UTF-8, length-prefixed), or 1-based index
+///             of a string seen before in the file
+/// value       tag (u1) followed by the payload of that tag
+/// ```
+///
+/// Supported values: {@code null}, boxed primitives, strings, lists, sets, maps, arrays,
+/// records and enums (recursively). Names (interfaces, methods, types, record and enum
+/// classes) are written once per file, so repeated calls cost little more than their
+/// argument payload.
+final class CaptureCodec {
+
+  static final byte[] MAGIC = {'P', 'G', 'I', 'C'};
+  static final int VERSION = 1;
+
+  private static final int NULL = 0;
+  private static final int TRUE = 1;
+  private static final int FALSE = 2;
+  private static final int INT = 3;
+  private static final int LONG = 4;
+  private static final int DOUBLE = 5;
+  private static final int FLOAT = 6;
+  private static final int SHORT = 7;
+  private static final int BYTE = 8;
+  private static final int CHAR = 9;
+  private static final int STRING = 10;
+  private static final int LIST = 11;
+  private static final int SET = 12;
+  private static final int MAP = 13;
+  private static final int ARRAY = 14;
+  private static final int RECORD = 15;
+  private static final int ENUM = 16;
+
+  private static final Map<String, Class<?>> PRIMITIVES =
+      Map.of(
+          "boolean", boolean.class,
+          "byte", byte.class,
+          "short", short.class,
+          "char", char.class,
+          "int", int.class,
+          "long", long.class,
+          "float", float.class,
+          "double", double.class);
+
+  private CaptureCodec() {}
+
+  /// ### Writer
+  ///
+  /// Encodes invocations; keeps the name table of one file. Not thread-safe.
+  static final class Writer {
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> names = new HashMap<>();
+
+    Writer(DataOutputStream out) {
+      this.out = out;
+    }
+
+    void header() throws IOException {
+      out.write(MAGIC);
+      out.writeShort(VERSION);
+    }
+
+    /// Encodes one invocation. Names first seen here are dropped again if encoding fails,
+    /// so a failed invocation leaves no trace in the name table.
+    ///
+    /// @throws IllegalArgumentException if an argument type is not supported
+    void invocation(
+        DataOutputStream frame,
+        Method method,
+        Object[] args,
+        long offsetNanos,
+        long elapsedNanos,
+        boolean failed)
+        throws IOException {
+      int known = names.size();
+      try {
+        name(frame, method.getDeclaringClass().getName());
+        name(frame, method.getName());
+        Class<?>[] types = method.getParameterTypes();
+        varint(frame, types.length);
+        for (Class<?> type : types) {
+          name(frame, type.getName());
+        }
+        varint(frame, offsetNanos / 1_000);
+        varint(frame, elapsedNanos);
+        frame.writeBoolean(failed);
+        varint(frame, args.length);
+        for (Object arg : args) {
+          value(frame, arg);
+        }
+      } catch (IllegalArgumentException e) {
+        names.values().removeIf(index -> index > known);
+        throw e;
+      }
+    }
+
+    private void name(DataOutputStream frame, String name) throws IOException {
+      Integer index = names.get(name);
+      if (index != null) {
+        varint(frame, index);
+        return;
+      }
+      varint(frame, 0);
+      string(frame, name);
+      names.put(name, names.size() + 1);
+    }
+
+    private void value(DataOutputStream frame, Object value) throws IOException {
+      switch (value) {
+        case null -> frame.writeByte(NULL);
+        case Boolean b -> frame.writeByte(b ? TRUE : FALSE);
+        case Integer i -> {
+          frame.writeByte(INT);
+          varint(frame, zigzag(i));
+        }
+        case Long l -> {
+          frame.writeByte(LONG);
+          varint(frame, zigzag(l));
+        }
+        case Double d -> {
+          frame.writeByte(DOUBLE);
+          frame.writeDouble(d);
+        }
+        case Float f -> {
+          frame.writeByte(FLOAT);
+          frame.writeFloat(f);
+        }
+        case Short s -> {
+          frame.writeByte(SHORT);
+          frame.writeShort(s);
+        }
+        case Byte b -> {
+          frame.writeByte(BYTE);
+          frame.writeByte(b);
+        }
+        case Character c -> {
+          frame.writeByte(CHAR);
+          frame.writeChar(c);
+        }
+        case String s -> {
+          frame.writeByte(STRING);
+          string(frame, s);
+        }
+        case List<?> list -> {
+          frame.writeByte(LIST);
+          elements(frame, list);
+        }
+        case Set<?> set -> {
+          frame.writeByte(SET);
+          elements(frame, set);
+        }
+        case Map<?, ?> map -> {
+          frame.writeByte(MAP);
+          varint(frame, map.size());
+          for (Map.Entry<?, ?> entry : map.entrySet()) {
+            value(frame, entry.getKey());
+            value(frame, entry.getValue());
+          }
+        }
+        case Enum<?> constant -> {
+          frame.writeByte(ENUM);
+          name(frame, constant.getDeclaringClass().getName());
+          name(frame, constant.name());
+        }
+        case Record recordValue -> {
+          frame.writeByte(RECORD);
+          name(frame, recordValue.getClass().getName());
+          RecordComponent[] components = recordValue.getClass().getRecordComponents();
+          varint(frame, components.length);
+          for (RecordComponent component : components) {
+            value(frame, component(recordValue, component));
+          }
+        }
+        default -> {
+          if (!value.getClass().isArray()) {
+            throw new IllegalArgumentException(
+                "Unsupported argument type: " + value.getClass().getName());
+          }
+          frame.writeByte(ARRAY);
+          name(frame, value.getClass().getComponentType().getName());
+          int length = Array.getLength(value);
+          varint(frame, length);
+          for (int i = 0; i < length; i++) {
+            value(frame, Array.get(value, i));
+          }
+        }
+      }
+    }
+
+    private void elements(DataOutputStream frame, Collection<?> elements) throws IOException {
+      varint(frame, elements.size());
+      for (Object element : elements) {
+        value(frame, element);
+      }
+    }
+
+    private static Object component(Record value, RecordComponent component) {
+      try {
+        Method accessor = component.getAccessor();
+        accessor.setAccessible(true);
+        return accessor.invoke(value);
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        throw new IllegalArgumentException(
+            "Cannot read record component "
+                + value.getClass().getName()
+                + "."
+                + component.getName(),
+            e);
+      }
+    }
+  }
+
+  /// ### Reader
+  ///
+  /// Decodes invocations; keeps the name table of one file. Not thread-safe.
+  static final class Reader {
+
+    private final DataInputStream in;
+    private final ClassLoader classLoader;
+    private final List<String> names = new ArrayList<>();
+
+    Reader(DataInputStream in, ClassLoader classLoader) {
+      this.in = in;
+      this.classLoader = classLoader;
+    }
+
+    void header() throws IOException {
+      byte[] magic = new byte[MAGIC.length];
+      in.readFully(magic);
+      if (!Arrays.equals(magic, MAGIC)) {
+        throw new IOException("Not an invocation capture file");
+      }
+      int version = in.readUnsignedShort();
+      if (version != VERSION) {
+        throw new IOException("Unsupported invocation capture version: " + version);
+      }
+    }
+
+    /// @return next invocation, or {@code null} at the end of the file
+    CapturedInvocation next() throws IOException {
+      int first = in.read();
+      if (first == -1) {
+        return null;
+      }
+      String interfaceName = name(first);
+      String methodName = name(in.readUnsignedByte());
+      int parameterCount = (int) varint();
+      List<String> parameterTypes = new ArrayList<>(parameterCount);
+      for (int i = 0; i < parameterCount; i++) {
+        parameterTypes.add(name(in.readUnsignedByte()));
+      }
+      long offsetNanos = varint() * 1_000;
+      long elapsedNanos = varint();
+      boolean failed = in.readBoolean();
+      int argumentCount = (int) varint();
+      Object[] arguments = new Object[argumentCount];
+      for (int i = 0; i < argumentCount; i++) {
+        arguments[i] = value();
+      }
+      return new CapturedInvocation(
+          interfaceName,
+          methodName,
+          List.copyOf(parameterTypes),
+          Collections.unmodifiableList(Arrays.asList(arguments)),
+          offsetNanos,
+          elapsedNanos,
+          failed);
+    }
+
+    /// Reads a name whose first varint byte was already consumed.
+    private String name(int firstByte) throws IOException {
+      int index = (int) varint(firstByte);
+      if (index == 0) {
+        String name = string();
+        names.add(name);
+        return name;
+      }
+      if (index > names.size()) {
+        throw new IOException("Corrupt invocation capture: unknown name " + index);
+      }
+      return names.get(index - 1);
+    }
+
+    private String name() throws IOException {
+      return name(in.readUnsignedByte());
+    }
+
+    private Object value() throws IOException {
+      int tag = in.readUnsignedByte();
+      return switch (tag) {
+        case NULL -> null;
+        case TRUE -> Boolean.TRUE;
+        case FALSE -> Boolean.FALSE;
+        case INT -> (int) unzigzag(varint());
+        case LONG -> unzigzag(varint());
+        case DOUBLE -> in.readDouble();
+        case FLOAT -> in.readFloat();
+        case SHORT -> in.readShort();
+        case BYTE -> in.readByte();
+        case CHAR -> in.readChar();
+        case STRING -> string();
+        case LIST -> {
+          int size = (int) varint();
+          List<Object> list = new ArrayList<>(size);
+          for (int i = 0; i < size; i++) {
+            list.add(value());
+          }
+          yield list;
+        }
+        case SET -> {
+          int size = (int) varint();
+          Set<Object> set = LinkedHashSet.newLinkedHashSet(size);
+          for (int i = 0; i < size; i++) {
+            set.add(value());
+          }
+          yield set;
+        }
+        case MAP -> {
+          int size = (int) varint();
+          Map<Object, Object> map = LinkedHashMap.newLinkedHashMap(size);
+          for (int i = 0; i < size; i++) {
+            map.put(value(), value());
+          }
+          yield map;
+        }
+        case ENUM -> enumConstant(load(name()), name());
+        case RECORD -> record(load(name()));
+        case ARRAY -> {
+          Class<?> component = load(name());
+          int length = (int) varint();
+          Object array = Array.newInstance(component, length);
+          for (int i = 0; i < length; i++) {
+            Array.set(array, i, value());
+          }
+          yield array;
+        }
+        default -> throw new IOException("Corrupt invocation capture: unknown tag " + tag);
+      };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumConstant(Class<?> type, String name) throws IOException {
+      if (!type.isEnum()) {
+        throw new IOException("Not an enum: " + type.getName());
+      }
+      return Enum.valueOf((Class) type, name);
+    }
+
+    private Object record(Class<?> type) throws IOException {
+      RecordComponent[] components = type.getRecordComponents();
+      int count = (int) varint();
+      if (components == null || components.length != count) {
+        throw new IOException("Record shape changed since capture: " + type.getName());
+      }
+      Object[] values = new Object[count];
+      Class<?>[] types = new Class<?>[count];
+      for (int i = 0; i < count; i++) {
+        values[i] = value();
+        types[i] = components[i].getType();
+      }
+      try {
+        Constructor<?> constructor = type.getDeclaredConstructor(types);
+        constructor.setAccessible(true);
+        return constructor.newInstance(values);
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        throw new IOException("Cannot recreate record " + type.getName(), e);
+      }
+    }
+
+    private Class<?> load(String name) throws IOException {
+      Class<?> primitive = PRIMITIVES.get(name);
+      if (primitive != null) {
+        return primitive;
+      }
+      try {
+        return Class.forName(name, false, classLoader);
+      } catch (ClassNotFoundException e) {
+        throw new IOException("Captured class not found: " + name, e);
+      }
+    }
+
+    private String string() throws IOException {
+      byte[] bytes = new byte[(int) varint()];
+      in.readFully(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long varint() throws IOException {
+      return varint(in.readUnsignedByte());
+    }
+
+    private long varint(int firstByte) throws IOException {
+      long value = firstByte & 0x7F;
+      int shift = 7;
+      for (int b = firstByte; (b & 0x80) != 0; shift += 7) {
+        if (shift > 63) {
+          throw new IOException("Corrupt invocation capture: varint too long");
+        }
+        b = in.read();
+        if (b == -1) {
+          throw new EOFException();
+        }
+        value |= (long) (b & 0x7F) << shift;
+      }
+      return value;
+    }
+  }
+
+  static void string(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    varint(out, bytes.length);
+    out.write(bytes);
+  }
+
+  /// Unsigned LEB128.
+  static void varint(DataOutputStream out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
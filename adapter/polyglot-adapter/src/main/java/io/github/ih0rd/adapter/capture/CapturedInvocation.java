@@ -0,0 +1,23 @@
+package io.github.ih0rd.adapter.capture;
+
+import java.util.List;
+
+/// # CapturedInvocation
+///
+/// One sampled call of a bound interface method, as read back from a capture file.
+///
+/// @param interfaceName  bound interface, binary class name
+/// @param methodName     interface method name
+/// @param parameterTypes parameter type names, identifying the overload
+/// @param arguments      deserialized call arguments (may contain {@code null})
+/// @param offsetNanos    time since the capture was opened, at the end of the call
+/// @param elapsedNanos   recorded call latency
+/// @param failed         whether the call completed exceptionally
+public record CapturedInvocation(
+    String interfaceName,
+    String methodName,
+    List<String> parameterTypes,
+    List<Object> arguments,
+    long offsetNanos,
+    long elapsedNanos,
+    boolean failed) {}
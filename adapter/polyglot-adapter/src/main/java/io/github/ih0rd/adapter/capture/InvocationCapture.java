@@ -0,0 +1,176 @@
+package io.github.ih0rd.adapter.capture;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// # InvocationCapture
+///
+/// Samples calls made through bound interfaces into a compact local file, for replay with
+/// {@link InvocationReplay}.
+///
+/// Each sampled call is stored with its interface, method, serialized arguments, latency and
+/// outcome (format: {@link CaptureCodec}). Install it on an executor with
+/// {@code executor.invocationCapture(capture)}; both dynamic proxies and codegen-generated
+/// bindings report to it.
+///
+/// Design notes:
+/// - Unsampled calls cost one random draw; nothing is locked or allocated
+/// - Sampled calls are encoded and written under a lock, so the sample rate bounds the
+///   contention added to the call path
+/// - Calls with unsupported argument types are dropped, not failed; an I/O error stops the
+///   capture and is reported by {@link #failure()}. Capturing never fails the call itself
+/// - The file is complete once {@link #close()} returned
+///
+/// ```java
+/// try (InvocationCapture capture = InvocationCapture.open(Path.of("calls.pgic"), 0.01, 10_000)) {
+///   executor.invocationCapture(capture);
+///   ...
+/// }
+/// ```
+public final class InvocationCapture implements AutoCloseable {
+
+  private final DataOutputStream out;
+  private final CaptureCodec.Writer writer;
+  private final double sampleRate;
+  private final long maxInvocations;
+  private final long openedAt = System.nanoTime();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final ByteArrayOutputStream frame = new ByteArrayOutputStream(256);
+  private final DataOutputStream frameOut = new DataOutputStream(frame);
+  private final LongAdder dropped = new LongAdder();
+
+  private volatile boolean stopped;
+  private long captured;
+  private IOException failure;
+
+  private InvocationCapture(DataOutputStream out, double sampleRate, long maxInvocations) {
+    this.out = out;
+    this.writer = new CaptureCodec.Writer(out);
+    this.sampleRate = sampleRate;
+    this.maxInvocations = maxInvocations;
+  }
+
+  /// ### open
+  ///
+  /// Creates (or truncates) a capture file.
+  ///
+  /// @param file           capture file
+  /// @param sampleRate     fraction of calls to capture, in {@code (0, 1]}
+  /// @param maxInvocations capture stops after this many calls
+  /// @return open capture
+  /// @throws IOException if the file cannot be created
+  public static InvocationCapture open(Path file, double sampleRate, long maxInvocations)
+      throws IOException {
+    if (!(sampleRate > 0 && sampleRate <= 1)) {
+      throw new IllegalArgumentException("sampleRate must be in (0, 1]: " + sampleRate);
+    }
+    if (maxInvocations <= 0) {
+      throw new IllegalArgumentException("maxInvocations must be positive: " + maxInvocations);
+    }
+    DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+    InvocationCapture capture = new InvocationCapture(out, sampleRate, maxInvocations);
+    try {
+      capture.writer.header();
+    } catch (IOException e) {
+      out.close();
+      throw e;
+    }
+    return capture;
+  }
+
+  /// ### record
+  ///
+  /// Offers one completed call for sampling.
+  ///
+  /// @param method       invoked interface method
+  /// @param args         call arguments
+  /// @param elapsedNanos call duration
+  /// @param failed       whether the call completed exceptionally
+  public void record(Method method, Object[] args, long elapsedNanos, boolean failed) {
+    if (stopped || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+      return;
+    }
+    long offsetNanos = System.nanoTime() - openedAt;
+    lock.lock();
+    try {
+      if (stopped) {
+        return;
+      }
+      frame.reset();
+      try {
+        writer.invocation(frameOut, method, args, offsetNanos, elapsedNanos, failed);
+      } catch (IllegalArgumentException e) {
+        dropped.increment();
+        return;
+      }
+      frame.writeTo(out);
+      if (++captured >= maxInvocations) {
+        stopped = true;
+      }
+    } catch (IOException e) {
+      failure = e;
+      stopped = true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /// ### captured
+  ///
+  /// @return number of calls written so far
+  public long captured() {
+    lock.lock();
+    try {
+      return captured;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /// ### dropped
+  ///
+  /// @return number of sampled calls skipped for unsupported argument types
+  public long dropped() {
+    return dropped.sum();
+  }
+
+  /// ### failure
+  ///
+  /// @return the I/O error that stopped the capture, or {@code null}
+  public IOException failure() {
+    lock.lock();
+    try {
+      return failure;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /// ### close
+  ///
+  /// Stops sampling and flushes the file.
+  ///
+  /// @throws UncheckedIOException if the file cannot be written
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      stopped = true;
+      out.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close invocation capture", e);
+    } finally {
+      lock.unlock();
+    }
+  }
+}
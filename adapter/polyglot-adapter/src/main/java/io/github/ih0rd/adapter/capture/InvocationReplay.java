@@ -0,0 +1,178 @@
+package io.github.ih0rd.adapter.capture;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.ObjLongConsumer;
+
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+
+/// # InvocationReplay
+///
+/// Re-drives captured invocations (see {@link InvocationCapture}) against an executor.
+///
+/// Typical uses:
+/// - reproducible performance regression runs with recorded argument shapes
+/// - warming an executor at startup with realistic inputs before it takes traffic
+///
+/// Design notes:
+/// - Calls go through {@link AbstractPolyglotExecutor#bind(Class)}, so they are recorded in
+///   the executor's invocation stats like regular traffic
+/// - Invocations whose interface or method no longer exists are skipped
+/// - A call that throws counts as failed; replay continues
+///
+/// ```java
+/// List<CapturedInvocation> sample = InvocationReplay.read(Path.of("calls.pgic"), loader);
+/// InvocationReplay.Result result = InvocationReplay.replay(executor, sample, loader);
+/// ```
+public final class InvocationReplay {
+
+  private InvocationReplay() {}
+
+  /// Outcome of a replay.
+  ///
+  /// @param replayed     calls made
+  /// @param failed       calls that threw
+  /// @param skipped      invocations whose interface or method could not be resolved
+  /// @param elapsedNanos wall time of the replay
+  public record Result(long replayed, long failed, long skipped, long elapsedNanos) {}
+
+  /// ### read
+  ///
+  /// Reads a capture file.
+  ///
+  /// @param file        capture file
+  /// @param classLoader loader for record and enum argument types
+  /// @return invocations in capture order
+  /// @throws IOException if the file cannot be read or is not a capture file
+  public static List<CapturedInvocation> read(Path file, ClassLoader classLoader)
+      throws IOException {
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      CaptureCodec.Reader reader = new CaptureCodec.Reader(in, classLoader);
+      reader.header();
+      List<CapturedInvocation> invocations = new ArrayList<>();
+      for (CapturedInvocation next; (next = reader.next()) != null; ) {
+        invocations.add(next);
+      }
+      return invocations;
+    }
+  }
+
+  /// ### replay
+  ///
+  /// Replays invocations back-to-back.
+  ///
+  /// @param executor    target executor
+  /// @param invocations invocations to replay
+  /// @param classLoader loader for the bound interfaces
+  /// @return replay outcome
+  public static Result replay(
+      AbstractPolyglotExecutor executor,
+      List<CapturedInvocation> invocations,
+      ClassLoader classLoader) {
+    return replay(executor, invocations, classLoader, false, (_, _) -> {});
+  }
+
+  /// ### replay
+  ///
+  /// Replays invocations, optionally at their recorded pace.
+  ///
+  /// @param executor    target executor
+  /// @param invocations invocations to replay
+  /// @param classLoader loader for the bound interfaces
+  /// @param paced       keep the recorded gaps between calls instead of replaying back-to-back
+  /// @param onCall      receives each replayed invocation with its latency in nanoseconds
+  /// @return replay outcome
+  public static Result replay(
+      AbstractPolyglotExecutor executor,
+      List<CapturedInvocation> invocations,
+      ClassLoader classLoader,
+      boolean paced,
+      ObjLongConsumer<CapturedInvocation> onCall) {
+
+    Map<String, Object> proxies = new HashMap<>();
+    Map<String, Method> methods = new HashMap<>();
+    long replayed = 0;
+    long failed = 0;
+    long skipped = 0;
+
+    long startedAt = System.nanoTime();
+    long firstOffset = invocations.isEmpty() ? 0 : invocations.getFirst().offsetNanos();
+    for (CapturedInvocation invocation : invocations) {
+      Method method =
+          methods.computeIfAbsent(key(invocation), _ -> method(invocation, classLoader));
+      if (method == null) {
+        skipped++;
+        continue;
+      }
+      Object proxy =
+          proxies.computeIfAbsent(
+              invocation.interfaceName(), _ -> executor.bind(method.getDeclaringClass()));
+
+      if (paced) {
+        long due = startedAt + invocation.offsetNanos() - firstOffset;
+        for (long wait; (wait = due - System.nanoTime()) > 0; ) {
+          LockSupport.parkNanos(wait);
+        }
+      }
+
+      long callStartedAt = System.nanoTime();
+      try {
+        method.invoke(proxy, invocation.arguments().toArray());
+      } catch (InvocationTargetException e) {
+        failed++;
+      } catch (IllegalAccessException | IllegalArgumentException e) {
+        skipped++;
+        continue;
+      }
+      replayed++;
+      onCall.accept(invocation, System.nanoTime() - callStartedAt);
+    }
+    return new Result(replayed, failed, skipped, System.nanoTime() - startedAt);
+  }
+
+  private static String key(CapturedInvocation invocation) {
+    return invocation.interfaceName() + '#' + invocation.methodName() + invocation.parameterTypes();
+  }
+
+  /// @return the captured interface method, or {@code null} if it no longer exists
+  private static Method method(CapturedInvocation invocation, ClassLoader classLoader) {
+    try {
+      Class<?> iface = Class.forName(invocation.interfaceName(), false, classLoader);
+      if (!iface.isInterface()) {
+        return null;
+      }
+      Class<?>[] types = new Class<?>[invocation.parameterTypes().size()];
+      for (int i = 0; i < types.length; i++) {
+        types[i] = type(invocation.parameterTypes().get(i), classLoader);
+      }
+      return iface.getMethod(invocation.methodName(), types);
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private static Class<?> type(String name, ClassLoader classLoader) throws ClassNotFoundException {
+    return switch (name) {
+      case "boolean" -> boolean.class;
+      case "byte" -> byte.class;
+      case "short" -> short.class;
+      case "char" -> char.class;
+      case "int" -> int.class;
+      case "long" -> long.class;
+      case "float" -> float.class;
+      case "double" -> double.class;
+      default -> Class.forName(name, false, classLoader);
+    };
+  }
+}
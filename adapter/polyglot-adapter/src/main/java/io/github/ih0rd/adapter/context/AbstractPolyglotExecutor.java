@@ -1,20 +1,32 @@
 package io.github.ih0rd.adapter.context;
 
+import static io.github.ih0rd.adapter.utils.StringCaseConverter.camelToSnake;
+
 import java.io.IOException;
 import java.io.Reader;
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 
+import io.github.ih0rd.adapter.capture.InvocationCapture;
 import io.github.ih0rd.adapter.exceptions.BindingException;
 import io.github.ih0rd.adapter.exceptions.EvaluationException;
 import io.github.ih0rd.adapter.exceptions.InvocationException;
 import io.github.ih0rd.adapter.exceptions.ScriptNotFoundException;
+import io.github.ih0rd.adapter.metrics.InvocationStats;
+import io.github.ih0rd.adapter.metrics.StartupRecorder;
 import io.github.ih0rd.contract.ScriptSource;
 import io.github.ih0rd.contract.SupportedLanguage;
 
@@ -41,7 +53,8 @@ public abstract class AbstractPolyglotExecutor implements AutoCloseable {
   /// Lifecycle:
   /// - If created internally, the executor owns this context and will close it
   /// - If provided externally, the caller is responsible for lifecycle management
-  protected final Context context;
+  /// - Replaced (and the previous one closed) by {@link #recycle(Context)}
+  protected volatile Context context;
 
   /// ### scriptSource
   /// Abstraction responsible for resolving and opening script sources.
@@ -49,8 +62,41 @@ public abstract class AbstractPolyglotExecutor implements AutoCloseable {
 
   /// ### sourceCache
   /// Per-executor cache of compiled {@link Source} instances.
+  /// Filled through {@link #loadSource(Class, Function)}.
   protected final Map<Class<?>, Source> sourceCache = new ConcurrentHashMap<>();
 
+  /// ### invocationStats
+  /// Per-method latency counters for calls made through {@link #bind(Class)} proxies.
+  protected final InvocationStats invocationStats = new InvocationStats();
+
+  /// ### startupRecorder
+  /// Records script load / eval steps. {@link StartupRecorder#NOOP} unless an
+  /// integration installs one for the initialization phase.
+  protected volatile StartupRecorder startupRecorder = StartupRecorder.NOOP;
+
+  /// ### invocationCapture
+  /// Samples calls made through {@link #bind(Class)} proxies; {@code null} when not capturing.
+  protected volatile InvocationCapture invocationCapture;
+
+  /// ### invocationDispatcher
+  /// Serializes guest calls on a context-owning worker; {@code null} to call on the
+  /// caller's thread.
+  protected volatile InvocationDispatcher invocationDispatcher;
+
+  /// ### prefetchedSources
+  /// Scripts loaded ahead of evaluation by {@link #prefetch(Class)}, keyed by script name.
+  /// Consumed (removed) by {@link #loadScript(SupportedLanguage, String)}.
+  private final Map<String, Source> prefetchedSources = new ConcurrentHashMap<>();
+
+  /// ### sourceLoads
+  /// Deduplicates concurrent first loads of the same interface.
+  private final SingleFlight<Class<?>, Source> sourceLoads = new SingleFlight<>();
+
+  /// ### bindingEpoch
+  /// Incremented whenever cached guest state is dropped, so {@link BoundMembers}
+  /// re-resolve their executables on the next call.
+  private final AtomicLong bindingEpoch = new AtomicLong();
+
   /// ### AbstractPolyglotExecutor
   ///
   /// @param context       GraalVM {@link Context} instance (must not be null)
@@ -107,7 +153,7 @@ public abstract class AbstractPolyglotExecutor implements AutoCloseable {
     try {
       Source source =
           Source.newBuilder(languageId(), code, "inline." + languageId()).buildLiteral();
-      return context.eval(source);
+      return dispatch(() -> context.eval(source));
     } catch (Exception e) {
       throw new InvocationException("Error during " + languageId() + " inline code execution", e);
     }
@@ -115,10 +161,11 @@ public abstract class AbstractPolyglotExecutor implements AutoCloseable {
 
   /// ### bind
   ///
-  /// Creates a dynamic proxy for the given Java interface.
+  /// Binds the given Java interface to its guest implementation.
   ///
-  /// Each interface method is mapped to a guest-language function
-  /// with the same name.
+  /// If codegen generated an implementation for the interface ({@code <Interface>Binding},
+  /// see {@link BoundMembers}), it is used directly. Otherwise a dynamic proxy maps each
+  /// interface method to a guest-language function with the same name.
   ///
   /// @param iface interface to bind
   /// @param <T>   interface type
@@ -129,6 +176,11 @@ public abstract class AbstractPolyglotExecutor implements AutoCloseable {
       throw new IllegalArgumentException("Interface type must not be null");
     }
 
+    T generated = GeneratedBindings.instantiate(iface, this);
+    if (generated != null) {
+      return generated;
+    }
+
     return (T)
         Proxy.newProxyInstance(
             iface.getClassLoader(),
@@ -139,14 +191,32 @@ public abstract class AbstractPolyglotExecutor implements AutoCloseable {
               }
               String methodName = method.getName();
               Object[] safeArgs = (args != null ? args : new Object[0]);
-              Value result = evaluate(methodName, iface, safeArgs);
-              if (result == null || result.isNull()) {
-                return null;
+              long startedAt = System.nanoTime();
+              boolean failed = true;
+              try {
+                Object converted =
+                    dispatch(
+                        () -> {
+                          Value result = evaluate(methodName, iface, safeArgs);
+                          return (result == null || result.isNull())
+                              ? null
+                              : convertResult(result, method);
+                        });
+                failed = false;
+                return converted;
+              } finally {
+                recordInvocation(method, safeArgs, System.nanoTime() - startedAt, failed);
               }
-              return result.as(method.getReturnType());
             });
   }
 
+  private static Object convertResult(Value result, Method method) {
+    Type type = method.getGenericReturnType();
+    return GuestRecords.involvesRecord(type)
+        ? GuestRecords.convert(result, type)
+        : result.as(method.getReturnType());
+  }
+
   /// ### validateBinding
   ///
   /// Validates that the given Java interface can be bound to a guest implementation.
@@ -164,6 +234,58 @@ public abstract class AbstractPolyglotExecutor implements AutoCloseable {
         "Binding validation is not implemented for executor: " + getClass().getSimpleName());
   }
 
+  /// ### matchesManifest
+  ///
+  /// Checks a bound interface against the manifest polyglot-codegen wrote for it
+  /// (see {@link BindingManifest}).
+  ///
+  /// Loads the script if needed, but does not evaluate it. A match means the interface was
+  /// generated from exactly this script, so {@link #validateBinding(Class)} implementations
+  /// may skip evaluating it; the script is then evaluated on the first call.
+  ///
+  /// @param iface bound interface
+  /// @return {@code true} if a manifest lists every interface method and carries the hash
+  ///     of the script that would be evaluated
+  protected final boolean matchesManifest(Class<?> iface) {
+    BindingManifest manifest = BindingManifest.of(iface);
+    if (manifest == null || !manifest.covers(iface)) {
+      return false;
+    }
+
+    Source source = sourceCache.get(iface);
+    if (source == null) {
+      prefetch(iface);
+      source = prefetchedSources.get(scriptName(iface));
+    }
+    return source != null && manifest.matches(languageId(), source);
+  }
+
+  /// ### resolveMember
+  ///
+  /// Resolves the guest executable backing one method of a bound interface,
+  /// loading and evaluating its script if needed. Used by {@link BoundMembers}.
+  ///
+  /// The default looks the member up in the language's global bindings; executors that
+  /// evaluate scripts lazily or bind to guest objects override it.
+  ///
+  /// @param iface      bound interface
+  /// @param methodName interface method name
+  /// @return guest member, or {@code null} if absent
+  protected Value resolveMember(Class<?> iface, String methodName) {
+    return context.getBindings(languageId()).getMember(methodName);
+  }
+
+  /// ### invalidateBindings
+  ///
+  /// Marks resolved {@link BoundMembers} stale. Called whenever cached guest state is dropped.
+  protected final void invalidateBindings() {
+    bindingEpoch.incrementAndGet();
+  }
+
+  final long bindingEpoch() {
+    return bindingEpoch.get();
+  }
+
   /// ### callFunction
   ///
   /// Invokes a global function from the language bindings.
@@ -195,17 +317,121 @@ public abstract class AbstractPolyglotExecutor implements AutoCloseable {
   /// @param scriptName logical script name
   /// @return compiled {@link Source}
   protected Source loadScript(SupportedLanguage language, String scriptName) {
-    if (!scriptSource.exists(language, scriptName)) {
-      throw new ScriptNotFoundException(
-          "Script not found: " + scriptName + " for language " + language);
+    Source prefetched = prefetchedSources.remove(scriptName);
+    if (prefetched != null && prefetched.getLanguage().equals(language.id())) {
+      return prefetched;
+    }
+
+    try (StartupRecorder.Step step = startupRecorder.start("polyglot.script.load")) {
+      step.tag("language", language.id()).tag("script", scriptName);
+
+      if (!scriptSource.exists(language, scriptName)) {
+        throw new ScriptNotFoundException(
+            "Script not found: " + scriptName + " for language " + language);
+      }
+
+      try (Reader reader = scriptSource.open(language, scriptName)) {
+        return Source.newBuilder(language.id(), reader, scriptName).buildLiteral();
+      } catch (IOException e) {
+        throw new EvaluationException(
+            "Failed to load script: " + scriptName + " for language " + language, e);
+      }
+    }
+  }
+
+  /// ### loadSource
+  ///
+  /// Returns the cached {@link Source} of an interface, loading it on first use.
+  ///
+  /// Concurrent first calls for the same interface run the loader once and share its
+  /// result; calls for other interfaces proceed in parallel. No lock is held while the
+  /// loader runs, so it may do script I/O, evaluate the script, or load other interfaces.
+  /// A failed load is not cached.
+  ///
+  /// @param iface  bound interface
+  /// @param loader loads (and, if the language needs it, evaluates) the script
+  /// @return cached or loaded source
+  protected final Source loadSource(Class<?> iface, Function<Class<?>, Source> loader) {
+    Source cached = sourceCache.get(iface);
+    if (cached != null) {
+      return cached;
+    }
+    return sourceLoads.load(
+        iface,
+        () -> {
+          Source source = sourceCache.get(iface);
+          if (source == null) {
+            source = loader.apply(iface);
+            sourceCache.put(iface, source);
+          }
+          return source;
+        });
+  }
+
+  /// ### scriptName
+  ///
+  /// Resolves the script (module) name for a bound interface.
+  ///
+  /// Convention: {@code StatsApi} → {@code stats_api}.
+  ///
+  /// @param iface bound interface
+  /// @return logical script name
+  protected String scriptName(Class<?> iface) {
+    return camelToSnake(iface.getSimpleName());
+  }
+
+  /// ### prefetch
+  ///
+  /// Loads the script of the given interface without evaluating it.
+  ///
+  /// Script I/O does not touch the {@link Context}, so it is safe to call
+  /// from any thread, e.g. to overlap loading of many scripts with the
+  /// (serialized) evaluation of others. The next load of the same script
+  /// uses the prefetched {@link Source}. With an {@link InvocationDispatcher} installed, the
+  /// load runs on its worker, in order with the calls that read the caches.
+  ///
+  /// @param iface bound interface
+  public void prefetch(Class<?> iface) {
+    if (iface == null) {
+      throw new IllegalArgumentException("Interface type must not be null");
+    }
+    dispatchUnchecked(
+        () -> {
+          if (!sourceCache.containsKey(iface)) {
+            String name = scriptName(iface);
+            if (!prefetchedSources.containsKey(name)) {
+              prefetchedSources.putIfAbsent(name, loadScript(language(), name));
+            }
+          }
+          return null;
+        });
+  }
+
+  /// ### evalScript
+  ///
+  /// Evaluates a loaded script in this context, recorded as a
+  /// {@code polyglot.script.eval} step.
+  ///
+  /// @param source compiled script
+  /// @return evaluation result
+  protected Value evalScript(Source source) {
+    try (StartupRecorder.Step step = startupRecorder.start("polyglot.script.eval")) {
+      step.tag("language", languageId()).tag("script", String.valueOf(source.getName()));
+      return context.eval(source);
     }
+  }
 
-    try (Reader reader = scriptSource.open(language, scriptName)) {
-      return Source.newBuilder(language.id(), reader, scriptName).buildLiteral();
-    } catch (IOException e) {
-      throw new EvaluationException(
-          "Failed to load script: " + scriptName + " for language " + language, e);
+  /// ### startupRecorder
+  ///
+  /// Installs the recorder used for script load / eval steps.
+  /// Pass {@link StartupRecorder#NOOP} to stop recording.
+  ///
+  /// @param recorder step recorder (must not be null)
+  public void startupRecorder(StartupRecorder recorder) {
+    if (recorder == null) {
+      throw new IllegalArgumentException("StartupRecorder must not be null");
     }
+    this.startupRecorder = recorder;
   }
 
   /// ### clearSourceCache
@@ -213,6 +439,7 @@ public abstract class AbstractPolyglotExecutor implements AutoCloseable {
   /// Clears the cached sources.
   public void clearSourceCache() {
     sourceCache.clear();
+    invalidateBindings();
   }
 
   /// ### clearAllCaches
@@ -220,9 +447,127 @@ public abstract class AbstractPolyglotExecutor implements AutoCloseable {
   /// Clears all caches maintained by this executor.
   /// Subclasses may override to clear additional caches.
   public void clearAllCaches() {
+    prefetchedSources.clear();
     clearSourceCache();
   }
 
+  /// ### evict
+  ///
+  /// Drops cached state for a single bound interface, so the next call
+  /// reloads its script. Subclasses may override to evict additional caches.
+  ///
+  /// @param iface bound interface
+  /// @return {@code true} if any cached state was removed
+  public boolean evict(Class<?> iface) {
+    if (iface == null) {
+      throw new IllegalArgumentException("Interface type must not be null");
+    }
+    invalidateBindings();
+    return sourceCache.remove(iface) != null;
+  }
+
+  /// ### cachedInterfaces
+  ///
+  /// @return interfaces that currently have cached state in this executor
+  public Set<Class<?>> cachedInterfaces() {
+    return Set.copyOf(sourceCache.keySet());
+  }
+
+  /// ### invocationCapture
+  ///
+  /// Starts sampling bound calls into the given capture, or stops with {@code null}.
+  /// The capture is not closed by the executor.
+  ///
+  /// @param capture invocation capture, may be {@code null}
+  public void invocationCapture(InvocationCapture capture) {
+    this.invocationCapture = capture;
+  }
+
+  /// ### invocationDispatcher
+  ///
+  /// Routes all work on the guest context through the given dispatcher, or runs it on the
+  /// caller's thread with {@code null}: bound calls (member lookup, call and result
+  /// conversion), inline evaluations, {@link #validateBinding(Class)}, {@link #prefetch(Class)}
+  /// and the context swap of {@link #recycle(Context)}. A replaced dispatcher is not closed;
+  /// the installed one is closed with the executor.
+  ///
+  /// @param dispatcher invocation dispatcher, may be {@code null}
+  public void invocationDispatcher(InvocationDispatcher dispatcher) {
+    this.invocationDispatcher = dispatcher;
+  }
+
+  /// ### invocationDispatcher
+  ///
+  /// @return installed dispatcher, or {@code null}
+  public InvocationDispatcher invocationDispatcher() {
+    return invocationDispatcher;
+  }
+
+  /// Runs a guest call through the installed dispatcher, or directly without one.
+  final <V> V dispatch(Callable<V> call) throws Exception {
+    InvocationDispatcher dispatcher = invocationDispatcher;
+    return dispatcher == null ? call.call() : dispatcher.call(call);
+  }
+
+  /// Like {@link #dispatch(Callable)}, for work that throws no checked exceptions: exceptions
+  /// are rethrown unchanged.
+  final <V> V dispatchUnchecked(Supplier<V> work) {
+    InvocationDispatcher dispatcher = invocationDispatcher;
+    return dispatcher == null ? work.get() : dispatcher.call(work::get);
+  }
+
+  /// Records a completed bound call in the stats and, if installed, the capture.
+  final void recordInvocation(Method method, Object[] args, long elapsedNanos, boolean failed) {
+    invocationStats.record(method, elapsedNanos, failed);
+    InvocationCapture capture = invocationCapture;
+    if (capture != null) {
+      capture.record(method, args, elapsedNanos, failed);
+    }
+  }
+
+  /// ### invocationStats
+  ///
+  /// @return per-method latency counters of bound proxies
+  public InvocationStats invocationStats() {
+    return invocationStats;
+  }
+
+  /// ### recycle
+  ///
+  /// Replaces the underlying {@link Context} with a freshly created one.
+  ///
+  /// All caches are cleared, so every interface is reloaded on its next call.
+  /// The previous context is closed with cancellation, which aborts any guest
+  /// code still running in it (e.g. a runaway loop). It is closed from the calling thread
+  /// first, as the running code may hold the {@link InvocationDispatcher} worker; the swap then
+  /// runs as a dispatched call, so calls queued before it fail on the closed context.
+  ///
+  /// @param replacement new, initialized context (must not be null)
+  public void recycle(Context replacement) {
+    if (replacement == null) {
+      throw new IllegalArgumentException("Context must not be null");
+    }
+    Context previous = this.context;
+    if (previous != replacement) {
+      previous.close(true);
+    }
+    dispatchUnchecked(
+        () -> {
+          this.context = replacement;
+          clearAllCaches();
+          return null;
+        });
+  }
+
+  private SupportedLanguage language() {
+    for (SupportedLanguage language : SupportedLanguage.values()) {
+      if (language.id().equals(languageId())) {
+        return language;
+      }
+    }
+    throw new IllegalStateException("Unsupported language: " + languageId());
+  }
+
   /// ### metadata
   ///
   /// Returns a metadata snapshot of this executor instance.
@@ -235,14 +580,23 @@ public abstract class AbstractPolyglotExecutor implements AutoCloseable {
     info.put("executorType", getClass().getName());
     info.put("languageId", languageId());
     info.put("sourceCacheSize", sourceCache.size());
+    InvocationDispatcher dispatcher = invocationDispatcher;
+    if (dispatcher != null) {
+      info.put("dispatcher", dispatcher.stats());
+    }
     return info;
   }
 
   /// ### close
   ///
-  /// Closes the underlying {@link Context}.
+  /// Closes the installed {@link InvocationDispatcher}, if any, and the underlying
+  /// {@link Context}.
   @Override
   public void close() {
+    InvocationDispatcher dispatcher = invocationDispatcher;
+    if (dispatcher != null) {
+      dispatcher.close();
+    }
     context.close();
   }
 }
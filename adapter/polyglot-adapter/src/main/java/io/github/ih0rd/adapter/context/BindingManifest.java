@@ -0,0 +1,122 @@
+package io.github.ih0rd.adapter.context;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+import org.graalvm.polyglot.Source;
+
+/// # BindingManifest
+///
+/// Build-time manifest of a generated interface: the hash of the script it was generated
+/// from and the methods the script provides.
+///
+/// Convention: for interface {@code com.acme.StatsApi} the manifest is the classpath resource
+/// {@code META-INF/polyglot/com.acme.StatsApi.properties}, written by polyglot-codegen with
+/// the keys {@code language}, {@code sha256} and {@code methods}.
+///
+/// Lookups are cached per interface in a {@link ClassValue}; an interface without a (readable)
+/// manifest costs one failed resource lookup.
+final class BindingManifest {
+
+  static final String DIRECTORY = "META-INF/polyglot/";
+  static final String SUFFIX = ".properties";
+
+  private static final ClassValue<Optional<BindingManifest>> MANIFESTS =
+      new ClassValue<>() {
+        @Override
+        protected Optional<BindingManifest> computeValue(Class<?> iface) {
+          return load(iface);
+        }
+      };
+
+  private final String language;
+  private final String sha256;
+  private final Set<String> methods;
+
+  private BindingManifest(String language, String sha256, Set<String> methods) {
+    this.language = language;
+    this.sha256 = sha256;
+    this.methods = methods;
+  }
+
+  /// ### of
+  ///
+  /// @param iface bound interface
+  /// @return manifest of the interface, or {@code null} if there is none
+  static BindingManifest of(Class<?> iface) {
+    return MANIFESTS.get(iface).orElse(null);
+  }
+
+  /// ### covers
+  ///
+  /// @param iface bound interface
+  /// @return {@code true} if every abstract method of the interface is listed
+  boolean covers(Class<?> iface) {
+    for (Method method : iface.getMethods()) {
+      if (method.getDeclaringClass() != Object.class
+          && Modifier.isAbstract(method.getModifiers())
+          && !methods.contains(method.getName())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /// ### matches
+  ///
+  /// @param languageId language of the executor
+  /// @param source     loaded script
+  /// @return {@code true} if the script is the one the manifest was generated from
+  boolean matches(String languageId, Source source) {
+    if (!language.equals(languageId) || !source.hasCharacters()) {
+      return false;
+    }
+    byte[] content = source.getCharacters().toString().getBytes(StandardCharsets.UTF_8);
+    return sha256.equalsIgnoreCase(sha256(content));
+  }
+
+  private static Optional<BindingManifest> load(Class<?> iface) {
+    ClassLoader loader = iface.getClassLoader();
+    if (loader == null) {
+      return Optional.empty();
+    }
+
+    try (InputStream in = loader.getResourceAsStream(DIRECTORY + iface.getName() + SUFFIX)) {
+      if (in == null) {
+        return Optional.empty();
+      }
+      Properties properties = new Properties();
+      properties.load(in);
+
+      String language = properties.getProperty("language");
+      String sha256 = properties.getProperty("sha256");
+      String methods = properties.getProperty("methods");
+      if (language == null || sha256 == null || methods == null) {
+        return Optional.empty();
+      }
+      return Optional.of(
+          new BindingManifest(
+              language, sha256, methods.isBlank() ? Set.of() : Set.of(methods.split(","))));
+    } catch (IOException | IllegalArgumentException e) {
+      // unreadable manifest: fall back to full validation
+      return Optional.empty();
+    }
+  }
+
+  private static String sha256(byte[] content) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm not available", e);
+    }
+  }
+}
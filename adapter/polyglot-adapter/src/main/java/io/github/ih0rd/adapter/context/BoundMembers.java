@@ -0,0 +1,296 @@
+package io.github.ih0rd.adapter.context;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Value;
+
+import io.github.ih0rd.adapter.exceptions.BindingException;
+import io.github.ih0rd.adapter.exceptions.InvocationException;
+
+/// # BoundMembers
+///
+/// Guest executables of one bound interface, resolved once and addressed by index.
+///
+/// Used by codegen-generated client implementations (see {@link AbstractPolyglotExecutor#bind})
+/// instead of the reflective proxy path: no {@link java.lang.reflect.Proxy}, no per-call
+/// member lookup by name.
+///
+/// Design notes:
+/// - Members are resolved lazily on the first call and re-resolved after the executor
+///   drops its caches ({@code evict}, {@code clearAllCaches}, {@code recycle})
+/// - Calls are recorded in the executor {@link io.github.ih0rd.adapter.metrics.InvocationStats}
+///   and, when installed, its {@link io.github.ih0rd.adapter.capture.InvocationCapture}
+/// - Calls go through the executor {@link InvocationDispatcher}, when installed: member
+///   resolution, the call and the result conversion all run on its worker
+/// - Static helpers ({@link #field}, {@link #list}, {@link #map}) back generated result
+///   converters, which copy guest data into Java records in a single pass
+///
+/// ```java
+/// BoundMembers members = BoundMembers.of(executor, StatsApi.class, "stats", "formatStats");
+/// String formatted = members.execute(1, Value::asString, 10);
+/// ```
+public final class BoundMembers {
+
+  private final AbstractPolyglotExecutor executor;
+  private final Class<?> iface;
+  private final String[] names;
+  private final Method[] methods;
+
+  private volatile Resolved resolved;
+
+  private record Resolved(long epoch, Value[] members) {}
+
+  private BoundMembers(AbstractPolyglotExecutor executor, Class<?> iface, String[] names) {
+    this.executor = executor;
+    this.iface = iface;
+    this.names = names.clone();
+    this.methods = new Method[names.length];
+    for (int i = 0; i < names.length; i++) {
+      methods[i] = findMethod(iface, names[i]);
+    }
+  }
+
+  /// ### of
+  ///
+  /// @param executor executor providing the guest implementation
+  /// @param iface    bound interface
+  /// @param names    guest member names, in index order
+  /// @return unresolved member handle
+  public static BoundMembers of(
+      AbstractPolyglotExecutor executor, Class<?> iface, String... names) {
+    if (executor == null || iface == null || names == null) {
+      throw new IllegalArgumentException("Executor, interface and names must not be null");
+    }
+    return new BoundMembers(executor, iface, names);
+  }
+
+  /// ### execute
+  ///
+  /// Executes the member at {@code index} and returns the raw result.
+  ///
+  /// The result is read on the calling thread; use {@link #execute(int, Function, Object...)}
+  /// to convert it on the dispatcher worker.
+  ///
+  /// @param index member index, as passed to {@link #of}
+  /// @param args  call arguments
+  /// @return raw result
+  public Value execute(int index, Object... args) {
+    return execute(index, Function.identity(), args);
+  }
+
+  /// ### execute(index, converter, args)
+  ///
+  /// Executes the member at {@code index} and converts its result, as one guest call.
+  ///
+  /// @param index     member index, as passed to {@link #of}
+  /// @param converter reads the guest result into a Java value
+  /// @param args      call arguments
+  /// @param <R>       result type
+  /// @return converted result
+  public <R> R execute(int index, Function<Value, R> converter, Object... args) {
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      R result = executor.dispatchUnchecked(() -> converter.apply(call(index, args)));
+      failed = false;
+      return result;
+    } catch (PolyglotException e) {
+      throw failure(index, e);
+    } finally {
+      record(index, args, startedAt, failed);
+    }
+  }
+
+  /// ### executeInt
+  ///
+  /// Primitive variant of {@link #execute(int, Function, Object...)}. Without a dispatcher the
+  /// result is never boxed; with one it crosses to the calling thread as an {@link Integer}.
+  ///
+  /// @param index     member index, as passed to {@link #of}
+  /// @param converter reads the guest result, e.g. {@code Value::asInt}
+  /// @param args      call arguments
+  /// @return converted result
+  public int executeInt(int index, ToIntFunction<Value> converter, Object... args) {
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      InvocationDispatcher dispatcher = executor.invocationDispatcher;
+      int result =
+          dispatcher == null
+              ? converter.applyAsInt(call(index, args))
+              : dispatcher.call(() -> converter.applyAsInt(call(index, args)));
+      failed = false;
+      return result;
+    } catch (PolyglotException e) {
+      throw failure(index, e);
+    } finally {
+      record(index, args, startedAt, failed);
+    }
+  }
+
+  /// ### executeDouble
+  ///
+  /// Primitive variant of {@link #execute(int, Function, Object...)}, see {@link #executeInt}.
+  ///
+  /// @param index     member index, as passed to {@link #of}
+  /// @param converter reads the guest result, e.g. {@code Value::asDouble}
+  /// @param args      call arguments
+  /// @return converted result
+  public double executeDouble(int index, ToDoubleFunction<Value> converter, Object... args) {
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      InvocationDispatcher dispatcher = executor.invocationDispatcher;
+      double result =
+          dispatcher == null
+              ? converter.applyAsDouble(call(index, args))
+              : dispatcher.call(() -> converter.applyAsDouble(call(index, args)));
+      failed = false;
+      return result;
+    } catch (PolyglotException e) {
+      throw failure(index, e);
+    } finally {
+      record(index, args, startedAt, failed);
+    }
+  }
+
+  /// ### executeBoolean
+  ///
+  /// Primitive variant of {@link #execute(int, Function, Object...)}, see {@link #executeInt}.
+  ///
+  /// @param index     member index, as passed to {@link #of}
+  /// @param converter reads the guest result, e.g. {@code Value::asBoolean}
+  /// @param args      call arguments
+  /// @return converted result
+  public boolean executeBoolean(int index, Predicate<Value> converter, Object... args) {
+    long startedAt = System.nanoTime();
+    boolean failed = true;
+    try {
+      InvocationDispatcher dispatcher = executor.invocationDispatcher;
+      boolean result =
+          dispatcher == null
+              ? converter.test(call(index, args))
+              : dispatcher.call(() -> converter.test(call(index, args)));
+      failed = false;
+      return result;
+    } catch (PolyglotException e) {
+      throw failure(index, e);
+    } finally {
+      record(index, args, startedAt, failed);
+    }
+  }
+
+  /// ### field
+  ///
+  /// Reads a named field of a guest object: a hash entry (e.g. Python {@code dict}) or a member.
+  ///
+  /// @param target guest object
+  /// @param name   field name
+  /// @return field value; a null {@link Value} if the field is absent
+  public static Value field(Value target, String name) {
+    Value field = null;
+    if (target.hasHashEntries()) {
+      field = target.getHashValue(name);
+    } else if (target.hasMember(name)) {
+      field = target.getMember(name);
+    }
+    return field != null ? field : Value.asValue(null);
+  }
+
+  /// ### list
+  ///
+  /// Copies a guest array into a Java list, converting each non-null element.
+  ///
+  /// @param target  guest array
+  /// @param element element converter
+  /// @param <T>     element type
+  /// @return mutable list
+  public static <T> List<T> list(Value target, Function<Value, T> element) {
+    int size = (int) target.getArraySize();
+    List<T> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      Value item = target.getArrayElement(i);
+      list.add(item.isNull() ? null : element.apply(item));
+    }
+    return list;
+  }
+
+  /// ### map
+  ///
+  /// Copies a guest hash or object into a string-keyed Java map, converting each non-null value.
+  ///
+  /// @param target guest hash or object
+  /// @param value  value converter
+  /// @param <T>    value type
+  /// @return mutable map, in guest iteration order
+  public static <T> Map<String, T> map(Value target, Function<Value, T> value) {
+    Map<String, T> map = new LinkedHashMap<>();
+    if (target.hasHashEntries()) {
+      Value entries = target.getHashEntriesIterator();
+      while (entries.hasIteratorNextElement()) {
+        Value entry = entries.getIteratorNextElement();
+        Value item = entry.getArrayElement(1);
+        map.put(entry.getArrayElement(0).asString(), item.isNull() ? null : value.apply(item));
+      }
+    } else {
+      for (String key : target.getMemberKeys()) {
+        Value item = target.getMember(key);
+        map.put(key, item.isNull() ? null : value.apply(item));
+      }
+    }
+    return map;
+  }
+
+  private Value call(int index, Object[] args) {
+    return members()[index].execute(args);
+  }
+
+  private InvocationException failure(int index, PolyglotException e) {
+    return new InvocationException(
+        "Error executing %s method '%s'".formatted(executor.languageId(), names[index]), e);
+  }
+
+  private void record(int index, Object[] args, long startedAt, boolean failed) {
+    if (methods[index] != null) {
+      executor.recordInvocation(methods[index], args, System.nanoTime() - startedAt, failed);
+    }
+  }
+
+  private Value[] members() {
+    long epoch = executor.bindingEpoch();
+    Resolved current = resolved;
+    if (current != null && current.epoch() == epoch) {
+      return current.members();
+    }
+
+    Value[] members = new Value[names.length];
+    for (int i = 0; i < names.length; i++) {
+      Value member = executor.resolveMember(iface, names[i]);
+      if (member == null || !member.canExecute()) {
+        throw new BindingException(
+            "%s member '%s' not found or not executable for interface '%s'"
+                .formatted(executor.languageId(), names[i], iface.getName()));
+      }
+      members[i] = member;
+    }
+    resolved = new Resolved(epoch, members);
+    return members;
+  }
+
+  private static Method findMethod(Class<?> iface, String name) {
+    return Arrays.stream(iface.getMethods())
+        .filter(method -> method.getName().equals(name))
+        .findFirst()
+        .orElse(null);
+  }
+}
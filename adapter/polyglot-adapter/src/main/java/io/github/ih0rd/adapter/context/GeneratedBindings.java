@@ -0,0 +1,67 @@
+package io.github.ih0rd.adapter.context;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+
+import io.github.ih0rd.adapter.exceptions.BindingException;
+
+/// # GeneratedBindings
+///
+/// Locates codegen-generated client implementations.
+///
+/// Convention: for interface {@code com.acme.StatsApi} the generated implementation is
+/// {@code com.acme.StatsApiBinding}, implements the interface and has a public constructor
+/// taking an {@link AbstractPolyglotExecutor}.
+///
+/// Lookups are cached per interface in a {@link ClassValue}, so classes without a generated
+/// implementation cost one failed class load per interface.
+final class GeneratedBindings {
+
+  static final String SUFFIX = "Binding";
+
+  private static final ClassValue<Optional<Constructor<?>>> CONSTRUCTORS =
+      new ClassValue<>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(Class<?> iface) {
+          return find(iface);
+        }
+      };
+
+  private GeneratedBindings() {}
+
+  /// ### instantiate
+  ///
+  /// @param iface    bound interface
+  /// @param executor executor backing the implementation
+  /// @return generated implementation, or {@code null} if there is none
+  static <T> T instantiate(Class<T> iface, AbstractPolyglotExecutor executor) {
+    Optional<Constructor<?>> constructor = CONSTRUCTORS.get(iface);
+    if (constructor.isEmpty()) {
+      return null;
+    }
+    try {
+      return iface.cast(constructor.get().newInstance(executor));
+    } catch (InvocationTargetException e) {
+      throw new BindingException(
+          "Failed to create generated binding for " + iface.getName(), e.getCause());
+    } catch (ReflectiveOperationException e) {
+      throw new BindingException("Failed to create generated binding for " + iface.getName(), e);
+    }
+  }
+
+  private static Optional<Constructor<?>> find(Class<?> iface) {
+    if (!iface.isInterface()) {
+      return Optional.empty();
+    }
+    try {
+      Class<?> candidate = Class.forName(iface.getName() + SUFFIX, false, iface.getClassLoader());
+      if (!iface.isAssignableFrom(candidate)) {
+        return Optional.empty();
+      }
+      return Optional.of(candidate.getConstructor(AbstractPolyglotExecutor.class));
+    } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+      return Optional.empty();
+    }
+  }
+}
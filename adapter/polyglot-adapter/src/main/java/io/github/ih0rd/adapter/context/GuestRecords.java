@@ -0,0 +1,121 @@
+package io.github.ih0rd.adapter.context;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.graalvm.polyglot.Value;
+
+import io.github.ih0rd.adapter.exceptions.InvocationException;
+
+/// # GuestRecords
+///
+/// Reflective conversion of guest objects into Java records for the proxy path of
+/// {@link AbstractPolyglotExecutor#bind}.
+///
+/// GraalVM maps guest objects to interfaces, lists and maps, but not to records. Codegen'd
+/// bindings convert with generated code; this is the fallback for plain proxies.
+///
+/// Design notes:
+/// - Record components are read by name ({@link BoundMembers#field}) and converted by their
+///   generic type; lists and string-keyed maps are copied element-wise
+/// - Canonical constructors are looked up once per record class
+final class GuestRecords {
+
+  private static final ClassValue<RecordShape> SHAPES =
+      new ClassValue<>() {
+        @Override
+        protected RecordShape computeValue(Class<?> type) {
+          return RecordShape.of(type);
+        }
+      };
+
+  private record RecordShape(
+      Constructor<?> constructor, String[] names, Type[] types, Class<?>[] rawTypes) {
+
+    static RecordShape of(Class<?> type) {
+      RecordComponent[] components = type.getRecordComponents();
+      Class<?>[] rawTypes =
+          Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+      try {
+        Constructor<?> constructor = type.getDeclaredConstructor(rawTypes);
+        constructor.setAccessible(true);
+        return new RecordShape(
+            constructor,
+            Arrays.stream(components).map(RecordComponent::getName).toArray(String[]::new),
+            Arrays.stream(components).map(RecordComponent::getGenericType).toArray(Type[]::new),
+            rawTypes);
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        throw new IllegalStateException("Record is not accessible: " + type.getName(), e);
+      }
+    }
+  }
+
+  private GuestRecords() {}
+
+  /// {@code true} if the type is a record, or a list or map that contains one.
+  static boolean involvesRecord(Type type) {
+    if (type instanceof Class<?> raw) {
+      return raw.isRecord();
+    }
+    if (type instanceof ParameterizedType parameterized) {
+      return Arrays.stream(parameterized.getActualTypeArguments())
+          .anyMatch(GuestRecords::involvesRecord);
+    }
+    return false;
+  }
+
+  /// Converts a non-null guest value to the given Java type.
+  static Object convert(Value value, Type type) {
+    Class<?> raw = rawType(type);
+
+    if (raw.isRecord()) {
+      return toRecord(value, raw);
+    }
+    if (type instanceof ParameterizedType parameterized) {
+      Type[] arguments = parameterized.getActualTypeArguments();
+      if (raw == List.class) {
+        return BoundMembers.list(value, item -> convert(item, arguments[0]));
+      }
+      if (raw == Map.class && arguments[0] == String.class) {
+        return BoundMembers.map(value, item -> convert(item, arguments[1]));
+      }
+    }
+    return value.as(raw);
+  }
+
+  private static Object toRecord(Value value, Class<?> type) {
+    RecordShape shape = SHAPES.get(type);
+    Object[] args = new Object[shape.names().length];
+    for (int i = 0; i < args.length; i++) {
+      Value field = BoundMembers.field(value, shape.names()[i]);
+      if (!field.isNull()) {
+        args[i] = convert(field, shape.types()[i]);
+      } else if (shape.rawTypes()[i].isPrimitive()) {
+        throw new InvocationException(
+            "Missing value for primitive component '%s' of %s"
+                .formatted(shape.names()[i], type.getName()));
+      }
+    }
+    try {
+      return shape.constructor().newInstance(args);
+    } catch (ReflectiveOperationException e) {
+      throw new InvocationException("Failed to create record " + type.getName(), e);
+    }
+  }
+
+  private static Class<?> rawType(Type type) {
+    if (type instanceof Class<?> raw) {
+      return raw;
+    }
+    if (type instanceof ParameterizedType parameterized
+        && parameterized.getRawType() instanceof Class<?> raw) {
+      return raw;
+    }
+    return Object.class;
+  }
+}
@@ -0,0 +1,314 @@
+package io.github.ih0rd.adapter.context;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.ih0rd.adapter.exceptions.InvocationException;
+
+/// # InvocationDispatcher
+///
+/// Serializes guest invocations of one executor on a single, context-owning worker thread.
+///
+/// Callers enqueue a call into a bounded FIFO queue and wait for its result; the worker runs
+/// the calls one at a time, in arrival order. Guest code therefore never runs on two threads
+/// of the same {@link org.graalvm.polyglot.Context} at once, regardless of the language's
+/// multi-threading rules, and latency splits into a visible queue wait and a service time.
+///
+/// Design notes:
+/// - Queue slots are handed out by a fair {@link Semaphore}: callers blocked on a full queue
+///   enqueue in arrival order
+/// - A call that does not get a queue slot within the enqueue timeout is rejected with an
+///   {@link InvocationException}
+/// - Calls made on the worker thread itself (e.g. guest code calling back into a bound
+///   interface) run inline instead of deadlocking on the queue
+/// - A caller interrupted while waiting gives up its call if it has not started yet;
+///   a started call is never interrupted
+/// - Recording is lock-free ({@link LongAdder} / {@link LongAccumulator}), see {@link #stats()}
+///
+/// ```java
+/// executor.invocationDispatcher(new InvocationDispatcher("python", 1024, Duration.ofSeconds(1)));
+/// ```
+public final class InvocationDispatcher implements AutoCloseable {
+
+  private final BlockingQueue<Task<?>> queue = new LinkedBlockingQueue<>();
+  private final Semaphore slots;
+  private final int capacity;
+  private final long enqueueTimeoutNanos;
+  private final Thread worker;
+
+  private volatile boolean closed;
+
+  private final LongAdder submitted = new LongAdder();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder totalWaitNanos = new LongAdder();
+  private final LongAdder totalServiceNanos = new LongAdder();
+  private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0L);
+  private final LongAccumulator maxServiceNanos = new LongAccumulator(Math::max, 0L);
+  private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0L);
+
+  /// Queued call. Removing it from the queue claims it: either the worker takes it, or a
+  /// caller giving up removes it.
+  private static final class Task<V> {
+    private final Callable<V> call;
+    private final long enqueuedAt;
+    private final CompletableFuture<V> result = new CompletableFuture<>();
+
+    private Task(Callable<V> call, long enqueuedAt) {
+      this.call = call;
+      this.enqueuedAt = enqueuedAt;
+    }
+  }
+
+  /// Marker that stops the worker.
+  private static final Task<Void> STOP = new Task<>(() -> null, 0L);
+
+  /// ### InvocationDispatcher
+  ///
+  /// Starts the worker thread.
+  ///
+  /// @param name           worker name suffix, e.g. the language id
+  /// @param capacity       maximum number of queued calls (must be positive)
+  /// @param enqueueTimeout maximum wait for a queue slot; zero rejects immediately when full
+  public InvocationDispatcher(String name, int capacity, Duration enqueueTimeout) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Queue capacity must be positive");
+    }
+    if (enqueueTimeout == null || enqueueTimeout.isNegative()) {
+      throw new IllegalArgumentException("Enqueue timeout must not be null or negative");
+    }
+    this.capacity = capacity;
+    this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+    this.slots = new Semaphore(capacity, true);
+    this.worker =
+        Thread.ofPlatform().name("polyglot-dispatcher-" + name).daemon().unstarted(this::serve);
+    this.worker.start();
+  }
+
+  /// ### call
+  ///
+  /// Runs a call on the worker thread and waits for its result.
+  ///
+  /// @param call guest invocation
+  /// @param <V>  result type
+  /// @return result of the call
+  /// @throws InvocationException if the queue is full, the dispatcher is closed or the caller
+  ///     is interrupted before the call starts; exceptions of the call itself are rethrown
+  ///     unchanged (checked ones wrapped)
+  public <V> V call(Callable<V> call) {
+    if (Thread.currentThread() == worker) {
+      return runInline(call);
+    }
+    if (closed) {
+      throw new InvocationException("Invocation dispatcher is closed");
+    }
+
+    Task<V> task = new Task<>(call, System.nanoTime());
+    enqueue(task);
+    submitted.increment();
+    maxQueueDepth.accumulate(queue.size());
+    if (closed && queue.remove(task)) {
+      slots.release();
+      throw new InvocationException("Invocation dispatcher is closed");
+    }
+    return await(task);
+  }
+
+  /// ### stats
+  ///
+  /// @return point-in-time queue and latency counters
+  public Stats stats() {
+    long served = completed.sum() + failed.sum();
+    return new Stats(
+        queue.size(),
+        capacity,
+        maxQueueDepth.get(),
+        submitted.sum(),
+        completed.sum(),
+        failed.sum(),
+        rejected.sum(),
+        totalWaitNanos.sum(),
+        maxWaitNanos.get(),
+        totalServiceNanos.sum(),
+        maxServiceNanos.get(),
+        served);
+  }
+
+  /// ### close
+  ///
+  /// Stops accepting calls, fails the queued ones and waits for the running call to finish.
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    failQueued();
+    queue.add(STOP);
+    if (Thread.currentThread() != worker) {
+      try {
+        worker.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    failQueued();
+  }
+
+  /// ### Stats
+  ///
+  /// Immutable snapshot of dispatcher counters. Times are in nanoseconds.
+  ///
+  /// @param queueDepth        calls currently waiting
+  /// @param capacity          queue capacity
+  /// @param maxQueueDepth     highest observed queue depth
+  /// @param submitted         calls enqueued
+  /// @param completed         calls that returned normally
+  /// @param failed            calls that threw
+  /// @param rejected          calls that did not get a queue slot
+  /// @param totalWaitNanos    summed time between enqueue and start
+  /// @param maxWaitNanos      longest time between enqueue and start
+  /// @param totalServiceNanos summed execution time on the worker
+  /// @param maxServiceNanos   longest execution time on the worker
+  /// @param served            calls executed by the worker ({@code completed + failed})
+  public record Stats(
+      int queueDepth,
+      int capacity,
+      long maxQueueDepth,
+      long submitted,
+      long completed,
+      long failed,
+      long rejected,
+      long totalWaitNanos,
+      long maxWaitNanos,
+      long totalServiceNanos,
+      long maxServiceNanos,
+      long served) {
+
+    /// @return mean queue wait in milliseconds
+    public double meanWaitMs() {
+      return served == 0 ? 0.0 : totalWaitNanos / 1e6 / served;
+    }
+
+    /// @return mean service time in milliseconds
+    public double meanServiceMs() {
+      return served == 0 ? 0.0 : totalServiceNanos / 1e6 / served;
+    }
+  }
+
+  private void enqueue(Task<?> task) {
+    boolean acquired;
+    try {
+      // a timed tryAcquire honours fairness even with a zero timeout
+      acquired = slots.tryAcquire(enqueueTimeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      rejected.increment();
+      throw new InvocationException("Interrupted while waiting for the invocation queue", e);
+    }
+    if (!acquired) {
+      rejected.increment();
+      throw new InvocationException(
+          "Invocation queue full (capacity %d), call rejected".formatted(capacity));
+    }
+    queue.add(task);
+  }
+
+  private <V> V await(Task<V> task) {
+    try {
+      return task.result.get();
+    } catch (InterruptedException e) {
+      if (queue.remove(task)) {
+        slots.release();
+        Thread.currentThread().interrupt();
+        throw new InvocationException("Interrupted while waiting for the guest context", e);
+      }
+      // already running: the call is not interruptible, wait for its result
+      try {
+        return task.result.join();
+      } finally {
+        Thread.currentThread().interrupt();
+      }
+    } catch (ExecutionException e) {
+      throw unwrap(e.getCause());
+    }
+  }
+
+  private <V> V runInline(Callable<V> call) {
+    try {
+      return call.call();
+    } catch (Exception e) {
+      throw unwrap(e);
+    }
+  }
+
+  private void serve() {
+    while (true) {
+      Task<?> task;
+      try {
+        task = queue.take();
+      } catch (InterruptedException e) {
+        if (closed) {
+          return;
+        }
+        continue;
+      }
+      if (task == STOP) {
+        return;
+      }
+      slots.release();
+      run(task);
+    }
+  }
+
+  private <V> void run(Task<V> task) {
+    long startedAt = System.nanoTime();
+    long waited = startedAt - task.enqueuedAt;
+    totalWaitNanos.add(waited);
+    maxWaitNanos.accumulate(waited);
+    try {
+      V value = task.call.call();
+      completed.increment();
+      task.result.complete(value);
+    } catch (Throwable e) {
+      failed.increment();
+      task.result.completeExceptionally(e);
+    } finally {
+      long service = System.nanoTime() - startedAt;
+      totalServiceNanos.add(service);
+      maxServiceNanos.accumulate(service);
+    }
+  }
+
+  private void failQueued() {
+    List<Task<?>> pending = new ArrayList<>();
+    queue.drainTo(pending);
+    for (Task<?> task : pending) {
+      if (task != STOP) {
+        task.result.completeExceptionally(
+            new InvocationException("Invocation dispatcher is closed"));
+      }
+    }
+  }
+
+  private static RuntimeException unwrap(Throwable e) {
+    if (e instanceof RuntimeException runtime) {
+      return runtime;
+    }
+    if (e instanceof Error error) {
+      throw error;
+    }
+    return new InvocationException("Guest invocation failed", e);
+  }
+}
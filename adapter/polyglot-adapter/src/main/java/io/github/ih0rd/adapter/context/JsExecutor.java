@@ -1,7 +1,5 @@
 package io.github.ih0rd.adapter.context;
 
-import static io.github.ih0rd.adapter.utils.StringCaseConverter.camelToSnake;
-
 import java.lang.reflect.Method;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -22,7 +20,7 @@ import io.github.ih0rd.contract.SupportedLanguage;
 /// Responsibilities:
 /// - Load JavaScript modules via {@link ScriptSource}
 /// - Expose global JS functions as Java interface methods
-/// - Validate bindings at startup
+/// - Validate bindings at startup (unless a build-time manifest matches)
 ///
 public final class JsExecutor extends AbstractPolyglotExecutor {
 
@@ -60,17 +58,39 @@ public final class JsExecutor extends AbstractPolyglotExecutor {
     return callFunction(methodName);
   }
 
+  /// ### resolveMember
+  ///
+  /// Resolves the global JS function backing an interface method.
+  @Override
+  protected Value resolveMember(Class<?> iface, String methodName) {
+    ensureModuleLoaded(iface);
+    return super.resolveMember(iface, methodName);
+  }
+
   /// ### validateBinding
   ///
   /// Validates that:
   /// - the JavaScript module can be loaded
   /// - for each interface method there is a matching executable JS function
+  ///
+  /// Skipped when the module matches the build-time manifest of the interface
+  /// (see {@link #matchesManifest(Class)}). Runs through the installed
+  /// {@link InvocationDispatcher}, if any.
   @Override
   public <T> void validateBinding(Class<T> iface) {
     if (iface == null) {
       throw new IllegalArgumentException("Interface type must not be null");
     }
+    dispatchUnchecked(
+        () -> {
+          if (!matchesManifest(iface)) {
+            validateFunctions(iface);
+          }
+          return null;
+        });
+  }
 
+  private void validateFunctions(Class<?> iface) {
     ensureModuleLoaded(iface);
 
     Value bindings = context.getBindings(languageId());
@@ -125,15 +145,14 @@ public final class JsExecutor extends AbstractPolyglotExecutor {
   /// ### ensureModuleLoaded
   ///
   /// Loads and evaluates the JS module associated with the given interface
-  /// if it has not been loaded yet.
+  /// if it has not been loaded yet. Concurrent first calls evaluate it once
+  /// (see {@link #loadSource(Class, java.util.function.Function)}).
   private <T> void ensureModuleLoaded(Class<T> iface) {
-    sourceCache.computeIfAbsent(
+    loadSource(
         iface,
         cls -> {
-          String interfaceName = cls.getSimpleName();
-          String moduleName = camelToSnake(interfaceName);
-          Source src = loadScript(SupportedLanguage.JS, moduleName);
-          context.eval(src);
+          Source src = loadScript(SupportedLanguage.JS, scriptName(cls));
+          evalScript(src);
           return src;
         });
   }
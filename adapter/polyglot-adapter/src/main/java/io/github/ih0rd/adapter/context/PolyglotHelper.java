@@ -7,6 +7,7 @@ import org.graalvm.polyglot.Context;
 import org.graalvm.python.embedding.GraalPyResources;
 import org.graalvm.python.embedding.VirtualFileSystem;
 
+import io.github.ih0rd.adapter.metrics.StartupRecorder;
 import io.github.ih0rd.contract.SupportedLanguage;
 
 /// # PolyglotHelper
@@ -61,42 +62,75 @@ public final class PolyglotHelper {
   /// @return initialized {@link Context}
   public static Context newContext(
       SupportedLanguage language, Consumer<Context.Builder> customizer) {
+    return newContext(language, customizer, StartupRecorder.NOOP);
+  }
 
-    Objects.requireNonNull(language, "language must not be null");
-
-    Context.Builder builder;
-
-    switch (language) {
-      case PYTHON -> {
-        VirtualFileSystem vfs =
-            VirtualFileSystem.newBuilder().resourceDirectory("org.graalvm.python.vfs").build();
+  /// ### newContext
+  ///
+  /// Same as {@link #newContext(SupportedLanguage, Consumer)}, recording the
+  /// {@code polyglot.context.vfs} (Python only), {@code polyglot.context.build} and
+  /// {@code polyglot.context.initialize} phases as nested steps of
+  /// {@code polyglot.context.create}.
+  ///
+  /// @param language   guest language
+  /// @param customizer optional context builder customizer, may be {@code null}
+  /// @param recorder   startup step recorder (must not be null)
+  /// @return initialized {@link Context}
+  public static Context newContext(
+      SupportedLanguage language, Consumer<Context.Builder> customizer, StartupRecorder recorder) {
 
-        builder =
-            GraalPyResources.contextBuilder(vfs)
-                .allowAllAccess(true)
-                .allowExperimentalOptions(true)
-                .option(ENGINE_WARN_INTERPRETER_ONLY, OPTION_FALSE)
-                .option(PYTHON_WARN_EXPERIMENTAL_FEATURES, OPTION_FALSE);
+    Objects.requireNonNull(language, "language must not be null");
+    Objects.requireNonNull(recorder, "recorder must not be null");
+
+    try (StartupRecorder.Step create = recorder.start("polyglot.context.create")) {
+      create.tag("language", language.id());
+
+      Context.Builder builder;
+
+      switch (language) {
+        case PYTHON -> {
+          VirtualFileSystem vfs;
+          try (StartupRecorder.Step step = recorder.start("polyglot.context.vfs")) {
+            step.tag("language", language.id());
+            vfs =
+                VirtualFileSystem.newBuilder().resourceDirectory("org.graalvm.python.vfs").build();
+          }
+
+          builder =
+              GraalPyResources.contextBuilder(vfs)
+                  .allowAllAccess(true)
+                  .allowExperimentalOptions(true)
+                  .option(ENGINE_WARN_INTERPRETER_ONLY, OPTION_FALSE)
+                  .option(PYTHON_WARN_EXPERIMENTAL_FEATURES, OPTION_FALSE);
+        }
+
+        case JS -> {
+          builder =
+              Context.newBuilder(language.id())
+                  .allowAllAccess(true)
+                  .allowExperimentalOptions(true)
+                  .option(ENGINE_WARN_INTERPRETER_ONLY, OPTION_FALSE);
+        }
+
+        default -> throw new IllegalStateException("Unsupported language: " + language);
       }
 
-      case JS -> {
-        builder =
-            Context.newBuilder(language.id())
-                .allowAllAccess(true)
-                .allowExperimentalOptions(true)
-                .option(ENGINE_WARN_INTERPRETER_ONLY, OPTION_FALSE);
+      if (customizer != null) {
+        customizer.accept(builder);
       }
 
-      default -> throw new IllegalStateException("Unsupported language: " + language);
-    }
+      Context context;
+      try (StartupRecorder.Step step = recorder.start("polyglot.context.build")) {
+        step.tag("language", language.id());
+        context = builder.build();
+      }
 
-    if (customizer != null) {
-      customizer.accept(builder);
+      try (StartupRecorder.Step step = recorder.start("polyglot.context.initialize")) {
+        step.tag("language", language.id());
+        context.initialize(language.id());
+      }
+      return context;
     }
-
-    Context context = builder.build();
-    context.initialize(language.id());
-    return context;
   }
 
   /// ### newContext
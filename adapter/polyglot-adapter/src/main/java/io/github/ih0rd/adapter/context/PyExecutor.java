@@ -1,11 +1,14 @@
 package io.github.ih0rd.adapter.context;
 
-import static io.github.ih0rd.adapter.utils.StringCaseConverter.camelToSnake;
-
-import java.lang.ref.WeakReference;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 import org.graalvm.polyglot.Context;
@@ -14,6 +17,7 @@ import org.graalvm.polyglot.Value;
 
 import io.github.ih0rd.adapter.exceptions.BindingException;
 import io.github.ih0rd.adapter.exceptions.InvocationException;
+import io.github.ih0rd.adapter.metrics.StartupRecorder;
 import io.github.ih0rd.contract.ScriptSource;
 import io.github.ih0rd.contract.SupportedLanguage;
 
@@ -22,19 +26,70 @@ import io.github.ih0rd.contract.SupportedLanguage;
 /// Python executor for GraalPy.
 ///
 /// Responsibilities:
-/// - Load Python modules via {@link ScriptSource}
+/// - Load Python modules via {@link ScriptSource}, from precompiled bytecode caches when packaged
 /// - Resolve Python classes matching Java interfaces
 /// - Instantiate and cache Python objects per interface
 /// - Invoke Python methods via polyglot interop
 ///
+/// Instance lifecycle:
+/// - A module is evaluated once per context; instances are created from its exported class
+/// - Instances are held strongly, tied to the context they were created in, until evicted
+///   ({@link #evictInstance(Class)}, {@link #evict(Class)}), cleared or the context is recycled
+/// - Optionally bounded ({@link #maxCachedInstances(int)}): the least recently used instance
+///   is evicted, and re-created on its next call without re-evaluating its module
+///
 public final class PyExecutor extends AbstractPolyglotExecutor {
 
+  /// ### CachedInstance
+  /// Resolved Python target of one interface, tied to the context it was created in.
+  private static final class CachedInstance {
+    private final Context context;
+    private final Value value;
+    private volatile long lastUsed;
+
+    private CachedInstance(Context context, Value value, long lastUsed) {
+      this.context = context;
+      this.value = value;
+      this.lastUsed = lastUsed;
+    }
+  }
+
   /// ### instanceCache
-  /// Cache of Python instances keyed by Java interface type.
-  ///
-  /// Uses {@link WeakReference} to avoid retaining guest objects
-  /// beyond the lifetime of the underlying context.
-  private final Map<Class<?>, WeakReference<Value>> instanceCache = new ConcurrentHashMap<>();
+  /// Python instances keyed by Java interface type. Entries of a previous context
+  /// are never returned.
+  private final Map<Class<?>, CachedInstance> instanceCache = new ConcurrentHashMap<>();
+
+  /// ### evaluatedModules
+  /// Script names of the modules evaluated in {@link #modulesContext}.
+  private final Set<String> evaluatedModules = ConcurrentHashMap.newKeySet();
+
+  private volatile Context modulesContext;
+
+  /// ### instanceLoads / moduleLoads
+  /// Deduplicate concurrent first calls: an interface is instantiated, and a module
+  /// evaluated, once; different interfaces resolve in parallel.
+  private final SingleFlight<Class<?>, Value> instanceLoads = new SingleFlight<>();
+
+  private final SingleFlight<String, Boolean> moduleLoads = new SingleFlight<>();
+
+  /// ### instanceLock
+  /// Guards bounded eviction and the context switch of {@link #evaluatedModules};
+  /// never held while guest code runs.
+  private final Object instanceLock = new Object();
+
+  /// ### instanceClock
+  /// Logical clock ordering instance use, for least-recently-used eviction.
+  private final AtomicLong instanceClock = new AtomicLong();
+
+  private final LongAdder instanceEvictions = new LongAdder();
+
+  /// ### maxCachedInstances
+  /// Upper bound of cached instances; {@code 0} for unbounded.
+  private volatile int maxCachedInstances;
+
+  /// ### bytecode
+  /// Loader of precompiled module caches, bound to the current context.
+  private volatile PythonBytecode bytecode;
 
   /// ### PyExecutor
   ///
@@ -61,16 +116,34 @@ public final class PyExecutor extends AbstractPolyglotExecutor {
     return invokeMember(instance, methodName);
   }
 
+  /// ### resolveMember
+  ///
+  /// Resolves a method of the Python target bound to the given interface.
+  @Override
+  protected Value resolveMember(Class<?> iface, String methodName) {
+    return member(resolveInstance(iface), methodName);
+  }
+
   /// ### validateBinding
   ///
   /// Validates that the Python module and class corresponding
   /// to the given Java interface can be resolved and instantiated.
+  ///
+  /// Skipped when the module matches the build-time manifest of the interface
+  /// (see {@link #matchesManifest(Class)}). Runs through the installed
+  /// {@link InvocationDispatcher}, if any.
   @Override
   public <T> void validateBinding(Class<T> iface) {
     if (iface == null) {
       throw new IllegalArgumentException("Interface type must not be null");
     }
-    resolveInstance(iface);
+    dispatchUnchecked(
+        () -> {
+          if (!matchesManifest(iface)) {
+            resolveInstance(iface);
+          }
+          return null;
+        });
   }
 
   /// ### metadata
@@ -81,6 +154,9 @@ public final class PyExecutor extends AbstractPolyglotExecutor {
     Map<String, Object> info = new LinkedHashMap<>(super.metadata());
     info.put("cachedInterfaces", instanceCache.keySet().stream().map(Class::getName).toList());
     info.put("instanceCacheSize", instanceCache.size());
+    info.put("maxCachedInstances", maxCachedInstances);
+    info.put("instanceEvictions", instanceEvictions.sum());
+    info.put("evaluatedModules", evaluatedModules.size());
     return info;
   }
 
@@ -139,22 +215,72 @@ public final class PyExecutor extends AbstractPolyglotExecutor {
   ///        }
   ///    )
   ///
-  /// The resolved target is cached per interface using WeakReference
-  /// to avoid retaining guest objects longer than the context lifecycle.
+  /// The resolved target is cached per interface and tied to the current context.
+  /// Its module is evaluated only if it has not been evaluated in this context yet.
   ///
   /// @param iface Java interface type
   /// @return resolved Python instance or exported object
   private <T> Value resolveInstance(Class<T> iface) {
-
-    WeakReference<Value> ref = instanceCache.get(iface);
-    Value cached = (ref != null ? ref.get() : null);
-    if (cached != null && !cached.isNull()) {
-      return cached;
+    Context current = context;
+    CachedInstance cached = instanceCache.get(iface);
+    if (cached != null && cached.context == current) {
+      if (maxCachedInstances > 0) {
+        cached.lastUsed = instanceClock.incrementAndGet();
+      }
+      return cached.value;
     }
 
-    Source source = resolveSource(iface);
-    context.eval(source);
+    return instanceLoads.load(
+        iface,
+        () -> {
+          CachedInstance loaded = instanceCache.get(iface);
+          if (loaded != null && loaded.context == current) {
+            return loaded.value;
+          }
+          ensureModuleEvaluated(iface, current);
+          Value instance = instantiate(iface);
+          instanceCache.put(
+              iface, new CachedInstance(current, instance, instanceClock.incrementAndGet()));
+          trimInstances(iface);
+          return instance;
+        });
+  }
 
+  /// ### ensureModuleEvaluated
+  ///
+  /// Evaluates the module of the given interface, unless it has already been
+  /// evaluated in the current context. A failed evaluation is retried on the next call.
+  private void ensureModuleEvaluated(Class<?> iface, Context current) {
+    if (modulesContext != current) {
+      synchronized (instanceLock) {
+        if (modulesContext != current) {
+          evaluatedModules.clear();
+          modulesContext = current;
+        }
+      }
+    }
+    String scriptName = scriptName(iface);
+    if (evaluatedModules.contains(scriptName)) {
+      return;
+    }
+    moduleLoads.load(
+        scriptName,
+        () -> {
+          if (!evaluatedModules.contains(scriptName)) {
+            Source source = resolveSource(iface);
+            if (!evalBytecode(scriptName, source)) {
+              evalScript(source);
+            }
+            evaluatedModules.add(scriptName);
+          }
+          return Boolean.TRUE;
+        });
+  }
+
+  /// ### instantiate
+  ///
+  /// Creates the Python target of an interface from its evaluated module.
+  private <T> Value instantiate(Class<T> iface) {
     Value exported = resolveClass(iface);
 
     Value instance;
@@ -171,11 +297,46 @@ public final class PyExecutor extends AbstractPolyglotExecutor {
       // object-style export (map of functions)
       instance = exported;
     }
-
-    instanceCache.put(iface, new WeakReference<>(instance));
     return instance;
   }
 
+  /// ### trimInstances
+  ///
+  /// Evicts least recently used instances above {@link #maxCachedInstances}.
+  ///
+  /// @param keep interface whose instance was just created and is never evicted
+  private void trimInstances(Class<?> keep) {
+    synchronized (instanceLock) {
+      trimInstancesLocked(keep);
+    }
+  }
+
+  private void trimInstancesLocked(Class<?> keep) {
+    int max = maxCachedInstances;
+    if (max <= 0) {
+      return;
+    }
+    boolean evicted = false;
+    while (instanceCache.size() > max) {
+      Class<?> eldest = null;
+      long eldestUse = Long.MAX_VALUE;
+      for (Map.Entry<Class<?>, CachedInstance> entry : instanceCache.entrySet()) {
+        if (entry.getKey() != keep && entry.getValue().lastUsed < eldestUse) {
+          eldest = entry.getKey();
+          eldestUse = entry.getValue().lastUsed;
+        }
+      }
+      if (eldest == null || instanceCache.remove(eldest) == null) {
+        break;
+      }
+      instanceEvictions.increment();
+      evicted = true;
+    }
+    if (evicted) {
+      invalidateBindings();
+    }
+  }
+
   /// ### resolveClass
   ///
   /// Locates the Python class corresponding to the given Java interface.
@@ -218,21 +379,7 @@ public final class PyExecutor extends AbstractPolyglotExecutor {
   /// @return result of the Python invocation
   private Value invokeMember(Value target, String methodName, Object... args) {
 
-    if (target == null || target.isNull()) {
-      throw new BindingException(
-          "Cannot invoke method '%s' on null Python target".formatted(methodName));
-    }
-
-    Value member = null;
-
-    // Class-style: method exposed as member
-    if (target.hasMember(methodName)) {
-      member = target.getMember(methodName);
-    }
-    // Object-style: exported dict of functions
-    else if (target.hasHashEntries()) {
-      member = target.getHashValue(methodName);
-    }
+    Value member = member(target, methodName);
 
     if (member == null || !member.canExecute()) {
       throw new BindingException(
@@ -246,32 +393,143 @@ public final class PyExecutor extends AbstractPolyglotExecutor {
     }
   }
 
+  /// ### member
+  ///
+  /// Looks up a method on a resolved Python target: as an object member
+  /// (class-style export) or as a hash entry (dictionary export).
+  private Value member(Value target, String methodName) {
+    if (target == null || target.isNull()) {
+      throw new BindingException(
+          "Cannot invoke method '%s' on null Python target".formatted(methodName));
+    }
+
+    // Class-style: method exposed as member
+    if (target.hasMember(methodName)) {
+      return target.getMember(methodName);
+    }
+    // Object-style: exported dict of functions
+    if (target.hasHashEntries()) {
+      return target.getHashValue(methodName);
+    }
+    return null;
+  }
+
   /// ### resolveSource
   ///
   /// Resolves and caches the {@link Source} for the Python module
   /// associated with the given Java interface.
   private <T> Source resolveSource(Class<T> iface) {
-    return sourceCache.computeIfAbsent(
-        iface,
-        cls -> {
-          String interfaceName = cls.getSimpleName();
-          String moduleName = camelToSnake(interfaceName);
-          return loadScript(SupportedLanguage.PYTHON, moduleName);
-        });
+    return loadSource(iface, cls -> loadScript(SupportedLanguage.PYTHON, scriptName(cls)));
+  }
+
+  /// ### evalBytecode
+  ///
+  /// Executes the precompiled cache of a module instead of its source, if the
+  /// {@link ScriptSource} provides one for the running GraalPy version.
+  ///
+  /// @param scriptName logical script name
+  /// @param source     loaded module source, used to validate the cache
+  /// @return {@code true} if the module was executed from its cache
+  private boolean evalBytecode(String scriptName, Source source) {
+    PythonBytecode loader = bytecode;
+    if (loader == null || !loader.boundTo(context)) {
+      loader = new PythonBytecode(context);
+      bytecode = loader;
+    }
+    String cacheTag = loader.cacheTag();
+    if (cacheTag == null || !source.hasCharacters()) {
+      return false;
+    }
+
+    byte[] pyc;
+    try (InputStream in =
+        scriptSource.openBytecode(SupportedLanguage.PYTHON, scriptName, cacheTag)) {
+      if (in == null) {
+        return false;
+      }
+      pyc = in.readAllBytes();
+    } catch (IOException e) {
+      // unreadable cache: evaluate the source
+      return false;
+    }
+
+    try (StartupRecorder.Step step = startupRecorder.start("polyglot.script.eval")) {
+      step.tag("language", languageId()).tag("script", scriptName).tag("bytecode", cacheTag);
+      return loader.execute(pyc, source.getCharacters());
+    }
+  }
+
+  /// ### maxCachedInstances
+  ///
+  /// Bounds the number of cached Python instances. Above the bound, the least
+  /// recently used instance is evicted; its module stays evaluated.
+  ///
+  /// @param max maximum number of cached instances, {@code 0} for unbounded (default)
+  public void maxCachedInstances(int max) {
+    if (max < 0) {
+      throw new IllegalArgumentException("Maximum cached instances must not be negative");
+    }
+    synchronized (instanceLock) {
+      this.maxCachedInstances = max;
+      trimInstancesLocked(null);
+    }
   }
 
   /// ### clearInstanceCache
   ///
-  /// Clears cached Python instances.
+  /// Clears cached Python instances. Modules stay evaluated, so instances are
+  /// re-created from their exported classes on the next call.
   public void clearInstanceCache() {
     instanceCache.clear();
+    invalidateBindings();
+  }
+
+  /// ### evictInstance
+  ///
+  /// Drops the cached Python instance of one interface. Its module stays evaluated,
+  /// so the next call only re-creates the instance.
+  ///
+  /// @param iface bound interface
+  /// @return {@code true} if an instance was cached
+  public boolean evictInstance(Class<?> iface) {
+    if (iface == null) {
+      throw new IllegalArgumentException("Interface type must not be null");
+    }
+    boolean evicted = instanceCache.remove(iface) != null;
+    if (evicted) {
+      invalidateBindings();
+    }
+    return evicted;
+  }
+
+  /// ### evict
+  ///
+  /// Drops the cached module source and Python instance of one interface.
+  /// The next call reloads and re-evaluates its module.
+  @Override
+  public boolean evict(Class<?> iface) {
+    boolean sourceEvicted = super.evict(iface);
+    boolean moduleEvicted = evaluatedModules.remove(scriptName(iface));
+    boolean instanceEvicted = instanceCache.remove(iface) != null;
+    return sourceEvicted || moduleEvicted || instanceEvicted;
+  }
+
+  /// ### cachedInterfaces
+  ///
+  /// Includes interfaces with a cached Python instance.
+  @Override
+  public Set<Class<?>> cachedInterfaces() {
+    Set<Class<?>> interfaces = new HashSet<>(super.cachedInterfaces());
+    interfaces.addAll(instanceCache.keySet());
+    return Set.copyOf(interfaces);
   }
 
   /// ### clearAllCaches
   ///
-  /// Clears all executor caches.
+  /// Clears all executor caches. Modules are re-evaluated on their next call.
   @Override
   public void clearAllCaches() {
+    evaluatedModules.clear();
     clearInstanceCache();
     super.clearAllCaches();
   }
@@ -0,0 +1,113 @@
+package io.github.ih0rd.adapter.context;
+
+import java.nio.charset.StandardCharsets;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Value;
+
+/// # PythonBytecode
+///
+/// Executes precompiled bytecode caches of Python modules in one {@link Context}.
+///
+/// Caches are CPython-layout {@code .pyc} files written at build time by the
+/// {@code precompile} goal of the codegen plugin and opened through
+/// {@link io.github.ih0rd.contract.ScriptSource#openBytecode}. Executing a cache skips
+/// parsing and compiling the module source, which dominates the first evaluation of
+/// large modules.
+///
+/// Design notes:
+/// - Caches are looked up by the GraalPy cache tag (e.g. {@code graalpy250-312})
+/// - A cache is executed only if its magic number matches the running GraalPy and its
+///   recorded source hash matches the loaded script; otherwise the caller evaluates the
+///   source as usual
+/// - The module body runs in {@code __main__}, the same namespace as a source evaluation
+/// - The loader function and cache tag are resolved lazily, with one small evaluation per
+///   context
+///
+final class PythonBytecode {
+
+  private static final String LOADER =
+      """
+      def _polyglot_bytecode_loader():
+          import __main__, marshal, sys
+          from importlib.util import MAGIC_NUMBER, source_hash
+          del __main__._polyglot_bytecode_loader
+
+          def load(data, source):
+              pyc = data.encode('latin-1')
+              flags = int.from_bytes(pyc[4:8], 'little')
+              if pyc[:4] != MAGIC_NUMBER or not flags & 0b01:
+                  return False
+              if flags & 0b10 and pyc[8:16] != source_hash(source.encode('utf-8')):
+                  return False
+              exec(marshal.loads(pyc[16:]), __main__.__dict__)
+              return True
+
+          return [sys.implementation.cache_tag, load]
+
+      _polyglot_bytecode_loader()
+      """;
+
+  private final Context context;
+  private volatile Value loader;
+  private volatile boolean unavailable;
+
+  PythonBytecode(Context context) {
+    this.context = context;
+  }
+
+  /// ### cacheTag
+  ///
+  /// @return cache tag of the context's GraalPy, or {@code null} if it cannot be determined
+  String cacheTag() {
+    Value resolved = loader();
+    return resolved == null ? null : resolved.getArrayElement(0).asString();
+  }
+
+  /// ### boundTo
+  ///
+  /// @param context context of the executor
+  /// @return {@code true} if this loader belongs to the given context
+  boolean boundTo(Context context) {
+    return this.context == context;
+  }
+
+  /// ### execute
+  ///
+  /// Executes a module from its cache.
+  ///
+  /// @param pyc    cache content
+  /// @param source module source the cache must have been compiled from
+  /// @return {@code true} if the module was executed, {@code false} if the cache is stale
+  boolean execute(byte[] pyc, CharSequence source) {
+    Value resolved = loader();
+    if (resolved == null || pyc.length < 16) {
+      return false;
+    }
+    // bytes travel as a latin-1 string: a host byte[] is a list of signed values in Python
+    return resolved
+        .getArrayElement(1)
+        .execute(new String(pyc, StandardCharsets.ISO_8859_1), source.toString())
+        .asBoolean();
+  }
+
+  private Value loader() {
+    Value resolved = loader;
+    if (resolved != null || unavailable) {
+      return resolved;
+    }
+    try {
+      resolved = context.eval("python", LOADER);
+    } catch (PolyglotException e) {
+      // restricted context (e.g. no importlib): modules are evaluated from source
+      resolved = null;
+    }
+    if (resolved == null || !resolved.hasArrayElements()) {
+      unavailable = true;
+      return null;
+    }
+    loader = resolved;
+    return resolved;
+  }
+}
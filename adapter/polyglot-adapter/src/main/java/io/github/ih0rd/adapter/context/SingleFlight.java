@@ -0,0 +1,121 @@
+package io.github.ih0rd.adapter.context;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.github.ih0rd.adapter.exceptions.EvaluationException;
+
+/// # SingleFlight
+///
+/// Deduplicates concurrent loads of the same key.
+///
+/// The first caller for a key runs the loader on its own thread; callers arriving while it
+/// runs wait for its result instead of loading again. Loads of different keys never wait on
+/// each other, and no map lock is held while a loader runs, so a loader may itself load
+/// other keys.
+///
+/// Design notes:
+/// - Nothing is cached here: callers check their cache first and store the result from
+///   within the loader, so a finished flight is never observed as missing
+/// - A failed load is reported to every waiting caller and retried by the next one
+/// - A loader that loads its own key (e.g. a module whose evaluation calls back into its own
+///   interface) fails fast instead of deadlocking
+/// - So does a load that closes a cycle across threads (thread A loads X and then Y while
+///   thread B loads Y and then X): before waiting, a caller follows the flights the owners
+///   are themselves waiting on, across all instances, and fails if the chain leads back to it
+///
+final class SingleFlight<K, V> {
+
+  /// In-flight load of one key and the thread running it.
+  private record Flight<V>(Thread owner, CompletableFuture<V> result) {}
+
+  /// Flight each thread is waiting on; shared, since one load may wait on another instance.
+  private static final Map<Thread, Flight<?>> WAITING = new HashMap<>();
+
+  private final Map<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+  /// ### load
+  ///
+  /// Runs the loader for the key, or waits for the load already in flight.
+  ///
+  /// @param key    load key
+  /// @param loader computes (and caches) the value; runs at most once per flight
+  /// @return loaded value
+  /// @throws EvaluationException if the current thread is already loading the key, or
+  ///     waiting for it would close a cycle of threads waiting on each other
+  V load(K key, Supplier<V> loader) {
+    Flight<V> flight = new Flight<>(Thread.currentThread(), new CompletableFuture<>());
+    Flight<V> running = inFlight.putIfAbsent(key, flight);
+    if (running != null) {
+      if (running.owner() == Thread.currentThread()) {
+        throw new EvaluationException("Recursive load of " + key);
+      }
+      return awaitOther(key, running);
+    }
+
+    try {
+      V value = loader.get();
+      flight.result().complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      flight.result().completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  private static <V> V awaitOther(Object key, Flight<V> running) {
+    Thread current = Thread.currentThread();
+    synchronized (WAITING) {
+      if (leadsTo(running, current)) {
+        throw new EvaluationException("Cyclic load of " + key + " across threads");
+      }
+      WAITING.put(current, running);
+    }
+    try {
+      return await(running.result());
+    } finally {
+      synchronized (WAITING) {
+        WAITING.remove(current);
+      }
+    }
+  }
+
+  /// Follows the chain of flight owners and the flights they wait on; finished flights end
+  /// the chain, as their waiters are about to resume.
+  private static boolean leadsTo(Flight<?> flight, Thread thread) {
+    Set<Thread> seen = new HashSet<>();
+    for (Flight<?> next = flight;
+        next != null && !next.result().isDone();
+        next = WAITING.get(next.owner())) {
+      if (next.owner() == thread) {
+        return true;
+      }
+      if (!seen.add(next.owner())) {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  private static <V> V await(CompletableFuture<V> result) {
+    try {
+      return result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
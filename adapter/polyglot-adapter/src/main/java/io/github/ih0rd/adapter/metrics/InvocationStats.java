@@ -0,0 +1,117 @@
+package io.github.ih0rd.adapter.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/// # InvocationStats
+///
+/// Per-method latency counters for calls made through bound interface proxies.
+///
+/// Responsibilities:
+/// - Count invocations and failures per interface method
+/// - Track total and maximum latency
+/// - Provide an immutable snapshot for metadata, metrics and actuator endpoints
+///
+/// Design notes:
+/// - Recording is lock-free ({@link LongAdder} / {@link LongAccumulator})
+/// - Counters are cumulative since executor creation or the last {@link #reset()}
+///
+public final class InvocationStats {
+
+  private final Map<Method, MethodStats> stats = new ConcurrentHashMap<>();
+
+  /// ### record
+  ///
+  /// Records a single invocation.
+  ///
+  /// @param method       invoked interface method
+  /// @param elapsedNanos call duration in nanoseconds
+  /// @param failed       whether the call completed exceptionally
+  public void record(Method method, long elapsedNanos, boolean failed) {
+    MethodStats methodStats = stats.get(method);
+    if (methodStats == null) {
+      methodStats = stats.computeIfAbsent(method, _ -> new MethodStats());
+    }
+    methodStats.record(elapsedNanos, failed);
+  }
+
+  /// ### snapshot
+  ///
+  /// Returns a point-in-time view grouped by interface name, then method signature
+  /// ({@code name(parameter types)}, e.g. {@code add(int, int)}), so overloads stay apart.
+  ///
+  /// @return sorted, immutable snapshot
+  public Map<String, Map<String, MethodSummary>> snapshot() {
+    Map<String, Map<String, MethodSummary>> byInterface = new TreeMap<>();
+    stats.forEach(
+        (method, methodStats) ->
+            byInterface
+                .computeIfAbsent(method.getDeclaringClass().getName(), _ -> new TreeMap<>())
+                .put(signature(method), methodStats.summary()));
+
+    byInterface.replaceAll((iface, methods) -> Collections.unmodifiableMap(methods));
+    return Collections.unmodifiableMap(byInterface);
+  }
+
+  /// ### signature
+  ///
+  /// @param method interface method
+  /// @return snapshot key of the method, e.g. {@code hello(java.lang.String)}
+  public static String signature(Method method) {
+    return Arrays.stream(method.getParameterTypes())
+        .map(Class::getTypeName)
+        .collect(Collectors.joining(", ", method.getName() + "(", ")"));
+  }
+
+  /// ### reset
+  ///
+  /// Drops all recorded counters.
+  public void reset() {
+    stats.clear();
+  }
+
+  /// ### MethodSummary
+  ///
+  /// Immutable latency summary of a single interface method.
+  ///
+  /// @param count  number of completed invocations
+  /// @param errors number of invocations that completed exceptionally
+  /// @param meanMs mean latency in milliseconds
+  /// @param maxMs  maximum observed latency in milliseconds
+  public record MethodSummary(long count, long errors, double meanMs, double maxMs) {}
+
+  private static final class MethodStats {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    void record(long elapsedNanos, boolean failed) {
+      count.increment();
+      totalNanos.add(elapsedNanos);
+      maxNanos.accumulate(elapsedNanos);
+      if (failed) {
+        errors.increment();
+      }
+    }
+
+    MethodSummary summary() {
+      long n = count.sum();
+      double mean = n == 0 ? 0.0 : toMillis(totalNanos.sum()) / n;
+      return new MethodSummary(n, errors.sum(), mean, toMillis(maxNanos.get()));
+    }
+
+    private static double toMillis(long nanos) {
+      return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+  }
+}
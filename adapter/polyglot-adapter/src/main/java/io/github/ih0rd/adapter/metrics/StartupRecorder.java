@@ -0,0 +1,67 @@
+package io.github.ih0rd.adapter.metrics;
+
+/// # StartupRecorder
+///
+/// Minimal hook for recording named, nested initialization steps
+/// (context build, VFS setup, script load / eval, ...).
+///
+/// Responsibilities:
+/// - Open a {@link Step} for a unit of work and close it when the work is done
+/// - Attach key/value tags to a step (language, script name, ...)
+///
+/// Design notes:
+/// - Framework-agnostic: integrations adapt it to their own timeline
+///   (e.g. Spring {@code ApplicationStartup})
+/// - {@link #NOOP} is the default and costs nothing
+///
+/// ```java
+/// try (StartupRecorder.Step step = recorder.start("polyglot.context.build")) {
+///   step.tag("language", "python");
+///   ...
+/// }
+/// ```
+@FunctionalInterface
+public interface StartupRecorder {
+
+  /// Recorder that ignores all steps.
+  StartupRecorder NOOP = _ -> Step.NOOP;
+
+  /// ### start
+  ///
+  /// Starts a new step.
+  ///
+  /// @param name step name (dot-separated, e.g. {@code polyglot.script.load})
+  /// @return running step, must be closed by the caller
+  Step start(String name);
+
+  /// ### Step
+  ///
+  /// A running, taggable unit of work.
+  interface Step extends AutoCloseable {
+
+    /// Step that ignores tags and close.
+    Step NOOP =
+        new Step() {
+          @Override
+          public Step tag(String key, String value) {
+            return this;
+          }
+
+          @Override
+          public void close() {}
+        };
+
+    /// ### tag
+    ///
+    /// @param key   tag key
+    /// @param value tag value
+    /// @return this step
+    Step tag(String key, String value);
+
+    /// ### close
+    ///
+    /// Ends the step.
+    @Override
+    void close();
+  }
+}
@@ -0,0 +1,189 @@
+package io.github.ih0rd.adapter.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import io.github.ih0rd.contract.ScriptSource;
+import io.github.ih0rd.contract.SupportedLanguage;
+
+/// {@link ScriptSource} implementation that serves scripts from a single indexed bundle file,
+/// written by the {@code bundle} goal of the codegen plugin.
+///
+/// <p>Bundle layout (big-endian):</p>
+/// <pre>
+///     magic "PGSB" | version u2 | count u4
+///     count x ( name length u2 | name UTF-8 | offset u8 | length u4 | SHA-256 32 bytes )
+///     concatenated entry contents
+/// </pre>
+///
+/// <p>Entry names follow the classpath convention of {@link ClasspathScriptSource}:</p>
+/// <pre>
+///     {language}/{scriptName}{extension}
+///     {language}/__pycache__/{scriptName}.{cacheTag}.pyc
+/// </pre>
+///
+/// <p>The bundle is memory-mapped once and its index read into a map, so {@code exists} and
+/// {@code open} are map lookups instead of per-resource jar entry lookups. Each opened entry
+/// is checked against its SHA-256.</p>
+///
+/// <p>The mapping keeps serving the bundle it was created from. To deploy new scripts, replace
+/// the file atomically (the {@code bundle} goal does) and create a new source, e.g. for an
+/// executor {@code recycle}.</p>
+public final class BundleScriptSource implements ScriptSource {
+
+  private static final int MAGIC = 0x50475342; // "PGSB"
+  private static final int VERSION = 1;
+  private static final int HASH_LENGTH = 32;
+
+  private final Path bundle;
+  private final ByteBuffer content;
+  private final Map<String, Entry> index;
+
+  /// Index entry: location and hash of one bundled file.
+  private record Entry(int offset, int length, byte[] sha256) {}
+
+  /// Maps a bundle file and reads its index.
+  ///
+  /// @param bundle bundle file
+  /// @throws IOException if the file cannot be read or is not a valid bundle
+  public BundleScriptSource(Path bundle) throws IOException {
+    this.bundle = bundle;
+    try (FileChannel channel = FileChannel.open(bundle, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("Script bundle too large: " + bundle);
+      }
+      this.content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    this.index = readIndex();
+  }
+
+  /// Returns {@code true} if the bundle contains the script.
+  ///
+  /// @param language script language
+  /// @param scriptName logical script name without extension
+  /// @return {@code true} if the script is bundled
+  @Override
+  public boolean exists(SupportedLanguage language, String scriptName) {
+    return index.containsKey(resolve(language, scriptName));
+  }
+
+  /// Opens a bundled script as a {@link Reader}.
+  ///
+  /// @param language script language
+  /// @param scriptName logical script name without extension
+  /// @return reader for script content
+  /// @throws IOException if the bundled content does not match its hash
+  /// @throws IllegalArgumentException if the script is not bundled
+  @Override
+  public Reader open(SupportedLanguage language, String scriptName) throws IOException {
+    String name = resolve(language, scriptName);
+    Entry entry = index.get(name);
+    if (entry == null) {
+      throw new IllegalArgumentException("Script not found in bundle " + bundle + ": " + name);
+    }
+    return new StringReader(StandardCharsets.UTF_8.decode(slice(name, entry)).toString());
+  }
+
+  /// Opens the bundled bytecode cache of a script, if present.
+  ///
+  /// @param language script language
+  /// @param scriptName logical script name without extension
+  /// @param cacheTag runtime cache tag
+  /// @return stream of the cache, or {@code null} if there is none
+  /// @throws IOException if the bundled content does not match its hash
+  @Override
+  public InputStream openBytecode(SupportedLanguage language, String scriptName, String cacheTag)
+      throws IOException {
+    String name =
+        language.name().toLowerCase() + "/__pycache__/" + scriptName + "." + cacheTag + ".pyc";
+    Entry entry = index.get(name);
+    if (entry == null) {
+      return null;
+    }
+    ByteBuffer slice = slice(name, entry);
+    byte[] bytes = new byte[slice.remaining()];
+    slice.get(bytes);
+    return new ByteArrayInputStream(bytes);
+  }
+
+  /// Returns the names of all bundled entries.
+  ///
+  /// @return entry names, e.g. {@code python/stats_api.py}
+  public Set<String> entries() {
+    return Set.copyOf(index.keySet());
+  }
+
+  /// Returns a verified view of one entry. Absolute access only: the shared buffer's
+  /// position is never touched, so concurrent reads are safe.
+  private ByteBuffer slice(String name, Entry entry) throws IOException {
+    ByteBuffer slice = content.slice(entry.offset(), entry.length());
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(slice.duplicate());
+      if (!MessageDigest.isEqual(digest.digest(), entry.sha256())) {
+        throw new IOException("Corrupt entry in script bundle " + bundle + ": " + name);
+      }
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm not available", e);
+    }
+    return slice;
+  }
+
+  private Map<String, Entry> readIndex() throws IOException {
+    try {
+      if (content.getInt(0) != MAGIC) {
+        throw new IOException("Not a script bundle: " + bundle);
+      }
+      int version = Short.toUnsignedInt(content.getShort(4));
+      if (version != VERSION) {
+        throw new IOException("Unsupported script bundle version " + version + ": " + bundle);
+      }
+      int count = content.getInt(6);
+      if (count < 0 || count > (content.capacity() - 10) / (14 + HASH_LENGTH)) {
+        throw new IOException("Corrupt script bundle index: " + bundle);
+      }
+      Map<String, Entry> entries = HashMap.newHashMap(count);
+
+      int position = 10;
+      for (int i = 0; i < count; i++) {
+        int nameLength = Short.toUnsignedInt(content.getShort(position));
+        position += 2;
+        byte[] name = new byte[nameLength];
+        content.get(position, name);
+        position += nameLength;
+        long offset = content.getLong(position);
+        int length = content.getInt(position + 8);
+        byte[] sha256 = new byte[HASH_LENGTH];
+        content.get(position + 12, sha256);
+        position += 12 + HASH_LENGTH;
+
+        if (offset < 0 || length < 0 || offset + length > content.capacity()) {
+          throw new IOException("Corrupt script bundle index: " + bundle);
+        }
+        entries.put(
+            new String(name, StandardCharsets.UTF_8), new Entry((int) offset, length, sha256));
+      }
+      return Map.copyOf(entries);
+    } catch (IndexOutOfBoundsException e) {
+      throw new IOException("Truncated script bundle: " + bundle, e);
+    }
+  }
+
+  /// Resolves the bundle entry name for a script.
+  private String resolve(SupportedLanguage language, String scriptName) {
+    return language.name().toLowerCase() + "/" + scriptName + language.ext();
+  }
+}
@@ -69,6 +69,19 @@ public final class ClasspathScriptSource implements ScriptSource {
     return new InputStreamReader(stream, StandardCharsets.UTF_8);
   }
 
+  /// Opens the bytecode cache packaged next to a script, if present:
+  /// {@code /{language}/__pycache__/{scriptName}.{cacheTag}.pyc}.
+  ///
+  /// @param language script language
+  /// @param scriptName logical script name without extension
+  /// @param cacheTag runtime cache tag
+  /// @return stream of the cache, or {@code null} if there is none
+  @Override
+  public InputStream openBytecode(SupportedLanguage language, String scriptName, String cacheTag) {
+    return classLoader.getResourceAsStream(
+        language.name().toLowerCase() + "/__pycache__/" + scriptName + "." + cacheTag + ".pyc");
+  }
+
   /// Resolves the internal classpath location for a script.
   ///
   /// @param language script language
@@ -1,6 +1,7 @@
 package io.github.ih0rd.adapter.spi;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.util.List;
 import java.util.Objects;
@@ -61,4 +62,23 @@ public final class CompositeScriptSource implements ScriptSource {
                     "Script not found in any source: " + language + "/" + scriptName))
         .open(language, scriptName);
   }
+
+  /// Opens the bytecode cache from the first delegate containing the script, so a
+  /// cache is never paired with another delegate's script.
+  ///
+  /// @param language script language
+  /// @param scriptName logical script name without extension
+  /// @param cacheTag runtime cache tag
+  /// @return stream of the cache, or {@code null} if there is none
+  /// @throws IOException if an I/O error occurs
+  @Override
+  public InputStream openBytecode(SupportedLanguage language, String scriptName, String cacheTag)
+      throws IOException {
+    for (ScriptSource delegate : delegates) {
+      if (delegate.exists(language, scriptName)) {
+        return delegate.openBytecode(language, scriptName, cacheTag);
+      }
+    }
+    return null;
+  }
 }
@@ -1,6 +1,7 @@
 package io.github.ih0rd.adapter.spi;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -54,6 +55,25 @@ public final class FileSystemScriptSource implements ScriptSource {
     return Files.newBufferedReader(resolve(language, scriptName), StandardCharsets.UTF_8);
   }
 
+  /// Opens the bytecode cache next to a script file, if present:
+  /// {@code {baseDir}/{language}/__pycache__/{scriptName}.{cacheTag}.pyc}.
+  ///
+  /// @param language script language
+  /// @param scriptName logical script name
+  /// @param cacheTag runtime cache tag
+  /// @return stream of the cache, or {@code null} if there is none
+  /// @throws IOException if file access fails
+  @Override
+  public InputStream openBytecode(SupportedLanguage language, String scriptName, String cacheTag)
+      throws IOException {
+    Path cache =
+        baseDir
+            .resolve(language.name().toLowerCase())
+            .resolve("__pycache__")
+            .resolve(scriptName + "." + cacheTag + ".pyc");
+    return Files.isRegularFile(cache) ? Files.newInputStream(cache) : null;
+  }
+
   /// Resolves the full filesystem path for a script.
   ///
   /// @param language script language
@@ -2,7 +2,9 @@ package io.github.ih0rd.adapter.utils;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.*;
 
 import org.graalvm.polyglot.Value;
@@ -14,7 +16,7 @@ import io.github.ih0rd.adapter.exceptions.EvaluationException;
 ///
 /// ---
 /// ### Responsibilities
-/// - Fast method invocation using {@link java.lang.invoke.MethodHandle}.
+/// - Fast method invocation using per-class tables of {@link java.lang.invoke.MethodHandle}s.
 /// - Primitive and wrapper argument coercion for GraalVM calls.
 /// - Reflection helpers for method discovery and validation.
 /// - Lightweight polyglot utilities (e.g., `getFirstElement()`).
@@ -34,9 +36,26 @@ public final class CommonUtils {
 
   private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
 
-  // Use WeakHashMap to avoid classloader leaks in long-running contexts
-  private static final Map<Method, MethodHandle> HANDLE_CACHE =
-      Collections.synchronizedMap(new WeakHashMap<>());
+  private static final Object[] NO_ARGS = new Object[0];
+
+  /// Uniform shape of every table entry: {@code (Object target, Object[] args) -> Object}.
+  private static final MethodType INVOKER_TYPE =
+      MethodType.methodType(Object.class, Object.class, Object[].class);
+
+  // Per-class method tables: built once per class, read without locking. ClassValue stores the
+  // table on the class itself, so it is unloaded together with its class loader.
+  private static final ClassValue<Map<String, Invoker>> METHOD_TABLES =
+      new ClassValue<>() {
+        @Override
+        protected Map<String, Invoker> computeValue(Class<?> type) {
+          return methodTable(type);
+        }
+      };
+
+  /// Precomputed invocation of one method: a spread handle of {@link #INVOKER_TYPE}, or the
+  /// reason why the method cannot be invoked.
+  private record Invoker(
+      Class<?>[] parameterTypes, boolean coerce, MethodHandle handle, String error) {}
 
   private CommonUtils() {
     // utility class, do not instantiate
@@ -45,6 +64,9 @@ public final class CommonUtils {
   /// ### invokeMethod
   /// Reflectively invokes a method on the given target instance using {@link MethodHandle}.
   ///
+  /// Handles are looked up in a per-class table built on first use, so repeated calls take no
+  /// lock and do not allocate beyond argument coercion and result wrapping.
+  ///
   /// ---
   /// #### Parameters
   /// - `targetType` — the Java interface type bound to the polyglot class.
@@ -66,26 +88,24 @@ public final class CommonUtils {
       if (targetInstance == null) {
         throw new EvaluationException("Target instance is null for " + targetType.getSimpleName());
       }
-      if (args == null) args = new Object[0];
+      if (args == null) args = NO_ARGS;
 
-      Method method = getMethodByName(targetType, methodName);
-      MethodHandle handle =
-          HANDLE_CACHE.computeIfAbsent(
-              method,
-              m -> {
-                try {
-                  return LOOKUP.unreflect(m);
-                } catch (IllegalAccessException e) {
-                  throw new EvaluationException("Cannot unreflect method: " + m, e);
-                }
-              });
-
-      Object result =
-          (args.length > 0)
-              ? handle
-                  .bindTo(targetInstance)
-                  .invokeWithArguments(coerceArguments(method.getParameterTypes(), args))
-              : handle.bindTo(targetInstance).invoke();
+      Invoker invoker = METHOD_TABLES.get(targetType).get(methodName);
+      if (invoker == null) {
+        throw new EvaluationException("Method '" + methodName + "' not found");
+      }
+      if (invoker.handle() == null) {
+        throw new EvaluationException(invoker.error());
+      }
+      if (args.length != invoker.parameterTypes().length) {
+        throw new EvaluationException(
+            "Method '%s' expects %d argument(s), got %d"
+                .formatted(methodName, invoker.parameterTypes().length, args.length));
+      }
+
+      Object[] arguments =
+          invoker.coerce() ? coerceArguments(invoker.parameterTypes(), args) : args;
+      Object result = (Object) invoker.handle().invokeExact((Object) targetInstance, arguments);
 
       // Wrap Java result into Graal Value for uniformity
       return result == null ? Value.asValue((Object) null) : Value.asValue(result);
@@ -95,30 +115,55 @@ public final class CommonUtils {
     }
   }
 
-  private static <T> Method getMethodByName(Class<T> targetType, String methodName)
-      throws NoSuchMethodException {
-    Class<?>[] parameterTypes = getParameterTypesByMethodName(targetType, methodName);
-    return targetType.getMethod(methodName, parameterTypes);
+  /// ### methodTable
+  /// Builds the invocation table of a type: public instance methods declared by the type, by
+  /// name. For overloaded names the first declared method wins, as before.
+  private static Map<String, Invoker> methodTable(Class<?> type) {
+    Map<String, Invoker> table = new HashMap<>();
+    for (Method method : type.getDeclaredMethods()) {
+      int modifiers = method.getModifiers();
+      if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers) || method.isSynthetic()) {
+        continue;
+      }
+      table.putIfAbsent(method.getName(), invoker(method));
+    }
+    return Map.copyOf(table);
   }
 
-  private static <T> Class<?>[] getParameterTypesByMethodName(
-      Class<T> targetType, String methodName) {
-    return Arrays.stream(targetType.getDeclaredMethods())
-        .filter(method -> method.getName().equals(methodName))
-        .findFirst()
-        .map(Method::getParameterTypes)
-        .orElseThrow(() -> new EvaluationException("Method '" + methodName + "' not found"));
+  private static Invoker invoker(Method method) {
+    Class<?>[] parameterTypes = method.getParameterTypes();
+    boolean coerce = Arrays.stream(parameterTypes).anyMatch(Class::isPrimitive);
+    try {
+      MethodHandle handle =
+          LOOKUP
+              .unreflect(method)
+              .asFixedArity()
+              .asSpreader(Object[].class, parameterTypes.length)
+              .asType(INVOKER_TYPE);
+      return new Invoker(parameterTypes, coerce, handle, null);
+    } catch (IllegalAccessException e) {
+      return new Invoker(parameterTypes, coerce, null, "Cannot unreflect method: " + method);
+    }
   }
 
   /// ### coerceArguments
   /// Coerces wrapper arguments to match primitive parameter types before reflective invocation.
-  /// GraalVM conversion is used where applicable.
+  /// GraalVM conversion is used where applicable. The arguments are copied only if one of them
+  /// is actually converted.
   private static Object[] coerceArguments(Class<?>[] paramTypes, Object[] args) {
-    Object[] coerced = new Object[args.length];
+    Object[] coerced = args;
     for (int i = 0; i < args.length; i++) {
-      Object arg = args[i];
       Class<?> target = paramTypes[i];
-      coerced[i] = target.isPrimitive() ? coercePrimitive(target, arg) : arg;
+      if (!target.isPrimitive()) {
+        continue;
+      }
+      Object value = coercePrimitive(target, args[i]);
+      if (value != args[i]) {
+        if (coerced == args) {
+          coerced = args.clone();
+        }
+        coerced[i] = value;
+      }
     }
     return coerced;
   }
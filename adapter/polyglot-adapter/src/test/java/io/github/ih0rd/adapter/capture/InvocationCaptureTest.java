@@ -0,0 +1,161 @@
+package io.github.ih0rd.adapter.capture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+
+class InvocationCaptureTest {
+
+  @TempDir Path tmp;
+
+  public enum Mode {
+    FAST,
+    SLOW
+  }
+
+  public record Point(int x, double y, String label) {}
+
+  public interface Api {
+    String call(int a, long b, double c, String d, List<Object> e, Map<String, Object> f);
+
+    String shapes(Point point, Mode mode, int[] values, Set<String> tags);
+
+    String any(Object value);
+  }
+
+  private static Method method(String name) {
+    for (Method method : Api.class.getMethods()) {
+      if (method.getName().equals(name)) {
+        return method;
+      }
+    }
+    throw new AssertionError(name);
+  }
+
+  @Test
+  void roundTripsArgumentsAndDropsUnsupported() throws Exception {
+    Path file = tmp.resolve("calls.pgic");
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("k", List.of(1, "v"));
+    map.put("none", null);
+    List<Object> list = new ArrayList<>(List.of(-7, 3.5f, 'c', (short) 2, (byte) -1, true));
+    list.add(null);
+
+    try (InvocationCapture capture = InvocationCapture.open(file, 1.0, 100)) {
+      capture.record(
+          method("call"), new Object[] {-1, Long.MAX_VALUE, 0.25, "é", list, map}, 5, false);
+      capture.record(method("any"), new Object[] {new Object()}, 1, false);
+      capture.record(
+          method("shapes"),
+          new Object[] {new Point(1, 2.5, "p"), Mode.SLOW, new int[] {3, 4}, Set.of("t")},
+          7,
+          true);
+      assertEquals(2, capture.captured());
+      assertEquals(1, capture.dropped());
+    }
+
+    List<CapturedInvocation> read = InvocationReplay.read(file, getClass().getClassLoader());
+    assertEquals(2, read.size());
+
+    CapturedInvocation call = read.get(0);
+    assertEquals(Api.class.getName(), call.interfaceName());
+    assertEquals("call", call.methodName());
+    assertEquals("int", call.parameterTypes().getFirst());
+    assertEquals(List.of(-1, Long.MAX_VALUE, 0.25, "é", list, map), call.arguments());
+    assertEquals(5, call.elapsedNanos());
+    assertFalse(call.failed());
+
+    CapturedInvocation shapes = read.get(1);
+    assertEquals(new Point(1, 2.5, "p"), shapes.arguments().get(0));
+    assertEquals(Mode.SLOW, shapes.arguments().get(1));
+    assertArrayEquals(new int[] {3, 4}, (int[]) shapes.arguments().get(2));
+    assertEquals(Set.of("t"), shapes.arguments().get(3));
+    assertTrue(shapes.failed());
+    assertTrue(shapes.offsetNanos() >= call.offsetNanos());
+  }
+
+  @Test
+  void stopsAtLimitAndRejectsNonCaptureFiles() throws Exception {
+    Path file = tmp.resolve("calls.pgic");
+    try (InvocationCapture capture = InvocationCapture.open(file, 1.0, 1)) {
+      capture.record(method("any"), new Object[] {"a"}, 1, false);
+      capture.record(method("any"), new Object[] {"b"}, 1, false);
+      assertEquals(1, capture.captured());
+    }
+    assertEquals(1, InvocationReplay.read(file, getClass().getClassLoader()).size());
+
+    Path other = Files.writeString(tmp.resolve("other.pgic"), "not a capture");
+    assertThrows(
+        IOException.class, () -> InvocationReplay.read(other, getClass().getClassLoader()));
+  }
+
+  @Test
+  void replaysThroughBoundInterface() {
+    AbstractPolyglotExecutor executor = mock(AbstractPolyglotExecutor.class);
+    List<Object> seen = new ArrayList<>();
+    Api api =
+        new Api() {
+          @Override
+          public String call(
+              int a, long b, double c, String d, List<Object> e, Map<String, Object> f) {
+            return "";
+          }
+
+          @Override
+          public String shapes(Point point, Mode mode, int[] values, Set<String> tags) {
+            return "";
+          }
+
+          @Override
+          public String any(Object value) {
+            seen.add(value);
+            if (value.equals("boom")) {
+              throw new IllegalStateException("boom");
+            }
+            return "";
+          }
+        };
+    when(executor.bind(Api.class)).thenReturn(api);
+
+    List<CapturedInvocation> invocations =
+        List.of(
+            invocation(Api.class.getName(), "any", "a"),
+            invocation(Api.class.getName(), "any", "boom"),
+            invocation("com.example.Missing", "any", "c"));
+    List<Long> latencies = new ArrayList<>();
+
+    InvocationReplay.Result result =
+        InvocationReplay.replay(
+            executor,
+            invocations,
+            getClass().getClassLoader(),
+            false,
+            (_, nanos) -> latencies.add(nanos));
+
+    assertEquals(2, result.replayed());
+    assertEquals(1, result.failed());
+    assertEquals(1, result.skipped());
+    assertEquals(List.of("a", "boom"), seen);
+    assertEquals(2, latencies.size());
+    verify(executor, times(1)).bind(Api.class);
+  }
+
+  private static CapturedInvocation invocation(String iface, String method, Object arg) {
+    return new CapturedInvocation(
+        iface, method, List.of(Object.class.getName()), List.of(arg), 0, 0, false);
+  }
+}
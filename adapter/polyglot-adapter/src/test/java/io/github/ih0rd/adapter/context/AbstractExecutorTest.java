@@ -3,13 +3,36 @@ package io.github.ih0rd.adapter.context;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.graalvm.polyglot.proxy.ProxyObject;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import io.github.ih0rd.adapter.capture.CapturedInvocation;
+import io.github.ih0rd.adapter.capture.InvocationCapture;
+import io.github.ih0rd.adapter.capture.InvocationReplay;
 import io.github.ih0rd.adapter.exceptions.BindingException;
+import io.github.ih0rd.adapter.exceptions.EvaluationException;
 import io.github.ih0rd.adapter.exceptions.InvocationException;
+import io.github.ih0rd.adapter.metrics.StartupRecorder;
 import io.github.ih0rd.contract.ScriptSource;
 import io.github.ih0rd.contract.SupportedLanguage;
 
@@ -48,6 +71,62 @@ class AbstractExecutorTest {
       when(v.as(any(Class.class))).thenAnswer(inv -> "noargs");
       return v;
     }
+
+    int resolved;
+    final List<String> resolvedOn = new CopyOnWriteArrayList<>();
+    final List<String> convertedOn = new CopyOnWriteArrayList<>();
+
+    boolean defaultResolution;
+
+    @Override
+    protected Value resolveMember(Class<?> iface, String methodName) {
+      if (defaultResolution) {
+        return super.resolveMember(iface, methodName);
+      }
+      resolved++;
+      resolvedOn.add(Thread.currentThread().getName());
+      Value fn = mock(Value.class);
+      Value result = mock(Value.class);
+      when(fn.canExecute()).thenReturn(true);
+      when(fn.execute(any(Object[].class))).thenReturn(result);
+      when(result.asInt()).thenReturn(methodName.length());
+      when(result.asDouble()).thenReturn(0.5);
+      when(result.asBoolean()).thenReturn(true);
+      when(result.asString())
+          .thenAnswer(
+              _ -> {
+                convertedOn.add(Thread.currentThread().getName());
+                return methodName + "!";
+              });
+      return fn;
+    }
+  }
+
+  public interface GeneratedApi {
+    String hello(String name);
+  }
+
+  /// Shape of a codegen-generated implementation.
+  public static final class GeneratedApiBinding implements GeneratedApi {
+
+    private final BoundMembers members;
+
+    public GeneratedApiBinding(AbstractPolyglotExecutor executor) {
+      this.members = BoundMembers.of(executor, GeneratedApi.class, "hello");
+    }
+
+    @Override
+    public String hello(String name) {
+      return members.execute(0, result -> result.isNull() ? null : result.asString(), name);
+    }
+  }
+
+  public interface PrimitiveApi {
+    int count();
+
+    double mean(double[] xs);
+
+    boolean empty();
   }
 
   @Test
@@ -83,6 +162,35 @@ class AbstractExecutorTest {
     assertNull(api.hello());
   }
 
+  record Range(Integer low, Integer high) {}
+
+  record Stats(Integer min, Double mean, List<Range> ranges, String missing) {}
+
+  @Test
+  void bindConvertsRecordResults() {
+    TestExecutor exec = spy(new TestExecutor(mock(Context.class)));
+
+    interface Api {
+      Stats stats();
+    }
+
+    // bare context: proxies expose members only when bound to a context
+    try (Context guest = Context.create()) {
+      Value stats =
+          guest.asValue(
+              ProxyObject.fromMap(
+                  Map.of(
+                      "min", 1,
+                      "mean", 2,
+                      "ranges",
+                          ProxyArray.fromArray(ProxyObject.fromMap(Map.of("low", 1, "high", 3))))));
+      doReturn(stats).when(exec).evaluate(eq("stats"), any(), any(Object[].class));
+
+      Stats result = exec.bind(Api.class).stats();
+      assertEquals(new Stats(1, 2.0, List.of(new Range(1, 3)), null), result);
+    }
+  }
+
   @Test
   void callFunctionExecutes() {
     Context ctx = mock(Context.class);
@@ -132,4 +240,309 @@ class AbstractExecutorTest {
 
     verify(ctx).close();
   }
+
+  @Test
+  void bindRecordsInvocationStats() {
+    Context ctx = mock(Context.class);
+    TestExecutor exec = new TestExecutor(ctx);
+
+    interface Api {
+      String hello();
+    }
+
+    Api api = exec.bind(Api.class);
+    api.hello();
+    api.hello();
+
+    var summary = exec.invocationStats().snapshot().get(Api.class.getName()).get("hello()");
+    assertEquals(2, summary.count());
+    assertEquals(0, summary.errors());
+  }
+
+  @Test
+  void invocationStatsKeepOverloadsApart() {
+    TestExecutor exec = new TestExecutor(mock(Context.class));
+
+    interface Api {
+      String hello();
+
+      String hello(String name);
+    }
+
+    Api api = exec.bind(Api.class);
+    api.hello();
+    api.hello("x");
+    api.hello("y");
+
+    var methods = exec.invocationStats().snapshot().get(Api.class.getName());
+    assertEquals(1, methods.get("hello()").count());
+    assertEquals(2, methods.get("hello(java.lang.String)").count());
+  }
+
+  @Test
+  void invocationStatsSnapshotIsSorted() {
+    TestExecutor exec = new TestExecutor(mock(Context.class));
+
+    interface Zeta {
+      String zeta();
+    }
+
+    interface Alpha {
+      String gamma();
+
+      String beta();
+
+      String alpha(String name);
+    }
+
+    exec.bind(Zeta.class).zeta();
+    Alpha alpha = exec.bind(Alpha.class);
+    alpha.gamma();
+    alpha.beta();
+    alpha.alpha("x");
+
+    var snapshot = exec.invocationStats().snapshot();
+    assertEquals(
+        List.of(Alpha.class.getName(), Zeta.class.getName()), List.copyOf(snapshot.keySet()));
+    assertEquals(
+        List.of("alpha(java.lang.String)", "beta()", "gamma()"),
+        List.copyOf(snapshot.get(Alpha.class.getName()).keySet()));
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.remove(Zeta.class.getName()));
+  }
+
+  @Test
+  void bindCapturesInvocations(@TempDir Path tmp) throws Exception {
+    TestExecutor exec = new TestExecutor(mock(Context.class));
+    Path file = tmp.resolve("calls.pgic");
+
+    interface Api {
+      String hello(String name, int times);
+    }
+
+    try (InvocationCapture capture = InvocationCapture.open(file, 1.0, 10)) {
+      exec.invocationCapture(capture);
+      exec.bind(Api.class).hello("proxy", 2);
+      exec.bind(GeneratedApi.class).hello("generated");
+      exec.invocationCapture(null);
+      exec.bind(Api.class).hello("not captured", 0);
+    }
+
+    List<CapturedInvocation> captured = InvocationReplay.read(file, getClass().getClassLoader());
+    assertEquals(2, captured.size());
+    assertEquals(List.of("proxy", 2), captured.get(0).arguments());
+    assertEquals(GeneratedApi.class.getName(), captured.get(1).interfaceName());
+    assertEquals(List.of("generated"), captured.get(1).arguments());
+  }
+
+  @Test
+  void recycleSwapsAndClosesPreviousContext() {
+    Context ctx = mock(Context.class);
+    Context replacement = mock(Context.class);
+    TestExecutor exec = new TestExecutor(ctx);
+
+    exec.recycle(replacement);
+
+    assertSame(replacement, exec.context);
+    verify(ctx).close(true);
+    assertThrows(IllegalArgumentException.class, () -> exec.recycle(null));
+  }
+
+  @Test
+  void loadSourceRunsConcurrentFirstLoadsOnce() throws Exception {
+    TestExecutor exec = new TestExecutor(mock(Context.class));
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Source source = mock(Source.class);
+    Function<Class<?>, Source> slowLoader =
+        cls -> {
+          loads.incrementAndGet();
+          started.countDown();
+          await(release);
+          return source;
+        };
+
+    try (ExecutorService pool = Executors.newFixedThreadPool(4)) {
+      List<Future<Source>> calls = new ArrayList<>();
+      calls.add(pool.submit(() -> exec.loadSource(GeneratedApi.class, slowLoader)));
+      started.await();
+      for (int i = 0; i < 3; i++) {
+        calls.add(pool.submit(() -> exec.loadSource(GeneratedApi.class, slowLoader)));
+      }
+
+      // another interface is not blocked by the load in flight
+      Source other = mock(Source.class);
+      assertSame(other, exec.loadSource(Runnable.class, cls -> other));
+
+      release.countDown();
+      for (Future<Source> call : calls) {
+        assertSame(source, call.get());
+      }
+    }
+    assertEquals(1, loads.get());
+    assertSame(source, exec.loadSource(GeneratedApi.class, cls -> fail("cached")));
+  }
+
+  @Test
+  void loadSourceAllowsNestedLoadsAndRetriesFailures() {
+    TestExecutor exec = new TestExecutor(mock(Context.class));
+    Source inner = mock(Source.class);
+    Source outer = mock(Source.class);
+
+    // a load that loads another interface (e.g. a module importing a bound module)
+    assertSame(
+        outer,
+        exec.loadSource(
+            GeneratedApi.class,
+            cls -> {
+              assertSame(inner, exec.loadSource(Runnable.class, c -> inner));
+              return outer;
+            }));
+    assertEquals(Set.of(GeneratedApi.class, Runnable.class), exec.cachedInterfaces());
+
+    // a load of its own interface fails fast instead of deadlocking
+    assertThrows(
+        EvaluationException.class,
+        () ->
+            exec.loadSource(
+                Callable.class, cls -> exec.loadSource(Callable.class, c -> mock(Source.class))));
+
+    // failures are not cached
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            exec.loadSource(
+                Comparable.class,
+                cls -> {
+                  throw new IllegalStateException("boom");
+                }));
+    Source retried = mock(Source.class);
+    assertSame(retried, exec.loadSource(Comparable.class, cls -> retried));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Test
+  void evictRejectsNull() {
+    TestExecutor exec = new TestExecutor(mock(Context.class));
+
+    assertFalse(exec.evict(Runnable.class));
+    assertThrows(IllegalArgumentException.class, () -> exec.evict(null));
+  }
+
+  @Test
+  void evalScriptRecordsStartupStep() {
+    Context ctx = mock(Context.class);
+    Source source = mock(Source.class);
+    when(source.getName()).thenReturn("stats_api");
+    TestExecutor exec = new TestExecutor(ctx);
+
+    List<String> steps = new ArrayList<>();
+    exec.startupRecorder(
+        name -> {
+          steps.add(name);
+          return StartupRecorder.Step.NOOP;
+        });
+
+    exec.evalScript(source);
+
+    assertEquals(List.of("polyglot.script.eval"), steps);
+    verify(ctx).eval(source);
+  }
+
+  @Test
+  void bindPrefersGeneratedBinding() {
+    TestExecutor exec = new TestExecutor(mock(Context.class));
+
+    GeneratedApi api = exec.bind(GeneratedApi.class);
+
+    assertInstanceOf(GeneratedApiBinding.class, api);
+    assertEquals("hello!", api.hello("x"));
+    assertEquals("hello!", api.hello("y"));
+    assertEquals(1, exec.resolved);
+    assertEquals(
+        2,
+        exec.invocationStats()
+            .snapshot()
+            .get(GeneratedApi.class.getName())
+            .get("hello(java.lang.String)")
+            .count());
+  }
+
+  @Test
+  void resolveMemberDefaultsToGlobalBindings() {
+    Context ctx = mock(Context.class);
+    Value bindings = mock(Value.class);
+    Value member = mock(Value.class);
+    when(ctx.getBindings("python")).thenReturn(bindings);
+    when(bindings.getMember("hello")).thenReturn(member);
+    TestExecutor exec = new TestExecutor(ctx);
+    exec.defaultResolution = true;
+
+    assertSame(member, exec.resolveMember(GeneratedApi.class, "hello"));
+  }
+
+  @Test
+  void generatedBindingReresolvesAfterEvict() {
+    TestExecutor exec = new TestExecutor(mock(Context.class));
+    GeneratedApi api = exec.bind(GeneratedApi.class);
+
+    api.hello("x");
+    exec.evict(GeneratedApi.class);
+    api.hello("y");
+
+    assertEquals(2, exec.resolved);
+  }
+
+  @Test
+  void boundMembersReadPrimitiveResults() {
+    TestExecutor exec = new TestExecutor(mock(Context.class));
+    BoundMembers members = BoundMembers.of(exec, PrimitiveApi.class, "count", "mean", "empty");
+
+    assertEquals(5, members.executeInt(0, Value::asInt));
+    assertEquals(0.5, members.executeDouble(1, Value::asDouble, (Object) new double[] {1.0}));
+    assertTrue(members.executeBoolean(2, Value::asBoolean));
+
+    try (InvocationDispatcher dispatcher =
+        new InvocationDispatcher("test", 16, Duration.ofSeconds(5))) {
+      exec.invocationDispatcher(dispatcher);
+      assertEquals(5, members.executeInt(0, Value::asInt));
+      assertEquals(1, dispatcher.stats().completed());
+    }
+    assertEquals(
+        2,
+        exec.invocationStats().snapshot().get(PrimitiveApi.class.getName()).get("count()").count());
+  }
+
+  @Test
+  void dispatcherRunsResolutionConversionAndRecycleOnItsWorker() {
+    Context ctx = mock(Context.class);
+    Context replacement = mock(Context.class);
+    TestExecutor exec = new TestExecutor(ctx);
+
+    try (InvocationDispatcher dispatcher =
+        new InvocationDispatcher("test", 16, Duration.ofSeconds(5))) {
+      exec.invocationDispatcher(dispatcher);
+      GeneratedApi api = exec.bind(GeneratedApi.class);
+
+      assertEquals("hello!", api.hello("x"));
+      exec.prefetch(GeneratedApi.class);
+      exec.recycle(replacement);
+      assertEquals("hello!", api.hello("y"));
+
+      List<String> worker = List.of("polyglot-dispatcher-test", "polyglot-dispatcher-test");
+      assertEquals(worker, exec.resolvedOn);
+      assertEquals(worker, exec.convertedOn);
+      assertSame(replacement, exec.context);
+      verify(ctx).close(true);
+      assertEquals(4, dispatcher.stats().completed());
+    }
+  }
 }
@@ -0,0 +1,173 @@
+package io.github.ih0rd.adapter.context;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.graalvm.polyglot.Context;
+import org.junit.jupiter.api.Test;
+
+import io.github.ih0rd.adapter.exceptions.InvocationException;
+import io.github.ih0rd.adapter.spi.InMemoryScriptSource;
+
+class InvocationDispatcherTest {
+
+  public interface CounterApi {
+    int next(int step);
+  }
+
+  @Test
+  void runsCallsInOrderOnOneWorkerAndRecordsStats() throws Exception {
+    try (InvocationDispatcher dispatcher =
+        new InvocationDispatcher("test", 16, Duration.ofSeconds(5))) {
+      CountDownLatch blocked = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+      List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+      try (ExecutorService callers = Executors.newFixedThreadPool(4)) {
+        Future<?> first =
+            callers.submit(
+                () ->
+                    dispatcher.call(
+                        () -> {
+                          blocked.countDown();
+                          release.await();
+                          return null;
+                        }));
+        blocked.await();
+
+        List<Future<Integer>> calls = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+          int n = i;
+          calls.add(
+              callers.submit(
+                  () ->
+                      dispatcher.call(
+                          () -> {
+                            order.add(n);
+                            threads.add(Thread.currentThread().getName());
+                            return n * 10;
+                          })));
+          while (dispatcher.stats().queueDepth() < n + 1) {
+            Thread.onSpinWait();
+          }
+        }
+
+        release.countDown();
+        first.get();
+        for (int i = 0; i < calls.size(); i++) {
+          assertEquals(i * 10, calls.get(i).get());
+        }
+      }
+
+      assertEquals(List.of(0, 1, 2), order);
+      assertEquals(List.of("polyglot-dispatcher-test"), threads.stream().distinct().toList());
+
+      InvocationDispatcher.Stats stats = dispatcher.stats();
+      assertEquals(4, stats.submitted());
+      assertEquals(4, stats.completed());
+      assertEquals(0, stats.queueDepth());
+      assertEquals(3, stats.maxQueueDepth());
+      assertTrue(stats.maxWaitNanos() > 0);
+      assertTrue(stats.meanServiceMs() > 0);
+    }
+  }
+
+  @Test
+  void rejectsWhenFullAndRunsNestedCallsInline() throws Exception {
+    try (InvocationDispatcher dispatcher = new InvocationDispatcher("test", 1, Duration.ZERO)) {
+      CountDownLatch blocked = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+
+      try (ExecutorService callers = Executors.newFixedThreadPool(2)) {
+        Future<Integer> running =
+            callers.submit(
+                () ->
+                    dispatcher.call(
+                        () -> {
+                          blocked.countDown();
+                          release.await();
+                          // a guest callback into the dispatcher must not deadlock
+                          return dispatcher.call(() -> 42);
+                        }));
+        blocked.await();
+        Future<Integer> queued = callers.submit(() -> dispatcher.call(() -> 1));
+        while (dispatcher.stats().queueDepth() < 1) {
+          Thread.onSpinWait();
+        }
+
+        assertThrows(InvocationException.class, () -> dispatcher.call(() -> 2));
+        release.countDown();
+        assertEquals(42, running.get());
+        assertEquals(1, queued.get());
+      }
+
+      assertEquals(1, dispatcher.stats().rejected());
+      IllegalStateException boom =
+          assertThrows(
+              IllegalStateException.class,
+              () ->
+                  dispatcher.call(
+                      () -> {
+                        throw new IllegalStateException("boom");
+                      }));
+      assertEquals("boom", boom.getMessage());
+      assertEquals(1, dispatcher.stats().failed());
+    }
+  }
+
+  @Test
+  void closeRejectsFurtherCalls() {
+    InvocationDispatcher dispatcher = new InvocationDispatcher("test", 4, Duration.ZERO);
+    assertEquals("ok", dispatcher.call(() -> "ok"));
+    dispatcher.close();
+    dispatcher.close();
+    assertThrows(InvocationException.class, () -> dispatcher.call(() -> "late"));
+  }
+
+  @Test
+  void serializesConcurrentCallsIntoJsContext() throws Exception {
+    InMemoryScriptSource scripts =
+        new InMemoryScriptSource(
+            Map.of(
+                "js/counter_api",
+                """
+                let count = 0;
+                function next(step) {
+                  const before = count;
+                  for (let i = 0; i < 100; i++) {}
+                  count = before + step;
+                  return count;
+                }
+                """));
+    try (JsExecutor executor =
+        JsExecutor.createWithContext(Context.newBuilder("js").build(), scripts)) {
+      executor.invocationDispatcher(new InvocationDispatcher("js", 64, Duration.ofSeconds(10)));
+      CounterApi api = executor.bind(CounterApi.class);
+
+      try (ExecutorService callers = Executors.newFixedThreadPool(8)) {
+        List<Future<Integer>> calls = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+          calls.add(callers.submit(() -> api.next(1)));
+        }
+        for (Future<Integer> call : calls) {
+          call.get();
+        }
+      }
+
+      assertEquals(201, api.next(1));
+      InvocationDispatcher.Stats stats = executor.invocationDispatcher().stats();
+      assertEquals(201, stats.completed());
+      assertEquals(stats, executor.metadata().get("dispatcher"));
+    }
+  }
+}
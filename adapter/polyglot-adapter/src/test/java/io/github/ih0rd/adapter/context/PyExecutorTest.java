@@ -3,9 +3,8 @@ package io.github.ih0rd.adapter.context;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-import java.lang.ref.WeakReference;
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Map;
 
 import org.graalvm.polyglot.Context;
@@ -15,6 +14,7 @@ import org.junit.jupiter.api.Test;
 
 import io.github.ih0rd.adapter.exceptions.BindingException;
 import io.github.ih0rd.adapter.exceptions.InvocationException;
+import io.github.ih0rd.adapter.spi.InMemoryScriptSource;
 import io.github.ih0rd.contract.ScriptSource;
 import io.github.ih0rd.contract.SupportedLanguage;
 
@@ -25,6 +25,57 @@ class PyExecutorTest {
     String hello(String arg);
   }
 
+  interface OtherApi {
+    String hello(String arg);
+  }
+
+  /// Has a manifest in test resources, generated from the script {@code x = 1}.
+  interface ManifestApi {
+    String hello(String arg);
+  }
+
+  private static final String API_SOURCE =
+      """
+      import polyglot
+
+      class Api:
+          def hello(self, arg):
+              return "source " + arg
+
+      polyglot.export_value("Api", Api)
+      """;
+
+  /// Compiles {@code compiled} to a checked-hash {@code .pyc} recording the hash of {@code
+  /// hashed}.
+  private static byte[] pyc(Context ctx, String compiled, String hashed) {
+    Value compile =
+        ctx.eval(
+            "python",
+            """
+            def _pyc(compiled, hashed):
+                from importlib.util import source_hash
+                from importlib._bootstrap_external import _code_to_hash_pyc
+                code = compile(compiled, "api", "exec")
+                return _code_to_hash_pyc(code, source_hash(hashed.encode("utf-8")), True)
+            _pyc
+            """);
+    Value pyc = compile.execute(compiled, hashed);
+    byte[] bytes = new byte[(int) pyc.getBufferSize()];
+    pyc.readBuffer(0, bytes, 0, bytes.length);
+    return bytes;
+  }
+
+  private ScriptSource bytecodeScriptSource(Context ctx, byte[] pyc) throws Exception {
+    ScriptSource ss = mock(ScriptSource.class);
+    when(ss.exists(SupportedLanguage.PYTHON, "api")).thenReturn(true);
+    when(ss.open(SupportedLanguage.PYTHON, "api"))
+        .thenAnswer(inv -> new java.io.StringReader(API_SOURCE));
+    String cacheTag = ctx.eval("python", "import sys; sys.implementation.cache_tag").asString();
+    when(ss.openBytecode(SupportedLanguage.PYTHON, "api", cacheTag))
+        .thenAnswer(inv -> new java.io.ByteArrayInputStream(pyc));
+    return ss;
+  }
+
   private ScriptSource mockScriptSource() throws Exception {
     ScriptSource ss = mock(ScriptSource.class);
     when(ss.exists(eq(SupportedLanguage.PYTHON), any())).thenReturn(true);
@@ -85,25 +136,103 @@ class PyExecutorTest {
   @Test
   void evaluateWithArgs_usesCachedInstance() throws Exception {
     Context ctx = mock(Context.class);
-    PyExecutor exec = newExec(ctx);
+    PyExecutor exec = spy(newExec(ctx));
+    doReturn(mock(Source.class)).when(exec).loadScript(eq(SupportedLanguage.PYTHON), any());
 
+    Value poly = mock(Value.class);
+    Value pyClass = mock(Value.class);
     Value instance = mock(Value.class);
     Value member = mock(Value.class);
     Value result = mock(Value.class);
 
-    when(instance.isNull()).thenReturn(false);
+    when(ctx.getPolyglotBindings()).thenReturn(poly);
+    when(poly.getMember("Api")).thenReturn(pyClass);
+    when(pyClass.canExecute()).thenReturn(true);
+    when(pyClass.execute()).thenReturn(instance);
+    when(instance.hasMember("hello")).thenReturn(true);
     when(instance.getMember("hello")).thenReturn(member);
     when(member.canExecute()).thenReturn(true);
     when(member.execute("x")).thenReturn(result);
-    when(instance.hasMember("hello")).thenReturn(true);
 
-    Field f = PyExecutor.class.getDeclaredField("instanceCache");
-    f.setAccessible(true);
-    Map<Class<?>, WeakReference<Value>> cache = (Map<Class<?>, WeakReference<Value>>) f.get(exec);
-    cache.put(Api.class, new WeakReference<>(instance));
+    assertSame(result, exec.evaluate("hello", Api.class, "x"));
+    assertSame(result, exec.evaluate("hello", Api.class, "x"));
+
+    verify(ctx, times(1)).eval(any(Source.class));
+    verify(pyClass, times(1)).execute();
+  }
+
+  @Test
+  void instanceLifecycle_evaluatesModuleOncePerContext() {
+    try (Context ctx = Context.newBuilder("python").allowAllAccess(true).build()) {
+      PyExecutor exec = new PyExecutor(ctx, countingScripts());
+
+      assertEquals("1/1 x", exec.evaluate("hello", Api.class, "x").asString());
+      assertEquals("1/1 x", exec.evaluate("hello", Api.class, "x").asString());
+
+      // evicted instances are re-created from the evaluated module
+      assertTrue(exec.evictInstance(Api.class));
+      assertFalse(exec.evictInstance(Api.class));
+      assertEquals("1/2 x", exec.evaluate("hello", Api.class, "x").asString());
+      exec.clearInstanceCache();
+      assertEquals("1/3 x", exec.evaluate("hello", Api.class, "x").asString());
+
+      // a full eviction reloads the module
+      assertTrue(exec.evict(Api.class));
+      assertEquals("2/1 x", exec.evaluate("hello", Api.class, "x").asString());
+    }
+  }
+
+  @Test
+  void maxCachedInstances_evictsLeastRecentlyUsed() {
+    try (Context ctx = Context.newBuilder("python").allowAllAccess(true).build()) {
+      PyExecutor exec = new PyExecutor(ctx, countingScripts());
+      exec.maxCachedInstances(1);
+
+      assertEquals("1/1 x", exec.evaluate("hello", Api.class, "x").asString());
+      assertEquals("other 1 x", exec.evaluate("hello", OtherApi.class, "x").asString());
+      assertEquals(List.of(OtherApi.class.getName()), exec.metadata().get("cachedInterfaces"));
+
+      // re-created without re-evaluating its module
+      assertEquals("1/2 x", exec.evaluate("hello", Api.class, "x").asString());
+      assertEquals(List.of(Api.class.getName()), exec.metadata().get("cachedInterfaces"));
+      assertEquals(2L, exec.metadata().get("instanceEvictions"));
+      assertEquals(2, exec.metadata().get("evaluatedModules"));
+      assertThrows(IllegalArgumentException.class, () -> exec.maxCachedInstances(-1));
+    }
+  }
 
-    Value out = exec.evaluate("hello", Api.class, "x");
-    assertSame(result, out);
+  /// Python scripts counting module evaluations and instantiations.
+  private static ScriptSource countingScripts() {
+    return new InMemoryScriptSource(
+        Map.of(
+            "python/api",
+            """
+            import polyglot
+
+            loads = globals().get("loads", 0) + 1
+            created = 0
+
+            class Api:
+                def __init__(self):
+                    global created
+                    created += 1
+                    self.tag = "%d/%d" % (loads, created)
+
+                def hello(self, arg):
+                    return self.tag + " " + arg
+
+            polyglot.export_value("Api", Api)
+            """,
+            "python/other_api",
+            """
+            import polyglot
+
+            class OtherApi:
+                def hello(self, arg):
+                    return "other %d " % loads + arg
+
+            polyglot.export_value("OtherApi", OtherApi)
+            """));
   }
 
   @Test
@@ -170,4 +299,76 @@ class PyExecutorTest {
         io.github.ih0rd.adapter.exceptions.BindingException.class,
         () -> callInvokeMember(exec, target, "hello", "x"));
   }
+
+  @Test
+  void prefetch_loadsScriptOnceAndReusesIt() throws Exception {
+    ScriptSource ss = mock(ScriptSource.class);
+    when(ss.exists(SupportedLanguage.PYTHON, "api")).thenReturn(true);
+    when(ss.open(SupportedLanguage.PYTHON, "api"))
+        .thenAnswer(inv -> new java.io.StringReader("x = 1"));
+    PyExecutor exec = new PyExecutor(mock(Context.class), ss);
+
+    exec.prefetch(Api.class);
+    Source first = exec.loadScript(SupportedLanguage.PYTHON, "api");
+
+    assertEquals("x = 1", first.getCharacters().toString());
+    verify(ss, times(1)).open(SupportedLanguage.PYTHON, "api");
+
+    // prefetched source is consumed once
+    exec.loadScript(SupportedLanguage.PYTHON, "api");
+    verify(ss, times(2)).open(SupportedLanguage.PYTHON, "api");
+  }
+
+  @Test
+  void validateBinding_skipsEvaluationWhenManifestMatches() throws Exception {
+    ScriptSource ss = mock(ScriptSource.class);
+    when(ss.exists(SupportedLanguage.PYTHON, "manifest_api")).thenReturn(true);
+    when(ss.open(SupportedLanguage.PYTHON, "manifest_api"))
+        .thenAnswer(inv -> new java.io.StringReader("x = 1"));
+    Context ctx = mock(Context.class);
+    PyExecutor exec = new PyExecutor(ctx, ss);
+
+    exec.validateBinding(ManifestApi.class);
+
+    verify(ctx, never()).eval(any(Source.class));
+
+    // the script loaded for the check is reused by the first call
+    exec.loadScript(SupportedLanguage.PYTHON, "manifest_api");
+    verify(ss, times(1)).open(SupportedLanguage.PYTHON, "manifest_api");
+  }
+
+  @Test
+  void validateBinding_evaluatesWhenScriptChanged() throws Exception {
+    ScriptSource ss = mock(ScriptSource.class);
+    when(ss.exists(SupportedLanguage.PYTHON, "manifest_api")).thenReturn(true);
+    when(ss.open(SupportedLanguage.PYTHON, "manifest_api"))
+        .thenAnswer(inv -> new java.io.StringReader("x = 2"));
+    Context ctx = mock(Context.class);
+    when(ctx.getPolyglotBindings()).thenReturn(mock(Value.class));
+    when(ctx.getBindings("python")).thenReturn(mock(Value.class));
+    PyExecutor exec = new PyExecutor(ctx, ss);
+
+    assertThrows(BindingException.class, () -> exec.validateBinding(ManifestApi.class));
+    verify(ctx).eval(any(Source.class));
+  }
+
+  @Test
+  void evaluate_executesMatchingBytecodeCache() throws Exception {
+    try (Context ctx = Context.newBuilder("python").allowAllAccess(true).build()) {
+      byte[] pyc = pyc(ctx, API_SOURCE.replace("source ", "bytecode "), API_SOURCE);
+      PyExecutor exec = new PyExecutor(ctx, bytecodeScriptSource(ctx, pyc));
+
+      assertEquals("bytecode x", exec.evaluate("hello", Api.class, "x").asString());
+    }
+  }
+
+  @Test
+  void evaluate_ignoresStaleBytecodeCache() throws Exception {
+    try (Context ctx = Context.newBuilder("python").allowAllAccess(true).build()) {
+      byte[] pyc = pyc(ctx, "x = 1", "x = 1");
+      PyExecutor exec = new PyExecutor(ctx, bytecodeScriptSource(ctx, pyc));
+
+      assertEquals("source x", exec.evaluate("hello", Api.class, "x").asString());
+    }
+  }
 }
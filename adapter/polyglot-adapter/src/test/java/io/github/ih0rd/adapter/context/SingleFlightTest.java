@@ -0,0 +1,135 @@
+package io.github.ih0rd.adapter.context;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.ih0rd.adapter.exceptions.EvaluationException;
+
+class SingleFlightTest {
+
+  interface XApi {}
+
+  interface YApi {}
+
+  @Test
+  void concurrentCallersShareOneLoad() throws Exception {
+    SingleFlight<Class<?>, String> loads = new SingleFlight<>();
+    AtomicInteger runs = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    try (ExecutorService callers = Executors.newFixedThreadPool(2)) {
+      Future<String> first =
+          callers.submit(
+              () ->
+                  loads.load(
+                      XApi.class,
+                      () -> {
+                        runs.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return "x";
+                      }));
+      started.await();
+      AtomicReference<Thread> waiter = new AtomicReference<>();
+      Future<String> second =
+          callers.submit(
+              () -> {
+                waiter.set(Thread.currentThread());
+                return loads.load(
+                    XApi.class,
+                    () -> {
+                      runs.incrementAndGet();
+                      return "other";
+                    });
+              });
+      // release the first load only once the second caller is parked on its flight
+      while (waiter.get() == null || waiter.get().getState() != Thread.State.WAITING) {
+        Thread.onSpinWait();
+      }
+      release.countDown();
+
+      assertEquals("x", first.get(5, TimeUnit.SECONDS));
+      assertEquals("x", second.get(5, TimeUnit.SECONDS));
+    }
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  void recursiveLoadFailsFast() {
+    SingleFlight<Class<?>, String> loads = new SingleFlight<>();
+
+    EvaluationException error =
+        assertThrows(
+            EvaluationException.class,
+            () -> loads.load(XApi.class, () -> loads.load(XApi.class, () -> "x")));
+    assertTrue(error.getMessage().contains("Recursive load"));
+  }
+
+  @Test
+  void crossThreadCycleFailsInsteadOfDeadlocking() throws Exception {
+    SingleFlight<Class<?>, String> loads = new SingleFlight<>();
+    // both loads own their key before either asks for the other one
+    CountDownLatch owned = new CountDownLatch(2);
+    // daemon threads, so a deadlock fails the test instead of hanging the build
+    ExecutorService callers =
+        Executors.newFixedThreadPool(2, Thread.ofPlatform().daemon().factory());
+
+    try {
+      Future<String> x =
+          callers.submit(
+              () ->
+                  loads.load(
+                      XApi.class,
+                      () -> {
+                        owned.countDown();
+                        await(owned);
+                        return "x" + loads.load(YApi.class, () -> "y");
+                      }));
+      Future<String> y =
+          callers.submit(
+              () ->
+                  loads.load(
+                      YApi.class,
+                      () -> {
+                        owned.countDown();
+                        await(owned);
+                        return "y" + loads.load(XApi.class, () -> "x");
+                      }));
+
+      // the thread closing the cycle fails, and its failed flight fails the other one
+      assertCyclic(x);
+      assertCyclic(y);
+    } finally {
+      callers.shutdownNow();
+    }
+
+    assertEquals("x", loads.load(XApi.class, () -> "x"));
+  }
+
+  private static void assertCyclic(Future<String> load) throws Exception {
+    ExecutionException error =
+        assertThrows(ExecutionException.class, () -> load.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(EvaluationException.class, error.getCause());
+    assertTrue(error.getCause().getMessage().contains("Cyclic load"));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(5, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package io.github.ih0rd.adapter.spi;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.ih0rd.contract.SupportedLanguage;
+
+class BundleScriptSourceTest {
+
+  @TempDir Path tmp;
+
+  /// Writes a bundle in the format of the codegen {@code bundle} goal.
+  private Path bundle(Map<String, byte[]> entries, boolean corrupt) throws Exception {
+    long offset = 10;
+    for (String name : entries.keySet()) {
+      offset += 2 + name.getBytes(StandardCharsets.UTF_8).length + 8 + 4 + 32;
+    }
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(buffer)) {
+      out.writeBytes("PGSB");
+      out.writeShort(1);
+      out.writeInt(entries.size());
+      for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+        byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+        out.writeShort(name.length);
+        out.write(name);
+        out.writeLong(offset);
+        out.writeInt(entry.getValue().length);
+        out.write(MessageDigest.getInstance("SHA-256").digest(entry.getValue()));
+        offset += entry.getValue().length;
+      }
+      for (byte[] content : entries.values()) {
+        out.write(content);
+      }
+    }
+    byte[] bytes = buffer.toByteArray();
+    if (corrupt) {
+      bytes[bytes.length - 1] ^= 1;
+    }
+    return Files.write(tmp.resolve("scripts.bundle"), bytes);
+  }
+
+  private static String read(Reader reader) throws IOException {
+    try (reader) {
+      StringBuilder sb = new StringBuilder();
+      char[] chunk = new char[256];
+      for (int n; (n = reader.read(chunk)) != -1; ) {
+        sb.append(chunk, 0, n);
+      }
+      return sb.toString();
+    }
+  }
+
+  @Test
+  void servesScriptsAndBytecodeByIndex() throws Exception {
+    Map<String, byte[]> entries = new LinkedHashMap<>();
+    entries.put("js/forecast_service.js", "const x = 'é';".getBytes(StandardCharsets.UTF_8));
+    entries.put("python/__pycache__/stats_api.graalpy250-312.pyc", new byte[] {1, 2, 3});
+    entries.put("python/stats_api.py", "x = 1".getBytes(StandardCharsets.UTF_8));
+    BundleScriptSource source = new BundleScriptSource(bundle(entries, false));
+
+    assertTrue(source.exists(SupportedLanguage.PYTHON, "stats_api"));
+    assertTrue(source.exists(SupportedLanguage.JS, "forecast_service"));
+    assertFalse(source.exists(SupportedLanguage.JS, "stats_api"));
+    assertEquals("x = 1", read(source.open(SupportedLanguage.PYTHON, "stats_api")));
+    assertEquals("const x = 'é';", read(source.open(SupportedLanguage.JS, "forecast_service")));
+    try (InputStream pyc =
+        source.openBytecode(SupportedLanguage.PYTHON, "stats_api", "graalpy250-312")) {
+      assertArrayEquals(new byte[] {1, 2, 3}, pyc.readAllBytes());
+    }
+    assertNull(source.openBytecode(SupportedLanguage.PYTHON, "stats_api", "graalpy999-312"));
+    assertEquals(entries.keySet(), source.entries());
+    assertThrows(
+        IllegalArgumentException.class, () -> source.open(SupportedLanguage.PYTHON, "missing"));
+  }
+
+  @Test
+  void rejectsCorruptContent() throws Exception {
+    BundleScriptSource source =
+        new BundleScriptSource(
+            bundle(Map.of("python/stats_api.py", "x = 1".getBytes(StandardCharsets.UTF_8)), true));
+
+    assertThrows(IOException.class, () -> source.open(SupportedLanguage.PYTHON, "stats_api"));
+  }
+
+  @Test
+  void rejectsInvalidFiles() throws Exception {
+    Path notBundle = Files.writeString(tmp.resolve("other.bundle"), "hello world");
+    Path truncated = tmp.resolve("truncated.bundle");
+    byte[] valid = Files.readAllBytes(bundle(Map.of("python/a.py", new byte[] {'x'}), false));
+    Files.write(truncated, java.util.Arrays.copyOf(valid, 20));
+
+    assertThrows(IOException.class, () -> new BundleScriptSource(notBundle));
+    assertThrows(IOException.class, () -> new BundleScriptSource(truncated));
+    assertEquals(Set.of(), new BundleScriptSource(bundle(Map.of(), false)).entries());
+  }
+}
@@ -4,8 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
-import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
 
 import org.graalvm.polyglot.Value;
 import org.junit.jupiter.api.Test;
@@ -102,13 +105,41 @@ class CommonUtilsTest {
 
   @Test
   void shouldCacheMethodHandles() throws Throwable {
-    Method m = DummyApi.class.getMethod("add", int.class, int.class);
-    var field = CommonUtils.class.getDeclaredField("HANDLE_CACHE");
+    var field = CommonUtils.class.getDeclaredField("METHOD_TABLES");
     field.setAccessible(true);
-    var cache = (java.util.Map<?, ?>) field.get(null);
-    cache.clear();
+    var tables = (ClassValue<?>) field.get(null);
     CommonUtils.invokeMethod(DummyApi.class, new DummyImpl(), "add", 1, 2);
-    assertThat(cache.keySet()).anyMatch(k -> k.equals(m));
+    var table = (Map<?, ?>) tables.get(DummyApi.class);
+    assertThat(table.get("add")).isNotNull();
+    assertThat(table.get("ping")).isNotNull();
+    assertThat(tables.get(DummyApi.class)).isSameAs(table);
+  }
+
+  @Test
+  void shouldInvokeConcurrentlyFromCachedTable() throws Exception {
+    DummyImpl impl = new DummyImpl();
+    Callable<Integer> task =
+        () -> {
+          int sum = 0;
+          for (int i = 0; i < 1_000; i++) {
+            sum += CommonUtils.invokeMethod(DummyApi.class, impl, "add", i, 1).asInt();
+          }
+          return sum;
+        };
+    try (var pool = Executors.newFixedThreadPool(4)) {
+      var results = pool.invokeAll(Collections.nCopies(16, task));
+      for (var result : results) {
+        assertThat(result.get()).isEqualTo(500_500);
+      }
+    }
+  }
+
+  @Test
+  void shouldRejectWrongArgumentCount() {
+    assertThatThrownBy(() -> CommonUtils.invokeMethod(DummyApi.class, new DummyImpl(), "add", 1))
+        .isInstanceOf(EvaluationException.class)
+        .cause()
+        .hasMessageContaining("expects 2 argument(s), got 1");
   }
 
   @Test
@@ -0,0 +1,25 @@
+package io.github.ih0rd.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+
+/// # BenchApi
+///
+/// Interface bound to {@code python/bench_api.py} and {@code js/bench_api.js}.
+///
+/// Covers the argument and result shapes measured by the benchmarks: primitives,
+/// strings, lists and maps in both directions.
+public interface BenchApi {
+
+  int add(int a, int b);
+
+  String echo(String value);
+
+  List<Integer> numbers(int n);
+
+  int total(List<Integer> values);
+
+  Map<String, Object> summary(List<Integer> values);
+
+  double score(Map<String, Double> weights);
+}
@@ -0,0 +1,95 @@
+package io.github.ih0rd.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.github.ih0rd.benchmarks.startup.StartupSuite;
+
+/// # BenchmarkMain
+///
+/// Entry point of the benchmark suite; results are always written as JSON.
+///
+/// Usage:
+///
+/// ```
+/// mvn -Pbenchmarks install -DskipTests
+/// mvn -Pbenchmarks -pl polyglot-benchmarks exec:exec [-Dbenchmark.args="..."]
+/// ```
+///
+/// - no arguments or JMH arguments (e.g. {@code BindDispatch -p language=python}): runs JMH
+///   and writes {@code target/jmh-result.json} unless {@code -rf}/{@code -rff} are given
+/// - {@code scaling [maxThreads]}: runs {@link ScalingBenchmark} with 1, 2, 4, ... threads
+///   up to {@code maxThreads} (default: available processors) and writes
+///   {@code target/jmh-scaling.json}
+/// - {@code startup [options]}: cold start in fresh JVMs, see {@link StartupSuite}; writes
+///   {@code target/startup-result.json}
+public final class BenchmarkMain {
+
+  private static final Path RESULT = Path.of("target", "jmh-result.json");
+  private static final Path SCALING_RESULT = Path.of("target", "jmh-scaling.json");
+
+  private BenchmarkMain() {}
+
+  public static void main(String[] args) throws Exception {
+    if (args.length > 0 && args[0].equals("scaling")) {
+      int maxThreads =
+          args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+      scaling(maxThreads);
+      return;
+    }
+    if (args.length > 0 && args[0].equals("startup")) {
+      StartupSuite.main(Arrays.copyOfRange(args, 1, args.length));
+      return;
+    }
+
+    List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+    if (!jmhArgs.contains("-rf")) {
+      jmhArgs.addAll(List.of("-rf", "json"));
+    }
+    if (!jmhArgs.contains("-rff")) {
+      Files.createDirectories(RESULT.getParent());
+      jmhArgs.addAll(List.of("-rff", RESULT.toString()));
+    }
+    org.openjdk.jmh.Main.main(jmhArgs.toArray(String[]::new));
+  }
+
+  private static void scaling(int maxThreads) throws RunnerException, IOException {
+    List<RunResult> results = new ArrayList<>();
+    for (int threads : threadCounts(maxThreads)) {
+      results.addAll(
+          new Runner(
+                  new OptionsBuilder()
+                      .include(ScalingBenchmark.class.getName())
+                      .threads(threads)
+                      .build())
+              .run());
+    }
+    Files.createDirectories(SCALING_RESULT.getParent());
+    ResultFormatFactory.getInstance(ResultFormatType.JSON, SCALING_RESULT.toString())
+        .writeOut(results);
+  }
+
+  /// 1, 2, 4, ... below {@code maxThreads}, then {@code maxThreads} itself.
+  static List<Integer> threadCounts(int maxThreads) {
+    if (maxThreads < 1) {
+      throw new IllegalArgumentException("maxThreads must be at least 1: " + maxThreads);
+    }
+    List<Integer> counts = new ArrayList<>();
+    for (int threads = 1; threads < maxThreads; threads *= 2) {
+      counts.add(threads);
+    }
+    counts.add(maxThreads);
+    return counts;
+  }
+}
@@ -0,0 +1,59 @@
+package io.github.ih0rd.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+
+/// # BindDispatchBenchmark
+///
+/// Latency of a call through a proxy returned by {@link AbstractPolyglotExecutor#bind(Class)}:
+/// proxy dispatch, member resolution, guest execution and result conversion.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+public class BindDispatchBenchmark {
+
+  @Param({"python", "js"})
+  public String language;
+
+  private AbstractPolyglotExecutor executor;
+  private BenchApi api;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    executor = Fixtures.executor(Fixtures.language(language), Fixtures.inMemory());
+    api = executor.bind(BenchApi.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.close();
+  }
+
+  @Benchmark
+  public int add() {
+    return api.add(20, 22);
+  }
+
+  @Benchmark
+  public String echo() {
+    return api.echo("polyglot");
+  }
+}
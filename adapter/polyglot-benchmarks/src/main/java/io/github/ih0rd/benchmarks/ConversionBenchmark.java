@@ -0,0 +1,96 @@
+package io.github.ih0rd.benchmarks;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+
+/// # ConversionBenchmark
+///
+/// Cost of argument and result conversion across the host/guest boundary for
+/// primitives, lists and maps, by collection size.
+///
+/// Results that are collections are fully traversed, so lazily converted views are
+/// measured with their element access.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+public class ConversionBenchmark {
+
+  @Param({"python", "js"})
+  public String language;
+
+  @Param({"10", "1000"})
+  public int size;
+
+  private AbstractPolyglotExecutor executor;
+  private BenchApi api;
+  private List<Integer> values;
+  private Map<String, Double> weights;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    executor = Fixtures.executor(Fixtures.language(language), Fixtures.inMemory());
+    api = executor.bind(BenchApi.class);
+    values = IntStream.range(0, size).boxed().toList();
+    weights = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      weights.put("w" + i, i * 0.5);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.close();
+  }
+
+  @Benchmark
+  public int primitives() {
+    return api.add(size, 1);
+  }
+
+  @Benchmark
+  public int listArgument() {
+    return api.total(values);
+  }
+
+  @Benchmark
+  public long listResult() {
+    long sum = 0;
+    for (Integer value : api.numbers(size)) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int mapResult() {
+    Map<String, Object> summary = api.summary(values);
+    return summary.size() + ((Number) summary.get("count")).intValue();
+  }
+
+  @Benchmark
+  public double mapArgument() {
+    return api.score(weights);
+  }
+}
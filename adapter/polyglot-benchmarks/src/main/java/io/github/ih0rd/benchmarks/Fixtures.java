@@ -0,0 +1,97 @@
+package io.github.ih0rd.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+import io.github.ih0rd.adapter.context.JsExecutor;
+import io.github.ih0rd.adapter.context.PyExecutor;
+import io.github.ih0rd.adapter.spi.InMemoryScriptSource;
+import io.github.ih0rd.contract.ScriptSource;
+import io.github.ih0rd.contract.SupportedLanguage;
+
+/// # Fixtures
+///
+/// Shared setup of the benchmarks: bundled guest scripts and executors.
+final class Fixtures {
+
+  /// Logical script name of {@link BenchApi}.
+  static final String SCRIPT = "bench_api";
+
+  private Fixtures() {}
+
+  /// ### language
+  ///
+  /// @param id language id as used in {@code @Param} values ({@code python}, {@code js})
+  /// @return supported language
+  static SupportedLanguage language(String id) {
+    for (SupportedLanguage language : SupportedLanguage.values()) {
+      if (language.id().equals(id)) {
+        return language;
+      }
+    }
+    throw new IllegalArgumentException("Unsupported language: " + id);
+  }
+
+  /// ### script
+  ///
+  /// @param language script language
+  /// @return content of the benchmark script from the classpath
+  static String script(SupportedLanguage language) {
+    String path = resource(language);
+    try (InputStream in = Fixtures.class.getClassLoader().getResourceAsStream(path)) {
+      if (in == null) {
+        throw new IllegalStateException("Missing benchmark script: " + path);
+      }
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /// ### inMemory
+  ///
+  /// @return script source holding both benchmark scripts in memory
+  static ScriptSource inMemory() {
+    return new InMemoryScriptSource(
+        Map.of(
+            "python/" + SCRIPT, script(SupportedLanguage.PYTHON),
+            "js/" + SCRIPT, script(SupportedLanguage.JS)));
+  }
+
+  /// ### copyScripts
+  ///
+  /// Copies both benchmark scripts to {@code {dir}/{language}/bench_api{ext}}.
+  ///
+  /// @param dir target directory
+  /// @return {@code dir}
+  static Path copyScripts(Path dir) throws IOException {
+    for (SupportedLanguage language : SupportedLanguage.values()) {
+      Path target = dir.resolve(resource(language));
+      Files.createDirectories(target.getParent());
+      Files.writeString(target, script(language));
+    }
+    return dir;
+  }
+
+  /// ### executor
+  ///
+  /// @param language     guest language
+  /// @param scriptSource script source
+  /// @return executor with a new {@code PolyglotHelper} context
+  static AbstractPolyglotExecutor executor(SupportedLanguage language, ScriptSource scriptSource) {
+    return switch (language) {
+      case PYTHON -> PyExecutor.create(scriptSource, null);
+      case JS -> JsExecutor.create(scriptSource, null);
+    };
+  }
+
+  private static String resource(SupportedLanguage language) {
+    return language.name().toLowerCase() + "/" + SCRIPT + language.ext();
+  }
+}
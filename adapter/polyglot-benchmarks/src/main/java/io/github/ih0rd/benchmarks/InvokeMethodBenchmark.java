@@ -0,0 +1,83 @@
+package io.github.ih0rd.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.ih0rd.adapter.utils.CommonUtils;
+
+/// # InvokeMethodBenchmark
+///
+/// Reflective invocation through {@link CommonUtils#invokeMethod}, against a direct
+/// interface call as baseline.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+public class InvokeMethodBenchmark {
+
+  private final BenchApi target = new JavaBenchApi();
+
+  @Benchmark
+  public int baseline() {
+    return target.add(20, 22);
+  }
+
+  @Benchmark
+  public Value primitives() {
+    return CommonUtils.invokeMethod(BenchApi.class, target, "add", 20, 22);
+  }
+
+  @Benchmark
+  public Value reference() {
+    return CommonUtils.invokeMethod(BenchApi.class, target, "echo", "polyglot");
+  }
+
+  /// Host implementation of {@link BenchApi}.
+  static final class JavaBenchApi implements BenchApi {
+
+    @Override
+    public int add(int a, int b) {
+      return a + b;
+    }
+
+    @Override
+    public String echo(String value) {
+      return value;
+    }
+
+    @Override
+    public List<Integer> numbers(int n) {
+      return IntStream.range(0, n).boxed().toList();
+    }
+
+    @Override
+    public int total(List<Integer> values) {
+      return values.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public Map<String, Object> summary(List<Integer> values) {
+      return Map.of("count", values.size());
+    }
+
+    @Override
+    public double score(Map<String, Double> weights) {
+      return weights.values().stream().mapToDouble(Double::doubleValue).sum();
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package io.github.ih0rd.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.ih0rd.adapter.context.PyExecutor;
+import io.github.ih0rd.contract.SupportedLanguage;
+
+/// # ResolveInstanceBenchmark
+///
+/// Python instance resolution, driven through {@link PyExecutor#validateBinding(Class)}:
+/// - {@code hit}: the instance is cached
+/// - {@code miss}: the instance is evicted first, so the class is instantiated again
+///   (the module stays evaluated)
+/// - {@code reload}: the interface is evicted first, so the module is re-evaluated from a
+///   reloaded source and the class instantiated again
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+public class ResolveInstanceBenchmark {
+
+  private PyExecutor executor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    executor = (PyExecutor) Fixtures.executor(SupportedLanguage.PYTHON, Fixtures.inMemory());
+    executor.validateBinding(BenchApi.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.close();
+  }
+
+  @Benchmark
+  public void hit() {
+    executor.validateBinding(BenchApi.class);
+  }
+
+  @Benchmark
+  public void miss() {
+    executor.evictInstance(BenchApi.class);
+    executor.validateBinding(BenchApi.class);
+  }
+
+  @Benchmark
+  public void reload() {
+    executor.evict(BenchApi.class);
+    executor.validateBinding(BenchApi.class);
+  }
+}
@@ -0,0 +1,88 @@
+package io.github.ih0rd.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+import io.github.ih0rd.contract.SupportedLanguage;
+
+/// # ScalingBenchmark
+///
+/// Throughput of bound calls under concurrency:
+/// - {@code isolatedContexts}: one executor (and context) per thread
+/// - {@code sharedPythonContext}: all threads call into one Python executor
+///
+/// Thread counts come from the runner: {@code BenchmarkMain scaling [maxThreads]} runs this
+/// class for 1, 2, 4, ... up to {@code maxThreads} threads and writes one JSON report.
+/// JavaScript contexts reject concurrent access, so only Python is measured shared.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+public class ScalingBenchmark {
+
+  /// Executor owned by one benchmark thread.
+  @State(Scope.Thread)
+  public static class Isolated {
+
+    @Param({"python", "js"})
+    public String language;
+
+    AbstractPolyglotExecutor executor;
+    BenchApi api;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      executor = Fixtures.executor(Fixtures.language(language), Fixtures.inMemory());
+      api = executor.bind(BenchApi.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      executor.close();
+    }
+  }
+
+  /// Python executor shared by all benchmark threads.
+  @State(Scope.Benchmark)
+  public static class Shared {
+
+    AbstractPolyglotExecutor executor;
+    BenchApi api;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      executor = Fixtures.executor(SupportedLanguage.PYTHON, Fixtures.inMemory());
+      api = executor.bind(BenchApi.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      executor.close();
+    }
+  }
+
+  @Benchmark
+  public int isolatedContexts(Isolated state) {
+    return state.api.add(20, 22);
+  }
+
+  @Benchmark
+  public int sharedPythonContext(Shared state) {
+    return state.api.add(20, 22);
+  }
+}
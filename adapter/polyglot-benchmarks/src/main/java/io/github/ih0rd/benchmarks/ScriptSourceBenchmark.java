@@ -0,0 +1,110 @@
+package io.github.ih0rd.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.ih0rd.adapter.spi.BundleScriptSource;
+import io.github.ih0rd.adapter.spi.ClasspathScriptSource;
+import io.github.ih0rd.adapter.spi.CompositeScriptSource;
+import io.github.ih0rd.adapter.spi.FileSystemScriptSource;
+import io.github.ih0rd.adapter.spi.InMemoryScriptSource;
+import io.github.ih0rd.codegen.bundle.ScriptBundleWriter;
+import io.github.ih0rd.contract.ScriptSource;
+import io.github.ih0rd.contract.SupportedLanguage;
+
+/// # ScriptSourceBenchmark
+///
+/// Script lookup and read cost of each {@link ScriptSource} implementation:
+/// - {@code load}: {@code exists} followed by reading the whole script, as done by the
+///   executors on a cache miss
+/// - {@code missing}: {@code exists} for an unknown script
+///
+/// The {@code composite} source puts an empty in-memory source and the file system
+/// before the classpath, i.e. a typical override chain that resolves on the second delegate.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+public class ScriptSourceBenchmark {
+
+  @Param({"inMemory", "fileSystem", "classpath", "composite", "bundle"})
+  public String source;
+
+  private Path dir;
+  private ScriptSource scriptSource;
+  private final char[] buffer = new char[8192];
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    dir = Fixtures.copyScripts(Files.createTempDirectory("polyglot-bench"));
+    scriptSource =
+        switch (source) {
+          case "inMemory" -> Fixtures.inMemory();
+          case "fileSystem" -> new FileSystemScriptSource(dir);
+          case "classpath" -> new ClasspathScriptSource(getClass().getClassLoader());
+          case "composite" ->
+              new CompositeScriptSource(
+                  List.of(
+                      new InMemoryScriptSource(Map.of()),
+                      new FileSystemScriptSource(dir),
+                      new ClasspathScriptSource(getClass().getClassLoader())));
+          case "bundle" -> {
+            Path bundle = dir.resolve("scripts.bundle");
+            new ScriptBundleWriter().write(List.of(dir), bundle);
+            yield new BundleScriptSource(bundle);
+          }
+          default -> throw new IllegalArgumentException("Unknown script source: " + source);
+        };
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(dir)) {
+      for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  @Benchmark
+  public long load() throws IOException {
+    if (!scriptSource.exists(SupportedLanguage.PYTHON, Fixtures.SCRIPT)) {
+      throw new IllegalStateException("Benchmark script not found");
+    }
+    long chars = 0;
+    try (Reader reader = scriptSource.open(SupportedLanguage.PYTHON, Fixtures.SCRIPT)) {
+      for (int n; (n = reader.read(buffer)) != -1; ) {
+        chars += n;
+      }
+    }
+    return chars;
+  }
+
+  @Benchmark
+  public boolean missing() {
+    return scriptSource.exists(SupportedLanguage.PYTHON, "missing_api");
+  }
+}
@@ -0,0 +1,10 @@
+package io.github.ih0rd.benchmarks.startup;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/// # StartupApplication
+///
+/// Minimal Spring Boot application with the polyglot starter on the classpath, booted by
+/// {@link StartupProbe} in {@code spring} mode. Executors are enabled through properties.
+@SpringBootApplication(proxyBeanMethods = false)
+public class StartupApplication {}
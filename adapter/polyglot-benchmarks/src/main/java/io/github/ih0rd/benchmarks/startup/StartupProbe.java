@@ -0,0 +1,199 @@
+package io.github.ih0rd.benchmarks.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.python.embedding.GraalPyResources;
+import org.graalvm.python.embedding.VirtualFileSystem;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+import io.github.ih0rd.adapter.context.JsExecutor;
+import io.github.ih0rd.adapter.context.PolyglotHelper;
+import io.github.ih0rd.adapter.context.PyExecutor;
+import io.github.ih0rd.adapter.spi.ClasspathScriptSource;
+import io.github.ih0rd.benchmarks.BenchApi;
+import io.github.ih0rd.contract.ScriptSource;
+import io.github.ih0rd.contract.SupportedLanguage;
+
+/// # StartupProbe
+///
+/// Measures one cold start in the current (fresh) JVM and prints a single result line:
+///
+/// ```
+/// STARTUP jvmMs=... contextMs=... firstCallMs=...
+/// ```
+///
+/// Arguments: {@code <context|spring> <python|js> <private|shared> <preload: true|false>}.
+///
+/// {@code context} mode, all times in milliseconds:
+/// - {@code jvmMs}: JVM start until {@code main}
+/// - {@code contextMs}: first context creation ({@code PolyglotHelper.newContext}, or the same
+///   configuration on an explicit shared engine)
+/// - {@code preloadMs}: script evaluation and binding validation ahead of the first call
+///   (only with preload)
+/// - {@code bindMs}, {@code firstCallMs}: first {@code bind()} and first call
+/// - {@code secondContextMs}, {@code secondCallMs}: the same for a second context in the same
+///   JVM, which is where a shared engine pays off
+/// - {@code totalMs}: {@code main} until the first call returned
+///
+/// {@code spring} mode boots {@link StartupApplication} with the starter and reports
+/// {@code jvmMs}, {@code springMs} (until the context is refreshed, including the starter's
+/// startup warmup when preload is on), {@code firstCallMs} (bind and call through the
+/// executor bean) and {@code readyMs} (JVM start until the first call returned).
+///
+/// Runs are driven by {@link StartupSuite}.
+public final class StartupProbe {
+
+  private StartupProbe() {}
+
+  public static void main(String[] args) {
+    long jvmMs = ManagementFactory.getRuntimeMXBean().getUptime();
+    if (args.length != 4) {
+      throw new IllegalArgumentException(
+          "Usage: StartupProbe <context|spring> <python|js> <private|shared> <true|false>");
+    }
+    SupportedLanguage language = language(args[1]);
+    boolean shared = args[2].equals("shared");
+    boolean preload = Boolean.parseBoolean(args[3]);
+
+    Map<String, Double> metrics = new LinkedHashMap<>();
+    metrics.put("jvmMs", (double) jvmMs);
+    switch (args[0]) {
+      case "context" -> context(language, shared, preload, metrics);
+      case "spring" -> spring(language, preload, metrics);
+      default -> throw new IllegalArgumentException("Unknown probe mode: " + args[0]);
+    }
+
+    StringBuilder line = new StringBuilder("STARTUP");
+    metrics.forEach((name, value) -> line.append(' ').append(name).append('=').append(value));
+    System.out.println(line);
+  }
+
+  private static void context(
+      SupportedLanguage language, boolean shared, boolean preload, Map<String, Double> metrics) {
+    ScriptSource scriptSource = new ClasspathScriptSource();
+    long start = System.nanoTime();
+
+    Engine engine =
+        shared ? Engine.newBuilder().option("engine.WarnInterpreterOnly", "false").build() : null;
+    try {
+      long t = System.nanoTime();
+      try (AbstractPolyglotExecutor executor =
+          executor(language, newContext(language, engine), scriptSource)) {
+        metrics.put("contextMs", millis(t));
+
+        if (preload) {
+          t = System.nanoTime();
+          executor.validateBinding(BenchApi.class);
+          metrics.put("preloadMs", millis(t));
+        }
+
+        t = System.nanoTime();
+        BenchApi api = executor.bind(BenchApi.class);
+        metrics.put("bindMs", millis(t));
+
+        t = System.nanoTime();
+        api.add(1, 2);
+        metrics.put("firstCallMs", millis(t));
+        metrics.put("totalMs", millis(start));
+
+        t = System.nanoTime();
+        try (AbstractPolyglotExecutor second =
+            executor(language, newContext(language, engine), scriptSource)) {
+          metrics.put("secondContextMs", millis(t));
+          t = System.nanoTime();
+          second.bind(BenchApi.class).add(1, 2);
+          metrics.put("secondCallMs", millis(t));
+        }
+      }
+    } finally {
+      if (engine != null) {
+        engine.close();
+      }
+    }
+  }
+
+  private static void spring(
+      SupportedLanguage language, boolean preload, Map<String, Double> metrics) {
+    String prefix = "polyglot." + language.id() + ".";
+    SpringApplication application = new SpringApplication(StartupApplication.class);
+    application.setDefaultProperties(
+        Map.of(
+            prefix + "enabled",
+            "true",
+            prefix + "resources-path",
+            "classpath:" + language.id(),
+            prefix + "warmup-on-startup",
+            String.valueOf(preload),
+            "polyglot.python.safe-defaults",
+            "true",
+            "spring.main.banner-mode",
+            "off",
+            "logging.level.root",
+            "warn"));
+
+    long t = System.nanoTime();
+    try (ConfigurableApplicationContext context = application.run()) {
+      metrics.put("springMs", millis(t));
+
+      t = System.nanoTime();
+      AbstractPolyglotExecutor executor =
+          switch (language) {
+            case PYTHON -> context.getBean(PyExecutor.class);
+            case JS -> context.getBean(JsExecutor.class);
+          };
+      executor.bind(BenchApi.class).add(1, 2);
+      metrics.put("firstCallMs", millis(t));
+      metrics.put("readyMs", (double) ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+  }
+
+  /// Private engine: {@code PolyglotHelper} as is. Shared engine: the same context
+  /// configuration on the given engine, without the engine-level options
+  /// {@code PolyglotHelper} sets (GraalVM rejects them on contexts with an explicit engine).
+  private static Context newContext(SupportedLanguage language, Engine engine) {
+    if (engine == null) {
+      return PolyglotHelper.newContext(language);
+    }
+    Context.Builder builder =
+        switch (language) {
+          case PYTHON ->
+              GraalPyResources.contextBuilder(
+                      VirtualFileSystem.newBuilder()
+                          .resourceDirectory("org.graalvm.python.vfs")
+                          .build())
+                  .allowExperimentalOptions(true)
+                  .option("python.WarnExperimentalFeatures", "false");
+          case JS -> Context.newBuilder(language.id());
+        };
+    Context context = builder.engine(engine).allowAllAccess(true).build();
+    context.initialize(language.id());
+    return context;
+  }
+
+  private static AbstractPolyglotExecutor executor(
+      SupportedLanguage language, Context context, ScriptSource scriptSource) {
+    return switch (language) {
+      case PYTHON -> PyExecutor.createWithContext(context, scriptSource);
+      case JS -> JsExecutor.createWithContext(context, scriptSource);
+    };
+  }
+
+  private static SupportedLanguage language(String id) {
+    for (SupportedLanguage language : SupportedLanguage.values()) {
+      if (language.id().equals(id)) {
+        return language;
+      }
+    }
+    throw new IllegalArgumentException("Unsupported language: " + id);
+  }
+
+  private static double millis(long startNanos) {
+    return Math.round((System.nanoTime() - startNanos) / 1e4) / 100.0;
+  }
+}
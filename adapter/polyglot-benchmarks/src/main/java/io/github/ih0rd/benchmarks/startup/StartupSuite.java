@@ -0,0 +1,261 @@
+package io.github.ih0rd.benchmarks.startup;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/// # StartupSuite
+///
+/// Runs {@link StartupProbe} in fresh JVMs over a matrix of configurations and writes the
+/// medians as JSON, tagged with the git commit and JVM so runs are comparable across commits.
+///
+/// Configurations:
+/// - mode: {@code context} (adapter only) and {@code spring} (Boot application with the starter)
+/// - language: {@code python}, {@code js}
+/// - engine: {@code private} ({@code PolyglotHelper} defaults) or {@code shared}
+///   ({@code context} mode only)
+/// - preload: script evaluation before the first call ({@code context} mode) or the starter's
+///   {@code warmup-on-startup} ({@code spring} mode)
+/// - profile: {@code default} JVM flags, {@code fast-start} (C1 only, serial GC, dynamic
+///   AppCDS archive under {@code target/}; class directories are packaged as jars, since
+///   CDS only archives classes from jars), and {@code native} when a natively compiled probe
+///   is given with {@code --native}
+///
+/// Every configuration runs one discarded priming fork (which also creates the CDS archive)
+/// followed by {@code --forks} measured forks.
+///
+/// Options: {@code --forks <n>} (default 5), {@code --modes context,spring},
+/// {@code --languages python,js}, {@code --native <probe executable>},
+/// {@code --output <file>} (default {@code target/startup-result.json}).
+public final class StartupSuite {
+
+  private static final List<String> FAST_START =
+      List.of("-XX:TieredStopAtLevel=1", "-XX:+UseSerialGC", "-XX:+AutoCreateSharedArchive");
+
+  private static final String CLASSPATH = System.getProperty("java.class.path");
+
+  private static String cdsClasspath;
+
+  private StartupSuite() {}
+
+  /// One point of the matrix.
+  record Config(String mode, String language, String engine, boolean preload, String profile) {
+
+    String id() {
+      return String.join("/", mode, language, engine, preload ? "preload" : "no-preload", profile);
+    }
+
+    List<String> probeArgs() {
+      return List.of(mode, language, engine, String.valueOf(preload));
+    }
+  }
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    int forks = 5;
+    List<String> modes = List.of("context", "spring");
+    List<String> languages = List.of("python", "js");
+    Path nativeProbe = null;
+    Path output = Path.of("target", "startup-result.json");
+    for (int i = 0; i + 1 < args.length; i += 2) {
+      switch (args[i]) {
+        case "--forks" -> forks = Integer.parseInt(args[i + 1]);
+        case "--modes" -> modes = Arrays.asList(args[i + 1].split(","));
+        case "--languages" -> languages = Arrays.asList(args[i + 1].split(","));
+        case "--native" -> nativeProbe = Path.of(args[i + 1]);
+        case "--output" -> output = Path.of(args[i + 1]);
+        default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+      }
+    }
+
+    List<Config> configs = new ArrayList<>();
+    for (String mode : modes) {
+      for (String language : languages) {
+        for (String engine :
+            mode.equals("context") ? List.of("private", "shared") : List.of("private")) {
+          for (boolean preload : List.of(false, true)) {
+            configs.add(new Config(mode, language, engine, preload, "default"));
+            configs.add(new Config(mode, language, engine, preload, "fast-start"));
+            if (nativeProbe != null && mode.equals("context")) {
+              configs.add(new Config(mode, language, engine, preload, "native"));
+            }
+          }
+        }
+      }
+    }
+
+    StringBuilder json = new StringBuilder();
+    json.append("{\n");
+    json.append("  \"commit\": \"").append(commit()).append("\",\n");
+    json.append("  \"java\": \"")
+        .append(System.getProperty("java.vm.name"))
+        .append(' ')
+        .append(System.getProperty("java.version"))
+        .append("\",\n");
+    json.append("  \"os\": \"")
+        .append(System.getProperty("os.name"))
+        .append(' ')
+        .append(System.getProperty("os.arch"))
+        .append("\",\n");
+    json.append("  \"forks\": ").append(forks).append(",\n");
+    json.append("  \"results\": [");
+
+    for (int c = 0; c < configs.size(); c++) {
+      Config config = configs.get(c);
+      System.out.println("# " + config.id());
+      run(config, nativeProbe);
+      Map<String, List<Double>> samples = new LinkedHashMap<>();
+      for (int fork = 0; fork < forks; fork++) {
+        run(config, nativeProbe)
+            .forEach(
+                (name, value) -> samples.computeIfAbsent(name, _ -> new ArrayList<>()).add(value));
+      }
+
+      json.append(c == 0 ? "\n" : ",\n");
+      json.append("    {\"config\": \"").append(config.id()).append("\", \"metrics\": {");
+      StringBuilder summary = new StringBuilder();
+      int m = 0;
+      for (Map.Entry<String, List<Double>> entry : samples.entrySet()) {
+        List<Double> values = entry.getValue().stream().sorted().toList();
+        double median = median(values);
+        json.append(m++ == 0 ? "" : ", ")
+            .append(
+                String.format(
+                    Locale.ROOT,
+                    "\"%s\": {\"median\": %.2f, \"min\": %.2f, \"max\": %.2f}",
+                    entry.getKey(),
+                    median,
+                    values.getFirst(),
+                    values.getLast()));
+        summary.append(String.format(Locale.ROOT, "  %s %.1f", entry.getKey(), median));
+      }
+      json.append("}}");
+      System.out.println(summary);
+    }
+    json.append("\n  ]\n}\n");
+
+    Files.createDirectories(output.toAbsolutePath().getParent());
+    Files.writeString(output, json);
+    System.out.println("Startup results written to " + output);
+  }
+
+  /// Runs one probe JVM and parses its {@code STARTUP} line.
+  private static Map<String, Double> run(Config config, Path nativeProbe)
+      throws IOException, InterruptedException {
+    List<String> command = new ArrayList<>();
+    if (config.profile().equals("native")) {
+      command.add(nativeProbe.toString());
+    } else {
+      command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+      command.add("--enable-native-access=ALL-UNNAMED");
+      if (config.profile().equals("fast-start")) {
+        command.addAll(FAST_START);
+        command.add(
+            "-XX:SharedArchiveFile="
+                + Path.of("target", "startup-" + config.mode() + "-" + config.language() + ".jsa")
+                    .toAbsolutePath());
+      }
+      command.add("-classpath");
+      command.add(config.profile().equals("fast-start") ? cdsClasspath() : CLASSPATH);
+      command.add(StartupProbe.class.getName());
+    }
+    command.addAll(config.probeArgs());
+
+    Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+    Map<String, Double> metrics = null;
+    List<String> output = new ArrayList<>();
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+      for (String line; (line = reader.readLine()) != null; ) {
+        output.add(line);
+        if (line.startsWith("STARTUP ")) {
+          metrics = new LinkedHashMap<>();
+          for (String pair : line.substring("STARTUP ".length()).split(" ")) {
+            int eq = pair.indexOf('=');
+            metrics.put(pair.substring(0, eq), Double.parseDouble(pair.substring(eq + 1)));
+          }
+        }
+      }
+    }
+    int exit = process.waitFor();
+    if (exit != 0 || metrics == null) {
+      throw new IllegalStateException(
+          "Startup probe "
+              + config.id()
+              + " failed (exit "
+              + exit
+              + "):\n"
+              + String.join("\n", output));
+    }
+    return metrics;
+  }
+
+  /// The probe classpath with directories packaged as jars: CDS archives only cover jars.
+  private static String cdsClasspath() throws IOException {
+    if (cdsClasspath != null) {
+      return cdsClasspath;
+    }
+    Path dir = Files.createDirectories(Path.of("target", "startup-cds"));
+    List<String> entries = new ArrayList<>();
+    for (String entry : CLASSPATH.split(File.pathSeparator)) {
+      Path path = Path.of(entry);
+      if (!Files.isDirectory(path)) {
+        entries.add(entry);
+        continue;
+      }
+      Path jar = dir.resolve("classpath-" + entries.size() + ".jar").toAbsolutePath();
+      try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+          Stream<Path> files = Files.walk(path)) {
+        for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+          out.putNextEntry(new JarEntry(path.relativize(file).toString().replace('\\', '/')));
+          Files.copy(file, out);
+          out.closeEntry();
+        }
+      }
+      entries.add(jar.toString());
+    }
+    cdsClasspath = String.join(File.pathSeparator, entries);
+    return cdsClasspath;
+  }
+
+  private static double median(List<Double> sorted) {
+    int n = sorted.size();
+    return n % 2 == 1 ? sorted.get(n / 2) : (sorted.get(n / 2 - 1) + sorted.get(n / 2)) / 2;
+  }
+
+  /// Short commit id, suffixed with {@code -dirty} for uncommitted changes.
+  private static String commit() {
+    try {
+      String head = git("rev-parse", "--short", "HEAD");
+      return git("status", "--porcelain", "--untracked-files=no").isEmpty()
+          ? head
+          : head + "-dirty";
+    } catch (IOException | InterruptedException | IllegalStateException e) {
+      return "unknown";
+    }
+  }
+
+  private static String git(String... args) throws IOException, InterruptedException {
+    List<String> command = new ArrayList<>(List.of("git"));
+    command.addAll(List.of(args));
+    Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+    String out = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+    if (process.waitFor() != 0) {
+      throw new IllegalStateException(out);
+    }
+    return out;
+  }
+}
@@ -0,0 +1,38 @@
+function add(a, b) {
+  return a + b;
+}
+
+function echo(value) {
+  return value;
+}
+
+function numbers(n) {
+  return Array.from({ length: n }, (_, i) => i);
+}
+
+function total(values) {
+  let sum = 0;
+  for (let i = 0; i < values.length; i++) {
+    sum += values[i];
+  }
+  return sum;
+}
+
+function summary(values) {
+  let min = Infinity;
+  let max = -Infinity;
+  for (let i = 0; i < values.length; i++) {
+    min = Math.min(min, values[i]);
+    max = Math.max(max, values[i]);
+  }
+  return { min: min, max: max, count: values.length };
+}
+
+function score(weights) {
+  // weights is a host java.util.Map
+  let sum = 0;
+  for (const value of weights.values()) {
+    sum += value;
+  }
+  return sum;
+}
@@ -0,0 +1,24 @@
+import polyglot
+
+
+class BenchApi:
+    def add(self, a, b):
+        return a + b
+
+    def echo(self, value):
+        return value
+
+    def numbers(self, n):
+        return list(range(n))
+
+    def total(self, values):
+        return sum(values)
+
+    def summary(self, values):
+        return {"min": min(values), "max": max(values), "count": len(values)}
+
+    def score(self, weights):
+        return sum(weights.values())
+
+
+polyglot.export_value("BenchApi", BenchApi)
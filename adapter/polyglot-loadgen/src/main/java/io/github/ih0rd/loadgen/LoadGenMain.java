@@ -0,0 +1,52 @@
+package io.github.ih0rd.loadgen;
+
+import java.util.Arrays;
+
+/// # LoadGenMain
+///
+/// Command line entry point of the load generator.
+///
+/// Runs one interface method of a script directory under load and prints throughput,
+/// errors and p50/p90/p99/p99.9 latency; see {@link LoadOptions#USAGE} for options.
+///
+/// ```
+/// mvn -Pbenchmarks install -DskipTests
+/// mvn -Pbenchmarks -pl polyglot-loadgen exec:exec \
+///     -Dloadgen.classpath=path/to/app/classes \
+///     -Dloadgen.args="--language python --scripts src/main/resources \
+///                     --interface com.example.StatsApi --method mean --arg 42 \
+///                     --concurrency 8 --contexts 2 --json target/load.json"
+/// ```
+///
+/// {@code replay [options]} replays an invocation capture instead, see {@link ReplayMain}.
+///
+/// The interface, and for Python the GraalPy virtual filesystem resources, are loaded from
+/// the application classpath given as {@code loadgen.classpath}.
+public final class LoadGenMain {
+
+  private LoadGenMain() {}
+
+  public static void main(String[] args) throws Exception {
+    if (args.length > 0 && args[0].equals("replay")) {
+      ReplayMain.main(Arrays.copyOfRange(args, 1, args.length));
+      return;
+    }
+
+    LoadOptions options;
+    try {
+      options = LoadOptions.parse(args);
+    } catch (IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.err.print(LoadOptions.USAGE);
+      System.exit(2);
+      return;
+    }
+
+    LoadReport report = new LoadGenerator(options).run();
+    report.print(System.out);
+    if (options.json() != null) {
+      report.writeJson(options.json());
+      System.out.println("Report written to " + options.json());
+    }
+  }
+}
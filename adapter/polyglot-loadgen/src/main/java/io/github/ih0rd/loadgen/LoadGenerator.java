@@ -0,0 +1,259 @@
+package io.github.ih0rd.loadgen;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+import io.github.ih0rd.adapter.context.InvocationDispatcher;
+import io.github.ih0rd.adapter.context.JsExecutor;
+import io.github.ih0rd.adapter.context.PyExecutor;
+import io.github.ih0rd.adapter.spi.FileSystemScriptSource;
+import io.github.ih0rd.contract.ScriptSource;
+
+/// # LoadGenerator
+///
+/// Drives one method of a bound client from several threads and records call latency.
+///
+/// Modes:
+/// - closed loop (no rate): every thread calls back-to-back; latency is the call time
+/// - open loop ({@code --rate}): calls are scheduled at fixed intervals over all threads and
+///   latency is measured from the scheduled start, so time spent queued behind a slow call
+///   is reported instead of hidden (no coordinated omission)
+///
+/// Threads are spread round-robin over {@code --contexts} executors created through
+/// {@link PyExecutor#create} / {@link JsExecutor#create}, i.e. {@code PolyglotHelper}
+/// defaults. Calls into a JavaScript context are serialized, since JavaScript contexts
+/// reject concurrent access. With {@code --dispatcher}, every executor serializes its calls
+/// through an {@link InvocationDispatcher} instead, and the report splits latency into queue
+/// wait and service time.
+///
+/// The warmup phase runs the same load; its calls are discarded.
+final class LoadGenerator {
+
+  private final LoadOptions options;
+
+  LoadGenerator(LoadOptions options) {
+    this.options = options;
+  }
+
+  /// ### run
+  ///
+  /// @return report of the measured phase
+  /// @throws Exception if the interface cannot be bound or the run is interrupted
+  LoadReport run() throws Exception {
+    Class<?> iface =
+        Class.forName(
+            options.interfaceName(), true, Thread.currentThread().getContextClassLoader());
+    Method method = method(iface);
+    Object[] args = arguments(method);
+    ScriptSource scriptSource = new FileSystemScriptSource(options.scripts());
+
+    List<AbstractPolyglotExecutor> executors = new ArrayList<>();
+    try {
+      List<Client> clients = new ArrayList<>();
+      for (int i = 0; i < options.contexts(); i++) {
+        AbstractPolyglotExecutor executor = executor(scriptSource);
+        executors.add(executor);
+        if (options.dispatcher() > 0) {
+          executor.invocationDispatcher(
+              new InvocationDispatcher(
+                  options.language().id() + "-" + i, options.dispatcher(), Duration.ofSeconds(10)));
+        }
+        clients.add(new Client(executor, executor.bind(iface), method, args));
+      }
+      // fail fast on binding or argument errors instead of reporting only errors
+      for (Client client : clients) {
+        client.call();
+      }
+      return drive(clients);
+    } finally {
+      executors.forEach(AbstractPolyglotExecutor::close);
+    }
+  }
+
+  private LoadReport drive(List<Client> clients) throws InterruptedException {
+    Recorder recorder = new Recorder(3);
+    LongAdder errors = new LongAdder();
+    long periodNs = options.rate() > 0 ? Math.round(1e9 / options.rate()) : 0;
+    AtomicLong tickets = new AtomicLong();
+
+    long origin = System.nanoTime();
+    long measureStart = origin + options.warmup().toNanos();
+    long end = measureStart + options.duration().toNanos();
+
+    CountDownLatch done = new CountDownLatch(options.concurrency());
+    for (int t = 0; t < options.concurrency(); t++) {
+      Client client = clients.get(t % clients.size());
+      Thread.ofPlatform()
+          .name("loadgen-" + t)
+          .daemon(true)
+          .start(
+              () -> {
+                try {
+                  while (true) {
+                    long scheduled;
+                    if (periodNs > 0) {
+                      scheduled = origin + tickets.getAndIncrement() * periodNs;
+                      if (scheduled >= end) {
+                        return;
+                      }
+                      for (long wait; (wait = scheduled - System.nanoTime()) > 0; ) {
+                        LockSupport.parkNanos(wait);
+                      }
+                    } else {
+                      scheduled = System.nanoTime();
+                      if (scheduled >= end) {
+                        return;
+                      }
+                    }
+                    try {
+                      client.call();
+                    } catch (RuntimeException e) {
+                      if (scheduled >= measureStart) {
+                        errors.increment();
+                      }
+                    }
+                    if (scheduled >= measureStart) {
+                      recorder.recordValue(System.nanoTime() - scheduled);
+                    }
+                  }
+                } finally {
+                  done.countDown();
+                }
+              });
+    }
+    // dispatcher counters are cumulative: subtract the warmup phase
+    for (long wait; (wait = measureStart - System.nanoTime()) > 0; ) {
+      LockSupport.parkNanos(wait);
+    }
+    LoadReport.Dispatch warmup = dispatch(clients);
+    done.await();
+
+    Histogram latency = recorder.getIntervalHistogram();
+    LoadReport.Dispatch dispatch = dispatch(clients);
+    return new LoadReport(
+        options,
+        latency,
+        errors.sum(),
+        end - measureStart,
+        dispatch == null ? null : dispatch.minus(warmup));
+  }
+
+  /// Sums the dispatcher counters of all executors, or {@code null} without dispatchers.
+  private static LoadReport.Dispatch dispatch(List<Client> clients) {
+    LoadReport.Dispatch total = null;
+    for (Client client : clients) {
+      InvocationDispatcher dispatcher = client.executor().invocationDispatcher();
+      if (dispatcher != null) {
+        InvocationDispatcher.Stats stats = dispatcher.stats();
+        LoadReport.Dispatch one =
+            new LoadReport.Dispatch(
+                stats.served(),
+                stats.totalWaitNanos(),
+                stats.totalServiceNanos(),
+                stats.rejected());
+        total = total == null ? one : total.plus(one);
+      }
+    }
+    return total;
+  }
+
+  private AbstractPolyglotExecutor executor(ScriptSource scriptSource) {
+    return switch (options.language()) {
+      case PYTHON -> PyExecutor.create(scriptSource, null);
+      case JS -> JsExecutor.create(scriptSource, null);
+    };
+  }
+
+  private Method method(Class<?> iface) {
+    for (Method candidate : iface.getMethods()) {
+      if (candidate.getName().equals(options.method())
+          && candidate.getParameterCount() == options.args().size()) {
+        return candidate;
+      }
+    }
+    throw new IllegalArgumentException(
+        "No method "
+            + options.method()
+            + " with "
+            + options.args().size()
+            + " parameter(s) in "
+            + iface.getName());
+  }
+
+  private Object[] arguments(Method method) {
+    Class<?>[] types = method.getParameterTypes();
+    Object[] values = new Object[types.length];
+    for (int i = 0; i < types.length; i++) {
+      values[i] = convert(options.args().get(i), types[i]);
+    }
+    return values;
+  }
+
+  private static Object convert(String value, Class<?> type) {
+    if (type == String.class || type == Object.class || type == CharSequence.class) {
+      return value;
+    }
+    if (type == int.class || type == Integer.class) {
+      return Integer.valueOf(value);
+    }
+    if (type == long.class || type == Long.class) {
+      return Long.valueOf(value);
+    }
+    if (type == double.class || type == Double.class) {
+      return Double.valueOf(value);
+    }
+    if (type == float.class || type == Float.class) {
+      return Float.valueOf(value);
+    }
+    if (type == boolean.class || type == Boolean.class) {
+      return Boolean.valueOf(value);
+    }
+    if (type == short.class || type == Short.class) {
+      return Short.valueOf(value);
+    }
+    if (type == byte.class || type == Byte.class) {
+      return Byte.valueOf(value);
+    }
+    throw new IllegalArgumentException(
+        "Unsupported parameter type " + type.getName() + " (use primitives or String)");
+  }
+
+  /// Bound client of one executor.
+  private record Client(
+      AbstractPolyglotExecutor executor, Object proxy, Method method, Object[] args) {
+
+    void call() {
+      if (executor instanceof JsExecutor && executor.invocationDispatcher() == null) {
+        synchronized (executor) {
+          invoke();
+        }
+      } else {
+        invoke();
+      }
+    }
+
+    private void invoke() {
+      try {
+        method.invoke(proxy, args);
+      } catch (InvocationTargetException e) {
+        if (e.getCause() instanceof RuntimeException runtime) {
+          throw runtime;
+        }
+        throw new IllegalStateException(e.getCause());
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package io.github.ih0rd.loadgen;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import io.github.ih0rd.contract.SupportedLanguage;
+
+/// # LoadOptions
+///
+/// Parsed command line of {@link LoadGenMain}.
+///
+/// @param language      guest language
+/// @param scripts       script directory, laid out as {@code {language}/{script}{ext}}
+/// @param interfaceName contract interface, must be on the classpath
+/// @param method        interface method to call
+/// @param args          method arguments, converted to the parameter types
+/// @param concurrency   number of calling threads
+/// @param rate          target calls per second over all threads, or {@code 0} for closed loop
+/// @param contexts      number of executors (one context each) the threads are spread over
+/// @param dispatcher    invocation queue capacity per executor, or {@code 0} for direct calls
+/// @param warmup        warmup phase, not reported
+/// @param duration      measured phase
+/// @param json          optional JSON report file
+record LoadOptions(
+    SupportedLanguage language,
+    Path scripts,
+    String interfaceName,
+    String method,
+    List<String> args,
+    int concurrency,
+    double rate,
+    int contexts,
+    int dispatcher,
+    Duration warmup,
+    Duration duration,
+    Path json) {
+
+  static final String USAGE =
+      """
+      Usage: LoadGenMain --language <python|js> --scripts <dir> --interface <class>
+                         --method <name> [--arg <value>]...
+                         [--concurrency <threads>] [--rate <calls/s>] [--contexts <n>]
+                         [--dispatcher <capacity>]
+                         [--warmup <duration>] [--duration <duration>] [--json <file>]
+
+        --concurrency  calling threads (default 1)
+        --rate         target rate over all threads; latency is measured from the
+                       scheduled start of each call (default: closed loop)
+        --contexts     executors the threads are spread over (default 1)
+        --dispatcher   serialize calls per executor through an invocation queue of
+                       this capacity and report queue wait vs. service time
+        --warmup       e.g. 500ms, 10s, 1m (default 10s)
+        --duration     measured phase (default 30s)
+      """;
+
+  /// ### parse
+  ///
+  /// @param argv command line
+  /// @return options
+  /// @throws IllegalArgumentException on unknown, missing or invalid options
+  static LoadOptions parse(String[] argv) {
+    SupportedLanguage language = null;
+    Path scripts = null;
+    String interfaceName = null;
+    String method = null;
+    List<String> args = new ArrayList<>();
+    int concurrency = 1;
+    double rate = 0;
+    int contexts = 1;
+    int dispatcher = 0;
+    Duration warmup = Duration.ofSeconds(10);
+    Duration duration = Duration.ofSeconds(30);
+    Path json = null;
+
+    for (int i = 0; i < argv.length; i++) {
+      String option = argv[i];
+      if (i + 1 >= argv.length) {
+        throw new IllegalArgumentException("Missing value for " + option);
+      }
+      String value = argv[++i];
+      switch (option) {
+        case "--language" -> language = language(value);
+        case "--scripts" -> scripts = Path.of(value);
+        case "--interface" -> interfaceName = value;
+        case "--method" -> method = value;
+        case "--arg" -> args.add(value);
+        case "--concurrency" -> concurrency = positive(option, Integer.parseInt(value));
+        case "--rate" -> rate = positive(option, Double.parseDouble(value));
+        case "--contexts" -> contexts = positive(option, Integer.parseInt(value));
+        case "--dispatcher" -> dispatcher = positive(option, Integer.parseInt(value));
+        case "--warmup" -> warmup = duration(value);
+        case "--duration" -> duration = duration(value);
+        case "--json" -> json = Path.of(value);
+        default -> throw new IllegalArgumentException("Unknown option: " + option);
+      }
+    }
+
+    require("--language", language);
+    require("--scripts", scripts);
+    require("--interface", interfaceName);
+    require("--method", method);
+    if (duration.isZero()) {
+      throw new IllegalArgumentException("--duration must be positive");
+    }
+    return new LoadOptions(
+        language,
+        scripts,
+        interfaceName,
+        method,
+        List.copyOf(args),
+        concurrency,
+        rate,
+        contexts,
+        dispatcher,
+        warmup,
+        duration,
+        json);
+  }
+
+  private static SupportedLanguage language(String id) {
+    for (SupportedLanguage language : SupportedLanguage.values()) {
+      if (language.id().equals(id)) {
+        return language;
+      }
+    }
+    throw new IllegalArgumentException("Unsupported language: " + id);
+  }
+
+  /// Parses {@code 500ms}, {@code 10s} or {@code 2m}.
+  private static Duration duration(String value) {
+    String text = value.trim().toLowerCase(Locale.ROOT);
+    if (text.endsWith("ms")) {
+      return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+    }
+    if (text.endsWith("s")) {
+      return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+    }
+    if (text.endsWith("m")) {
+      return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+    }
+    throw new IllegalArgumentException("Invalid duration (expected e.g. 500ms, 10s, 1m): " + value);
+  }
+
+  private static <N extends Number> N positive(String option, N value) {
+    if (value.doubleValue() <= 0) {
+      throw new IllegalArgumentException(option + " must be positive: " + value);
+    }
+    return value;
+  }
+
+  private static void require(String option, Object value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Missing required option " + option);
+    }
+  }
+}
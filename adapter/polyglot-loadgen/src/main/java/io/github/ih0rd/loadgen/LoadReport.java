@@ -0,0 +1,168 @@
+package io.github.ih0rd.loadgen;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import org.HdrHistogram.Histogram;
+
+/// # LoadReport
+///
+/// Outcome of the measured phase of a {@link LoadGenerator} run.
+///
+/// @param options   run configuration
+/// @param latency   latency of all calls in nanoseconds, including failed ones
+/// @param errors    number of calls that threw
+/// @param elapsedNs length of the measured phase
+/// @param dispatch  invocation queue counters of the measured phase, {@code null} without
+///                  {@code --dispatcher}
+record LoadReport(
+    LoadOptions options, Histogram latency, long errors, long elapsedNs, Dispatch dispatch) {
+
+  /// Invocation queue counters summed over all executors.
+  ///
+  /// @param served       calls run by the dispatchers
+  /// @param waitNanos    summed time between enqueue and start
+  /// @param serviceNanos summed time spent in guest code
+  /// @param rejected     calls rejected by a full queue
+  record Dispatch(long served, long waitNanos, long serviceNanos, long rejected) {
+
+    Dispatch plus(Dispatch other) {
+      return new Dispatch(
+          served + other.served,
+          waitNanos + other.waitNanos,
+          serviceNanos + other.serviceNanos,
+          rejected + other.rejected);
+    }
+
+    Dispatch minus(Dispatch other) {
+      return other == null
+          ? this
+          : new Dispatch(
+              served - other.served,
+              waitNanos - other.waitNanos,
+              serviceNanos - other.serviceNanos,
+              rejected - other.rejected);
+    }
+
+    double meanWaitMicros() {
+      return served == 0 ? 0 : waitNanos / 1e3 / served;
+    }
+
+    double meanServiceMicros() {
+      return served == 0 ? 0 : serviceNanos / 1e3 / served;
+    }
+  }
+
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+  /// ### calls
+  ///
+  /// @return calls completed in the measured phase
+  long calls() {
+    return latency.getTotalCount();
+  }
+
+  /// ### throughput
+  ///
+  /// @return completed calls per second
+  double throughput() {
+    return calls() * 1e9 / elapsedNs;
+  }
+
+  /// ### print
+  ///
+  /// Writes a human-readable summary, latencies in microseconds.
+  ///
+  /// @param out target stream
+  void print(PrintStream out) {
+    out.printf(
+        Locale.ROOT,
+        "%s %s.%s, %d thread(s), %s, %d context(s)%n",
+        options.language().id(),
+        options.interfaceName(),
+        options.method(),
+        options.concurrency(),
+        options.rate() > 0 ? "open loop at " + options.rate() + " calls/s" : "closed loop",
+        options.contexts());
+    out.printf(
+        Locale.ROOT, "calls      %d in %.1f s, %d error(s)%n", calls(), elapsedNs / 1e9, errors);
+    out.printf(Locale.ROOT, "throughput %.1f calls/s%n", throughput());
+    StringBuilder line = new StringBuilder("latency us");
+    for (double percentile : PERCENTILES) {
+      line.append(String.format(Locale.ROOT, "  p%s %.1f", label(percentile), micros(percentile)));
+    }
+    line.append(String.format(Locale.ROOT, "  max %.1f", latency.getMaxValue() / 1e3));
+    line.append(String.format(Locale.ROOT, "  mean %.1f", latency.getMean() / 1e3));
+    out.println(line);
+    if (dispatch != null) {
+      out.printf(
+          Locale.ROOT,
+          "dispatch   mean wait %.1f us, mean service %.1f us, %d rejected%n",
+          dispatch.meanWaitMicros(),
+          dispatch.meanServiceMicros(),
+          dispatch.rejected());
+    }
+  }
+
+  /// ### writeJson
+  ///
+  /// Writes the report as one JSON object, latencies in microseconds.
+  ///
+  /// @param file target file
+  /// @throws IOException if writing fails
+  void writeJson(Path file) throws IOException {
+    StringBuilder json = new StringBuilder("{\n");
+    field(json, "language", quote(options.language().id()));
+    field(json, "interface", quote(options.interfaceName()));
+    field(json, "method", quote(options.method()));
+    field(json, "concurrency", options.concurrency());
+    field(json, "rate", options.rate());
+    field(json, "contexts", options.contexts());
+    field(json, "dispatcher", options.dispatcher());
+    field(json, "durationSeconds", elapsedNs / 1e9);
+    field(json, "calls", calls());
+    field(json, "errors", errors);
+    field(json, "throughput", throughput());
+    if (dispatch != null) {
+      json.append(
+          String.format(
+              Locale.ROOT,
+              "  \"dispatchMicros\": {\"meanWait\": %.3f, \"meanService\": %.3f, \"rejected\": %d},%n",
+              dispatch.meanWaitMicros(),
+              dispatch.meanServiceMicros(),
+              dispatch.rejected()));
+    }
+    json.append("  \"latencyMicros\": {");
+    for (double percentile : PERCENTILES) {
+      json.append(
+          String.format(Locale.ROOT, "\"p%s\": %.3f, ", label(percentile), micros(percentile)));
+    }
+    json.append(String.format(Locale.ROOT, "\"max\": %.3f, ", latency.getMaxValue() / 1e3));
+    json.append(String.format(Locale.ROOT, "\"mean\": %.3f}\n}\n", latency.getMean() / 1e3));
+
+    Path parent = file.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    Files.writeString(file, json);
+  }
+
+  private double micros(double percentile) {
+    return latency.getValueAtPercentile(percentile) / 1e3;
+  }
+
+  private static String label(double percentile) {
+    return percentile == Math.rint(percentile)
+        ? String.valueOf((int) percentile)
+        : String.valueOf(percentile).replace(".", "");
+  }
+
+  private static void field(StringBuilder json, String name, Object value) {
+    json.append("  \"").append(name).append("\": ").append(value).append(",\n");
+  }
+
+  private static String quote(String value) {
+    return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+  }
+}
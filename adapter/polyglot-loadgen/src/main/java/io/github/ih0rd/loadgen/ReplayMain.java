@@ -0,0 +1,102 @@
+package io.github.ih0rd.loadgen;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import org.HdrHistogram.Histogram;
+
+import io.github.ih0rd.adapter.capture.CapturedInvocation;
+import io.github.ih0rd.adapter.capture.InvocationReplay;
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+import io.github.ih0rd.adapter.context.JsExecutor;
+import io.github.ih0rd.adapter.context.PyExecutor;
+import io.github.ih0rd.adapter.spi.FileSystemScriptSource;
+import io.github.ih0rd.contract.SupportedLanguage;
+
+/// # ReplayMain
+///
+/// Replays an invocation capture (see {@code InvocationCapture}) against a fresh executor
+/// and prints per-iteration latency percentiles next to the recorded ones, e.g. to compare
+/// a change against production-shaped traffic.
+///
+/// ```
+/// mvn -Pbenchmarks -pl polyglot-loadgen exec:exec \
+///     -Dloadgen.classpath=path/to/app/classes \
+///     -Dloadgen.args="replay --language python --scripts src/main/resources \
+///                     --capture calls.pgic --iterations 5"
+/// ```
+///
+/// Options: {@code --language}, {@code --scripts}, {@code --capture} (required),
+/// {@code --iterations <n>} (default 3; the first one warms up), {@code --paced} (keep the
+/// recorded gaps between calls).
+final class ReplayMain {
+
+  private ReplayMain() {}
+
+  static void main(String[] args) throws Exception {
+    SupportedLanguage language = null;
+    Path scripts = null;
+    Path capture = null;
+    int iterations = 3;
+    boolean paced = false;
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--language" ->
+            language = SupportedLanguage.valueOf(args[++i].toUpperCase(Locale.ROOT));
+        case "--scripts" -> scripts = Path.of(args[++i]);
+        case "--capture" -> capture = Path.of(args[++i]);
+        case "--iterations" -> iterations = Integer.parseInt(args[++i]);
+        case "--paced" -> paced = true;
+        default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+      }
+    }
+    if (language == null || scripts == null || capture == null) {
+      throw new IllegalArgumentException("--language, --scripts and --capture are required");
+    }
+
+    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    List<CapturedInvocation> invocations = InvocationReplay.read(capture, loader);
+    Histogram recorded = new Histogram(3);
+    invocations.forEach(invocation -> recorded.recordValue(invocation.elapsedNanos()));
+    System.out.printf(Locale.ROOT, "%d invocation(s) from %s%n", invocations.size(), capture);
+    print("recorded", recorded);
+
+    FileSystemScriptSource scriptSource = new FileSystemScriptSource(scripts);
+    try (AbstractPolyglotExecutor executor =
+        switch (language) {
+          case PYTHON -> PyExecutor.create(scriptSource, null);
+          case JS -> JsExecutor.create(scriptSource, null);
+        }) {
+      for (int i = 1; i <= iterations; i++) {
+        Histogram latency = new Histogram(3);
+        InvocationReplay.Result result =
+            InvocationReplay.replay(
+                executor, invocations, loader, paced, (_, nanos) -> latency.recordValue(nanos));
+        System.out.printf(
+            Locale.ROOT,
+            "iteration %d: %d replayed, %d failed, %d skipped in %.1f ms%n",
+            i,
+            result.replayed(),
+            result.failed(),
+            result.skipped(),
+            result.elapsedNanos() / 1e6);
+        print(i == 1 ? "warmup" : "replayed", latency);
+      }
+    }
+  }
+
+  private static void print(String label, Histogram latency) {
+    if (latency.getTotalCount() == 0) {
+      return;
+    }
+    System.out.printf(
+        Locale.ROOT,
+        "  %-8s latency us  p50 %.1f  p99 %.1f  p999 %.1f  max %.1f%n",
+        label,
+        latency.getValueAtPercentile(50) / 1e3,
+        latency.getValueAtPercentile(99) / 1e3,
+        latency.getValueAtPercentile(99.9) / 1e3,
+        latency.getMaxValue() / 1e3);
+  }
+}
@@ -6,8 +6,10 @@ import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
 
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
 import io.github.ih0rd.adapter.context.JsExecutor;
 import io.github.ih0rd.adapter.context.PyExecutor;
+import io.github.ih0rd.contract.SupportedLanguage;
 
 /// PolyglotExecutors Facade
 ///
@@ -32,6 +34,14 @@ public final class PolyglotExecutors {
     return Optional.ofNullable(js);
   }
 
+  /// Returns the executor for the given language, if present.
+  public Optional<AbstractPolyglotExecutor> executor(SupportedLanguage language) {
+    return switch (language) {
+      case PYTHON -> Optional.ofNullable(python);
+      case JS -> Optional.ofNullable(js);
+    };
+  }
+
   /// Returns the Python executor or fails.
   public PyExecutor requirePython() {
     return Optional.ofNullable(python)
@@ -0,0 +1,172 @@
+package io.github.ih0rd.polyglot.spring.actuator;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+import io.github.ih0rd.contract.SupportedLanguage;
+import io.github.ih0rd.polyglot.spring.PolyglotExecutors;
+import io.github.ih0rd.polyglot.spring.context.SpringPolyglotContextFactory;
+import io.github.ih0rd.polyglot.spring.internal.PolyglotStartupLifecycle;
+import io.github.ih0rd.polyglot.spring.internal.WarmupResult;
+
+/// # PolyglotEndpoint
+///
+/// Actuator endpoint ({@code /actuator/polyglot}) for live runtime introspection and control.
+///
+/// Read operations:
+/// - {@code GET /actuator/polyglot} → live stats for every available executor
+/// - {@code GET /actuator/polyglot/{language}} → live stats for one executor
+///
+/// Write operations:
+/// - {@code POST /actuator/polyglot/{language}/warmup} → re-run NOOP warmup
+/// - {@code POST /actuator/polyglot/{language}/recycle} → replace the context with a fresh one
+/// - {@code DELETE /actuator/polyglot/{language}?interfaceName=...} → evict caches of one
+///   interface (or all caches when {@code interfaceName} is omitted)
+///
+/// Languages are addressed by their GraalVM id ({@code python}, {@code js}).
+@Endpoint(id = "polyglot")
+public class PolyglotEndpoint {
+
+  private static final String ACTION_WARMUP = "warmup";
+  private static final String ACTION_RECYCLE = "recycle";
+
+  private final PolyglotExecutors executors;
+  private final SpringPolyglotContextFactory contextFactory;
+  private final ObjectProvider<PolyglotStartupLifecycle> lifecycle;
+
+  public PolyglotEndpoint(
+      PolyglotExecutors executors,
+      SpringPolyglotContextFactory contextFactory,
+      ObjectProvider<PolyglotStartupLifecycle> lifecycle) {
+    this.executors = executors;
+    this.contextFactory = contextFactory;
+    this.lifecycle = lifecycle;
+  }
+
+  @ReadOperation
+  public Map<String, Object> executors() {
+    Map<String, Object> result = new LinkedHashMap<>();
+    for (SupportedLanguage language : SupportedLanguage.values()) {
+      executors
+          .executor(language)
+          .ifPresent(executor -> result.put(language.id(), describe(language, executor)));
+    }
+    return result;
+  }
+
+  @ReadOperation
+  public @Nullable Map<String, Object> executor(@Selector String language) {
+    SupportedLanguage resolved = resolveLanguage(language);
+    return executors.executor(resolved).map(ex -> describe(resolved, ex)).orElse(null);
+  }
+
+  @WriteOperation
+  public Map<String, Object> action(@Selector String language, @Selector String action) {
+    SupportedLanguage resolved = resolveLanguage(language);
+    AbstractPolyglotExecutor executor = requireExecutor(resolved);
+
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("language", resolved.id());
+    result.put("action", action);
+
+    switch (action) {
+      case ACTION_WARMUP -> result.put("warmup", warmup(resolved));
+      case ACTION_RECYCLE -> {
+        executor.recycle(contextFactory.create(resolved));
+        result.put("recycled", true);
+      }
+      default ->
+          throw new InvalidEndpointRequestException(
+              "Unknown polyglot action: " + action,
+              "Supported actions: " + ACTION_WARMUP + ", " + ACTION_RECYCLE);
+    }
+    return result;
+  }
+
+  @DeleteOperation
+  public Map<String, Object> evict(@Selector String language, @Nullable String interfaceName) {
+    SupportedLanguage resolved = resolveLanguage(language);
+    AbstractPolyglotExecutor executor = requireExecutor(resolved);
+
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("language", resolved.id());
+
+    if (interfaceName == null || interfaceName.isBlank()) {
+      executor.clearAllCaches();
+      result.put("evicted", "all");
+      return result;
+    }
+
+    boolean evicted =
+        executor.cachedInterfaces().stream()
+            .filter(
+                iface ->
+                    iface.getName().equals(interfaceName)
+                        || iface.getSimpleName().equals(interfaceName))
+            .map(executor::evict)
+            .reduce(false, Boolean::logicalOr);
+
+    result.put("interface", interfaceName);
+    result.put("evicted", evicted);
+    return result;
+  }
+
+  private Map<String, Object> describe(
+      SupportedLanguage language, AbstractPolyglotExecutor executor) {
+    Map<String, Object> info = new LinkedHashMap<>(executor.metadata());
+    info.put(
+        "cachedInterfaces",
+        executor.cachedInterfaces().stream().map(Class::getName).sorted().toList());
+    info.put("invocations", executor.invocationStats().snapshot());
+    lastWarmup(language).ifPresent(warmup -> info.put("lastWarmup", warmup));
+    return info;
+  }
+
+  private Optional<WarmupResult> lastWarmup(SupportedLanguage language) {
+    PolyglotStartupLifecycle startup = lifecycle.getIfAvailable();
+    return startup == null
+        ? Optional.empty()
+        : Optional.ofNullable(startup.lastWarmup().get(language));
+  }
+
+  private @Nullable WarmupResult warmup(SupportedLanguage language) {
+    PolyglotStartupLifecycle startup = lifecycle.getIfAvailable();
+    if (startup == null) {
+      throw new InvalidEndpointRequestException(
+          "Polyglot warmup is not available", "PolyglotStartupLifecycle bean is missing");
+    }
+    return startup.warmup(language).orElse(null);
+  }
+
+  private AbstractPolyglotExecutor requireExecutor(SupportedLanguage language) {
+    return executors
+        .executor(language)
+        .orElseThrow(
+            () ->
+                new InvalidEndpointRequestException(
+                    "Polyglot executor not available: " + language.id(),
+                    "Executor for " + language.id() + " is not enabled"));
+  }
+
+  private static SupportedLanguage resolveLanguage(String language) {
+    return Arrays.stream(SupportedLanguage.values())
+        .filter(l -> l.id().equalsIgnoreCase(language) || l.name().equalsIgnoreCase(language))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new InvalidEndpointRequestException(
+                    "Unknown polyglot language: " + language, "Supported languages: python, js"));
+  }
+}
@@ -1,10 +1,27 @@
 package io.github.ih0rd.polyglot.spring.actuator;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jspecify.annotations.Nullable;
 import org.springframework.boot.health.contributor.Health;
 import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.boot.health.contributor.Status;
 
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+import io.github.ih0rd.contract.SupportedLanguage;
 import io.github.ih0rd.polyglot.spring.PolyglotExecutors;
+import io.github.ih0rd.polyglot.spring.internal.PolyglotWarmupConstants;
 import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties;
+import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties.ActuatorProperties.ProbeProperties;
 
 /// Simple health check for polyglot executors.
 ///
@@ -12,14 +29,35 @@ import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties;
 /// - UNKNOWN → polyglot.core.enabled = false
 /// - UP      → at least one executor is available
 /// - DOWN    → core enabled, but no executors available
-public final class PolyglotHealthIndicator implements HealthIndicator {
+///
+/// With {@code polyglot.actuator.health.probe.enabled=true} every available context also
+/// evaluates a trivial expression with a bounded wait:
+/// - DOWN     → probe failed, timed out, or the previous probe is still running
+/// - DEGRADED → probe latency exceeded {@code degraded-threshold}
+///
+/// Probes of all contexts run concurrently on dedicated daemon threads and share one deadline,
+/// so a context stuck in guest code never blocks the health endpoint for longer than
+/// {@code timeout}.
+public final class PolyglotHealthIndicator implements HealthIndicator, AutoCloseable {
+
+  /// Custom status reported when probe latency exceeds the configured threshold.
+  public static final Status DEGRADED = new Status("DEGRADED");
 
   private final PolyglotExecutors executors;
   private final PolyglotProperties properties;
+  private final ProbeProperties probe;
+  private final @Nullable ExecutorService probeExecutor;
+  private final Map<SupportedLanguage, Future<?>> inFlight = new EnumMap<>(SupportedLanguage.class);
 
   public PolyglotHealthIndicator(PolyglotExecutors executors, PolyglotProperties properties) {
     this.executors = executors;
     this.properties = properties;
+    this.probe = properties.actuator().health().probe();
+    this.probeExecutor =
+        probe.enabled()
+            ? Executors.newCachedThreadPool(
+                Thread.ofPlatform().daemon().name("polyglot-health-probe-", 0).factory())
+            : null;
   }
 
   @Override
@@ -31,17 +69,128 @@ public final class PolyglotHealthIndicator implements HealthIndicator {
     boolean pythonAvailable = executors.isPythonEnabled();
     boolean jsAvailable = executors.isJsEnabled();
 
-    if (pythonAvailable || jsAvailable) {
-      return Health.up()
-          .withDetail("pythonEnabled", pythonAvailable)
-          .withDetail("jsEnabled", jsAvailable)
+    if (!pythonAvailable && !jsAvailable) {
+      return Health.down()
+          .withDetail("pythonEnabled", false)
+          .withDetail("jsEnabled", false)
+          .withDetail("reason", "No polyglot executors available")
           .build();
     }
 
-    return Health.down()
-        .withDetail("pythonEnabled", false)
-        .withDetail("jsEnabled", false)
-        .withDetail("reason", "No polyglot executors available")
-        .build();
+    Health.Builder builder =
+        Health.up()
+            .withDetail("pythonEnabled", pythonAvailable)
+            .withDetail("jsEnabled", jsAvailable);
+
+    if (probeExecutor == null) {
+      return builder.build();
+    }
+
+    // start every probe before waiting, so all contexts share one deadline
+    Map<SupportedLanguage, ProbeResult> results = new EnumMap<>(SupportedLanguage.class);
+    Map<SupportedLanguage, Future<Duration>> started = new EnumMap<>(SupportedLanguage.class);
+    for (SupportedLanguage language : SupportedLanguage.values()) {
+      executors
+          .executor(language)
+          .ifPresent(
+              executor -> {
+                Future<Duration> task = start(language, executor);
+                if (task == null) {
+                  results.put(
+                      language,
+                      ProbeResult.down("Previous probe still running (context busy or stuck)"));
+                } else {
+                  started.put(language, task);
+                }
+              });
+    }
+
+    long deadline = System.nanoTime() + probe.timeout().toNanos();
+    started.forEach((language, task) -> results.put(language, await(task, deadline)));
+
+    Status overall = Status.UP;
+    for (var result : results.entrySet()) {
+      builder.withDetail(result.getKey().id() + "Probe", result.getValue().details());
+      overall = worst(overall, result.getValue().status());
+    }
+
+    return builder.status(overall).build();
+  }
+
+  @Override
+  public void close() {
+    if (probeExecutor != null) {
+      probeExecutor.shutdownNow();
+    }
+  }
+
+  /// Submits a probe, or returns {@code null} while the previous one is still running.
+  private @Nullable Future<Duration> start(
+      SupportedLanguage language, AbstractPolyglotExecutor executor) {
+    long startedAt = System.nanoTime();
+    synchronized (inFlight) {
+      Future<?> previous = inFlight.get(language);
+      if (previous != null && !previous.isDone()) {
+        return null;
+      }
+      Future<Duration> task =
+          probeExecutor.submit(
+              () -> {
+                executor.evaluate(PolyglotWarmupConstants.NOOP_EXPRESSION);
+                return Duration.ofNanos(System.nanoTime() - startedAt);
+              });
+      inFlight.put(language, task);
+      return task;
+    }
+  }
+
+  private ProbeResult await(Future<Duration> task, long deadline) {
+    Duration latency;
+    try {
+      latency = task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      return ProbeResult.down("Probe timed out after " + probe.timeout().toMillis() + " ms");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause() != null ? e.getCause() : e;
+      return ProbeResult.down(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return ProbeResult.down("Probe interrupted");
+    }
+
+    if (latency.compareTo(probe.degradedThreshold()) > 0) {
+      return new ProbeResult(DEGRADED, details(true, latency, "Probe latency above threshold"));
+    }
+    return new ProbeResult(Status.UP, details(true, latency, null));
+  }
+
+  private static Status worst(Status current, Status candidate) {
+    if (current == Status.DOWN || candidate == Status.DOWN) {
+      return Status.DOWN;
+    }
+    if (current == DEGRADED || candidate == DEGRADED) {
+      return DEGRADED;
+    }
+    return Status.UP;
+  }
+
+  private static Map<String, Object> details(
+      boolean available, @Nullable Duration latency, @Nullable String reason) {
+    Map<String, Object> details = new LinkedHashMap<>();
+    details.put("available", available);
+    if (latency != null) {
+      details.put("latencyMs", latency.toNanos() / 1_000_000.0);
+    }
+    if (reason != null) {
+      details.put("reason", reason);
+    }
+    return details;
+  }
+
+  private record ProbeResult(Status status, Map<String, Object> details) {
+
+    static ProbeResult down(String reason) {
+      return new ProbeResult(Status.DOWN, PolyglotHealthIndicator.details(false, null, reason));
+    }
   }
 }
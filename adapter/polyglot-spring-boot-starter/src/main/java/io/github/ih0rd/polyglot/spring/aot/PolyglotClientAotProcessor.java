@@ -0,0 +1,120 @@
+package io.github.ih0rd.polyglot.spring.aot;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+import io.github.ih0rd.polyglot.spring.client.PolyglotClientRegistrar;
+import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties;
+
+/// AOT processor for {@link PolyglotClient} interfaces.
+///
+/// Client bean definitions registered by {@link PolyglotClientRegistrar} are captured by Spring
+/// AOT as generated code, so native images skip classpath scanning. This processor adds the
+/// runtime hints those clients need:
+/// - JDK proxy for every client interface ({@code executor.bind(Class)})
+/// - reflection on client interfaces (class loading and method invocation)
+/// - public constructors of codegen-generated {@code <Client>Binding} implementations, which
+///   {@code executor.bind(Class)} looks up reflectively and prefers over the proxy
+/// - script resources under the configured {@code polyglot.python.resources-path} /
+///   {@code polyglot.js.resources-path} when they point to the classpath
+public final class PolyglotClientAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+  private static final String CLASSPATH_PREFIX = "classpath:";
+
+  /// Name suffix of generated client implementations, as looked up by the adapter.
+  private static final String BINDING_SUFFIX = "Binding";
+
+  @Override
+  public @Nullable BeanFactoryInitializationAotContribution processAheadOfTime(
+      ConfigurableListableBeanFactory beanFactory) {
+
+    ClassLoader classLoader = beanFactory.getBeanClassLoader();
+    List<Class<?>> clients = new ArrayList<>();
+    List<String> bindings = new ArrayList<>();
+    for (String className : PolyglotClientRegistrar.registeredClientNames(beanFactory)) {
+      try {
+        clients.add(ClassUtils.forName(className, classLoader));
+      } catch (ClassNotFoundException | LinkageError ex) {
+        // reported by the factory bean at runtime
+        continue;
+      }
+      String binding = className + BINDING_SUFFIX;
+      if (ClassUtils.isPresent(binding, classLoader)) {
+        bindings.add(binding);
+      }
+    }
+
+    if (clients.isEmpty()) {
+      return null;
+    }
+
+    PolyglotProperties properties = bindProperties(beanFactory);
+    return (generationContext, code) ->
+        registerHints(generationContext.getRuntimeHints(), clients, bindings, properties);
+  }
+
+  private static void registerHints(
+      RuntimeHints hints,
+      List<Class<?>> clients,
+      List<String> bindings,
+      PolyglotProperties properties) {
+
+    Set<String> resourceRoots = new LinkedHashSet<>();
+    resourceRoots.add(classpathRoot(properties.python().resourcesPath()));
+    resourceRoots.add(classpathRoot(properties.js().resourcesPath()));
+    resourceRoots.remove(null);
+
+    for (Class<?> client : clients) {
+      hints.proxies().registerJdkProxy(client);
+      hints.reflection().registerType(client, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+    for (String binding : bindings) {
+      hints
+          .reflection()
+          .registerType(TypeReference.of(binding), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+
+    // whole script locations: modules may import sibling modules
+    for (String root : resourceRoots) {
+      hints.resources().registerPattern(root + "**");
+    }
+  }
+
+  private static PolyglotProperties bindProperties(ConfigurableListableBeanFactory beanFactory) {
+    if (beanFactory.containsBean("environment")) {
+      Environment environment = beanFactory.getBean("environment", Environment.class);
+      return Binder.get(environment)
+          .bind("polyglot", PolyglotProperties.class)
+          .orElseGet(PolyglotProperties::defaults);
+    }
+    return PolyglotProperties.defaults();
+  }
+
+  /// Converts a {@code classpath:} location into a resource pattern prefix ({@code python/}).
+  private static @Nullable String classpathRoot(String location) {
+    if (location == null || !location.startsWith(CLASSPATH_PREFIX)) {
+      return null;
+    }
+    String root = location.substring(CLASSPATH_PREFIX.length());
+    while (root.startsWith("/")) {
+      root = root.substring(1);
+    }
+    if (root.isEmpty()) {
+      return null;
+    }
+    return root.endsWith("/") ? root : root + "/";
+  }
+}
@@ -0,0 +1,35 @@
+package io.github.ih0rd.polyglot.spring.aot;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import io.github.ih0rd.polyglot.spring.client.PolyglotClientFactoryBean;
+
+/// Static native-image hints for the polyglot starter.
+///
+/// Registers:
+/// - default script locations ({@code classpath:python}, {@code classpath:js})
+/// - GraalPy virtual filesystem resources ({@code org.graalvm.python.vfs})
+/// - build-time polyglot metadata under {@code META-INF/polyglot}
+///
+/// Client-specific hints (proxies, per-client scripts, custom script locations) are contributed
+/// by {@link PolyglotClientAotProcessor}.
+public final class PolyglotRuntimeHints implements RuntimeHintsRegistrar {
+
+  /// Resource root of the GraalPy virtual filesystem.
+  static final String GRAALPY_VFS_ROOT = "org.graalvm.python.vfs";
+
+  @Override
+  public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+    hints.resources().registerPattern("python/**");
+    hints.resources().registerPattern("js/**");
+    hints.resources().registerPattern(GRAALPY_VFS_ROOT + "/**");
+    hints.resources().registerPattern("META-INF/polyglot/**");
+
+    hints
+        .reflection()
+        .registerType(PolyglotClientFactoryBean.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+  }
+}
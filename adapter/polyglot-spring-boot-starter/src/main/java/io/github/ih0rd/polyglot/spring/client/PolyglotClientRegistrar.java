@@ -1,18 +1,27 @@
 package io.github.ih0rd.polyglot.spring.client;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
-import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues.ValueHolder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.env.Environment;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
@@ -20,6 +29,7 @@ import org.springframework.util.ClassUtils;
 
 import io.github.ih0rd.polyglot.spring.client.exceptions.InvalidPolyglotClientTypeException;
 import io.github.ih0rd.polyglot.spring.client.exceptions.PolyglotClientClassNotFoundException;
+import io.github.ih0rd.polyglot.spring.client.index.PolyglotClientIndex;
 import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties;
 
 /// Scans and registers {@link PolyglotClient} interfaces.
@@ -29,6 +39,12 @@ import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties;
 /// 2. {@code polyglot.clients.base-packages} properties
 /// 3. No scanning if neither is present
 ///
+/// Discovery, per base package:
+/// - {@value PolyglotClientIndex#LOCATION} (no scanning) when every classpath root containing
+///   the package has its own index
+/// - classpath scanning otherwise, or with {@code polyglot.clients.ignore-index=true}, so an
+///   index shipped by a dependency never hides unindexed clients of the application
+///
 /// Validation:
 /// - only Java interfaces are allowed as polyglot clients
 public final class PolyglotClientRegistrar
@@ -69,26 +85,106 @@ public final class PolyglotClientRegistrar
     scanner.addIncludeFilter(new AnnotationTypeFilter(PolyglotClient.class));
 
     var classLoader = resolveClassLoader();
+    Map<String, List<PolyglotClientIndex.Entry>> indexes =
+        ignoreIndex() ? Map.of() : PolyglotClientIndex.load(classLoader);
 
     for (String basePackage : basePackages) {
-      for (var candidate : scanner.findCandidateComponents(basePackage)) {
-        String className = candidate.getBeanClassName();
-        if (className == null) {
-          continue;
-        }
+      List<String> classNames =
+          indexedClients(indexes, basePackage, classLoader)
+              .orElseGet(() -> scannedClients(scanner, basePackage));
 
-        validateClientType(className, classLoader);
+      for (String className : classNames) {
+        Class<?> clientType = validateClientType(className, classLoader);
 
-        var definition =
-            BeanDefinitionBuilder.genericBeanDefinition(PolyglotClientFactoryBean.class)
-                .addConstructorArgValue(className)
-                .getBeanDefinition();
+        var definition = new RootBeanDefinition(PolyglotClientFactoryBean.class);
+        definition.getConstructorArgumentValues().addIndexedArgumentValue(0, className);
+        // exposes the client type without instantiating the factory (type matching, AOT)
+        definition.setTargetType(
+            ResolvableType.forClassWithGenerics(PolyglotClientFactoryBean.class, clientType));
 
         registry.registerBeanDefinition(className, definition);
       }
     }
   }
 
+  /// Finds client interfaces of a base package via classpath scanning.
+  private static List<String> scannedClients(
+      ClassPathScanningCandidateComponentProvider scanner, String basePackage) {
+    List<String> classNames = new ArrayList<>();
+    for (var candidate : scanner.findCandidateComponents(basePackage)) {
+      if (candidate.getBeanClassName() != null) {
+        classNames.add(candidate.getBeanClassName());
+      }
+    }
+    return classNames;
+  }
+
+  /// Selects indexed client interfaces of a base package.
+  ///
+  /// Returns empty (scan instead) unless every classpath root containing the package has an
+  /// index. Stale entries (type removed or no longer annotated) are skipped.
+  private static Optional<List<String>> indexedClients(
+      Map<String, List<PolyglotClientIndex.Entry>> indexes,
+      String basePackage,
+      ClassLoader classLoader) {
+    if (indexes.isEmpty() || basePackage.isEmpty()) {
+      return Optional.empty();
+    }
+    Set<String> roots = PolyglotClientIndex.packageRoots(classLoader, basePackage);
+    if (roots.isEmpty() || !indexes.keySet().containsAll(roots)) {
+      log.debug("No complete {} for {}, scanning", PolyglotClientIndex.LOCATION, basePackage);
+      return Optional.empty();
+    }
+
+    // a client may be indexed in more than one root (e.g. duplicated on the classpath)
+    Set<String> classNames = new LinkedHashSet<>();
+    for (String root : roots) {
+      for (PolyglotClientIndex.Entry entry : indexes.get(root)) {
+        if (!entry.isIn(basePackage)) {
+          continue;
+        }
+        try {
+          Class<?> type = ClassUtils.forName(entry.className(), classLoader);
+          if (type.isAnnotationPresent(PolyglotClient.class)) {
+            classNames.add(entry.className());
+          }
+        } catch (ClassNotFoundException | LinkageError e) {
+          log.debug("Skipping stale polyglot client index entry: {}", entry.className());
+        }
+      }
+    }
+    log.debug(
+        "Using {} for {} instead of classpath scanning", PolyglotClientIndex.LOCATION, basePackage);
+    return Optional.of(List.copyOf(classNames));
+  }
+
+  /// Whether {@code polyglot.clients.ignore-index=true} forces classpath scanning.
+  private boolean ignoreIndex() {
+    return environment != null
+        && environment.getProperty("polyglot.clients.ignore-index", Boolean.class, false);
+  }
+
+  /// Lists client interfaces registered as {@link PolyglotClientFactoryBean} definitions,
+  /// without instantiating any bean.
+  ///
+  /// @param beanFactory bean factory holding the definitions
+  /// @return fully qualified client interface names, in registration order
+  public static List<String> registeredClientNames(ConfigurableListableBeanFactory beanFactory) {
+    List<String> clients = new ArrayList<>();
+    for (String name : beanFactory.getBeanDefinitionNames()) {
+      BeanDefinition definition = beanFactory.getBeanDefinition(name);
+      if (!PolyglotClientFactoryBean.class.getName().equals(definition.getBeanClassName())) {
+        continue;
+      }
+      ValueHolder className =
+          definition.getConstructorArgumentValues().getIndexedArgumentValue(0, String.class);
+      if (className != null && className.getValue() instanceof String value) {
+        clients.add(value);
+      }
+    }
+    return clients;
+  }
+
   /// Resolves base packages from @EnablePolyglotClients annotation.
   ///
   /// @param metadata importing class metadata
@@ -135,8 +231,9 @@ public final class PolyglotClientRegistrar
   ///
   /// @param className   fully qualified class name
   /// @param classLoader class loader to load the class
+  /// @return loaded client type
   /// @throws IllegalStateException if the type is not a valid client interface
-  private void validateClientType(String className, ClassLoader classLoader) {
+  private Class<?> validateClientType(String className, ClassLoader classLoader) {
     Class<?> type;
     try {
       type = ClassUtils.forName(className, classLoader);
@@ -152,5 +249,6 @@ public final class PolyglotClientRegistrar
     if (type.isAnnotation()) {
       throw new InvalidPolyglotClientTypeException(className);
     }
+    return type;
   }
 }
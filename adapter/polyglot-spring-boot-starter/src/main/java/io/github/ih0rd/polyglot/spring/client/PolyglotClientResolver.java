@@ -0,0 +1,70 @@
+package io.github.ih0rd.polyglot.spring.client;
+
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+import io.github.ih0rd.contract.SupportedLanguage;
+import io.github.ih0rd.polyglot.spring.PolyglotExecutors;
+import io.github.ih0rd.polyglot.spring.client.exceptions.MissingPolyglotClientAnnotationException;
+import io.github.ih0rd.polyglot.spring.client.exceptions.PolyglotClientResolutionException;
+
+/// Resolves the language and executor backing a {@link PolyglotClient} interface.
+///
+/// Shared by {@link PolyglotClientFactoryBean} and {@link PolyglotClientValidator}.
+final class PolyglotClientResolver {
+
+  private final PolyglotExecutors executors;
+
+  PolyglotClientResolver(PolyglotExecutors executors) {
+    this.executors = executors;
+  }
+
+  /// Resolves which language should be used for the given client.
+  SupportedLanguage resolveLanguage(Class<?> clientType) {
+    PolyglotClient annotation = clientType.getAnnotation(PolyglotClient.class);
+    if (annotation == null) {
+      throw new MissingPolyglotClientAnnotationException(clientType.getName());
+    }
+
+    SupportedLanguage[] languages = annotation.languages();
+
+    boolean pyPresent = executors.python().isPresent();
+    boolean jsPresent = executors.js().isPresent();
+
+    // Explicit language
+    if (languages.length == 1) {
+      return languages[0];
+    }
+
+    if (languages.length > 1) {
+      throw new PolyglotClientResolutionException(
+          "Multiple languages specified for @PolyglotClient on " + clientType.getName());
+    }
+
+    // AUTO resolution (decision table)
+    if (pyPresent) {
+      if (jsPresent) {
+        throw new PolyglotClientResolutionException(
+            "Multiple polyglot executors available. "
+                + "Specify language explicitly for "
+                + clientType.getName());
+      }
+      return SupportedLanguage.PYTHON;
+    }
+
+    if (jsPresent) {
+      return SupportedLanguage.JS;
+    }
+
+    throw new PolyglotClientResolutionException(
+        "No polyglot executors available for " + clientType.getName());
+  }
+
+  /// Resolves executor by already resolved language.
+  AbstractPolyglotExecutor resolveExecutor(SupportedLanguage language) {
+    return executors
+        .executor(language)
+        .orElseThrow(
+            () ->
+                new PolyglotClientResolutionException(
+                    "Polyglot executor not available for language: " + language.id()));
+  }
+}
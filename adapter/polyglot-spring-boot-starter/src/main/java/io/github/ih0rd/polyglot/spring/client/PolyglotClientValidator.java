@@ -0,0 +1,214 @@
+package io.github.ih0rd.polyglot.spring.client;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.util.ClassUtils;
+
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+import io.github.ih0rd.adapter.metrics.StartupRecorder;
+import io.github.ih0rd.contract.SupportedLanguage;
+import io.github.ih0rd.polyglot.spring.PolyglotExecutors;
+import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties.ClientsProperties.ValidationMode;
+
+/// Validates {@link PolyglotClient} bindings according to {@link ValidationMode}.
+///
+/// Modes:
+/// - {@code EAGER}    → validate each client serially when its bean is created
+/// - {@code PARALLEL} → on the first client bean creation, validate every registered client:
+///   one worker per executor (contexts are not shared between workers), with script loading
+///   prefetched concurrently so I/O overlaps with evaluation. A client is handed out only after
+///   its executor's worker validated the whole group, so application code never uses a context
+///   the worker is still evaluating in
+/// - {@code LAZY}     → skip startup validation; the binding resolves (or fails) on first call
+///
+/// Background validation after startup is intentionally not offered: a JavaScript context
+/// rejects concurrent access, so it would race with application calls.
+public final class PolyglotClientValidator implements BeanFactoryAware {
+
+  private static final Logger log = LoggerFactory.getLogger(PolyglotClientValidator.class);
+
+  private final PolyglotClientResolver resolver;
+  private final ValidationMode mode;
+  private final StartupRecorder startupRecorder;
+
+  private ConfigurableListableBeanFactory beanFactory;
+  private ParallelValidation parallel;
+
+  /// Per-client validation results, and per-executor completion of the worker that validates
+  /// the executor's clients (completed normally even when some validations failed).
+  private record ParallelValidation(
+      Map<Class<?>, CompletableFuture<Void>> results,
+      Map<AbstractPolyglotExecutor, CompletableFuture<Void>> groups) {}
+
+  public PolyglotClientValidator(
+      PolyglotExecutors executors, ValidationMode mode, StartupRecorder startupRecorder) {
+    this.resolver = new PolyglotClientResolver(executors);
+    this.mode = mode;
+    this.startupRecorder = startupRecorder;
+  }
+
+  @Override
+  public void setBeanFactory(@NonNull BeanFactory beanFactory) throws BeansException {
+    if (beanFactory instanceof ConfigurableListableBeanFactory listable) {
+      this.beanFactory = listable;
+    }
+  }
+
+  /// Validation mode in use.
+  public ValidationMode mode() {
+    return mode;
+  }
+
+  /// Validates the binding of a client against its executor, according to the mode.
+  ///
+  /// @param clientType client interface
+  /// @param executor   executor backing the client
+  public void validate(Class<?> clientType, AbstractPolyglotExecutor executor) {
+    switch (mode) {
+      case LAZY -> {
+        // resolved on first call
+      }
+      case EAGER -> validateNow(clientType, executor);
+      case PARALLEL -> awaitParallel(clientType, executor);
+    }
+  }
+
+  private void awaitParallel(Class<?> clientType, AbstractPolyglotExecutor executor) {
+    ParallelValidation validation = parallelValidation();
+    CompletableFuture<Void> group = validation.groups().get(executor);
+    if (group != null) {
+      // the worker may still be evaluating other clients' scripts in this context
+      group.join();
+    }
+
+    CompletableFuture<Void> result = validation.results().get(clientType);
+    if (result == null) {
+      // not registered through scanning (e.g. a manually declared factory bean)
+      validateNow(clientType, executor);
+      return;
+    }
+    try {
+      result.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+  }
+
+  private synchronized ParallelValidation parallelValidation() {
+    if (parallel == null) {
+      parallel = startParallel(discoverClients());
+    }
+    return parallel;
+  }
+
+  private ParallelValidation startParallel(List<Class<?>> clients) {
+    Map<Class<?>, CompletableFuture<Void>> results = new ConcurrentHashMap<>();
+    Map<AbstractPolyglotExecutor, List<Class<?>>> groups = new LinkedHashMap<>();
+
+    for (Class<?> client : clients) {
+      try {
+        SupportedLanguage language = resolver.resolveLanguage(client);
+        groups
+            .computeIfAbsent(resolver.resolveExecutor(language), _ -> new ArrayList<>())
+            .add(client);
+        results.put(client, new CompletableFuture<>());
+      } catch (RuntimeException ex) {
+        results.put(client, CompletableFuture.failedFuture(ex));
+      }
+    }
+
+    log.debug(
+        "[Polyglot] Validating {} client(s) across {} executor(s) in parallel",
+        clients.size(),
+        groups.size());
+
+    ExecutorService io = Executors.newVirtualThreadPerTaskExecutor();
+    List<CompletableFuture<Void>> allPrefetches = new ArrayList<>();
+    Map<AbstractPolyglotExecutor, CompletableFuture<Void>> groupsDone = new LinkedHashMap<>();
+
+    groups.forEach(
+        (executor, groupClients) -> {
+          Map<Class<?>, CompletableFuture<Void>> prefetches = new LinkedHashMap<>();
+          for (Class<?> client : groupClients) {
+            // load failures are reported by the validation below
+            CompletableFuture<Void> prefetch =
+                CompletableFuture.runAsync(() -> executor.prefetch(client), io)
+                    .exceptionally(_ -> null);
+            prefetches.put(client, prefetch);
+            allPrefetches.add(prefetch);
+          }
+
+          CompletableFuture<Void> groupDone = new CompletableFuture<>();
+          groupsDone.put(executor, groupDone);
+          Thread.ofPlatform()
+              .daemon()
+              .name("polyglot-client-validation-" + executor.getClass().getSimpleName())
+              .start(
+                  () -> {
+                    try {
+                      prefetches.forEach(
+                          (client, prefetch) -> {
+                            CompletableFuture<Void> result = results.get(client);
+                            try {
+                              prefetch.join();
+                              validateNow(client, executor);
+                              result.complete(null);
+                            } catch (RuntimeException | Error ex) {
+                              result.completeExceptionally(ex);
+                            }
+                          });
+                    } finally {
+                      groupDone.complete(null);
+                    }
+                  });
+        });
+
+    CompletableFuture.allOf(allPrefetches.toArray(CompletableFuture[]::new))
+        .whenComplete((_, _) -> io.shutdown());
+
+    return new ParallelValidation(results, Map.copyOf(groupsDone));
+  }
+
+  private void validateNow(Class<?> clientType, AbstractPolyglotExecutor executor) {
+    try (StartupRecorder.Step step = startupRecorder.start("polyglot.client.validate")) {
+      step.tag("client", clientType.getName());
+      executor.validateBinding(clientType);
+    }
+  }
+
+  /// Collects client types from registered {@link PolyglotClientFactoryBean} definitions
+  /// without instantiating them.
+  private List<Class<?>> discoverClients() {
+    if (beanFactory == null) {
+      return List.of();
+    }
+
+    List<Class<?>> clients = new ArrayList<>();
+    for (String value : PolyglotClientRegistrar.registeredClientNames(beanFactory)) {
+      try {
+        clients.add(ClassUtils.forName(value, beanFactory.getBeanClassLoader()));
+      } catch (ClassNotFoundException | LinkageError ex) {
+        log.debug("[Polyglot] Skipping parallel validation of {}", value, ex);
+      }
+    }
+    return clients;
+  }
+}
@@ -0,0 +1,140 @@
+package io.github.ih0rd.polyglot.spring.client.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/// Build-time index of {@code @PolyglotClient} interfaces.
+///
+/// Written by {@link PolyglotClientIndexProcessor} to {@value #LOCATION}, one entry per line:
+///
+/// ```text
+/// # polyglot client index
+/// com.acme.StatsApi	python	stats_api
+/// com.acme.MathApi	auto	math_api
+/// ```
+///
+/// Columns are tab-separated: interface name, declared language ({@code auto} when resolved at
+/// runtime) and script name. Each classpath root (directory or jar) carries its own index.
+public final class PolyglotClientIndex {
+
+  /// Classpath location of the index.
+  public static final String LOCATION = "META-INF/polyglot/clients.idx";
+
+  /// Language column value for clients without an explicit language.
+  public static final String AUTO_LANGUAGE = "auto";
+
+  private static final String COMMENT = "#";
+  private static final String SEPARATOR = "\t";
+
+  private PolyglotClientIndex() {}
+
+  /// A single indexed client.
+  ///
+  /// @param className  fully qualified interface name
+  /// @param language   declared language id, or {@value #AUTO_LANGUAGE}
+  /// @param scriptName script (module) name derived from the interface name
+  public record Entry(String className, String language, String scriptName) {
+
+    /// @return whether the client lives in the given package or one of its sub-packages
+    public boolean isIn(String basePackage) {
+      return basePackage.isEmpty() || className.startsWith(basePackage + ".");
+    }
+
+    String format() {
+      return className + SEPARATOR + language + SEPARATOR + scriptName;
+    }
+  }
+
+  /// Loads all indexes visible to the class loader, keyed by the classpath root (directory or
+  /// jar) that contains them.
+  ///
+  /// An index only describes the classes compiled alongside it: other roots, e.g. the
+  /// application's own classes built without the processor, are not covered by it.
+  ///
+  /// @param classLoader class loader to search
+  /// @return entries per classpath root URL, in classpath order; empty if no index is present
+  public static Map<String, List<Entry>> load(ClassLoader classLoader) {
+    try {
+      Map<String, List<Entry>> indexes = new LinkedHashMap<>();
+      for (URL url : Collections.list(classLoader.getResources(LOCATION))) {
+        try (var reader =
+            new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+          indexes.putIfAbsent(root(url, LOCATION), parse(reader.lines().toList()));
+        }
+      }
+      return Collections.unmodifiableMap(indexes);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read " + LOCATION, e);
+    }
+  }
+
+  /// Returns the classpath roots containing a package, as in {@link #load(ClassLoader)} keys.
+  ///
+  /// @param classLoader class loader to search
+  /// @param basePackage package name, not empty
+  /// @return root URLs of every directory or jar that contains the package
+  public static Set<String> packageRoots(ClassLoader classLoader, String basePackage) {
+    String path = basePackage.replace('.', '/');
+    try {
+      Set<String> roots = new LinkedHashSet<>();
+      for (URL url : Collections.list(classLoader.getResources(path))) {
+        roots.add(root(url, path));
+      }
+      return roots;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to resolve package " + basePackage, e);
+    }
+  }
+
+  /// Strips a resource path (and a trailing slash) from a resource URL.
+  private static String root(URL url, String path) {
+    String value = url.toString();
+    if (value.endsWith("/")) {
+      value = value.substring(0, value.length() - 1);
+    }
+    return value.endsWith(path) ? value.substring(0, value.length() - path.length()) : value;
+  }
+
+  /// Parses index lines, skipping blanks and comments.
+  ///
+  /// @param lines raw index lines
+  /// @return parsed entries
+  public static List<Entry> parse(List<String> lines) {
+    List<Entry> entries = new ArrayList<>();
+    for (String line : lines) {
+      String trimmed = line.strip();
+      if (trimmed.isEmpty() || trimmed.startsWith(COMMENT)) {
+        continue;
+      }
+      String[] columns = trimmed.split(SEPARATOR);
+      if (columns.length != 3) {
+        throw new IllegalStateException("Malformed " + LOCATION + " line: " + line);
+      }
+      entries.add(new Entry(columns[0], columns[1], columns[2]));
+    }
+    return entries;
+  }
+
+  /// Renders entries in index format.
+  ///
+  /// @param entries entries to write
+  /// @return index file content
+  public static String format(List<Entry> entries) {
+    StringBuilder sb = new StringBuilder(COMMENT + " polyglot client index\n");
+    for (Entry entry : entries) {
+      sb.append(entry.format()).append('\n');
+    }
+    return sb.toString();
+  }
+}
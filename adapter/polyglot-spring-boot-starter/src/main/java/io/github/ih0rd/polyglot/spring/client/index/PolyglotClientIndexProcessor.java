@@ -0,0 +1,115 @@
+package io.github.ih0rd.polyglot.spring.client.index;
+
+import static io.github.ih0rd.adapter.utils.StringCaseConverter.camelToSnake;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import io.github.ih0rd.contract.SupportedLanguage;
+import io.github.ih0rd.polyglot.spring.client.PolyglotClient;
+
+/// Annotation processor writing {@value PolyglotClientIndex#LOCATION}.
+///
+/// Every interface annotated with {@link PolyglotClient} (including sources generated by
+/// {@code polyglot-codegen} and then annotated) is recorded with its declared language and
+/// script name. On incremental builds, entries of the previous index are kept as long as their
+/// type still exists and is still annotated; the others are pruned. The processor therefore
+/// supports {@code *}: javac skips processors whose annotations are absent, which would leave
+/// removed clients in the index. No annotation is claimed.
+///
+/// Enable it via {@code annotationProcessorPaths} (required on JDK 23+, where processors are no
+/// longer discovered from the classpath by default).
+@SupportedAnnotationTypes("*")
+public final class PolyglotClientIndexProcessor extends AbstractProcessor {
+
+  private final Map<String, PolyglotClientIndex.Entry> entries = new TreeMap<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(PolyglotClient.class)) {
+      if (element.getKind() != ElementKind.INTERFACE) {
+        continue;
+      }
+      TypeElement type = (TypeElement) element;
+      String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+      entries.put(
+          className,
+          new PolyglotClientIndex.Entry(
+              className,
+              language(type.getAnnotation(PolyglotClient.class)),
+              camelToSnake(type.getSimpleName().toString())));
+    }
+
+    // a previous index is rewritten even without new entries, so removed clients are pruned
+    if (roundEnv.processingOver() && (mergePreviousIndex() || !entries.isEmpty())) {
+      writeIndex();
+    }
+    return false;
+  }
+
+  private static String language(PolyglotClient annotation) {
+    SupportedLanguage[] languages = annotation.languages();
+    return languages.length == 1 ? languages[0].id() : PolyglotClientIndex.AUTO_LANGUAGE;
+  }
+
+  /// Keeps entries of the previous index whose type still exists and is still annotated.
+  ///
+  /// @return whether a previous index exists
+  private boolean mergePreviousIndex() {
+    try {
+      FileObject previous =
+          processingEnv
+              .getFiler()
+              .getResource(StandardLocation.CLASS_OUTPUT, "", PolyglotClientIndex.LOCATION);
+      List<String> lines = previous.getCharContent(true).toString().lines().toList();
+      for (PolyglotClientIndex.Entry entry : PolyglotClientIndex.parse(lines)) {
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(entry.className());
+        if (type != null && type.getAnnotation(PolyglotClient.class) != null) {
+          entries.putIfAbsent(entry.className(), entry);
+        }
+      }
+      return true;
+    } catch (IOException | IllegalArgumentException | IllegalStateException e) {
+      // no previous index (clean build)
+      return false;
+    }
+  }
+
+  private void writeIndex() {
+    try {
+      FileObject file =
+          processingEnv
+              .getFiler()
+              .createResource(StandardLocation.CLASS_OUTPUT, "", PolyglotClientIndex.LOCATION);
+      try (Writer writer = file.openWriter()) {
+        writer.write(PolyglotClientIndex.format(List.copyOf(entries.values())));
+      }
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              "Failed to write " + PolyglotClientIndex.LOCATION + ": " + e.getMessage());
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package io.github.ih0rd.polyglot.spring.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.actuate.info.InfoContributor;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -9,8 +11,11 @@ import org.springframework.boot.health.contributor.HealthIndicator;
 import org.springframework.context.annotation.Bean;
 
 import io.github.ih0rd.polyglot.spring.PolyglotExecutors;
+import io.github.ih0rd.polyglot.spring.actuator.PolyglotEndpoint;
 import io.github.ih0rd.polyglot.spring.actuator.PolyglotHealthIndicator;
 import io.github.ih0rd.polyglot.spring.actuator.PolyglotInfoContributor;
+import io.github.ih0rd.polyglot.spring.context.SpringPolyglotContextFactory;
+import io.github.ih0rd.polyglot.spring.internal.PolyglotStartupLifecycle;
 import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties;
 
 @AutoConfiguration
@@ -36,4 +41,14 @@ public class PolyglotActuatorAutoConfiguration {
       PolyglotExecutors executors, PolyglotProperties properties) {
     return new PolyglotHealthIndicator(executors, properties);
   }
+
+  @Bean
+  @ConditionalOnAvailableEndpoint
+  @ConditionalOnMissingBean
+  public PolyglotEndpoint polyglotEndpoint(
+      PolyglotExecutors executors,
+      SpringPolyglotContextFactory contextFactory,
+      ObjectProvider<PolyglotStartupLifecycle> lifecycle) {
+    return new PolyglotEndpoint(executors, contextFactory, lifecycle);
+  }
 }
@@ -1,18 +1,30 @@
 package io.github.ih0rd.polyglot.spring.config;
 
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.metrics.ApplicationStartup;
 
 import io.github.ih0rd.adapter.context.JsExecutor;
 import io.github.ih0rd.adapter.context.PyExecutor;
+import io.github.ih0rd.contract.SupportedLanguage;
 import io.github.ih0rd.polyglot.spring.PolyglotExecutors;
+import io.github.ih0rd.polyglot.spring.client.PolyglotClientValidator;
+import io.github.ih0rd.polyglot.spring.context.PolyglotContextBootstrapper;
 import io.github.ih0rd.polyglot.spring.context.PolyglotContextCustomizer;
 import io.github.ih0rd.polyglot.spring.context.SpringPolyglotContextFactory;
 import io.github.ih0rd.polyglot.spring.internal.PolyglotStartupLifecycle;
+import io.github.ih0rd.polyglot.spring.internal.PolyglotStartupTimeline;
 import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties;
 
 @AutoConfiguration
@@ -32,12 +44,84 @@ public class PolyglotAutoConfiguration {
     return new PolyglotExecutors(py.getIfAvailable(), js.getIfAvailable());
   }
 
+  @Bean
+  @ConditionalOnMissingBean
+  public PolyglotStartupTimeline polyglotStartupTimeline(
+      ObjectProvider<ApplicationStartup> applicationStartup) {
+
+    return new PolyglotStartupTimeline(
+        applicationStartup.getIfAvailable(() -> ApplicationStartup.DEFAULT));
+  }
+
   @Bean
   @ConditionalOnMissingBean
   public SpringPolyglotContextFactory polyglotContextFactory(
-      ObjectProvider<PolyglotContextCustomizer> customizers) {
+      ObjectProvider<PolyglotContextCustomizer> customizers, PolyglotStartupTimeline timeline) {
+
+    return new SpringPolyglotContextFactory(customizers, timeline);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(
+      prefix = "polyglot.core",
+      name = "concurrent-context-init",
+      havingValue = "true",
+      matchIfMissing = true)
+  public PolyglotContextBootstrapper polyglotContextBootstrapper(
+      SpringPolyglotContextFactory contextFactory,
+      PolyglotProperties properties,
+      BeanFactory beanFactory) {
+
+    // only languages whose executor bean this starter actually creates: the executor
+    // auto-configuration may be inactive, or the application may define its own executor
+    Set<SupportedLanguage> languages = EnumSet.noneOf(SupportedLanguage.class);
+    if (properties.python().enabled()
+        && autoConfiguredExecutor(
+            beanFactory, PyExecutor.class, PolyglotPythonAutoConfiguration.class)) {
+      languages.add(SupportedLanguage.PYTHON);
+    }
+    if (properties.js().enabled()
+        && autoConfiguredExecutor(
+            beanFactory, JsExecutor.class, PolyglotJsAutoConfiguration.class)) {
+      languages.add(SupportedLanguage.JS);
+    }
+
+    Executor bootstrapExecutor =
+        beanFactory.containsBean(ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME)
+            ? beanFactory.getBean(
+                ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME, Executor.class)
+            : null;
+
+    return new PolyglotContextBootstrapper(contextFactory, languages, bootstrapExecutor);
+  }
+
+  /// Returns {@code true} if an executor bean of the given type is defined by the given
+  /// auto-configuration, i.e. it will claim its context from the bootstrapper.
+  private static boolean autoConfiguredExecutor(
+      BeanFactory beanFactory, Class<?> executorType, Class<?> autoConfiguration) {
+    if (!(beanFactory instanceof ConfigurableListableBeanFactory listable)) {
+      return false;
+    }
+    for (String name : listable.getBeanNamesForType(executorType, true, false)) {
+      if (listable.containsBeanDefinition(name)
+          && autoConfiguration
+              .getName()
+              .equals(listable.getBeanDefinition(name).getFactoryBeanName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public PolyglotClientValidator polyglotClientValidator(
+      PolyglotExecutors executors,
+      PolyglotProperties properties,
+      PolyglotStartupTimeline timeline) {
 
-    return new SpringPolyglotContextFactory(customizers);
+    return new PolyglotClientValidator(executors, properties.clients().validation(), timeline);
   }
 
   @Bean
@@ -45,9 +129,10 @@ public class PolyglotAutoConfiguration {
   PolyglotStartupLifecycle polyglotStartupLifecycle(
       PolyglotProperties properties,
       ObjectProvider<PyExecutor> pyExecutor,
-      ObjectProvider<JsExecutor> jsExecutor) {
+      ObjectProvider<JsExecutor> jsExecutor,
+      PolyglotStartupTimeline timeline) {
 
     return new PolyglotStartupLifecycle(
-        properties, pyExecutor.getIfAvailable(), jsExecutor.getIfAvailable());
+        properties, pyExecutor.getIfAvailable(), jsExecutor.getIfAvailable(), timeline);
   }
 }
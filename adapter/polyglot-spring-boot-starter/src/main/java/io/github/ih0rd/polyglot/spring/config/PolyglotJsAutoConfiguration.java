@@ -1,6 +1,7 @@
 package io.github.ih0rd.polyglot.spring.config;
 
 import org.graalvm.polyglot.Context;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -8,9 +9,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.io.ResourceLoader;
 
+import io.github.ih0rd.adapter.context.InvocationDispatcher;
 import io.github.ih0rd.adapter.context.JsExecutor;
 import io.github.ih0rd.contract.ScriptSource;
 import io.github.ih0rd.contract.SupportedLanguage;
+import io.github.ih0rd.polyglot.spring.context.PolyglotContextBootstrapper;
 import io.github.ih0rd.polyglot.spring.context.SpringPolyglotContextFactory;
 import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties;
 import io.github.ih0rd.polyglot.spring.script.SpringResourceScriptSource;
@@ -22,6 +25,7 @@ import io.github.ih0rd.polyglot.spring.script.SpringResourceScriptSource;
 /// Responsibilities:
 /// - Create language-bound {@link ScriptSource} for JavaScript
 /// - Create {@link JsExecutor} using {@link SpringPolyglotContextFactory}
+///   (claimed from {@link PolyglotContextBootstrapper} when concurrent init is enabled)
 /// - No warmup or lifecycle orchestration (handled internally)
 ///
 @AutoConfiguration
@@ -40,9 +44,24 @@ public class PolyglotJsAutoConfiguration {
   @Bean
   @ConditionalOnMissingBean
   public JsExecutor jsExecutor(
-      SpringPolyglotContextFactory contextFactory, ScriptSource jsScriptSource) {
+      SpringPolyglotContextFactory contextFactory,
+      ScriptSource jsScriptSource,
+      PolyglotProperties properties,
+      ObjectProvider<PolyglotContextBootstrapper> bootstrapper) {
 
-    Context context = contextFactory.create(SupportedLanguage.JS);
-    return new JsExecutor(context, jsScriptSource);
+    PolyglotContextBootstrapper contexts = bootstrapper.getIfAvailable();
+    Context context =
+        contexts != null
+            ? contexts.context(SupportedLanguage.JS)
+            : contextFactory.create(SupportedLanguage.JS);
+    JsExecutor executor = new JsExecutor(context, jsScriptSource);
+    executor.startupRecorder(contextFactory.startupRecorder());
+    PolyglotProperties.DispatcherProperties dispatcher = properties.dispatcher();
+    if (dispatcher.enabled()) {
+      executor.invocationDispatcher(
+          new InvocationDispatcher(
+              SupportedLanguage.JS.id(), dispatcher.queueCapacity(), dispatcher.enqueueTimeout()));
+    }
+    return executor;
   }
 }
@@ -1,6 +1,7 @@
 package io.github.ih0rd.polyglot.spring.config;
 
 import org.graalvm.polyglot.Context;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -8,9 +9,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.io.ResourceLoader;
 
+import io.github.ih0rd.adapter.context.InvocationDispatcher;
 import io.github.ih0rd.adapter.context.PyExecutor;
 import io.github.ih0rd.contract.ScriptSource;
 import io.github.ih0rd.contract.SupportedLanguage;
+import io.github.ih0rd.polyglot.spring.context.PolyglotContextBootstrapper;
 import io.github.ih0rd.polyglot.spring.context.SpringPolyglotContextFactory;
 import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties;
 import io.github.ih0rd.polyglot.spring.script.SpringResourceScriptSource;
@@ -22,6 +25,7 @@ import io.github.ih0rd.polyglot.spring.script.SpringResourceScriptSource;
 /// Responsibilities:
 /// - Create language-bound {@link ScriptSource} for Python
 /// - Create {@link PyExecutor} with externally managed {@link Context}
+///   (claimed from {@link PolyglotContextBootstrapper} when concurrent init is enabled)
 /// - Delegate warmup and lifecycle handling to internal components
 ///
 @AutoConfiguration
@@ -40,9 +44,27 @@ public class PolyglotPythonAutoConfiguration {
   @Bean
   @ConditionalOnMissingBean
   public PyExecutor pyExecutor(
-      SpringPolyglotContextFactory contextFactory, ScriptSource pyScriptSource) {
+      SpringPolyglotContextFactory contextFactory,
+      ScriptSource pyScriptSource,
+      PolyglotProperties properties,
+      ObjectProvider<PolyglotContextBootstrapper> bootstrapper) {
 
-    Context context = contextFactory.create(SupportedLanguage.PYTHON);
-    return new PyExecutor(context, pyScriptSource);
+    PolyglotContextBootstrapper contexts = bootstrapper.getIfAvailable();
+    Context context =
+        contexts != null
+            ? contexts.context(SupportedLanguage.PYTHON)
+            : contextFactory.create(SupportedLanguage.PYTHON);
+    PyExecutor executor = new PyExecutor(context, pyScriptSource);
+    executor.startupRecorder(contextFactory.startupRecorder());
+    executor.maxCachedInstances(properties.python().maxCachedInstances());
+    PolyglotProperties.DispatcherProperties dispatcher = properties.dispatcher();
+    if (dispatcher.enabled()) {
+      executor.invocationDispatcher(
+          new InvocationDispatcher(
+              SupportedLanguage.PYTHON.id(),
+              dispatcher.queueCapacity(),
+              dispatcher.enqueueTimeout()));
+    }
+    return executor;
   }
 }
@@ -0,0 +1,110 @@
+package io.github.ih0rd.polyglot.spring.context;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.graalvm.polyglot.Context;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import io.github.ih0rd.contract.SupportedLanguage;
+
+/// Starts context creation for all auto-configured executors concurrently.
+///
+/// Executor beans claim their context via {@link #context(SupportedLanguage)}, which waits for
+/// the corresponding future. Total context startup is therefore roughly the slowest language
+/// instead of the sum of all of them.
+///
+/// Creation runs on the Spring {@code bootstrapExecutor} when one is defined, otherwise on one
+/// daemon thread per language. {@link PolyglotContextCustomizer} beans are resolved up front,
+/// on the thread creating the bootstrapper. Languages whose executor bean is not created by the
+// starter
+/// (executor auto-configuration inactive, or an executor bean defined by the application) are
+/// not started. Contexts that are never claimed (e.g. executor creation failed) are closed on
+/// shutdown.
+public final class PolyglotContextBootstrapper implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(PolyglotContextBootstrapper.class);
+
+  private final SpringPolyglotContextFactory contextFactory;
+  private final Map<SupportedLanguage, CompletableFuture<Context>> pending =
+      new EnumMap<>(SupportedLanguage.class);
+
+  public PolyglotContextBootstrapper(
+      SpringPolyglotContextFactory contextFactory,
+      Set<SupportedLanguage> languages,
+      @Nullable Executor bootstrapExecutor) {
+
+    this.contextFactory = contextFactory;
+    if (languages.isEmpty()) {
+      return;
+    }
+
+    // customizer beans are created here, on the startup thread, not by the creating threads
+    List<PolyglotContextCustomizer> customizers = contextFactory.customizers();
+    for (SupportedLanguage language : languages) {
+      Executor executor =
+          bootstrapExecutor != null
+              ? bootstrapExecutor
+              : task ->
+                  Thread.ofPlatform()
+                      .daemon()
+                      .name("polyglot-context-" + language.id())
+                      .start(task);
+
+      log.debug("[Polyglot][{}] Context creation started in background", language);
+      pending.put(
+          language,
+          CompletableFuture.supplyAsync(
+              () -> contextFactory.create(language, customizers), executor));
+    }
+  }
+
+  /// Claims the context of the given language, waiting for its creation if still in progress.
+  ///
+  /// Languages that were not started up front are created synchronously.
+  ///
+  /// @param language guest language
+  /// @return initialized context, owned by the caller
+  public Context context(SupportedLanguage language) {
+    CompletableFuture<Context> future;
+    synchronized (pending) {
+      future = pending.remove(language);
+    }
+    if (future == null) {
+      return contextFactory.create(language);
+    }
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+  }
+
+  /// Closes contexts that were created but never claimed.
+  @Override
+  public void destroy() {
+    synchronized (pending) {
+      pending.forEach(
+          (language, future) ->
+              future.whenComplete(
+                  (context, _) -> {
+                    if (context != null) {
+                      log.debug("[Polyglot][{}] Closing unclaimed context", language);
+                      context.close();
+                    }
+                  }));
+      pending.clear();
+    }
+  }
+}
@@ -1,22 +1,53 @@
 package io.github.ih0rd.polyglot.spring.context;
 
+import java.util.List;
+
 import org.graalvm.polyglot.Context;
 import org.springframework.beans.factory.ObjectProvider;
 
 import io.github.ih0rd.adapter.context.PolyglotHelper;
+import io.github.ih0rd.adapter.metrics.StartupRecorder;
 import io.github.ih0rd.contract.SupportedLanguage;
 
 public final class SpringPolyglotContextFactory {
 
   private final ObjectProvider<PolyglotContextCustomizer> customizers;
+  private final StartupRecorder startupRecorder;
 
   public SpringPolyglotContextFactory(ObjectProvider<PolyglotContextCustomizer> customizers) {
+    this(customizers, StartupRecorder.NOOP);
+  }
+
+  public SpringPolyglotContextFactory(
+      ObjectProvider<PolyglotContextCustomizer> customizers, StartupRecorder startupRecorder) {
     this.customizers = customizers;
+    this.startupRecorder = startupRecorder;
   }
 
   public Context create(SupportedLanguage language) {
+    return create(language, customizers());
+  }
+
+  /// Creates a context with customizers resolved earlier, e.g. on the startup thread before
+  /// handing creation to a background thread.
+  ///
+  /// @param language    guest language
+  /// @param customizers ordered customizers, see {@link #customizers()}
+  /// @return initialized context
+  public Context create(SupportedLanguage language, List<PolyglotContextCustomizer> customizers) {
     return PolyglotHelper.newContext(
         language,
-        builder -> customizers.orderedStream().forEach(c -> c.customize(language, builder)));
+        builder -> customizers.forEach(c -> c.customize(language, builder)),
+        startupRecorder);
+  }
+
+  /// Resolves the customizer beans in order; creates them if they do not exist yet.
+  public List<PolyglotContextCustomizer> customizers() {
+    return customizers.orderedStream().toList();
+  }
+
+  /// Recorder used for context creation steps; executors reuse it for script load / eval.
+  public StartupRecorder startupRecorder() {
+    return startupRecorder;
   }
 }
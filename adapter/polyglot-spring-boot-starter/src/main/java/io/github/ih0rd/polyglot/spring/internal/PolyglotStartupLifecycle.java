@@ -1,13 +1,20 @@
 package io.github.ih0rd.polyglot.spring.internal;
 
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.SmartLifecycle;
 
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
 import io.github.ih0rd.adapter.context.JsExecutor;
 import io.github.ih0rd.adapter.context.PyExecutor;
+import io.github.ih0rd.adapter.metrics.StartupRecorder;
+import io.github.ih0rd.contract.SupportedLanguage;
 import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties;
 
 /// # PolyglotStartupLifecycle
@@ -21,6 +28,8 @@ import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties;
 /// - Perform safe NOOP warmup for enabled languages
 /// - Fail fast if configured and warmup fails
 /// - Emit a single structured startup summary
+/// - Keep the last {@link WarmupResult} per language (exposed via actuator)
+/// - Log the {@link PolyglotStartupTimeline} breakdown and stop recording afterwards
 ///
 /// ## Design notes
 /// - Internal component (not public API)
@@ -35,15 +44,27 @@ public final class PolyglotStartupLifecycle implements SmartLifecycle {
   private final PolyglotProperties properties;
   private final PyExecutor pyExecutor;
   private final JsExecutor jsExecutor;
+  private final PolyglotStartupTimeline timeline;
+
+  private final Map<SupportedLanguage, WarmupResult> lastWarmup = new ConcurrentHashMap<>();
 
   private volatile boolean running;
 
   public PolyglotStartupLifecycle(
       PolyglotProperties properties, PyExecutor pyExecutor, JsExecutor jsExecutor) {
+    this(properties, pyExecutor, jsExecutor, null);
+  }
+
+  public PolyglotStartupLifecycle(
+      PolyglotProperties properties,
+      PyExecutor pyExecutor,
+      JsExecutor jsExecutor,
+      PolyglotStartupTimeline timeline) {
 
     this.properties = properties;
     this.pyExecutor = pyExecutor;
     this.jsExecutor = jsExecutor;
+    this.timeline = timeline;
   }
 
   @Override
@@ -66,6 +87,10 @@ public final class PolyglotStartupLifecycle implements SmartLifecycle {
         throw new IllegalStateException("Polyglot startup initialization failed", ex);
       }
       log.warn("Polyglot startup initialization failed (failFast=false)", ex);
+    } finally {
+      if (timeline != null) {
+        timeline.complete();
+      }
     }
   }
 
@@ -77,7 +102,7 @@ public final class PolyglotStartupLifecycle implements SmartLifecycle {
     }
 
     log.debug("[Polyglot][PYTHON] Warmup started");
-    pyExecutor.evaluate(PolyglotWarmupConstants.NOOP_EXPRESSION);
+    runWarmup(SupportedLanguage.PYTHON, pyExecutor);
   }
 
   private void warmupJs() {
@@ -86,7 +111,59 @@ public final class PolyglotStartupLifecycle implements SmartLifecycle {
     }
 
     log.debug("[Polyglot][JS] Warmup started");
-    jsExecutor.evaluate(PolyglotWarmupConstants.NOOP_EXPRESSION);
+    runWarmup(SupportedLanguage.JS, jsExecutor);
+  }
+
+  /// Re-runs the NOOP warmup for the given language, regardless of
+  /// {@code warmup-on-startup}. Intended for operator-triggered warmups.
+  ///
+  /// @param language language to warm up
+  /// @return warmup outcome, or empty if no executor is available for the language
+  public Optional<WarmupResult> warmup(SupportedLanguage language) {
+    AbstractPolyglotExecutor executor =
+        switch (language) {
+          case PYTHON -> pyExecutor;
+          case JS -> jsExecutor;
+        };
+    if (executor == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(runWarmup(language, executor));
+    } catch (RuntimeException ex) {
+      log.warn("[Polyglot][{}] Warmup failed", language, ex);
+      return Optional.ofNullable(lastWarmup.get(language));
+    }
+  }
+
+  /// Last warmup outcome per language.
+  public Map<SupportedLanguage, WarmupResult> lastWarmup() {
+    return Map.copyOf(lastWarmup);
+  }
+
+  private WarmupResult runWarmup(SupportedLanguage language, AbstractPolyglotExecutor executor) {
+    StartupRecorder recorder = timeline != null ? timeline : StartupRecorder.NOOP;
+    long startedAt = System.nanoTime();
+    try (StartupRecorder.Step step = recorder.start("polyglot.warmup")) {
+      step.tag("language", language.id());
+      executor.evaluate(PolyglotWarmupConstants.NOOP_EXPRESSION);
+      return record(language, startedAt, null);
+    } catch (RuntimeException ex) {
+      record(language, startedAt, ex.getMessage() != null ? ex.getMessage() : ex.toString());
+      throw ex;
+    }
+  }
+
+  private WarmupResult record(SupportedLanguage language, long startedAt, String error) {
+    WarmupResult result =
+        new WarmupResult(
+            language,
+            error == null,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt),
+            Instant.now(),
+            error);
+    lastWarmup.put(language, result);
+    return result;
   }
 
   private void logStartupSummary(long startedAtNanos) {
@@ -126,6 +203,15 @@ public final class PolyglotStartupLifecycle implements SmartLifecycle {
 
     log.info("Startup     : polyglot={} ms", startupMs);
 
+    if (timeline != null) {
+      timeline.totalsMs().forEach((step, ms) -> log.info("  {} : {} ms", step, ms));
+      timeline
+          .entries()
+          .forEach(
+              entry ->
+                  log.debug("  {} {} : {} ms", entry.name(), entry.tags(), entry.durationMs()));
+    }
+
     log.info("--------------------------------------------------------------");
   }
 
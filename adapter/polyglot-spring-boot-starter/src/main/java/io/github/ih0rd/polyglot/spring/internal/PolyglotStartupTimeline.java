@@ -0,0 +1,103 @@
+package io.github.ih0rd.polyglot.spring.internal;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import io.github.ih0rd.adapter.metrics.StartupRecorder;
+
+/// # PolyglotStartupTimeline
+///
+/// {@link StartupRecorder} backed by Spring {@link ApplicationStartup}.
+///
+/// Responsibilities:
+/// - Forward every polyglot step to {@link ApplicationStartup} (visible via the actuator
+///   {@code startup} endpoint when a {@code BufferingApplicationStartup} is configured)
+/// - Keep a structured timeline of finished steps for the startup summary log
+///
+/// ## Design notes
+/// - Recording stops after {@link #complete()}, so runtime script loads are not buffered
+/// - Thread-safe: steps may be recorded concurrently
+///
+public final class PolyglotStartupTimeline implements StartupRecorder {
+
+  private final ApplicationStartup applicationStartup;
+  private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+
+  private volatile boolean completed;
+
+  public PolyglotStartupTimeline(ApplicationStartup applicationStartup) {
+    this.applicationStartup = applicationStartup;
+  }
+
+  @Override
+  public Step start(String name) {
+    if (completed) {
+      return Step.NOOP;
+    }
+    return new TimelineStep(name, applicationStartup.start(name));
+  }
+
+  /// Stops recording new steps.
+  public void complete() {
+    completed = true;
+  }
+
+  /// Finished steps, in completion order.
+  public List<Entry> entries() {
+    return List.copyOf(entries);
+  }
+
+  /// Total duration per step name, in first-completion order.
+  public Map<String, Long> totalsMs() {
+    Map<String, Long> totals = new LinkedHashMap<>();
+    for (Entry entry : entries) {
+      totals.merge(entry.name(), entry.durationMs(), Long::sum);
+    }
+    return totals;
+  }
+
+  /// A finished timeline step.
+  ///
+  /// @param name       step name (e.g. {@code polyglot.context.build})
+  /// @param tags       step tags (language, script, client, ...)
+  /// @param durationMs step duration in milliseconds
+  public record Entry(String name, Map<String, String> tags, long durationMs) {}
+
+  private final class TimelineStep implements Step {
+
+    private final String name;
+    private final StartupStep delegate;
+    private final Map<String, String> tags = new LinkedHashMap<>();
+    private final long startedAt = System.nanoTime();
+
+    private TimelineStep(String name, StartupStep delegate) {
+      this.name = name;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Step tag(String key, String value) {
+      String safeValue = String.valueOf(value);
+      tags.put(key, safeValue);
+      delegate.tag(key, safeValue);
+      return this;
+    }
+
+    @Override
+    public void close() {
+      delegate.end();
+      entries.add(
+          new Entry(
+              name,
+              Map.copyOf(tags),
+              TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)));
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package io.github.ih0rd.polyglot.spring.internal;
+
+import java.time.Instant;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.ih0rd.contract.SupportedLanguage;
+
+/// Outcome of a single warmup run for one language.
+///
+/// @param language   warmed-up language
+/// @param success    whether the warmup expression evaluated without error
+/// @param durationMs warmup duration in milliseconds
+/// @param finishedAt completion timestamp
+/// @param error      failure message, {@code null} on success
+public record WarmupResult(
+    SupportedLanguage language,
+    boolean success,
+    long durationMs,
+    Instant finishedAt,
+    @Nullable String error) {}
@@ -2,15 +2,20 @@ package io.github.ih0rd.polyglot.spring.metrics;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.ObjectProvider;
 
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+import io.github.ih0rd.adapter.context.InvocationDispatcher;
 import io.github.ih0rd.adapter.context.JsExecutor;
 import io.github.ih0rd.adapter.context.PyExecutor;
 import io.github.ih0rd.contract.SupportedLanguage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
@@ -67,6 +72,8 @@ public class PolyglotMetricsBinder implements MeterBinder {
         .tags(tags)
         .register(registry);
 
+    bindDispatcher(registry, executor, tags);
+
     log.info(
         "[Polyglot][Metrics] Python metrics registered: "
             + "sourceCacheSize, instanceCacheSize, boundInterfaces");
@@ -96,9 +103,51 @@ public class PolyglotMetricsBinder implements MeterBinder {
         .tags(tags)
         .register(registry);
 
+    bindDispatcher(registry, executor, tags);
+
     log.info("[Polyglot][Metrics] JS metrics registered: sourceCacheSize, loadedInterfaces");
   }
 
+  /// Queue meters of the executor's invocation dispatcher, if one is installed: wait and
+  /// service timers separate time spent waiting for the context from guest execution.
+  private void bindDispatcher(
+      MeterRegistry registry, AbstractPolyglotExecutor executor, Tags tags) {
+    InvocationDispatcher dispatcher = executor.invocationDispatcher();
+    if (dispatcher == null) {
+      return;
+    }
+
+    Gauge.builder("polyglot.dispatcher.queue.depth", dispatcher, d -> d.stats().queueDepth())
+        .description("Number of calls waiting for the context")
+        .tags(tags)
+        .register(registry);
+
+    FunctionCounter.builder("polyglot.dispatcher.rejected", dispatcher, d -> d.stats().rejected())
+        .description("Number of calls rejected because the queue was full")
+        .tags(tags)
+        .register(registry);
+
+    FunctionTimer.builder(
+            "polyglot.dispatcher.wait",
+            dispatcher,
+            d -> d.stats().served(),
+            d -> d.stats().totalWaitNanos(),
+            TimeUnit.NANOSECONDS)
+        .description("Time calls spent queued before running in the context")
+        .tags(tags)
+        .register(registry);
+
+    FunctionTimer.builder(
+            "polyglot.dispatcher.service",
+            dispatcher,
+            d -> d.stats().served(),
+            d -> d.stats().totalServiceNanos(),
+            TimeUnit.NANOSECONDS)
+        .description("Time calls spent executing in the context")
+        .tags(tags)
+        .register(registry);
+  }
+
   private Tags baseTags(SupportedLanguage language) {
     return Tags.of("language", language.id());
   }
@@ -1,8 +1,10 @@
 package io.github.ih0rd.polyglot.spring.properties;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
 /**
  * Root configuration properties for the Polyglot Spring Boot starter.
@@ -12,23 +14,50 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * @param core core starter configuration
  * @param python python executor configuration
  * @param js javascript executor configuration
+ * @param clients polyglot client configuration
  * @param actuator actuator integration configuration
  * @param metrics micrometer metrics configuration
+ * @param dispatcher invocation dispatcher configuration
  */
 @ConfigurationProperties(prefix = "polyglot")
 public record PolyglotProperties(
     CoreProperties core,
     PythonProperties python,
     JsProperties js,
+    ClientsProperties clients,
     ActuatorProperties actuator,
-    MetricsProperties metrics) {
+    MetricsProperties metrics,
+    DispatcherProperties dispatcher) {
 
+  @ConstructorBinding
   public PolyglotProperties {
     core = (core != null) ? core : CoreProperties.defaults();
     python = (python != null) ? python : PythonProperties.defaults();
     js = (js != null) ? js : JsProperties.defaults();
+    clients = (clients != null) ? clients : ClientsProperties.defaults();
     actuator = (actuator != null) ? actuator : ActuatorProperties.defaults();
     metrics = (metrics != null) ? metrics : MetricsProperties.defaults();
+    dispatcher = (dispatcher != null) ? dispatcher : DispatcherProperties.defaults();
+  }
+
+  /**
+   * Creates properties in the shape used before client and dispatcher settings were added.
+   *
+   * @deprecated use the canonical constructor or {@link #defaults()}
+   */
+  @Deprecated
+  public PolyglotProperties(
+      CoreProperties core,
+      PythonProperties python,
+      JsProperties js,
+      ActuatorProperties actuator,
+      MetricsProperties metrics) {
+    this(core, python, js, null, actuator, metrics, null);
+  }
+
+  /** Properties with every section at its defaults, as bound from an empty environment. */
+  public static PolyglotProperties defaults() {
+    return new PolyglotProperties(null, null, null, null, null, null, null);
   }
 
   /**
@@ -66,20 +95,22 @@ public record PolyglotProperties(
    * @param safeDefaults applies safe default options for GraalPy
    * @param warmupOnStartup performs lightweight warmup during application startup
    * @param preloadScripts optional list of script/module names to preload during warmup
+   * @param maxCachedInstances upper bound of cached Python instances, {@code 0} for unbounded
    */
   public record PythonProperties(
       boolean enabled,
       String resourcesPath,
       boolean safeDefaults,
       boolean warmupOnStartup,
-      List<String> preloadScripts) {
+      List<String> preloadScripts,
+      int maxCachedInstances) {
 
     public PythonProperties {
       preloadScripts = (preloadScripts != null) ? preloadScripts : List.of();
     }
 
     public static PythonProperties defaults() {
-      return new PythonProperties(false, "classpath:python", true, false, List.of());
+      return new PythonProperties(false, "classpath:python", true, false, List.of(), 0);
     }
   }
 
@@ -106,6 +137,37 @@ public record PolyglotProperties(
     }
   }
 
+  /**
+   * Polyglot client settings.
+   *
+   * <p>Prefix: {@code polyglot.clients.*}
+   *
+   * @param validation how client bindings are validated at startup
+   */
+  public record ClientsProperties(ValidationMode validation) {
+
+    public ClientsProperties {
+      validation = (validation != null) ? validation : ValidationMode.EAGER;
+    }
+
+    public static ClientsProperties defaults() {
+      return new ClientsProperties(ValidationMode.EAGER);
+    }
+
+    /** Client binding validation strategy. */
+    public enum ValidationMode {
+      /** Validate each client serially while its bean is created. */
+      EAGER,
+      /**
+       * Validate all discovered clients on first client bean creation: executors in parallel,
+       * script loading overlapped with evaluation.
+       */
+      PARALLEL,
+      /** Skip startup validation; bindings are resolved (and fail) on first use. */
+      LAZY
+    }
+  }
+
   /**
    * Actuator settings.
    *
@@ -118,11 +180,11 @@ public record PolyglotProperties(
 
     public ActuatorProperties {
       info = (info != null) ? info : new InfoProperties(true);
-      health = (health != null) ? health : new HealthProperties(true);
+      health = (health != null) ? health : HealthProperties.defaults();
     }
 
     public static ActuatorProperties defaults() {
-      return new ActuatorProperties(new InfoProperties(true), new HealthProperties(true));
+      return new ActuatorProperties(new InfoProperties(true), HealthProperties.defaults());
     }
 
     /**
@@ -140,8 +202,54 @@ public record PolyglotProperties(
      * <p>Prefix: {@code polyglot.actuator.health.*}
      *
      * @param enabled enables polyglot health contributor
+     * @param probe active latency probe settings
+     */
+    public record HealthProperties(boolean enabled, ProbeProperties probe) {
+
+      @ConstructorBinding
+      public HealthProperties {
+        probe = (probe != null) ? probe : ProbeProperties.defaults();
+      }
+
+      /**
+       * Creates health settings in the shape used before active probing was added.
+       *
+       * @deprecated use the canonical constructor
+       */
+      @Deprecated
+      public HealthProperties(boolean enabled) {
+        this(enabled, null);
+      }
+
+      public static HealthProperties defaults() {
+        return new HealthProperties(true, ProbeProperties.defaults());
+      }
+    }
+
+    /**
+     * Active health probe settings.
+     *
+     * <p>Prefix: {@code polyglot.actuator.health.probe.*}
+     *
+     * <p>When enabled, every health check evaluates a trivial expression in each context with a
+     * bounded wait and reports the measured latency.
+     *
+     * @param enabled enables active probing (shallow check only when {@code false})
+     * @param timeout maximum wait for a probe; exceeding it reports {@code DOWN}
+     * @param degradedThreshold probe latency above which the context reports {@code DEGRADED}
      */
-    public record HealthProperties(boolean enabled) {}
+    public record ProbeProperties(boolean enabled, Duration timeout, Duration degradedThreshold) {
+
+      public ProbeProperties {
+        timeout = (timeout != null) ? timeout : Duration.ofSeconds(1);
+        degradedThreshold =
+            (degradedThreshold != null) ? degradedThreshold : Duration.ofMillis(250);
+      }
+
+      public static ProbeProperties defaults() {
+        return new ProbeProperties(false, Duration.ofSeconds(1), Duration.ofMillis(250));
+      }
+    }
   }
 
   /**
@@ -157,4 +265,28 @@ public record PolyglotProperties(
       return new MetricsProperties(true);
     }
   }
+
+  /**
+   * Invocation dispatcher settings.
+   *
+   * <p>Prefix: {@code polyglot.dispatcher.*}
+   *
+   * <p>When enabled, each executor serializes guest calls on a context-owning worker thread behind
+   * a bounded FIFO queue, and queue depth, wait time and service time are exposed.
+   *
+   * @param enabled routes calls through a dispatcher per executor
+   * @param queueCapacity maximum number of calls waiting for a context
+   * @param enqueueTimeout maximum wait for a queue slot before a call is rejected
+   */
+  public record DispatcherProperties(boolean enabled, int queueCapacity, Duration enqueueTimeout) {
+
+    public DispatcherProperties {
+      queueCapacity = (queueCapacity > 0) ? queueCapacity : 1024;
+      enqueueTimeout = (enqueueTimeout != null) ? enqueueTimeout : Duration.ofSeconds(1);
+    }
+
+    public static DispatcherProperties defaults() {
+      return new DispatcherProperties(false, 1024, Duration.ofSeconds(1));
+    }
+  }
 }
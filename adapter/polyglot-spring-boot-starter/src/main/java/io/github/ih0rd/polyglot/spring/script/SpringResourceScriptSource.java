@@ -1,6 +1,7 @@
 package io.github.ih0rd.polyglot.spring.script;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
@@ -97,6 +98,28 @@ public final class SpringResourceScriptSource implements ScriptSource {
     return new InputStreamReader(resolve(scriptName).getInputStream(), StandardCharsets.UTF_8);
   }
 
+  /// ## openBytecode
+  ///
+  /// Opens the bytecode cache packaged next to the script, if present:
+  /// `{basePath}__pycache__/{scriptName}.{cacheTag}.pyc`.
+  ///
+  /// @param language requested language
+  /// @param scriptName logical script name (without extension)
+  /// @param cacheTag runtime cache tag
+  /// @return stream of the cache, or {@code null} if there is none
+  /// @throws IOException if resource cannot be read
+  @Override
+  public InputStream openBytecode(SupportedLanguage language, String scriptName, String cacheTag)
+      throws IOException {
+    if (this.language != language) {
+      return null;
+    }
+    Resource cache =
+        resourceLoader.getResource(
+            basePath + "__pycache__/" + scriptName + "." + cacheTag + ".pyc");
+    return cache.exists() ? cache.getInputStream() : null;
+  }
+
   /// ## resolve
   ///
   /// Resolves a Spring {@link Resource} for the given script name.
@@ -0,0 +1,143 @@
+package io.github.ih0rd.polyglot.spring.actuator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.graalvm.polyglot.Context;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import io.github.ih0rd.adapter.context.JsExecutor;
+import io.github.ih0rd.adapter.metrics.InvocationStats;
+import io.github.ih0rd.contract.SupportedLanguage;
+import io.github.ih0rd.polyglot.spring.PolyglotExecutors;
+import io.github.ih0rd.polyglot.spring.context.SpringPolyglotContextFactory;
+import io.github.ih0rd.polyglot.spring.internal.PolyglotStartupLifecycle;
+import io.github.ih0rd.polyglot.spring.internal.WarmupResult;
+
+@SuppressWarnings("unchecked")
+class PolyglotEndpointTest {
+
+  interface StatsApi {}
+
+  private final JsExecutor js = mock(JsExecutor.class);
+  private final SpringPolyglotContextFactory contextFactory =
+      mock(SpringPolyglotContextFactory.class);
+  private final PolyglotStartupLifecycle lifecycle = mock(PolyglotStartupLifecycle.class);
+  private final ObjectProvider<PolyglotStartupLifecycle> lifecycleProvider =
+      mock(ObjectProvider.class);
+
+  private final WarmupResult warmup =
+      new WarmupResult(SupportedLanguage.JS, true, 3, Instant.EPOCH, null);
+
+  private PolyglotEndpoint endpoint() {
+    when(js.metadata()).thenReturn(Map.of("languageId", "js"));
+    when(js.cachedInterfaces()).thenReturn(Set.of(StatsApi.class));
+    when(js.invocationStats()).thenReturn(new InvocationStats());
+    when(lifecycleProvider.getIfAvailable()).thenReturn(lifecycle);
+    when(lifecycle.lastWarmup()).thenReturn(Map.of(SupportedLanguage.JS, warmup));
+    return new PolyglotEndpoint(new PolyglotExecutors(null, js), contextFactory, lifecycleProvider);
+  }
+
+  @Test
+  void readsAllAvailableExecutors() {
+    Map<String, Object> executors = endpoint().executors();
+
+    assertEquals(Set.of("js"), executors.keySet());
+    Map<String, Object> info = (Map<String, Object>) executors.get("js");
+    assertEquals("js", info.get("languageId"));
+    assertEquals(List.of(StatsApi.class.getName()), info.get("cachedInterfaces"));
+    assertEquals(Map.of(), info.get("invocations"));
+    assertSame(warmup, info.get("lastWarmup"));
+  }
+
+  @Test
+  void readsOneExecutor() {
+    PolyglotEndpoint endpoint = endpoint();
+
+    assertEquals("js", endpoint.executor("JS").get("languageId"));
+    assertNull(endpoint.executor("python"));
+    assertThrows(InvalidEndpointRequestException.class, () -> endpoint.executor("ruby"));
+  }
+
+  @Test
+  void warmsUp() {
+    PolyglotEndpoint endpoint = endpoint();
+    when(lifecycle.warmup(SupportedLanguage.JS)).thenReturn(Optional.of(warmup));
+
+    Map<String, Object> result = endpoint.action("js", "warmup");
+
+    assertEquals("js", result.get("language"));
+    assertEquals("warmup", result.get("action"));
+    assertSame(warmup, result.get("warmup"));
+  }
+
+  @Test
+  void warmupRequiresLifecycle() {
+    PolyglotEndpoint endpoint = endpoint();
+    when(lifecycleProvider.getIfAvailable()).thenReturn(null);
+
+    assertThrows(InvalidEndpointRequestException.class, () -> endpoint.action("js", "warmup"));
+  }
+
+  @Test
+  void recyclesContext() {
+    PolyglotEndpoint endpoint = endpoint();
+    Context replacement = mock(Context.class);
+    when(contextFactory.create(SupportedLanguage.JS)).thenReturn(replacement);
+
+    Map<String, Object> result = endpoint.action("js", "recycle");
+
+    verify(js).recycle(replacement);
+    assertEquals(true, result.get("recycled"));
+  }
+
+  @Test
+  void rejectsUnknownActionsLanguagesAndMissingExecutors() {
+    PolyglotEndpoint endpoint = endpoint();
+
+    assertThrows(InvalidEndpointRequestException.class, () -> endpoint.action("js", "restart"));
+    assertThrows(InvalidEndpointRequestException.class, () -> endpoint.action("ruby", "warmup"));
+    assertThrows(InvalidEndpointRequestException.class, () -> endpoint.action("python", "recycle"));
+    assertThrows(InvalidEndpointRequestException.class, () -> endpoint.evict("python", null));
+    verify(js, never()).recycle(any());
+    verify(contextFactory, never()).create(any());
+  }
+
+  @Test
+  void evictsAllCachesWithoutInterfaceName() {
+    Map<String, Object> result = endpoint().evict("js", " ");
+
+    verify(js).clearAllCaches();
+    assertEquals("all", result.get("evicted"));
+  }
+
+  @Test
+  void evictsCachedInterfaceBySimpleOrQualifiedName() {
+    PolyglotEndpoint endpoint = endpoint();
+    when(js.evict(StatsApi.class)).thenReturn(true);
+
+    assertEquals(true, endpoint.evict("js", "StatsApi").get("evicted"));
+    assertEquals(true, endpoint.evict("js", StatsApi.class.getName()).get("evicted"));
+
+    Map<String, Object> missing = endpoint.evict("js", "OtherApi");
+    assertEquals("OtherApi", missing.get("interface"));
+    assertFalse((Boolean) missing.get("evicted"));
+    verify(js, never()).clearAllCaches();
+  }
+}
@@ -0,0 +1,178 @@
+package io.github.ih0rd.polyglot.spring.actuator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.Status;
+
+import io.github.ih0rd.adapter.context.JsExecutor;
+import io.github.ih0rd.adapter.context.PyExecutor;
+import io.github.ih0rd.polyglot.spring.PolyglotExecutors;
+import io.github.ih0rd.polyglot.spring.internal.PolyglotWarmupConstants;
+import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties;
+
+class PolyglotHealthIndicatorTest {
+
+  private static PolyglotProperties bind(Map<String, String> values) {
+    return new Binder(new MapConfigurationPropertySource(values))
+        .bindOrCreate("polyglot", PolyglotProperties.class);
+  }
+
+  private static PolyglotProperties probing(String timeout, String degradedThreshold) {
+    Map<String, String> values = new HashMap<>();
+    values.put("polyglot.actuator.health.probe.enabled", "true");
+    values.put("polyglot.actuator.health.probe.timeout", timeout);
+    values.put("polyglot.actuator.health.probe.degraded-threshold", degradedThreshold);
+    return bind(values);
+  }
+
+  private static JsExecutor js(Answer<?> probe) {
+    JsExecutor js = mock(JsExecutor.class);
+    when(js.evaluate(PolyglotWarmupConstants.NOOP_EXPRESSION)).thenAnswer(probe);
+    return js;
+  }
+
+  @Test
+  void reportsUnknownWhenCoreDisabled() {
+    PolyglotProperties properties = bind(Map.of("polyglot.core.enabled", "false"));
+    try (var indicator =
+        new PolyglotHealthIndicator(new PolyglotExecutors(null, null), properties)) {
+      assertEquals(Status.UNKNOWN, indicator.health().getStatus());
+    }
+  }
+
+  @Test
+  void reportsDownWithoutExecutors() {
+    try (var indicator =
+        new PolyglotHealthIndicator(new PolyglotExecutors(null, null), bind(Map.of()))) {
+      assertEquals(Status.DOWN, indicator.health().getStatus());
+    }
+  }
+
+  @Test
+  void shallowCheckDoesNotProbe() {
+    JsExecutor js = mock(JsExecutor.class);
+    try (var indicator =
+        new PolyglotHealthIndicator(new PolyglotExecutors(null, js), bind(Map.of()))) {
+      Health health = indicator.health();
+      assertEquals(Status.UP, health.getStatus());
+      assertNull(health.getDetails().get("jsProbe"));
+    }
+  }
+
+  @Test
+  void probeReportsLatency() {
+    JsExecutor js = js(_ -> null);
+    try (var indicator =
+        new PolyglotHealthIndicator(new PolyglotExecutors(null, js), probing("1s", "1s"))) {
+      Health health = indicator.health();
+
+      assertEquals(Status.UP, health.getStatus());
+      Map<?, ?> probe = (Map<?, ?>) health.getDetails().get("jsProbe");
+      assertEquals(true, probe.get("available"));
+      assertTrue(probe.get("latencyMs") instanceof Double);
+    }
+  }
+
+  @Test
+  void slowProbeReportsDegraded() {
+    JsExecutor js =
+        js(
+            _ -> {
+              Thread.sleep(50);
+              return null;
+            });
+    try (var indicator =
+        new PolyglotHealthIndicator(new PolyglotExecutors(null, js), probing("5s", "10ms"))) {
+      Health health = indicator.health();
+
+      assertEquals(PolyglotHealthIndicator.DEGRADED, health.getStatus());
+      Map<?, ?> probe = (Map<?, ?>) health.getDetails().get("jsProbe");
+      assertEquals("Probe latency above threshold", probe.get("reason"));
+    }
+  }
+
+  @Test
+  void failingProbeReportsDown() {
+    JsExecutor js =
+        js(
+            _ -> {
+              throw new IllegalStateException("context closed");
+            });
+    try (var indicator =
+        new PolyglotHealthIndicator(new PolyglotExecutors(null, js), probing("1s", "1s"))) {
+      Health health = indicator.health();
+
+      assertEquals(Status.DOWN, health.getStatus());
+      Map<?, ?> probe = (Map<?, ?>) health.getDetails().get("jsProbe");
+      assertEquals(false, probe.get("available"));
+      assertEquals("IllegalStateException: context closed", probe.get("reason"));
+    }
+  }
+
+  @Test
+  void stuckProbeTimesOutAndBlocksFurtherProbes() {
+    CountDownLatch release = new CountDownLatch(1);
+    JsExecutor js =
+        js(
+            _ -> {
+              release.await();
+              return null;
+            });
+    try (var indicator =
+        new PolyglotHealthIndicator(new PolyglotExecutors(null, js), probing("50ms", "1s"))) {
+      Health first = indicator.health();
+      assertEquals(Status.DOWN, first.getStatus());
+      assertEquals(
+          "Probe timed out after 50 ms",
+          ((Map<?, ?>) first.getDetails().get("jsProbe")).get("reason"));
+
+      Health second = indicator.health();
+      assertEquals(Status.DOWN, second.getStatus());
+      assertEquals(
+          "Previous probe still running (context busy or stuck)",
+          ((Map<?, ?>) second.getDetails().get("jsProbe")).get("reason"));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  void probesAllContextsConcurrently() {
+    // each probe only completes once the other one has started
+    CountDownLatch running = new CountDownLatch(2);
+    Answer<?> probe =
+        _ -> {
+          running.countDown();
+          running.await();
+          return null;
+        };
+    PyExecutor python = mock(PyExecutor.class);
+    when(python.evaluate(PolyglotWarmupConstants.NOOP_EXPRESSION)).thenAnswer(probe);
+    try (var indicator =
+        new PolyglotHealthIndicator(
+            new PolyglotExecutors(python, js(probe)), probing("1s", "1s"))) {
+      Health health = indicator.health();
+
+      assertEquals(Status.UP, health.getStatus());
+      assertEquals(true, ((Map<?, ?>) health.getDetails().get("pythonProbe")).get("available"));
+      assertEquals(true, ((Map<?, ?>) health.getDetails().get("jsProbe")).get("available"));
+    } finally {
+      while (running.getCount() > 0) {
+        running.countDown();
+      }
+    }
+  }
+}
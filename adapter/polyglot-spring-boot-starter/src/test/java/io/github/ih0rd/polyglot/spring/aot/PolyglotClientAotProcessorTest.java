@@ -0,0 +1,133 @@
+package io.github.ih0rd.polyglot.spring.aot;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import io.github.ih0rd.adapter.context.AbstractPolyglotExecutor;
+import io.github.ih0rd.polyglot.spring.client.PolyglotClientFactoryBean;
+
+class PolyglotClientAotProcessorTest {
+
+  interface BoundClient {
+    String hello();
+  }
+
+  /// Shape of a codegen-generated implementation of {@link BoundClient}.
+  public static final class BoundClientBinding implements BoundClient {
+
+    public BoundClientBinding(AbstractPolyglotExecutor executor) {}
+
+    @Override
+    public String hello() {
+      return "hello";
+    }
+  }
+
+  interface ProxiedClient {
+    String hello();
+  }
+
+  private static RuntimeHints process(DefaultListableBeanFactory beanFactory) {
+    BeanFactoryInitializationAotContribution contribution =
+        new PolyglotClientAotProcessor().processAheadOfTime(beanFactory);
+    assertNotNull(contribution);
+
+    RuntimeHints hints = new RuntimeHints();
+    GenerationContext generationContext = mock(GenerationContext.class);
+    when(generationContext.getRuntimeHints()).thenReturn(hints);
+    contribution.applyTo(generationContext, null);
+    return hints;
+  }
+
+  private static void registerClient(DefaultListableBeanFactory beanFactory, Class<?> client) {
+    beanFactory.registerBeanDefinition(
+        client.getSimpleName(),
+        BeanDefinitionBuilder.genericBeanDefinition(PolyglotClientFactoryBean.class)
+            .addConstructorArgValue(client.getName())
+            .getBeanDefinition());
+  }
+
+  @Test
+  void contributesNothingWithoutClients() {
+    assertNull(
+        new PolyglotClientAotProcessor().processAheadOfTime(new DefaultListableBeanFactory()));
+  }
+
+  @Test
+  void registersConstructorsOfGeneratedBindings() {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    registerClient(beanFactory, BoundClient.class);
+    registerClient(beanFactory, ProxiedClient.class);
+
+    RuntimeHints hints = process(beanFactory);
+
+    assertTrue(
+        RuntimeHintsPredicates.reflection()
+            .onType(BoundClientBinding.class)
+            .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+            .test(hints));
+    assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(BoundClient.class).test(hints));
+    assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(ProxiedClient.class).test(hints));
+    assertFalse(
+        RuntimeHintsPredicates.reflection()
+            .onType(TypeReference.of(ProxiedClient.class.getName() + "Binding"))
+            .test(hints));
+  }
+
+  @Test
+  void registersProxyReflectionAndDefaultScriptLocations() {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    registerClient(beanFactory, ProxiedClient.class);
+
+    RuntimeHints hints = process(beanFactory);
+
+    assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(ProxiedClient.class).test(hints));
+    assertTrue(
+        RuntimeHintsPredicates.reflection()
+            .onType(ProxiedClient.class)
+            .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)
+            .test(hints));
+    assertTrue(RuntimeHintsPredicates.resource().forResource("python/lib/util.py").test(hints));
+    assertTrue(RuntimeHintsPredicates.resource().forResource("js/app.mjs").test(hints));
+  }
+
+  @Test
+  void registersConfiguredClasspathScriptLocationsOnly() {
+    StandardEnvironment environment = new StandardEnvironment();
+    environment
+        .getPropertySources()
+        .addFirst(
+            new MapPropertySource(
+                "test",
+                Map.of(
+                    "polyglot.python.resources-path", "classpath:/scripts/py/",
+                    "polyglot.js.resources-path", "file:./js/")));
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    beanFactory.registerSingleton("environment", environment);
+    registerClient(beanFactory, ProxiedClient.class);
+
+    RuntimeHints hints = process(beanFactory);
+
+    assertTrue(RuntimeHintsPredicates.resource().forResource("scripts/py/app.py").test(hints));
+    assertFalse(RuntimeHintsPredicates.resource().forResource("python/app.py").test(hints));
+    assertFalse(RuntimeHintsPredicates.resource().forResource("js/app.mjs").test(hints));
+  }
+}
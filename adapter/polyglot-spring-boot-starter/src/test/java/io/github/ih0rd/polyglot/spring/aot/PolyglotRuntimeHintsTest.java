@@ -0,0 +1,45 @@
+package io.github.ih0rd.polyglot.spring.aot;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import io.github.ih0rd.polyglot.spring.client.PolyglotClientFactoryBean;
+
+class PolyglotRuntimeHintsTest {
+
+  private static RuntimeHints hints() {
+    RuntimeHints hints = new RuntimeHints();
+    new PolyglotRuntimeHints()
+        .registerHints(hints, PolyglotRuntimeHintsTest.class.getClassLoader());
+    return hints;
+  }
+
+  @Test
+  void registersScriptAndMetadataResources() {
+    RuntimeHints hints = hints();
+
+    assertTrue(RuntimeHintsPredicates.resource().forResource("python/app.py").test(hints));
+    assertTrue(RuntimeHintsPredicates.resource().forResource("js/lib/app.mjs").test(hints));
+    assertTrue(
+        RuntimeHintsPredicates.resource()
+            .forResource("org.graalvm.python.vfs/venv/lib/site.py")
+            .test(hints));
+    assertTrue(
+        RuntimeHintsPredicates.resource().forResource("META-INF/polyglot/clients.idx").test(hints));
+    assertFalse(RuntimeHintsPredicates.resource().forResource("scripts/app.py").test(hints));
+  }
+
+  @Test
+  void registersClientFactoryBeanConstructors() {
+    assertTrue(
+        RuntimeHintsPredicates.reflection()
+            .onType(PolyglotClientFactoryBean.class)
+            .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+            .test(hints()));
+  }
+}
@@ -0,0 +1,55 @@
+package io.github.ih0rd.polyglot.spring.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import io.github.ih0rd.adapter.context.JsExecutor;
+import io.github.ih0rd.polyglot.spring.PolyglotExecutors;
+import io.github.ih0rd.polyglot.spring.client.scan.ScannedClient;
+
+class PolyglotClientFactoryBeanTest {
+
+  private final JsExecutor js = mock(JsExecutor.class);
+  private final ScannedClient client = mock(ScannedClient.class);
+
+  @Test
+  void registeredDefinitionUsesValidatorBean() {
+    PolyglotClientValidator validator = mock(PolyglotClientValidator.class);
+    when(js.bind(ScannedClient.class)).thenReturn(client);
+
+    try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+      context.registerBean(PolyglotExecutors.class, () -> new PolyglotExecutors(null, js));
+      context.registerBean(PolyglotClientValidator.class, () -> validator);
+      // same shape as the definitions of PolyglotClientRegistrar
+      var definition = new RootBeanDefinition(PolyglotClientFactoryBean.class);
+      definition
+          .getConstructorArgumentValues()
+          .addIndexedArgumentValue(0, ScannedClient.class.getName());
+      context.registerBeanDefinition("scannedClient", definition);
+      context.refresh();
+
+      assertSame(client, context.getBean(ScannedClient.class));
+    }
+    verify(validator).validate(ScannedClient.class, js);
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  void previousConstructorValidatesEagerly() {
+    when(js.bind(ScannedClient.class)).thenReturn(client);
+    PolyglotClientFactoryBean<ScannedClient> factory =
+        new PolyglotClientFactoryBean<>(
+            ScannedClient.class.getName(), new PolyglotExecutors(null, js));
+
+    assertEquals(ScannedClient.class, factory.getObjectType());
+    assertSame(client, factory.getObject());
+    verify(js).validateBinding(ScannedClient.class);
+  }
+}
@@ -0,0 +1,57 @@
+package io.github.ih0rd.polyglot.spring.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.type.AnnotationMetadata;
+
+import io.github.ih0rd.polyglot.spring.client.index.PolyglotClientIndex;
+import io.github.ih0rd.polyglot.spring.client.scan.ScannedClient;
+
+class PolyglotClientRegistrarTest {
+
+  @EnablePolyglotClients(basePackages = "io.github.ih0rd.polyglot.spring.client.scan")
+  static class ScanConfig {}
+
+  private static List<String> register(ClassLoader classLoader) {
+    DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+    PolyglotClientRegistrar registrar = new PolyglotClientRegistrar();
+    registrar.setEnvironment(new StandardEnvironment());
+
+    Thread thread = Thread.currentThread();
+    ClassLoader previous = thread.getContextClassLoader();
+    thread.setContextClassLoader(classLoader);
+    try {
+      registrar.registerBeanDefinitions(AnnotationMetadata.introspect(ScanConfig.class), registry);
+    } finally {
+      thread.setContextClassLoader(previous);
+    }
+    return PolyglotClientRegistrar.registeredClientNames(registry);
+  }
+
+  @Test
+  void scansPackagesWithoutIndex() {
+    assertEquals(List.of(ScannedClient.class.getName()), register(getClass().getClassLoader()));
+  }
+
+  @Test
+  void dependencyIndexDoesNotHideUnindexedClients(@TempDir Path dependency) throws Exception {
+    Path index = dependency.resolve(PolyglotClientIndex.LOCATION);
+    Files.createDirectories(index.getParent());
+    Files.writeString(index, "com.example.lib.LibClient\tjs\tlib_client\n");
+
+    try (URLClassLoader classLoader =
+        new URLClassLoader(new URL[] {dependency.toUri().toURL()}, getClass().getClassLoader())) {
+      assertEquals(List.of(ScannedClient.class.getName()), register(classLoader));
+    }
+  }
+}
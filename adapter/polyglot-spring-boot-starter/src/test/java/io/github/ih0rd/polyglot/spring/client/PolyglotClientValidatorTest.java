@@ -0,0 +1,110 @@
+package io.github.ih0rd.polyglot.spring.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+
+import io.github.ih0rd.adapter.context.JsExecutor;
+import io.github.ih0rd.adapter.metrics.StartupRecorder;
+import io.github.ih0rd.contract.SupportedLanguage;
+import io.github.ih0rd.polyglot.spring.PolyglotExecutors;
+import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties.ClientsProperties.ValidationMode;
+
+class PolyglotClientValidatorTest {
+
+  @PolyglotClient(languages = SupportedLanguage.JS)
+  interface FirstClient {}
+
+  @PolyglotClient(languages = SupportedLanguage.JS)
+  interface SecondClient {}
+
+  private static PolyglotClientValidator parallel(JsExecutor js, Class<?>... clients) {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    for (Class<?> client : clients) {
+      GenericBeanDefinition definition = new GenericBeanDefinition();
+      definition.setBeanClassName(PolyglotClientFactoryBean.class.getName());
+      definition.getConstructorArgumentValues().addIndexedArgumentValue(0, client.getName());
+      beanFactory.registerBeanDefinition(client.getSimpleName(), definition);
+    }
+    PolyglotClientValidator validator =
+        new PolyglotClientValidator(
+            new PolyglotExecutors(null, js), ValidationMode.PARALLEL, StartupRecorder.NOOP);
+    validator.setBeanFactory(beanFactory);
+    return validator;
+  }
+
+  @Test
+  void parallelWaitsForWholeExecutorGroup() throws Exception {
+    JsExecutor js = mock(JsExecutor.class);
+    CountDownLatch secondStarted = new CountDownLatch(1);
+    CountDownLatch releaseSecond = new CountDownLatch(1);
+    doAnswer(
+            _ -> {
+              secondStarted.countDown();
+              releaseSecond.await();
+              return null;
+            })
+        .when(js)
+        .validateBinding(SecondClient.class);
+
+    PolyglotClientValidator validator = parallel(js, FirstClient.class, SecondClient.class);
+    CompletableFuture<Void> first =
+        CompletableFuture.runAsync(() -> validator.validate(FirstClient.class, js));
+
+    // FirstClient itself is valid, but the worker still evaluates SecondClient's script
+    assertTrue(secondStarted.await(5, TimeUnit.SECONDS));
+    Thread.sleep(50);
+    assertFalse(first.isDone());
+
+    releaseSecond.countDown();
+    first.get(5, TimeUnit.SECONDS);
+    validator.validate(SecondClient.class, js);
+    verify(js).validateBinding(FirstClient.class);
+    verify(js).validateBinding(SecondClient.class);
+  }
+
+  @Test
+  void parallelReportsFailureOfItsOwnClientOnly() {
+    JsExecutor js = mock(JsExecutor.class);
+    doAnswer(
+            _ -> {
+              throw new IllegalStateException("missing member");
+            })
+        .when(js)
+        .validateBinding(SecondClient.class);
+
+    PolyglotClientValidator validator = parallel(js, FirstClient.class, SecondClient.class);
+
+    validator.validate(FirstClient.class, js);
+    IllegalStateException failure =
+        assertThrows(IllegalStateException.class, () -> validator.validate(SecondClient.class, js));
+    assertEquals("missing member", failure.getMessage());
+  }
+
+  @Test
+  void parallelValidatesUnscannedClientOnCaller() {
+    JsExecutor js = mock(JsExecutor.class);
+    PolyglotClientValidator validator = parallel(js, FirstClient.class);
+
+    validator.validate(SecondClient.class, js);
+
+    verify(js).validateBinding(FirstClient.class);
+    verify(js).validateBinding(SecondClient.class);
+    verify(js, never()).prefetch(SecondClient.class);
+    verify(js).prefetch(any());
+  }
+}
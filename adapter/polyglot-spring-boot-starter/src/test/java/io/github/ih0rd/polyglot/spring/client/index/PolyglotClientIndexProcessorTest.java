@@ -0,0 +1,77 @@
+package io.github.ih0rd.polyglot.spring.client.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PolyglotClientIndexProcessorTest {
+
+  @TempDir Path tmp;
+
+  private List<PolyglotClientIndex.Entry> compile(String className, String source)
+      throws IOException {
+    Path file = tmp.resolve("src").resolve(className.replace('.', '/') + ".java");
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, source);
+    Path out = Files.createDirectories(tmp.resolve("out"));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    int status =
+        compiler.run(
+            null,
+            null,
+            null,
+            "-proc:only",
+            "-processor",
+            PolyglotClientIndexProcessor.class.getName(),
+            "-classpath",
+            System.getProperty("java.class.path"),
+            "-d",
+            out.toString(),
+            file.toString());
+    assertEquals(0, status);
+
+    Path index = out.resolve(PolyglotClientIndex.LOCATION);
+    assertTrue(Files.exists(index));
+    return PolyglotClientIndex.parse(Files.readAllLines(index));
+  }
+
+  @Test
+  void prunesRemovedClientsWithoutNewEntries() throws IOException {
+    List<PolyglotClientIndex.Entry> first =
+        compile(
+            "com.acme.ReportClient",
+            """
+            package com.acme;
+
+            @io.github.ih0rd.polyglot.spring.client.PolyglotClient
+            public interface ReportClient {}
+            """);
+    assertEquals(
+        List.of(
+            new PolyglotClientIndex.Entry(
+                "com.acme.ReportClient", PolyglotClientIndex.AUTO_LANGUAGE, "report_client")),
+        first);
+
+    // next incremental build: the client is gone and nothing else is annotated
+    List<PolyglotClientIndex.Entry> second =
+        compile(
+            "com.acme.Plain",
+            """
+            package com.acme;
+
+            public interface Plain {}
+            """);
+    assertEquals(List.of(), second);
+  }
+}
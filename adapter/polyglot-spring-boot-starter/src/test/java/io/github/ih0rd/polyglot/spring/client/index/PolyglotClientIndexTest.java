@@ -0,0 +1,69 @@
+package io.github.ih0rd.polyglot.spring.client.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PolyglotClientIndexTest {
+
+  private static final String INDEX = "com.acme.lib.LibClient\tpython\tlib_client\n";
+
+  @Test
+  void keysIndexesByClasspathRoot(@TempDir Path tmp) throws Exception {
+    Path indexed = tmp.resolve("indexed");
+    Files.createDirectories(indexed.resolve("com/acme/lib"));
+    Files.createDirectories(indexed.resolve("META-INF/polyglot"));
+    Files.writeString(indexed.resolve(PolyglotClientIndex.LOCATION), INDEX);
+
+    Path plain = tmp.resolve("plain");
+    Files.createDirectories(plain.resolve("com/acme/app"));
+
+    Path jar = tmp.resolve("lib.jar");
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+      for (String directory : List.of("META-INF/", "META-INF/polyglot/", "com/", "com/acme/")) {
+        out.putNextEntry(new JarEntry(directory));
+      }
+      out.putNextEntry(new JarEntry("com/acme/jar/"));
+      out.putNextEntry(new JarEntry(PolyglotClientIndex.LOCATION));
+      out.write(INDEX.getBytes(StandardCharsets.UTF_8));
+    }
+
+    try (URLClassLoader classLoader =
+        new URLClassLoader(
+            new URL[] {indexed.toUri().toURL(), plain.toUri().toURL(), jar.toUri().toURL()},
+            null)) {
+      Map<String, List<PolyglotClientIndex.Entry>> indexes = PolyglotClientIndex.load(classLoader);
+
+      assertEquals(2, indexes.size());
+      assertEquals(
+          List.of(new PolyglotClientIndex.Entry("com.acme.lib.LibClient", "python", "lib_client")),
+          indexes.values().iterator().next());
+      assertTrue(
+          indexes
+              .keySet()
+              .containsAll(PolyglotClientIndex.packageRoots(classLoader, "com.acme.lib")));
+      assertTrue(
+          indexes
+              .keySet()
+              .containsAll(PolyglotClientIndex.packageRoots(classLoader, "com.acme.jar")));
+
+      Set<String> appRoots = PolyglotClientIndex.packageRoots(classLoader, "com.acme.app");
+      assertEquals(1, appRoots.size());
+      assertFalse(indexes.keySet().containsAll(appRoots));
+    }
+  }
+}
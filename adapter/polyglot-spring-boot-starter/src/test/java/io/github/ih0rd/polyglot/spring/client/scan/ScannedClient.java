@@ -0,0 +1,7 @@
+package io.github.ih0rd.polyglot.spring.client.scan;
+
+import io.github.ih0rd.contract.SupportedLanguage;
+import io.github.ih0rd.polyglot.spring.client.PolyglotClient;
+
+@PolyglotClient(languages = SupportedLanguage.JS)
+public interface ScannedClient {}
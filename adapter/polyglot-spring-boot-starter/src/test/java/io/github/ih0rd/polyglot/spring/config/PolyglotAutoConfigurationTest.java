@@ -0,0 +1,58 @@
+package io.github.ih0rd.polyglot.spring.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import io.github.ih0rd.adapter.context.JsExecutor;
+import io.github.ih0rd.adapter.context.PyExecutor;
+import io.github.ih0rd.polyglot.spring.context.PolyglotContextBootstrapper;
+import io.github.ih0rd.polyglot.spring.context.SpringPolyglotContextFactory;
+
+class PolyglotAutoConfigurationTest {
+
+  private final SpringPolyglotContextFactory contextFactory =
+      mock(SpringPolyglotContextFactory.class);
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withConfiguration(
+              AutoConfigurations.of(
+                  PolyglotAutoConfiguration.class,
+                  PolyglotPythonAutoConfiguration.class,
+                  PolyglotJsAutoConfiguration.class))
+          .withBean(SpringPolyglotContextFactory.class, () -> contextFactory)
+          .withPropertyValues("polyglot.core.log-metadata-on-startup=false");
+
+  @Test
+  void bootstrapperSkipsLanguageWithApplicationExecutor() {
+    runner
+        .withPropertyValues("polyglot.js.enabled=true", "polyglot.js.resources-path=classpath:js")
+        .withBean(JsExecutor.class, () -> mock(JsExecutor.class))
+        .run(
+            context -> {
+              context.getBean(PolyglotContextBootstrapper.class);
+              verify(contextFactory, never()).create(any());
+              verify(contextFactory, never()).create(any(), any());
+            });
+  }
+
+  @Test
+  void bootstrapperSkipsLanguageWithInactiveAutoConfiguration() {
+    runner
+        .withPropertyValues("polyglot.python.enabled=true")
+        .withClassLoader(new FilteredClassLoader(PyExecutor.class))
+        .run(
+            context -> {
+              context.getBean(PolyglotContextBootstrapper.class);
+              verify(contextFactory, never()).create(any());
+              verify(contextFactory, never()).create(any(), any());
+            });
+  }
+}
@@ -0,0 +1,53 @@
+package io.github.ih0rd.polyglot.spring.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.graalvm.polyglot.Context;
+import org.junit.jupiter.api.Test;
+
+import io.github.ih0rd.contract.SupportedLanguage;
+
+class PolyglotContextBootstrapperTest {
+
+  @Test
+  void resolvesCustomizersOnCallingThread() {
+    SpringPolyglotContextFactory contextFactory = mock(SpringPolyglotContextFactory.class);
+    List<PolyglotContextCustomizer> customizers = List.of((language, builder) -> {});
+    Context context = mock(Context.class);
+    AtomicReference<Thread> resolvedOn = new AtomicReference<>();
+    AtomicReference<Thread> createdOn = new AtomicReference<>();
+    when(contextFactory.customizers())
+        .thenAnswer(
+            _ -> {
+              resolvedOn.set(Thread.currentThread());
+              return customizers;
+            });
+    when(contextFactory.create(eq(SupportedLanguage.JS), eq(customizers)))
+        .thenAnswer(
+            _ -> {
+              createdOn.set(Thread.currentThread());
+              return context;
+            });
+
+    try (ExecutorService bootstrapExecutor = Executors.newSingleThreadExecutor()) {
+      PolyglotContextBootstrapper bootstrapper =
+          new PolyglotContextBootstrapper(
+              contextFactory, Set.of(SupportedLanguage.JS), bootstrapExecutor);
+
+      assertSame(context, bootstrapper.context(SupportedLanguage.JS));
+    }
+    assertEquals(Thread.currentThread(), resolvedOn.get());
+    assertNotEquals(Thread.currentThread(), createdOn.get());
+  }
+}
@@ -0,0 +1,79 @@
+package io.github.ih0rd.polyglot.spring.properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import io.github.ih0rd.polyglot.spring.properties.PolyglotProperties.ActuatorProperties.HealthProperties;
+
+class PolyglotPropertiesTest {
+
+  private static PolyglotProperties bind(Map<String, String> values) {
+    return new Binder(new MapConfigurationPropertySource(values))
+        .bindOrCreate("polyglot", PolyglotProperties.class);
+  }
+
+  @Test
+  void bindsHealthProbeSettings() {
+    PolyglotProperties properties =
+        bind(
+            Map.of(
+                "polyglot.actuator.health.enabled", "false",
+                "polyglot.actuator.health.probe.enabled", "true",
+                "polyglot.actuator.health.probe.timeout", "2s",
+                "polyglot.actuator.health.probe.degraded-threshold", "40ms"));
+
+    HealthProperties health = properties.actuator().health();
+    assertFalse(health.enabled());
+    assertTrue(health.probe().enabled());
+    assertEquals(Duration.ofSeconds(2), health.probe().timeout());
+    assertEquals(Duration.ofMillis(40), health.probe().degradedThreshold());
+  }
+
+  @Test
+  void appliesDefaultsForUnsetProbeSettings() {
+    PolyglotProperties properties = bind(Map.of("polyglot.actuator.health.probe.enabled", "true"));
+
+    HealthProperties health = properties.actuator().health();
+    assertTrue(health.probe().enabled());
+    assertEquals(Duration.ofSeconds(1), health.probe().timeout());
+    assertEquals(Duration.ofMillis(250), health.probe().degradedThreshold());
+  }
+
+  @Test
+  void defaultsWithoutAnyProperties() {
+    PolyglotProperties properties = bind(Map.of());
+
+    assertTrue(properties.core().enabled());
+    assertTrue(properties.actuator().health().enabled());
+    assertFalse(properties.actuator().health().probe().enabled());
+    assertFalse(properties.dispatcher().enabled());
+    assertEquals(PolyglotProperties.defaults(), properties);
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  void previousConstructorsApplyDefaultsToNewSections() {
+    PolyglotProperties properties =
+        new PolyglotProperties(
+            null,
+            null,
+            null,
+            new PolyglotProperties.ActuatorProperties(null, new HealthProperties(false)),
+            null);
+
+    assertFalse(properties.actuator().health().enabled());
+    assertEquals(
+        PolyglotProperties.ActuatorProperties.ProbeProperties.defaults(),
+        properties.actuator().health().probe());
+    assertEquals(PolyglotProperties.defaults().clients(), properties.clients());
+    assertEquals(PolyglotProperties.defaults().dispatcher(), properties.dispatcher());
+  }
+}
@@ -52,7 +52,7 @@ public final class PolyglotCodegenDemo {
             List<Integer> random = api.randomNumbers(N);
             IO.println("randomNumbers -> " + random);
 
-            Map<String, Object> stats = api.stats(N);
+            Map<String, Integer> stats = api.stats(N);
             IO.println("stats -> " + stats);
 
             String formatted = api.formatStats(N);
@@ -0,0 +1,110 @@
+package io.github.ih0rd.codegen;
+
+import io.github.ih0rd.codegen.bundle.ScriptBundleWriter;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Maven plugin goal that packs guest scripts into a single indexed bundle file.
+ *
+ * <p>
+ * The bundle holds every script of the input directory (and the bytecode caches
+ * written by the {@code precompile} goal, when present) behind a header of
+ * name, offset, length and SHA-256 entries. At runtime
+ * {@code BundleScriptSource} memory-maps the bundle and serves scripts by
+ * index lookup instead of per-resource classpath lookups.
+ * </p>
+ *
+ * <p>
+ * The bundle is replaced atomically, so a deployed bundle can be swapped in
+ * place; it is not rewritten when its content is unchanged.
+ * </p>
+ *
+ * <h3>Default behaviour</h3>
+ * <ul>
+ *     <li>Input directory: {@code src/main/resources}</li>
+ *     <li>Bytecode directory: {@code target/generated-resources/polyglot-bytecode}</li>
+ *     <li>Bundle file: {@code target/polyglot/scripts.bundle}</li>
+ * </ul>
+ */
+@Mojo(
+        name = "bundle",
+        defaultPhase = LifecyclePhase.PREPARE_PACKAGE,
+        threadSafe = true
+)
+public final class PolyglotBundleMojo extends AbstractMojo {
+
+    /**
+     * Directory containing guest scripts, laid out as {@code python/...} and {@code js/...}.
+     *
+     * <p>Default: {@code src/main/resources}</p>
+     */
+    @Parameter(defaultValue = "${project.basedir}/src/main/resources")
+    private File inputDirectory;
+
+    /**
+     * Directory containing bytecode caches written by the {@code precompile} goal.
+     * Skipped when it does not exist.
+     *
+     * <p>Default: {@code target/generated-resources/polyglot-bytecode}</p>
+     */
+    @Parameter(defaultValue = "${project.build.directory}/generated-resources/polyglot-bytecode")
+    private File bytecodeDirectory;
+
+    /**
+     * Bundle file to write.
+     *
+     * <p>Default: {@code target/polyglot/scripts.bundle}</p>
+     */
+    @Parameter(defaultValue = "${project.build.directory}/polyglot/scripts.bundle")
+    private File bundleFile;
+
+    /**
+     * Skips bundling.
+     *
+     * <p>Default: {@code false}</p>
+     */
+    @Parameter(property = "polyglot.bundle.skip", defaultValue = "false")
+    private boolean skip;
+
+    /**
+     * Executes the plugin.
+     *
+     * @throws MojoExecutionException if bundling fails
+     */
+    @Override
+    public void execute() throws MojoExecutionException {
+
+        if (skip) {
+            getLog().info("Polyglot bundle: skipped");
+            return;
+        }
+
+        if (inputDirectory == null || !inputDirectory.isDirectory()) {
+            throw new MojoExecutionException(
+                    "Input directory does not exist: " + inputDirectory
+            );
+        }
+
+        try {
+            ScriptBundleWriter.Result result = new ScriptBundleWriter().write(
+                    List.of(inputDirectory.toPath(), bytecodeDirectory.toPath()),
+                    bundleFile.toPath()
+            );
+
+            getLog().info(
+                    "Polyglot bundle: " + result.entries().size() + " entr(ies) "
+                            + (result.written() ? "written to " : "unchanged in ") + bundleFile
+            );
+
+        } catch (IOException | IllegalStateException e) {
+            throw new MojoExecutionException("Failed bundling polyglot scripts", e);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package io.github.ih0rd.codegen;
 
+import io.github.ih0rd.codegen.build.CodegenPipeline;
+import io.github.ih0rd.codegen.build.CodegenRequest;
 import io.github.ih0rd.contract.*;
 
+import org.apache.maven.model.Resource;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.*;
@@ -10,7 +13,7 @@ import org.apache.maven.project.MavenProject;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.*;
-import java.util.stream.Stream;
+import java.util.EnumSet;
 
 /**
  * Maven plugin that generates Java interfaces from polyglot script contracts.
@@ -33,6 +36,14 @@ import java.util.stream.Stream;
  *     <li>Base package: {@code ${project.groupId}.polyglot}</li>
  * </ul>
  *
+ * <h3>Incremental generation</h3>
+ * <p>
+ * By default the plugin keeps a build state file (script hashes and parsed contracts)
+ * under {@code target/polyglot-codegen}. Only scripts whose content changed are
+ * re-parsed, and generated sources are rewritten only when their content differs,
+ * so unchanged interfaces are not recompiled. Sources of removed contracts are deleted.
+ * </p>
+ *
  * <p>
  * If {@code basePackage} is not explicitly configured, it falls back to
  * {@code ${project.groupId}.polyglot}.
@@ -70,6 +81,91 @@ public final class PolyglotCodegenMojo extends AbstractMojo {
     @Parameter
     private String basePackage;
 
+    /**
+     * Enables incremental generation based on {@link #buildStateFile}.
+     *
+     * <p>Default: {@code true}</p>
+     */
+    @Parameter(property = "polyglot.codegen.incremental", defaultValue = "true")
+    private boolean incremental;
+
+    /**
+     * File holding the state of the previous generation run.
+     *
+     * <p>Default: {@code target/polyglot-codegen/build-state.bin}</p>
+     */
+    @Parameter(defaultValue = "${project.build.directory}/polyglot-codegen/build-state.bin")
+    private File buildStateFile;
+
+    /**
+     * Number of threads used to parse scripts and write sources.
+     *
+     * <p>{@code 1} processes scripts sequentially; {@code 0} uses all available processors.
+     * Generated output is identical for any value.</p>
+     *
+     * <p>Default: {@code 0}</p>
+     */
+    @Parameter(property = "polyglot.codegen.threads", defaultValue = "0")
+    private int threads;
+
+    /**
+     * Also generates a {@code <Name>Binding} class implementing each interface.
+     *
+     * <p>Bindings call guest members directly and are preferred over reflective proxies
+     * by the adapter at runtime. The generated sources require {@code polyglot-adapter}
+     * on the compile classpath.</p>
+     *
+     * <p>Default: {@code false}</p>
+     */
+    @Parameter(property = "polyglot.codegen.generateBindings", defaultValue = "false")
+    private boolean generateBindings;
+
+    /**
+     * Generates Java records for object results with a fixed set of fields
+     * (e.g. a Python {@code dict} literal with constant keys) instead of
+     * {@code Map<String, ...>}.
+     *
+     * <p>Records are nested in the generated interface; with {@link #generateBindings}
+     * the binding fills them directly from the guest object.</p>
+     *
+     * <p>Default: {@code false}</p>
+     */
+    @Parameter(property = "polyglot.codegen.generateRecords", defaultValue = "false")
+    private boolean generateRecords;
+
+    /**
+     * Uses Java primitives ({@code int}, {@code double}, {@code boolean}) and primitive
+     * arrays ({@code int[]}, ...) for parameters, results and record components whose
+     * type is known.
+     *
+     * <p>Avoids boxing in numeric code; a guest {@code None}/{@code null} returned for a
+     * primitive result fails the call instead of yielding {@code null}.</p>
+     *
+     * <p>Default: {@code false}</p>
+     */
+    @Parameter(property = "polyglot.codegen.primitiveTypes", defaultValue = "false")
+    private boolean primitiveTypes;
+
+    /**
+     * Writes a binding manifest per contract (script hash and method list) to
+     * {@link #manifestDirectory}, which is registered as a resource directory.
+     *
+     * <p>At runtime the adapter skips startup binding validation of an interface whose
+     * script still matches its manifest.</p>
+     *
+     * <p>Default: {@code false}</p>
+     */
+    @Parameter(property = "polyglot.codegen.generateManifests", defaultValue = "false")
+    private boolean generateManifests;
+
+    /**
+     * Output directory for binding manifests.
+     *
+     * <p>Default: {@code target/generated-resources/polyglot}</p>
+     */
+    @Parameter(defaultValue = "${project.build.directory}/generated-resources/polyglot")
+    private File manifestDirectory;
+
     /**
      * Current Maven project instance.
      *
@@ -101,6 +197,12 @@ public final class PolyglotCodegenMojo extends AbstractMojo {
         generateContracts(outputRoot, effectivePackage);
 
         project.addCompileSourceRoot(outputRoot.toAbsolutePath().toString());
+
+        if (generateManifests) {
+            Resource resource = new Resource();
+            resource.setDirectory(manifestDirectory.getAbsolutePath());
+            project.addResource(resource);
+        }
     }
 
     private void validateInputDirectory() throws MojoExecutionException {
@@ -140,84 +242,37 @@ public final class PolyglotCodegenMojo extends AbstractMojo {
     private void generateContracts(Path outputRoot, String effectivePackage)
             throws MojoExecutionException {
 
-        ContractGenerator generator = new DefaultContractGenerator();
-        JavaInterfaceGenerator javaGenerator = new JavaInterfaceGenerator();
-
-        try (Stream<Path> files = Files.walk(inputDirectory.toPath())) {
-
-            files
-                    .filter(Files::isRegularFile)
-                    .filter(this::isSupported)
-                    .forEach(path ->
-                            generateForScript(
-                                    path,
-                                    generator,
-                                    javaGenerator,
-                                    outputRoot,
-                                    effectivePackage
-                            )
-                    );
-
-        } catch (IOException e) {
-            throw new MojoExecutionException("Failed scanning input directory", e);
-        }
-    }
-
-    private boolean isSupported(Path path) {
-        try {
-            SupportedLanguage.fromFileName(path.getFileName().toString());
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
-    }
-
-    private void generateForScript(
-            Path script,
-            ContractGenerator generator,
-            JavaInterfaceGenerator javaGenerator,
-            Path outputRoot,
-            String effectivePackage
-    ) {
+        CodegenRequest request =
+                new CodegenRequest(
+                        inputDirectory.toPath(),
+                        outputRoot,
+                        effectivePackage,
+                        new CodegenConfig(false, generateRecords),
+                        EnumSet.allOf(SupportedLanguage.class),
+                        Integer.MAX_VALUE,
+                        incremental ? buildStateFile.toPath() : null,
+                        threads,
+                        generateBindings,
+                        primitiveTypes,
+                        generateManifests ? manifestDirectory.toPath() : null
+                );
 
         try {
-            String source = Files.readString(script);
-
-            SupportedLanguage language =
-                    SupportedLanguage.fromFileName(
-                            script.getFileName().toString()
-                    );
-
-            ScriptDescriptor descriptor =
-                    new ScriptDescriptor(
-                            language,
-                            source,
-                            script.getFileName().toString()
-                    );
+            CodegenPipeline.Result result = new CodegenPipeline().run(request);
 
-            ContractModel model =
-                    generator.generate(descriptor, new CodegenConfig(false));
+            result.written().forEach(path -> getLog().info("Generated: " + path));
+            result.deleted().forEach(path -> getLog().info("Deleted stale: " + path));
 
-            for (ContractClass contract : model.classes()) {
-
-                String javaSource =
-                        javaGenerator.generate(contract, effectivePackage);
-
-                Path target =
-                        outputRoot
-                                .resolve(effectivePackage.replace('.', '/'))
-                                .resolve(contract.name() + ".java");
-
-                Files.createDirectories(target.getParent());
-                Files.writeString(target, javaSource);
-
-                getLog().info("Generated: " + target);
-            }
-
-        } catch (Exception e) {
-            throw new RuntimeException(
-                    "Failed processing script: " + script, e
+            getLog().info(
+                    "Polyglot codegen: "
+                            + result.parsed().size() + " script(s) parsed, "
+                            + result.reused().size() + " reused, "
+                            + result.written().size() + " file(s) written, "
+                            + result.unchanged().size() + " unchanged"
             );
+
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed generating polyglot contracts", e);
         }
     }
-}
\ No newline at end of file
+}
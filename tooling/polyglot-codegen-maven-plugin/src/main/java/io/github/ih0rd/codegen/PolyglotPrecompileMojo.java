@@ -0,0 +1,134 @@
+package io.github.ih0rd.codegen;
+
+import io.github.ih0rd.codegen.bytecode.PythonBytecodeCompiler;
+
+import org.apache.maven.model.Resource;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.*;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Maven plugin goal that precompiles Python scripts to GraalPy bytecode caches.
+ *
+ * <p>
+ * Every {@code .py} file of the input directory (contract scripts and the helper
+ * modules they import) is compiled to a {@code __pycache__/<module>.<tag>.pyc} file.
+ * The output directory mirrors the input layout and is registered as a resource
+ * directory, so the caches are packaged next to the scripts.
+ * </p>
+ *
+ * <p>
+ * At runtime GraalPy imports helper modules from their caches, and the adapter
+ * executes the cache of a contract script instead of parsing its source. Caches
+ * are validated against the script hash and the GraalPy version; a stale cache
+ * falls back to the source.
+ * </p>
+ *
+ * <h3>Default behaviour</h3>
+ * <ul>
+ *     <li>Input directory: {@code src/main/resources}</li>
+ *     <li>Output directory: {@code target/generated-resources/polyglot-bytecode}</li>
+ *     <li>Scripts that fail to compile are reported and left without a cache</li>
+ * </ul>
+ */
+@Mojo(
+        name = "precompile",
+        defaultPhase = LifecyclePhase.GENERATE_RESOURCES,
+        threadSafe = true
+)
+public final class PolyglotPrecompileMojo extends AbstractMojo {
+
+    /**
+     * Directory containing Python scripts.
+     *
+     * <p>Default: {@code src/main/resources}</p>
+     */
+    @Parameter(defaultValue = "${project.basedir}/src/main/resources")
+    private File inputDirectory;
+
+    /**
+     * Output directory for bytecode caches.
+     *
+     * <p>Default: {@code target/generated-resources/polyglot-bytecode}</p>
+     */
+    @Parameter(defaultValue = "${project.build.directory}/generated-resources/polyglot-bytecode")
+    private File outputDirectory;
+
+    /**
+     * Fails the build when a script cannot be compiled.
+     *
+     * <p>Default: {@code false}</p>
+     */
+    @Parameter(property = "polyglot.precompile.failOnError", defaultValue = "false")
+    private boolean failOnError;
+
+    /**
+     * Skips precompilation.
+     *
+     * <p>Default: {@code false}</p>
+     */
+    @Parameter(property = "polyglot.precompile.skip", defaultValue = "false")
+    private boolean skip;
+
+    /**
+     * Current Maven project instance.
+     *
+     * <p>Injected automatically by Maven.</p>
+     */
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    /**
+     * Executes the plugin.
+     *
+     * @throws MojoExecutionException if compilation fails
+     */
+    @Override
+    public void execute() throws MojoExecutionException {
+
+        if (skip) {
+            getLog().info("Polyglot precompile: skipped");
+            return;
+        }
+
+        if (inputDirectory == null || !inputDirectory.isDirectory()) {
+            throw new MojoExecutionException(
+                    "Input directory does not exist: " + inputDirectory
+            );
+        }
+
+        PythonBytecodeCompiler.Result result;
+        String cacheTag;
+        try (PythonBytecodeCompiler compiler = new PythonBytecodeCompiler()) {
+            cacheTag = compiler.cacheTag();
+            result = compiler.compileAll(inputDirectory.toPath(), outputDirectory.toPath());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed precompiling Python scripts", e);
+        }
+
+        result.written().forEach(path -> getLog().info("Compiled: " + path));
+        result.deleted().forEach(path -> getLog().info("Deleted stale: " + path));
+        result.failed().forEach((path, error) -> getLog().warn("Not compiled: " + path + ": " + error));
+
+        if (failOnError && !result.failed().isEmpty()) {
+            throw new MojoExecutionException(
+                    result.failed().size() + " Python script(s) failed to compile"
+            );
+        }
+
+        getLog().info(
+                "Polyglot precompile (" + cacheTag + "): "
+                        + result.written().size() + " cache(s) written, "
+                        + result.unchanged().size() + " unchanged, "
+                        + result.failed().size() + " failed"
+        );
+
+        Resource resource = new Resource();
+        resource.setDirectory(outputDirectory.getAbsolutePath());
+        project.addResource(resource);
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.ih0rd.codegen;
+
+import io.github.ih0rd.contract.ContractClass;
+import io.github.ih0rd.contract.ContractMethod;
+import io.github.ih0rd.contract.SupportedLanguage;
+import java.util.StringJoiner;
+
+/// # ContractManifestGenerator
+///
+/// Generates the binding manifest of a contract: a properties resource recording the
+/// script the interface was generated from.
+///
+/// At runtime the adapter compares the hash of the loaded script with the manifest; on a
+/// match the interface is known to fit the script, so startup binding validation
+/// (evaluating the script, instantiating the guest class) is skipped.
+///
+/// Keys:
+/// - {@code language}: guest language id
+/// - {@code script}: script file name, relative to the scanned input directory
+/// - {@code sha256}: hex SHA-256 of the script bytes
+/// - {@code contract}: exported contract name
+/// - {@code methods}: comma-separated method names, in contract order
+///
+/// Design notes:
+/// - Resource path: {@code META-INF/polyglot/<package>.<Name>.properties}; must match the
+///   runtime lookup
+/// - Deterministic output (no timestamp comment), ISO-8859-1 safe (non-ASCII characters are unicode-escaped)
+///
+public final class ContractManifestGenerator {
+
+    /// Resource directory of manifests; must match the runtime lookup.
+    public static final String DIRECTORY = "META-INF/polyglot/";
+
+    /// Manifest file suffix; must match the runtime lookup.
+    public static final String SUFFIX = ".properties";
+
+    /// ### resourceName
+    ///
+    /// @param contract    contract
+    /// @param basePackage package of the generated interface
+    /// @return resource path of the manifest
+    public static String resourceName(ContractClass contract, String basePackage) {
+        return DIRECTORY + basePackage + "." + contract.name() + SUFFIX;
+    }
+
+    /// ### generate
+    ///
+    /// @param contract    contract extracted from the script
+    /// @param language    script language
+    /// @param script      script path relative to the input directory
+    /// @param contentHash hex SHA-256 of the script bytes
+    /// @return manifest content
+    public String generate(ContractClass contract, SupportedLanguage language, String script, String contentHash) {
+        StringJoiner methods = new StringJoiner(",");
+        for (ContractMethod method : contract.methods()) {
+            methods.add(method.name());
+        }
+
+        return "# Generated by polyglot-codegen. Any manual changes will be overwritten.\n"
+                + "language=" + escape(language.id()) + "\n"
+                + "script=" + escape(script) + "\n"
+                + "sha256=" + contentHash + "\n"
+                + "contract=" + escape(contract.name()) + "\n"
+                + "methods=" + escape(methods.toString()) + "\n";
+    }
+
+    private static String escape(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', '=', ':', '#', '!' -> sb.append('\\').append(c);
+                case ' ' -> sb.append(i == 0 ? "\\ " : " ");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
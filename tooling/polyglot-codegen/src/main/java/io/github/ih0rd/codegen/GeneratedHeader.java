@@ -0,0 +1,58 @@
+package io.github.ih0rd.codegen;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/// # GeneratedHeader
+///
+/// Header comment shared by all generated sources.
+///
+/// Carries a SHA-256 checksum of the type body, so tooling can tell generated
+/// content apart from manual edits.
+final class GeneratedHeader {
+
+    private static final String GENERATED_HEADER_TEMPLATE =
+            """
+            /**
+             * This file was generated by polyglot-codegen.
+             *
+             * SHA-256 checksum: %s
+             *
+             * Any manual changes will be overwritten.
+             */
+            """;
+
+    private GeneratedHeader() {
+    }
+
+    /// ### render
+    ///
+    /// @param body type body the checksum is computed from
+    /// @return header comment
+    static String render(String body) {
+        return String.format(GENERATED_HEADER_TEMPLATE, sha256(body));
+    }
+
+    /// ### sha256
+    ///
+    /// Calculates the SHA-256 hash of the given content.
+    ///
+    private static String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hexString = new StringBuilder();
+            for (byte b : hash) {
+                String hex = Integer.toHexString(0xff & b);
+                if (hex.length() == 1) {
+                    hexString.append('0');
+                }
+                hexString.append(hex);
+            }
+            return hexString.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package io.github.ih0rd.codegen;
+
+import io.github.ih0rd.contract.ContractClass;
+import io.github.ih0rd.contract.ContractMethod;
+import io.github.ih0rd.contract.ContractParam;
+import io.github.ih0rd.contract.types.PolyList;
+import io.github.ih0rd.contract.types.PolyMap;
+import io.github.ih0rd.contract.types.PolyObject;
+import io.github.ih0rd.contract.types.PolyPrimitive;
+import io.github.ih0rd.contract.types.PolyType;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+/// # JavaBindingGenerator
+///
+/// Generates a concrete implementation of a contract interface that calls guest members
+/// directly, without a reflective proxy.
+///
+/// The generated {@code <Name>Binding} class is picked up by
+/// {@code AbstractPolyglotExecutor.bind(...)} when it sits next to the interface.
+///
+/// Responsibilities:
+/// - Resolve members once per executor through {@code BoundMembers}
+/// - Convert results with the cheapest {@code Value} accessor for the declared type, inside
+///   the same guest call ({@code BoundMembers.execute(index, converter, args)}, or
+///   {@code executeInt} etc. for primitive results)
+/// - Keep generic conversions in static {@code TypeLiteral} constants
+/// - Copy object results into the nested records of the interface in one pass
+///   (one {@code toX(Value)} converter per record, see {@link RecordTypes})
+///
+/// Design notes:
+/// - Output depends on polyglot-adapter and the GraalVM polyglot API at compile time
+/// - Deterministic: members are indexed in contract order
+///
+public final class JavaBindingGenerator {
+
+    /// Suffix appended to the interface name; must match the runtime lookup.
+    public static final String SUFFIX = "Binding";
+
+    private static final String BINDING_BODY_TEMPLATE =
+            """
+                    public final class %1$s implements %2$s {
+                    
+                    %3$s    private final BoundMembers members;
+                    
+                        public %1$s(AbstractPolyglotExecutor executor) {
+                            this.members = BoundMembers.of(executor, %2$s.class%4$s);
+                        }
+                    %5$s}
+                    """;
+
+    /// Local names of generated method bodies (plus {@code item<N>} lambda parameters);
+    /// clashing parameters get a trailing underscore.
+    private static final Set<String> RESERVED = Set.of("members", "result");
+
+    private final JavaTypeRenderer renderer;
+
+    private RecordTypes records;
+    private final Map<String, String> typeLiterals = new LinkedHashMap<>();
+    private final Set<String> constants = new HashSet<>();
+
+    public JavaBindingGenerator() {
+        this(false);
+    }
+
+    /// @param primitiveTypes must match the {@link JavaInterfaceGenerator} setting; primitive
+    ///                       results are then read with {@code asInt()} etc.
+    public JavaBindingGenerator(boolean primitiveTypes) {
+        this.renderer = new JavaTypeRenderer(primitiveTypes);
+    }
+
+    /// ### className
+    ///
+    /// @param contract contract
+    /// @return simple name of the generated binding class
+    public static String className(ContractClass contract) {
+        return contract.name() + SUFFIX;
+    }
+
+    /// ### generate
+    ///
+    /// Generates full Java binding source for the interface produced by
+    /// {@link JavaInterfaceGenerator} from the same contract.
+    ///
+    public String generate(ContractClass contract, String basePackage) {
+
+        renderer.reset();
+        typeLiterals.clear();
+        constants.clear();
+
+        records = RecordTypes.collect(contract);
+        renderer.records(records);
+
+        StringBuilder names = new StringBuilder();
+        StringBuilder methods = new StringBuilder();
+
+        int index = 0;
+        for (ContractMethod method : contract.methods()) {
+            names.append(", \"").append(method.name()).append('"');
+            methods.append(renderMethod(method, index++));
+        }
+
+        for (RecordTypes.RecordType record : records.records()) {
+            methods.append(renderConverter(record));
+        }
+
+        StringBuilder literals = new StringBuilder();
+        typeLiterals.forEach((type, constant) ->
+                literals.append("    private static final TypeLiteral<")
+                        .append(type)
+                        .append("> ")
+                        .append(constant)
+                        .append(" =\n            new TypeLiteral<>() {};\n\n")
+        );
+
+        Set<String> imports = new TreeSet<>(renderer.getImports());
+        imports.add("io.github.ih0rd.adapter.context.AbstractPolyglotExecutor");
+        imports.add("io.github.ih0rd.adapter.context.BoundMembers");
+        imports.add("org.graalvm.polyglot.Value");
+        if (!typeLiterals.isEmpty()) {
+            imports.add("org.graalvm.polyglot.TypeLiteral");
+        }
+
+        String body = String.format(
+                BINDING_BODY_TEMPLATE,
+                className(contract),
+                contract.name(),
+                literals,
+                names,
+                methods
+        );
+
+        StringBuilder file = new StringBuilder();
+
+        file.append(GeneratedHeader.render(body));
+
+        file.append("package ")
+                .append(basePackage)
+                .append(";\n\n");
+
+        for (String imp : imports) {
+            file.append("import ").append(imp).append(";\n");
+        }
+        file.append("\n");
+
+        file.append(body);
+
+        return file.toString();
+    }
+
+    /// ### renderMethod
+    ///
+    /// Renders a single method implementation.
+    ///
+    private String renderMethod(ContractMethod method, int index) {
+
+        StringJoiner params = new StringJoiner(", ");
+        StringBuilder args = new StringBuilder();
+
+        for (ContractParam param : method.params()) {
+            String name = isReserved(param.name()) ? param.name() + "_" : param.name();
+            params.add(renderer.renderMember(param.type()) + " " + name);
+            args.append(", ").append(name);
+        }
+
+        String returnType = renderer.renderMember(method.returnType());
+        String conversion = memberConversion(method.returnType(), "result", upperSnake(method.name()));
+
+        return "\n"
+                + "    @Override\n"
+                + "    public " + returnType + " " + method.name() + "(" + params + ") {\n"
+                + "        return members." + executeMethod(method.returnType())
+                + "(" + index + ", result -> " + conversion + args + ");\n"
+                + "    }\n";
+    }
+
+    /// {@code BoundMembers} entry point for the return type: primitive results use the
+    /// specialized variants, so they are not boxed on the way out.
+    private String executeMethod(PolyType returnType) {
+        if (renderer.isPrimitive(returnType) && returnType instanceof PolyPrimitive p) {
+            return switch (p) {
+                case INT -> "executeInt";
+                case FLOAT -> "executeDouble";
+                case BOOLEAN -> "executeBoolean";
+                case STRING -> "execute";
+            };
+        }
+        return "execute";
+    }
+
+    private static boolean isReserved(String name) {
+        return RESERVED.contains(name) || name.matches("item\\d+");
+    }
+
+    /// ### renderConverter
+    ///
+    /// Renders the converter reading every record component from a guest object once.
+    ///
+    private String renderConverter(RecordTypes.RecordType record) {
+
+        StringBuilder reads = new StringBuilder();
+        StringJoiner components = new StringJoiner(",\n                ");
+        String hint = upperSnake(record.name());
+
+        int i = 0;
+        for (Map.Entry<String, PolyType> field : record.object().fields().entrySet()) {
+            String local = "f" + i++;
+            reads.append("        Value ")
+                    .append(local)
+                    .append(" = BoundMembers.field(value, \"")
+                    .append(field.getKey())
+                    .append("\");\n");
+            components.add(
+                    memberConversion(field.getValue(), local, hint + "_" + upperSnake(field.getKey())));
+        }
+
+        return "\n"
+                + "    private static " + record.name() + " to" + record.name() + "(Value value) {\n"
+                + reads
+                + "        return new " + record.name() + "(\n"
+                + "                " + components + ");\n"
+                + "    }\n";
+    }
+
+    /// ### memberConversion
+    ///
+    /// Expression converting the guest value in {@code variable} to the type of a return value
+    /// or record component: primitives are read directly, anything else maps null to null.
+    private String memberConversion(PolyType type, String variable, String hint) {
+        if (renderer.isPrimitive(type)) {
+            return conversion(type, variable, hint, 0);
+        }
+        String rendered = renderer.renderMember(type);
+        if (rendered.endsWith("[]")) {
+            return variable + ".isNull() ? null : " + variable + ".as(" + rendered + ".class)";
+        }
+        return variable + ".isNull() ? null : " + conversion(type, variable, hint, 0);
+    }
+
+    /// ### conversion
+    ///
+    /// Expression converting the non-null guest value in {@code variable} to the rendered type.
+    ///
+    /// @param hint  constant name prefix for a {@code TypeLiteral}, if one is needed
+    /// @param depth lambda nesting depth, used to name lambda parameters
+    private String conversion(PolyType type, String variable, String hint, int depth) {
+        if (type instanceof PolyPrimitive p) {
+            return switch (p) {
+                case INT -> variable + ".asInt()";
+                case FLOAT -> variable + ".asDouble()";
+                case STRING -> variable + ".asString()";
+                case BOOLEAN -> variable + ".asBoolean()";
+            };
+        }
+
+        if (records.involvesRecord(type)) {
+            String item = "item" + (depth + 1);
+            return switch (type) {
+                case PolyObject object -> "to" + records.nameOf(object) + "(" + variable + ")";
+                case PolyList(PolyType element) -> "BoundMembers.list(" + variable + ", " + item + " -> "
+                        + conversion(element, item, hint + "_ITEM", depth + 1) + ")";
+                case PolyMap(PolyType ignored, PolyType value) -> "BoundMembers.map(" + variable + ", " + item + " -> "
+                        + conversion(value, item, hint + "_VALUE", depth + 1) + ")";
+                default -> throw new IllegalStateException("Unexpected record type: " + type);
+            };
+        }
+
+        if (type instanceof PolyList || type instanceof PolyMap || type instanceof PolyObject) {
+            return variable + ".as(" + typeLiteral(renderer.render(type), hint) + ")";
+        }
+
+        return variable + ".as(Object.class)";
+    }
+
+    /// Constant holding a {@code TypeLiteral} of the rendered type, shared by equal types.
+    private String typeLiteral(String type, String hint) {
+        return typeLiterals.computeIfAbsent(type, ignored -> {
+            String candidate = hint + "_TYPE";
+            for (int i = 2; !constants.add(candidate); i++) {
+                candidate = hint + "_TYPE" + i;
+            }
+            return candidate;
+        });
+    }
+
+    /// ### upperSnake
+    ///
+    /// {@code getStats} / {@code get_stats} → {@code GET_STATS}.
+    ///
+    private static String upperSnake(String name) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0 && name.charAt(i - 1) != '_'
+                    && !Character.isUpperCase(name.charAt(i - 1))) {
+                sb.append('_');
+            }
+            sb.append(Character.toUpperCase(c));
+        }
+        return sb.toString();
+    }
+}
@@ -3,9 +3,6 @@ package io.github.ih0rd.codegen;
 import io.github.ih0rd.contract.ContractClass;
 import io.github.ih0rd.contract.ContractMethod;
 import io.github.ih0rd.contract.ContractParam;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.TreeSet;
@@ -16,6 +13,7 @@ import java.util.TreeSet;
 ///
 /// Responsibilities:
 /// - Render method signatures
+/// - Render nested records for object types (see {@link RecordTypes})
 /// - Collect required imports
 /// - Produce deterministic, clean output
 ///
@@ -34,17 +32,17 @@ public final class JavaInterfaceGenerator {
                     %s}
                     """;
 
-    private static final String GENERATED_HEADER_TEMPLATE =
-            """
-            /**
-             * This file was generated by polyglot-codegen.
-             *
-             * SHA-256 checksum: %s
-             *
-             * Any manual changes will be overwritten.
-             */
-            """;
-    JavaTypeRenderer renderer = new JavaTypeRenderer();
+    JavaTypeRenderer renderer;
+
+    public JavaInterfaceGenerator() {
+        this(false);
+    }
+
+    /// @param primitiveTypes render primitive parameter, return and record component types
+    ///                       (see {@link JavaTypeRenderer#renderMember})
+    public JavaInterfaceGenerator(boolean primitiveTypes) {
+        this.renderer = new JavaTypeRenderer(primitiveTypes);
+    }
 
     /// ### generate
     ///
@@ -54,6 +52,9 @@ public final class JavaInterfaceGenerator {
 
         renderer.reset();
 
+        RecordTypes records = RecordTypes.collect(contract);
+        renderer.records(records);
+
         StringBuilder methodsBuilder = new StringBuilder();
 
         // render methods first (so imports get collected)
@@ -61,6 +62,10 @@ public final class JavaInterfaceGenerator {
             methodsBuilder.append(renderMethod(method)).append("\n");
         }
 
+        for (RecordTypes.RecordType record : records.records()) {
+            methodsBuilder.append(renderRecord(record)).append("\n");
+        }
+
         Set<String> imports = new TreeSet<>(renderer.getImports());
 
         String interfaceBodyContent = String.format(
@@ -69,11 +74,9 @@ public final class JavaInterfaceGenerator {
                 methodsBuilder
         );
 
-        String checksum = sha256(interfaceBodyContent);
-
         StringBuilder file = new StringBuilder();
 
-        file.append(String.format(GENERATED_HEADER_TEMPLATE, checksum));
+        file.append(GeneratedHeader.render(interfaceBodyContent));
 
         file.append("package ")
                 .append(basePackage)
@@ -91,28 +94,6 @@ public final class JavaInterfaceGenerator {
 
         return file.toString();
     }
-    /// ### sha256
-    ///
-    /// Calculates the SHA-256 hash of the given content.
-    ///
-    private String sha256(String content) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(content.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not available", e);
-        }
-    }
-
     /// ### renderMethod
     ///
     /// Renders a single method signature.
@@ -121,7 +102,7 @@ public final class JavaInterfaceGenerator {
 
         StringBuilder sb = new StringBuilder();
 
-        String returnType = renderer.render(method.returnType());
+        String returnType = renderer.renderMember(method.returnType());
 
         sb.append("    ")
                 .append(returnType)
@@ -134,6 +115,21 @@ public final class JavaInterfaceGenerator {
         return sb.toString();
     }
 
+    /// ### renderRecord
+    ///
+    /// Renders a nested record for an object type.
+    ///
+    private String renderRecord(RecordTypes.RecordType record) {
+
+        StringJoiner components = new StringJoiner(", ");
+
+        record.object().fields().forEach((name, type) ->
+                components.add(renderer.renderMember(type) + " " + name)
+        );
+
+        return "    record " + record.name() + "(" + components + ") {\n    }\n";
+    }
+
     /// ### renderParams
     ///
     /// Renders parameters using renderer.
@@ -144,7 +140,7 @@ public final class JavaInterfaceGenerator {
 
         for (ContractParam param : method.params()) {
             joiner.add(
-                    renderer.render(param.type()) + " " + param.name()
+                    renderer.renderMember(param.type()) + " " + param.name()
             );
         }
 
@@ -2,6 +2,7 @@ package io.github.ih0rd.codegen;
 
 import io.github.ih0rd.contract.types.PolyList;
 import io.github.ih0rd.contract.types.PolyMap;
+import io.github.ih0rd.contract.types.PolyObject;
 import io.github.ih0rd.contract.types.PolyPrimitive;
 import io.github.ih0rd.contract.types.PolyType;
 import java.util.HashSet;
@@ -10,6 +11,19 @@ import java.util.Set;
 public final class JavaTypeRenderer {
 
     private final Set<String> imports = new HashSet<>();
+    private final boolean primitiveTypes;
+
+    private RecordTypes records;
+
+    public JavaTypeRenderer() {
+        this(false);
+    }
+
+    /// @param primitiveTypes render {@link #renderMember member types} as Java primitives
+    ///                       and primitive arrays where possible
+    public JavaTypeRenderer(boolean primitiveTypes) {
+        this.primitiveTypes = primitiveTypes;
+    }
 
     public String render(PolyType type) {
 
@@ -35,9 +49,58 @@ public final class JavaTypeRenderer {
                     ">";
         }
 
+        if (type instanceof PolyObject object) {
+            String name = records != null ? records.nameOf(object) : null;
+            if (name != null) {
+                return name;
+            }
+            imports.add("java.util.Map");
+            return "Map<String, Object>";
+        }
+
         return "Object";
     }
 
+    /// Renders the type of a parameter, return value or record component.
+    ///
+    /// With primitive types enabled, {@code int}/{@code float}/{@code bool} become
+    /// {@code int}/{@code double}/{@code boolean} and lists of them become arrays;
+    /// type arguments ({@link #render}) always stay boxed.
+    public String renderMember(PolyType type) {
+        if (primitiveTypes) {
+            String primitive = primitive(type);
+            if (primitive != null) {
+                return primitive;
+            }
+            if (type instanceof PolyList(PolyType elementType) && primitive(elementType) != null) {
+                return primitive(elementType) + "[]";
+            }
+        }
+        return render(type);
+    }
+
+    /// {@code true} if {@link #renderMember} renders the type as a Java primitive (never null).
+    public boolean isPrimitive(PolyType type) {
+        return primitiveTypes && primitive(type) != null;
+    }
+
+    private static String primitive(PolyType type) {
+        if (type instanceof PolyPrimitive p) {
+            return switch (p) {
+                case INT -> "int";
+                case FLOAT -> "double";
+                case BOOLEAN -> "boolean";
+                case STRING -> null;
+            };
+        }
+        return null;
+    }
+
+    /// Record names used for {@link PolyObject} types; unnamed objects render as maps.
+    void records(RecordTypes records) {
+        this.records = records;
+    }
+
     public Set<String> getImports() {
         return imports;
     }
@@ -48,5 +111,6 @@ public final class JavaTypeRenderer {
     /// when reusing the same renderer instance.
     public void reset() {
         imports.clear();
+        records = null;
     }
 }
\ No newline at end of file
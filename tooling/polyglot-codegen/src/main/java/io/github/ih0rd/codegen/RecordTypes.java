@@ -0,0 +1,126 @@
+package io.github.ih0rd.codegen;
+
+import io.github.ih0rd.contract.ContractClass;
+import io.github.ih0rd.contract.ContractMethod;
+import io.github.ih0rd.contract.types.PolyList;
+import io.github.ih0rd.contract.types.PolyMap;
+import io.github.ih0rd.contract.types.PolyObject;
+import io.github.ih0rd.contract.types.PolyPrimitive;
+import io.github.ih0rd.contract.types.PolyType;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/// # RecordTypes
+///
+/// Names the {@link PolyObject} types of a contract, which are generated as Java records
+/// nested in the contract interface.
+///
+/// Naming:
+/// - Object returned by a method (directly or as list/map element) → {@code <Method>Result}
+/// - Object held by a field of a record → {@code <Record><Field>}
+/// - Clashes get a numeric suffix
+///
+/// Design notes:
+/// - Records are listed parents first, in method and field order, so output is deterministic
+/// - Objects under maps with non-string keys stay unnamed and render as maps
+///
+final class RecordTypes {
+
+    /// ### RecordType
+    ///
+    /// @param name   simple record name
+    /// @param object described object
+    record RecordType(String name, PolyObject object) {
+    }
+
+    private final Map<PolyObject, String> names = new IdentityHashMap<>();
+    private final List<RecordType> records = new ArrayList<>();
+    private final Set<String> taken = new HashSet<>();
+
+    private RecordTypes() {
+    }
+
+    /// ### collect
+    ///
+    /// @param contract contract
+    /// @return named records of the contract, parents first
+    static RecordTypes collect(ContractClass contract) {
+        RecordTypes types = new RecordTypes();
+        types.taken.add(contract.name());
+        for (ContractMethod method : contract.methods()) {
+            types.visit(method.returnType(), pascalCase(method.name()) + "Result");
+        }
+        return types;
+    }
+
+    /// Records in declaration order.
+    List<RecordType> records() {
+        return records;
+    }
+
+    /// Name of the record describing {@code object}, or {@code null} if it has none.
+    String nameOf(PolyObject object) {
+        return names.get(object);
+    }
+
+    /// {@code true} if rendering the type involves a named record.
+    boolean involvesRecord(PolyType type) {
+        return switch (type) {
+            case PolyObject object -> names.containsKey(object);
+            case PolyList(PolyType element) -> involvesRecord(element);
+            case PolyMap(PolyType key, PolyType value) ->
+                    key == PolyPrimitive.STRING && involvesRecord(value);
+            default -> false;
+        };
+    }
+
+    private void visit(PolyType type, String name) {
+        switch (type) {
+            case PolyObject object -> {
+                if (names.containsKey(object)) {
+                    return;
+                }
+                String unique = unique(name);
+                names.put(object, unique);
+                records.add(new RecordType(unique, object));
+                object.fields().forEach((field, fieldType) -> visit(fieldType, unique + pascalCase(field)));
+            }
+            case PolyList(PolyType element) -> visit(element, name);
+            case PolyMap(PolyType key, PolyType value) -> {
+                if (key == PolyPrimitive.STRING) {
+                    visit(value, name);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private String unique(String name) {
+        String candidate = name;
+        for (int i = 2; !taken.add(candidate); i++) {
+            candidate = name + i;
+        }
+        return candidate;
+    }
+
+    /// {@code get_stats} / {@code getStats} → {@code GetStats}.
+    static String pascalCase(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        boolean upper = true;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '_') {
+                upper = true;
+                continue;
+            }
+            sb.append(upper ? Character.toUpperCase(c) : c);
+            upper = false;
+        }
+        return sb.isEmpty() ? "Value" : sb.toString();
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.ih0rd.codegen.build;
+
+import io.github.ih0rd.contract.ContractModel;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/// # BuildState
+///
+/// Persistent state of the previous codegen run, used for incremental generation.
+///
+/// Per script (keyed by path relative to the input root) it stores:
+/// - SHA-256 of the script content
+/// - the parsed {@link ContractModel}
+/// - generated output files (relative to the output root)
+///
+/// Design notes:
+/// - A state with a different format version or fingerprint (codegen configuration and
+///   generator code, see {@link CodeFingerprint}) is discarded, forcing a full re-parse
+/// - Unreadable state is treated as absent; it is never a build failure
+/// - Writes are atomic (temp file + move)
+///
+public final class BuildState {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final String fingerprint;
+    private final Map<String, ScriptState> scripts;
+
+    /// ### ScriptState
+    ///
+    /// @param contentHash SHA-256 of the script content
+    /// @param model       parsed contract model
+    /// @param outputs     generated files, relative to the output root
+    public record ScriptState(String contentHash, ContractModel model, List<String> outputs) {
+
+        public ScriptState {
+            outputs = List.copyOf(outputs);
+        }
+    }
+
+    public BuildState(String fingerprint, Map<String, ScriptState> scripts) {
+        this.fingerprint = fingerprint;
+        this.scripts = new TreeMap<>(scripts);
+    }
+
+    /// ### empty
+    ///
+    /// @param fingerprint codegen configuration and code fingerprint
+    /// @return state without any script
+    public static BuildState empty(String fingerprint) {
+        return new BuildState(fingerprint, Map.of());
+    }
+
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    public Map<String, ScriptState> scripts() {
+        return Map.copyOf(scripts);
+    }
+
+    /// ### script
+    ///
+    /// @param relativePath script path relative to the input root
+    /// @return stored state or {@code null}
+    public ScriptState script(String relativePath) {
+        return scripts.get(relativePath);
+    }
+
+    /// ### load
+    ///
+    /// Loads the state file, falling back to an empty state when the file is missing,
+    /// unreadable, of another format version or of another fingerprint.
+    ///
+    /// @param file        state file
+    /// @param fingerprint expected configuration and code fingerprint
+    /// @return loaded or empty state
+    public static BuildState load(Path file, String fingerprint) {
+        if (file == null || !Files.isRegularFile(file)) {
+            return empty(fingerprint);
+        }
+        try (DataInputStream in =
+                     new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+
+            if (in.readInt() != FORMAT_VERSION || !fingerprint.equals(in.readUTF())) {
+                return empty(fingerprint);
+            }
+
+            int count = in.readInt();
+            Map<String, ScriptState> scripts = new TreeMap<>();
+            for (int i = 0; i < count; i++) {
+                String path = in.readUTF();
+                String hash = in.readUTF();
+                ContractModel model = ContractModelCodec.read(in);
+                int outputCount = in.readInt();
+                List<String> outputs = new ArrayList<>(outputCount);
+                for (int o = 0; o < outputCount; o++) {
+                    outputs.add(in.readUTF());
+                }
+                scripts.put(path, new ScriptState(hash, model, outputs));
+            }
+            return new BuildState(fingerprint, scripts);
+
+        } catch (IOException | RuntimeException e) {
+            return empty(fingerprint);
+        }
+    }
+
+    /// ### save
+    ///
+    /// Writes the state file atomically.
+    ///
+    /// @param file state file
+    /// @throws IOException if the file cannot be written
+    public void save(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+
+        try (DataOutputStream out =
+                     new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(fingerprint);
+            out.writeInt(scripts.size());
+            for (Map.Entry<String, ScriptState> entry : scripts.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeUTF(entry.getValue().contentHash());
+                ContractModelCodec.write(out, entry.getValue().model());
+                out.writeInt(entry.getValue().outputs().size());
+                for (String output : entry.getValue().outputs()) {
+                    out.writeUTF(output);
+                }
+            }
+        }
+
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
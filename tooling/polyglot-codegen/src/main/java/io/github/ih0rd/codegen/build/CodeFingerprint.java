@@ -0,0 +1,106 @@
+package io.github.ih0rd.codegen.build;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/// # CodeFingerprint
+///
+/// Identifies the code that produced a {@link BuildState}: a SHA-256 over the code sources
+/// (jars or class directories) of the given classes.
+///
+/// Design notes:
+/// - Upgrading the codegen (or the plugin, or a custom generator) changes the fingerprint,
+///   so contracts parsed by a previous version are never reused
+/// - Jar hashes are cached per path and modification time, so a long-lived JVM
+///   (build daemon, IDE) still notices a replaced jar
+/// - Class directories are hashed on every call: their files change without touching
+///   the directory itself
+/// - A class without a readable code source contributes its name only
+///
+final class CodeFingerprint {
+
+    private static final Map<JarKey, String> JAR_HASHES = new ConcurrentHashMap<>();
+
+    private CodeFingerprint() {
+    }
+
+    /// ### of
+    ///
+    /// @param classes classes whose code sources identify the generator
+    /// @return fingerprint of the code sources, in the given order
+    static String of(List<Class<?>> classes) {
+        StringBuilder sb = new StringBuilder();
+        for (Class<?> type : classes) {
+            Path location = location(type);
+            sb.append(location == null ? type.getName() : of(location)).append(';');
+        }
+        return sb.toString();
+    }
+
+    /// ### of
+    ///
+    /// @param location jar or class directory
+    /// @return hash of the code source
+    static String of(Path location) {
+        if (Files.isDirectory(location)) {
+            return hash(location);
+        }
+        try {
+            JarKey key = new JarKey(location, Files.getLastModifiedTime(location));
+            return JAR_HASHES.computeIfAbsent(key, k -> hash(location));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to fingerprint " + location, e);
+        }
+    }
+
+    private static Path location(Class<?> type) {
+        CodeSource source = type.getProtectionDomain().getCodeSource();
+        if (source == null || source.getLocation() == null) {
+            return null;
+        }
+        try {
+            Path path = Path.of(source.getLocation().toURI());
+            return Files.exists(path) ? path : null;
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String hash(Path location) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (Files.isDirectory(location)) {
+                try (Stream<Path> files = Files.walk(location)) {
+                    for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                        digest.update(location.relativize(file).toString()
+                                .getBytes(StandardCharsets.UTF_8));
+                        digest.update(Files.readAllBytes(file));
+                    }
+                }
+            } else {
+                digest.update(Files.readAllBytes(location));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to fingerprint " + location, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private record JarKey(Path location, FileTime modified) {
+    }
+}
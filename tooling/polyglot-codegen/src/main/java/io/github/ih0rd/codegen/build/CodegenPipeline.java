@@ -0,0 +1,347 @@
+package io.github.ih0rd.codegen.build;
+
+import io.github.ih0rd.codegen.ContractGenerator;
+import io.github.ih0rd.codegen.ContractManifestGenerator;
+import io.github.ih0rd.codegen.DefaultContractGenerator;
+import io.github.ih0rd.codegen.JavaBindingGenerator;
+import io.github.ih0rd.codegen.JavaInterfaceGenerator;
+import io.github.ih0rd.contract.ContractClass;
+import io.github.ih0rd.contract.ContractModel;
+import io.github.ih0rd.contract.ScriptDescriptor;
+import io.github.ih0rd.contract.SupportedLanguage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/// # CodegenPipeline
+///
+/// Script scanning, contract extraction and Java source generation shared by the
+/// Maven plugin and the CLI.
+///
+/// Responsibilities:
+/// - Scan the input root for supported scripts (sorted, deterministic order)
+/// - Re-parse only scripts whose content hash changed since the previous run
+/// - Write generated sources only when their content differs from the file on disk
+/// - Delete sources generated by a previous run that are no longer produced
+/// - Optionally read, hash, parse, render and write scripts in parallel
+/// - Optionally emit a {@link JavaBindingGenerator} implementation next to each interface
+/// - Optionally emit a {@link ContractManifestGenerator} manifest per contract into a
+///   separate resource root (tracked, rewritten and deleted like the sources)
+///
+/// Design notes:
+/// - Incremental state is kept in {@link BuildState}; without a state file every script
+///   is parsed, but unchanged outputs are still left untouched
+/// - The state file is written only after a successful run
+/// - Results are merged in sorted scan order, so parallel output is byte-identical
+///   to sequential output
+///
+public final class CodegenPipeline {
+
+    private final ContractGenerator generator;
+
+    public CodegenPipeline() {
+        this(new DefaultContractGenerator());
+    }
+
+    public CodegenPipeline(ContractGenerator generator) {
+        this.generator = generator;
+    }
+
+    /// ### Result
+    ///
+    /// @param parsed    scripts parsed in this run
+    /// @param reused    scripts whose contract was taken from the build state
+    /// @param written   output files created or updated
+    /// @param unchanged output files left untouched (identical content)
+    /// @param deleted   stale output files removed
+    public record Result(
+            List<Path> parsed,
+            List<Path> reused,
+            List<Path> written,
+            List<Path> unchanged,
+            List<Path> deleted
+    ) {
+    }
+
+    /// ### run
+    ///
+    /// @param request run configuration
+    /// @return summary of the run
+    /// @throws IOException if scanning or writing fails
+    public Result run(CodegenRequest request) throws IOException {
+
+        String fingerprint = fingerprint(request);
+        BuildState previous =
+                request.stateFile() == null
+                        ? BuildState.empty(fingerprint)
+                        : BuildState.load(request.stateFile(), fingerprint);
+
+        List<Path> scripts = scan(request);
+        int parallelism = effectiveParallelism(request.parallelism(), scripts.size());
+
+        List<ScriptResult> results =
+                inParallel(parallelism, scripts, script -> process(script, request, previous));
+
+        List<Path> parsed = new ArrayList<>();
+        List<Path> reused = new ArrayList<>();
+        Map<String, BuildState.ScriptState> current = new TreeMap<>();
+        Map<String, String> sources = new LinkedHashMap<>();
+
+        // merged in scan order, so a class exported by several scripts resolves the same way
+        // regardless of parallelism
+        for (ScriptResult result : results) {
+            (result.reused() ? reused : parsed).add(result.script());
+            current.put(result.key(), result.state());
+            sources.putAll(result.sources());
+        }
+
+        List<Map.Entry<String, String>> outputs = List.copyOf(sources.entrySet());
+        List<Boolean> changes =
+                inParallel(parallelism, outputs, entry ->
+                        writeIfChanged(request.outputRoot().resolve(entry.getKey()), entry.getValue()));
+
+        List<Path> written = new ArrayList<>();
+        List<Path> unchanged = new ArrayList<>();
+        for (int i = 0; i < outputs.size(); i++) {
+            Path target = request.outputRoot().resolve(outputs.get(i).getKey()).normalize();
+            (changes.get(i) ? written : unchanged).add(target);
+        }
+
+        List<Path> deleted = new ArrayList<>();
+        for (String stale : staleOutputs(previous, sources.keySet())) {
+            Path target = request.outputRoot().resolve(stale).normalize();
+            if (Files.deleteIfExists(target)) {
+                deleted.add(target);
+            }
+        }
+
+        if (request.stateFile() != null) {
+            new BuildState(fingerprint, current).save(request.stateFile());
+        }
+
+        return new Result(
+                List.copyOf(parsed),
+                List.copyOf(reused),
+                List.copyOf(written),
+                List.copyOf(unchanged),
+                List.copyOf(deleted)
+        );
+    }
+
+    /// Outcome of processing one script: its build state entry and rendered sources.
+    private record ScriptResult(
+            Path script,
+            String key,
+            boolean reused,
+            BuildState.ScriptState state,
+            Map<String, String> sources
+    ) {
+    }
+
+    @FunctionalInterface
+    private interface Task<T, R> {
+        R apply(T input) throws IOException;
+    }
+
+    private ScriptResult process(Path script, CodegenRequest request, BuildState previous)
+            throws IOException {
+
+        String key = relativeKey(request.inputRoot(), script);
+        byte[] content = Files.readAllBytes(script);
+        String hash = sha256(content);
+
+        BuildState.ScriptState cached = previous.script(key);
+        boolean reused = cached != null && cached.contentHash().equals(hash);
+        ContractModel model = reused ? cached.model() : parse(script, content, request);
+
+        List<String> outputs = new ArrayList<>();
+        Map<String, String> sources = new LinkedHashMap<>();
+        for (ContractClass contract : model.classes()) {
+            String output = outputKey(request.basePackage(), contract.name());
+            outputs.add(output);
+            sources.put(output, new JavaInterfaceGenerator(request.primitiveTypes())
+                    .generate(contract, request.basePackage()));
+
+            if (request.generateBindings()) {
+                String binding =
+                        outputKey(request.basePackage(), JavaBindingGenerator.className(contract));
+                outputs.add(binding);
+                sources.put(binding, new JavaBindingGenerator(request.primitiveTypes())
+                        .generate(contract, request.basePackage()));
+            }
+
+            if (request.manifestRoot() != null) {
+                String manifest = manifestKey(request, contract);
+                outputs.add(manifest);
+                sources.put(manifest, new ContractManifestGenerator().generate(
+                        contract, SupportedLanguage.fromFileName(key), key, hash));
+            }
+        }
+
+        return new ScriptResult(
+                script, key, reused, new BuildState.ScriptState(hash, model, outputs), sources);
+    }
+
+    /// Applies {@code task} to every input, returning results in input order.
+    ///
+    /// With a parallelism of {@code 1} the inputs are processed on the calling thread;
+    /// otherwise on a dedicated fork-join pool of that size.
+    private static <T, R> List<R> inParallel(int parallelism, List<T> inputs, Task<T, R> task)
+            throws IOException {
+
+        if (parallelism <= 1) {
+            List<R> results = new ArrayList<>(inputs.size());
+            for (T input : inputs) {
+                results.add(task.apply(input));
+            }
+            return results;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() ->
+                    inputs.parallelStream()
+                            .map(input -> {
+                                try {
+                                    return task.apply(input);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            })
+                            .toList()
+            ).get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Code generation interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static int effectiveParallelism(int requested, int tasks) {
+        int threads = requested > 0 ? requested : Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(threads, tasks));
+    }
+
+    private List<Path> scan(CodegenRequest request) throws IOException {
+        try (Stream<Path> files = Files.walk(request.inputRoot(), request.maxDepth())) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .filter(path -> language(path, request.languages()) != null)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private ContractModel parse(Path script, byte[] content, CodegenRequest request) {
+        try {
+            String fileName = script.getFileName().toString();
+            ScriptDescriptor descriptor =
+                    new ScriptDescriptor(
+                            SupportedLanguage.fromFileName(fileName),
+                            new String(content, StandardCharsets.UTF_8),
+                            fileName
+                    );
+            return generator.generate(descriptor, request.config());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed processing script: " + script, e);
+        }
+    }
+
+    private static SupportedLanguage language(Path path, Set<SupportedLanguage> languages) {
+        try {
+            SupportedLanguage language =
+                    SupportedLanguage.fromFileName(path.getFileName().toString());
+            return languages.contains(language) ? language : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /// Outputs tracked by the previous run that are not produced anymore.
+    private static Set<String> staleOutputs(BuildState previous, Set<String> produced) {
+        Set<String> stale = new LinkedHashSet<>();
+        for (BuildState.ScriptState state : previous.scripts().values()) {
+            for (String output : state.outputs()) {
+                if (!produced.contains(output)) {
+                    stale.add(output);
+                }
+            }
+        }
+        return stale;
+    }
+
+    /// Writes {@code content} unless the file already holds exactly these bytes,
+    /// so unchanged sources keep their timestamps and do not trigger recompilation.
+    private static boolean writeIfChanged(Path target, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (Files.isRegularFile(target)
+                && Files.size(target) == bytes.length
+                && Arrays.equals(Files.readAllBytes(target), bytes)) {
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        Files.write(target, bytes);
+        return true;
+    }
+
+    private static String relativeKey(Path root, Path script) {
+        return root.relativize(script).toString().replace('\\', '/');
+    }
+
+    /// Build state fingerprint: the configuration and the generator code, so that a codegen
+    /// upgrade invalidates contracts parsed by the previous version.
+    String fingerprint(CodegenRequest request) {
+        return request.config() + "|" + CodeFingerprint.of(List.of(
+                CodegenPipeline.class, ContractModel.class, generator.getClass()));
+    }
+
+    private static String outputKey(String basePackage, String className) {
+        return basePackage.replace('.', '/') + "/" + className + ".java";
+    }
+
+    /// Manifest location relative to the output root, so it is tracked like a source.
+    private static String manifestKey(CodegenRequest request, ContractClass contract) {
+        Path manifest = request.manifestRoot().toAbsolutePath()
+                .resolve(ContractManifestGenerator.resourceName(contract, request.basePackage()));
+        return request.outputRoot().toAbsolutePath().relativize(manifest).toString().replace('\\', '/');
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.ih0rd.codegen.build;
+
+import io.github.ih0rd.contract.CodegenConfig;
+import io.github.ih0rd.contract.SupportedLanguage;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+/// # CodegenRequest
+///
+/// Input of a single {@link CodegenPipeline} run.
+///
+/// @param inputRoot   directory scanned for scripts
+/// @param outputRoot  root of generated Java sources
+/// @param basePackage package of generated interfaces
+/// @param config      contract extraction configuration
+/// @param languages   languages to pick up (by file extension)
+/// @param maxDepth    maximum scan depth ({@code 1} = direct children only)
+/// @param stateFile   build state file; {@code null} disables incremental generation
+/// @param parallelism worker threads; {@code 1} = sequential, {@code 0} = available processors
+/// @param generateBindings also generate a {@code <Name>Binding} implementation per interface
+/// @param primitiveTypes   use Java primitives and primitive arrays in generated signatures
+/// @param manifestRoot     root of generated resources receiving a binding manifest per
+///                         contract; {@code null} disables manifests
+public record CodegenRequest(
+        Path inputRoot,
+        Path outputRoot,
+        String basePackage,
+        CodegenConfig config,
+        Set<SupportedLanguage> languages,
+        int maxDepth,
+        Path stateFile,
+        int parallelism,
+        boolean generateBindings,
+        boolean primitiveTypes,
+        Path manifestRoot
+) {
+
+    public CodegenRequest {
+        languages = Set.copyOf(languages);
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.ih0rd.codegen.build;
+
+import io.github.ih0rd.contract.ContractClass;
+import io.github.ih0rd.contract.ContractMethod;
+import io.github.ih0rd.contract.ContractModel;
+import io.github.ih0rd.contract.ContractParam;
+import io.github.ih0rd.contract.types.PolyList;
+import io.github.ih0rd.contract.types.PolyMap;
+import io.github.ih0rd.contract.types.PolyObject;
+import io.github.ih0rd.contract.types.PolyPrimitive;
+import io.github.ih0rd.contract.types.PolyType;
+import io.github.ih0rd.contract.types.PolyUnion;
+import io.github.ih0rd.contract.types.PolyUnknown;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/// # ContractModelCodec
+///
+/// Compact binary encoding of {@link ContractModel} for the codegen build state.
+///
+/// Design notes:
+/// - Explicit, tag-based encoding (no Java serialization of contract types)
+/// - Preserves list and map ordering, so decoded models render byte-identical sources
+///
+final class ContractModelCodec {
+
+    private static final byte PRIMITIVE = 1;
+    private static final byte LIST = 2;
+    private static final byte MAP = 3;
+    private static final byte OBJECT = 4;
+    private static final byte UNION = 5;
+    private static final byte UNKNOWN = 6;
+
+    private ContractModelCodec() {
+    }
+
+    static void write(DataOutput out, ContractModel model) throws IOException {
+        out.writeInt(model.classes().size());
+        for (ContractClass contract : model.classes()) {
+            out.writeUTF(contract.name());
+            out.writeInt(contract.methods().size());
+            for (ContractMethod method : contract.methods()) {
+                out.writeUTF(method.name());
+                out.writeInt(method.params().size());
+                for (ContractParam param : method.params()) {
+                    out.writeUTF(param.name());
+                    writeType(out, param.type());
+                }
+                writeType(out, method.returnType());
+            }
+        }
+    }
+
+    static ContractModel read(DataInput in) throws IOException {
+        int classCount = in.readInt();
+        List<ContractClass> classes = new ArrayList<>(classCount);
+        for (int c = 0; c < classCount; c++) {
+            String className = in.readUTF();
+            int methodCount = in.readInt();
+            List<ContractMethod> methods = new ArrayList<>(methodCount);
+            for (int m = 0; m < methodCount; m++) {
+                String methodName = in.readUTF();
+                int paramCount = in.readInt();
+                List<ContractParam> params = new ArrayList<>(paramCount);
+                for (int p = 0; p < paramCount; p++) {
+                    params.add(new ContractParam(in.readUTF(), readType(in)));
+                }
+                methods.add(new ContractMethod(methodName, params, readType(in)));
+            }
+            classes.add(new ContractClass(className, methods));
+        }
+        return new ContractModel(classes);
+    }
+
+    private static void writeType(DataOutput out, PolyType type) throws IOException {
+        switch (type) {
+            case PolyPrimitive primitive -> {
+                out.writeByte(PRIMITIVE);
+                out.writeUTF(primitive.name());
+            }
+            case PolyList list -> {
+                out.writeByte(LIST);
+                writeType(out, list.elementType());
+            }
+            case PolyMap map -> {
+                out.writeByte(MAP);
+                writeType(out, map.keyType());
+                writeType(out, map.valueType());
+            }
+            case PolyObject object -> {
+                out.writeByte(OBJECT);
+                out.writeInt(object.fields().size());
+                for (Map.Entry<String, PolyType> field : object.fields().entrySet()) {
+                    out.writeUTF(field.getKey());
+                    writeType(out, field.getValue());
+                }
+            }
+            case PolyUnion union -> {
+                out.writeByte(UNION);
+                out.writeInt(union.variants().size());
+                for (PolyType variant : union.variants()) {
+                    writeType(out, variant);
+                }
+            }
+            case PolyUnknown ignored -> out.writeByte(UNKNOWN);
+        }
+    }
+
+    private static PolyType readType(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case PRIMITIVE -> PolyPrimitive.valueOf(in.readUTF());
+            case LIST -> new PolyList(readType(in));
+            case MAP -> new PolyMap(readType(in), readType(in));
+            case OBJECT -> {
+                int size = in.readInt();
+                Map<String, PolyType> fields = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    fields.put(in.readUTF(), readType(in));
+                }
+                yield new PolyObject(fields);
+            }
+            case UNION -> {
+                int size = in.readInt();
+                List<PolyType> variants = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    variants.add(readType(in));
+                }
+                yield new PolyUnion(variants);
+            }
+            case UNKNOWN -> new PolyUnknown();
+            default -> throw new IOException("Unknown type tag: " + tag);
+        };
+    }
+}
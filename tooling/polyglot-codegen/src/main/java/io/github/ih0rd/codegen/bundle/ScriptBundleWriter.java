@@ -0,0 +1,169 @@
+package io.github.ih0rd.codegen.bundle;
+
+import io.github.ih0rd.codegen.bytecode.PythonBytecodeCompiler;
+import io.github.ih0rd.contract.SupportedLanguage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/// # ScriptBundleWriter
+///
+/// Packs guest scripts into a single indexed bundle file.
+///
+/// Format (big-endian, must match the runtime reader):
+/// ```
+/// magic    4 bytes  "PGSB"
+/// version  u2       1
+/// count    u4       number of entries
+/// entries  count x  name length (u2), name (UTF-8), offset (u8), length (u4), SHA-256 (32 bytes)
+/// content           entry contents, concatenated in entry order
+/// ```
+///
+/// Entry names are paths relative to the scanned root with {@code /} separators, i.e. the
+/// classpath layout: {@code python/stats_api.py}, {@code js/forecast_service.js}.
+/// Bytecode caches ({@code __pycache__/*.pyc}) are bundled as well, so they are served
+/// next to their scripts.
+///
+/// Design notes:
+/// - Entries are sorted by name and the header has no timestamp, so equal inputs give a
+///   byte-identical bundle; an identical bundle is not rewritten
+/// - The bundle is written to a temporary file and moved into place atomically, so a
+///   reader never observes a partially written bundle
+///
+public final class ScriptBundleWriter {
+
+    private static final byte[] MAGIC = {'P', 'G', 'S', 'B'};
+
+    private static final int VERSION = 1;
+
+    /// Outcome of {@link #write(List, Path)}.
+    ///
+    /// @param entries bundled entry names, in bundle order
+    /// @param written {@code false} if an identical bundle already existed
+    public record Result(List<String> entries, boolean written) {
+    }
+
+    /// ### write
+    ///
+    /// Bundles the scripts and bytecode caches of all roots.
+    ///
+    /// @param roots  directories scanned for scripts; missing directories are skipped
+    /// @param target bundle file
+    /// @return bundled entries
+    /// @throws IOException           if reading or writing fails
+    /// @throws IllegalStateException if two roots provide the same entry
+    public Result write(List<Path> roots, Path target) throws IOException {
+        Map<String, Path> files = new TreeMap<>();
+        for (Path root : roots) {
+            collect(root, files);
+        }
+
+        List<String> names = new ArrayList<>(files.keySet());
+        List<byte[]> contents = new ArrayList<>(names.size());
+        List<byte[]> encodedNames = new ArrayList<>(names.size());
+        long headerSize = MAGIC.length + 2 + 4;
+        for (String name : names) {
+            byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+            if (encoded.length > 0xFFFF) {
+                throw new IllegalStateException("Bundle entry name too long: " + name);
+            }
+            encodedNames.add(encoded);
+            contents.add(Files.readAllBytes(files.get(name)));
+            headerSize += 2 + encoded.length + 8 + 4 + 32;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.write(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(names.size());
+
+            long offset = headerSize;
+            for (int i = 0; i < names.size(); i++) {
+                byte[] content = contents.get(i);
+                out.writeShort(encodedNames.get(i).length);
+                out.write(encodedNames.get(i));
+                out.writeLong(offset);
+                out.writeInt(content.length);
+                out.write(sha256(content));
+                offset += content.length;
+            }
+            for (byte[] content : contents) {
+                out.write(content);
+            }
+        }
+
+        byte[] bundle = buffer.toByteArray();
+        if (Files.isRegularFile(target) && Arrays.equals(Files.readAllBytes(target), bundle)) {
+            return new Result(List.copyOf(names), false);
+        }
+
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tmp, bundle);
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return new Result(List.copyOf(names), true);
+    }
+
+    private static void collect(Path root, Map<String, Path> files) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        List<Path> found;
+        try (Stream<Path> paths = Files.walk(root)) {
+            found = paths.filter(Files::isRegularFile).filter(ScriptBundleWriter::isBundled).toList();
+        }
+        for (Path path : found) {
+            String name = root.relativize(path).toString().replace('\\', '/');
+            Path previous = files.putIfAbsent(name, path);
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate bundle entry " + name + ": " + previous + ", " + path);
+            }
+        }
+    }
+
+    private static boolean isBundled(Path path) {
+        String fileName = path.getFileName().toString();
+        if (fileName.endsWith(".pyc")) {
+            Path parent = path.getParent();
+            return parent != null && parent.getFileName().toString().equals(PythonBytecodeCompiler.CACHE_DIRECTORY);
+        }
+        for (SupportedLanguage language : SupportedLanguage.values()) {
+            if (fileName.endsWith(language.ext())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package io.github.ih0rd.codegen.bytecode;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Value;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/// # PythonBytecodeCompiler
+///
+/// Precompiles Python scripts to GraalPy bytecode caches at build time.
+///
+/// Every {@code .py} file below the input root (contract scripts and the helper modules
+/// they import) is compiled to a CPython-layout cache
+/// {@code <dir>/__pycache__/<module>.<cacheTag>.pyc} under the output root, mirroring the
+/// input layout. Packaged next to the scripts:
+/// - GraalPy's import system uses the caches of imported helper modules as is
+/// - the adapter loads the cache of a contract script instead of parsing its source
+///
+/// Design notes:
+/// - Caches are checked-hash {@code .pyc} files: the runtime ignores a cache whose source
+///   changed, so a stale cache costs a fallback to source, never wrong behavior
+/// - The cache tag (e.g. {@code graalpy250-312}) pins the GraalPy version; caches of another
+///   version are not looked up at runtime
+/// - Compilation runs in a context without I/O access; file I/O stays on the Java side
+/// - Caches are rewritten only when their content differs; caches without a script
+///   (removed scripts, previous GraalPy versions) are deleted
+///
+public final class PythonBytecodeCompiler implements AutoCloseable {
+
+    /// Cache directory name, as used by the Python import system.
+    public static final String CACHE_DIRECTORY = "__pycache__";
+
+    private static final String COMPILER = """
+            def _polyglot_compiler():
+                import sys
+                from importlib.util import source_hash
+                from importlib._bootstrap_external import _code_to_hash_pyc
+
+                def compile_pyc(source, name):
+                    data = source.encode('utf-8')
+                    code = compile(data, name, 'exec', dont_inherit=True)
+                    return _code_to_hash_pyc(code, source_hash(data), True)
+
+                return [sys.implementation.cache_tag, compile_pyc]
+
+            _polyglot_compiler()
+            """;
+
+    private final Context context;
+    private final String cacheTag;
+    private final Value compileFunction;
+
+    /// ### PythonBytecodeCompiler
+    ///
+    /// @throws IllegalStateException if GraalPy is not on the classpath
+    public PythonBytecodeCompiler() {
+        try {
+            this.context = Context.newBuilder("python")
+                    .option("engine.WarnInterpreterOnly", "false")
+                    .build();
+        } catch (LinkageError | RuntimeException ex) {
+            throw new IllegalStateException("GraalPy is not available on the classpath", ex);
+        }
+        Value compiler = context.eval("python", COMPILER);
+        this.cacheTag = compiler.getArrayElement(0).asString();
+        this.compileFunction = compiler.getArrayElement(1);
+    }
+
+    /// ### cacheTag
+    ///
+    /// @return cache tag of the GraalPy version used for compilation
+    public String cacheTag() {
+        return cacheTag;
+    }
+
+    /// ### compile
+    ///
+    /// @param name   file name recorded in the code object
+    /// @param source Python source
+    /// @return {@code .pyc} content
+    /// @throws IllegalStateException if the script has a syntax error
+    public byte[] compile(String name, String source) {
+        Value pyc;
+        try {
+            pyc = compileFunction.execute(source, name);
+        } catch (PolyglotException ex) {
+            if (ex.isGuestException()) {
+                throw new IllegalStateException("Cannot compile " + name + ": " + ex.getMessage(), ex);
+            }
+            throw ex;
+        }
+        byte[] bytes = new byte[Math.toIntExact(pyc.getBufferSize())];
+        pyc.readBuffer(0, bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    /// ### compileAll
+    ///
+    /// Compiles every Python script below {@code inputRoot} into {@code outputRoot}.
+    /// A script that fails to compile is reported in {@link Result#failed()} and left
+    /// without a cache; the runtime then evaluates its source.
+    ///
+    /// @param inputRoot  directory scanned for {@code .py} files
+    /// @param outputRoot directory receiving the {@code __pycache__} trees
+    /// @return written, unchanged, deleted and failed files
+    /// @throws IOException if scanning or writing fails
+    public Result compileAll(Path inputRoot, Path outputRoot) throws IOException {
+        List<Path> scripts;
+        try (Stream<Path> files = Files.walk(inputRoot)) {
+            scripts = files
+                    .filter(Files::isRegularFile)
+                    .filter(path -> path.getFileName().toString().endsWith(".py"))
+                    .filter(path -> !inputRoot.relativize(path).toString().contains(CACHE_DIRECTORY))
+                    .sorted()
+                    .toList();
+        }
+
+        List<Path> written = new ArrayList<>();
+        List<Path> unchanged = new ArrayList<>();
+        Map<Path, String> failed = new LinkedHashMap<>();
+        Set<Path> targets = new HashSet<>();
+
+        for (Path script : scripts) {
+            Path relative = inputRoot.relativize(script);
+            Path target = outputRoot.resolve(cachePath(relative)).normalize();
+
+            byte[] pyc;
+            try {
+                String source = Files.readString(script, StandardCharsets.UTF_8);
+                pyc = compile(relative.toString().replace('\\', '/'), source);
+            } catch (IllegalStateException | UncheckedIOException | IOException ex) {
+                failed.put(script, ex.getMessage());
+                continue;
+            }
+
+            targets.add(target);
+            if (Files.isRegularFile(target) && Arrays.equals(Files.readAllBytes(target), pyc)) {
+                unchanged.add(target);
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.write(target, pyc);
+                written.add(target);
+            }
+        }
+
+        return new Result(written, unchanged, deleteStale(outputRoot, targets), failed);
+    }
+
+    /// ### cachePath
+    ///
+    /// @param script script path relative to the input root
+    /// @return cache path relative to the output root
+    public Path cachePath(Path script) {
+        String fileName = script.getFileName().toString();
+        String module = fileName.substring(0, fileName.length() - ".py".length());
+        Path cache = Path.of(CACHE_DIRECTORY, module + "." + cacheTag + ".pyc");
+        Path parent = script.getParent();
+        return parent == null ? cache : parent.resolve(cache);
+    }
+
+    private static List<Path> deleteStale(Path outputRoot, Set<Path> targets) throws IOException {
+        if (!Files.isDirectory(outputRoot)) {
+            return List.of();
+        }
+        List<Path> stale;
+        try (Stream<Path> files = Files.walk(outputRoot)) {
+            stale = files
+                    .filter(Files::isRegularFile)
+                    .filter(path -> path.getFileName().toString().endsWith(".pyc"))
+                    .filter(path -> path.getParent().getFileName().toString().equals(CACHE_DIRECTORY))
+                    .map(Path::normalize)
+                    .filter(path -> !targets.contains(path))
+                    .sorted()
+                    .toList();
+        }
+        for (Path path : stale) {
+            Files.deleteIfExists(path);
+        }
+        return stale;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    /// Outcome of {@link #compileAll(Path, Path)}.
+    ///
+    /// @param written   caches written (new or changed)
+    /// @param unchanged caches already up to date
+    /// @param deleted   stale caches removed
+    /// @param failed    scripts that failed to compile, with the error message
+    public record Result(List<Path> written, List<Path> unchanged, List<Path> deleted, Map<Path, String> failed) {
+    }
+}
@@ -9,10 +9,21 @@ import java.nio.file.Path;
 /// Structured representation of CLI input.
 ///
 /// Decouples raw CLI parsing from code generation logic.
+///
+/// {@code stateFile} is optional; when present, generation is incremental.
+/// {@code threads} of {@code 0} means all available processors.
+/// {@code generateBindings} adds a {@code <Name>Binding} implementation per interface.
+/// {@code primitiveTypes} renders known numeric and boolean types as Java primitives.
+/// {@code manifestDir} is optional; when present, a binding manifest is written per contract.
 public record CliArguments(
         Path inputDir,
         Path outputDir,
         String basePackage,
-        CodegenConfig config
+        CodegenConfig config,
+        Path stateFile,
+        int threads,
+        boolean generateBindings,
+        boolean primitiveTypes,
+        Path manifestDir
 ) {
 }
\ No newline at end of file
@@ -1,17 +1,14 @@
 package io.github.ih0rd.codegen.cli;
 
 import io.github.ih0rd.codegen.ContractGenerator;
-import io.github.ih0rd.codegen.DefaultContractGenerator;
-import io.github.ih0rd.codegen.JavaInterfaceGenerator;
+import io.github.ih0rd.codegen.build.CodegenPipeline;
+import io.github.ih0rd.codegen.build.CodegenRequest;
 import io.github.ih0rd.contract.CodegenConfig;
-import io.github.ih0rd.contract.ContractClass;
-import io.github.ih0rd.contract.ContractModel;
-import io.github.ih0rd.contract.ScriptDescriptor;
 import io.github.ih0rd.contract.SupportedLanguage;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.stream.Stream;
+import java.util.EnumSet;
 
 /// # CodegenMain
 ///
@@ -23,10 +20,12 @@ import java.util.stream.Stream;
 ///
 /// ## Responsibilities:
 /// - Parse CLI arguments
-/// - Detect script language
+/// - Detect script language ({@code .py} and {@code .js} scripts)
 /// - Delegate parsing to {@link ContractGenerator}
 /// - Generate Java interfaces
 /// - Write generated sources to output directory
+///   (incrementally when {@code --state-file} is given, in parallel per {@code --threads})
+/// - Write binding manifests to {@code --manifest-dir} (a resource root) when given
 ///
 /// ## Design notes:
 /// - No runtime execution
@@ -48,6 +47,12 @@ public final class CodegenMain {
                             Usage:
                               CodegenMain <inputDir> <outputDir> --package=<basePackage>
                               [--only-included-methods=true|false]
+                              [--state-file=<path>]
+                              [--threads=<count>]
+                              [--generate-bindings=true|false]
+                              [--generate-records=true|false]
+                              [--primitive-types=true|false]
+                              [--manifest-dir=<path>]
                             """
             );
         }
@@ -57,6 +62,12 @@ public final class CodegenMain {
 
         String basePackage = null;
         boolean onlyIncludedMethods = false;
+        Path stateFile = null;
+        int threads = 0;
+        boolean generateBindings = false;
+        boolean generateRecords = false;
+        boolean primitiveTypes = false;
+        Path manifestDir = null;
 
         for (String arg : args) {
 
@@ -70,6 +81,39 @@ public final class CodegenMain {
                                 arg.substring("--only-included-methods=".length())
                         );
             }
+
+            if (arg.startsWith("--state-file=")) {
+                stateFile = Path.of(arg.substring("--state-file=".length()));
+            }
+
+            if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(arg.substring("--threads=".length()));
+            }
+
+            if (arg.startsWith("--generate-bindings=")) {
+                generateBindings =
+                        Boolean.parseBoolean(
+                                arg.substring("--generate-bindings=".length())
+                        );
+            }
+
+            if (arg.startsWith("--generate-records=")) {
+                generateRecords =
+                        Boolean.parseBoolean(
+                                arg.substring("--generate-records=".length())
+                        );
+            }
+
+            if (arg.startsWith("--primitive-types=")) {
+                primitiveTypes =
+                        Boolean.parseBoolean(
+                                arg.substring("--primitive-types=".length())
+                        );
+            }
+
+            if (arg.startsWith("--manifest-dir=")) {
+                manifestDir = Path.of(arg.substring("--manifest-dir=".length()));
+            }
         }
 
         if (basePackage == null || basePackage.isBlank()) {
@@ -82,7 +126,12 @@ public final class CodegenMain {
                 inputDir,
                 outputDir,
                 basePackage,
-                new CodegenConfig(onlyIncludedMethods)
+                new CodegenConfig(onlyIncludedMethods, generateRecords),
+                stateFile,
+                threads,
+                generateBindings,
+                primitiveTypes,
+                manifestDir
         );
     }
 
@@ -103,62 +152,27 @@ public final class CodegenMain {
     }
 
     private static void run(CliArguments cli) {
-        ContractGenerator generator = new DefaultContractGenerator();
-        JavaInterfaceGenerator javaGenerator = new JavaInterfaceGenerator();
-
-        try (Stream<Path> files = Files.list(cli.inputDir())) {
-            files
-                    .filter(path -> path.toString().endsWith(".py"))
-                    .forEach(path ->
-                            processFile(path, cli, generator, javaGenerator)
-                    );
-        } catch (IOException e) {
-            throw new RuntimeException(
-                    "Failed to scan input directory: " + cli.inputDir(), e
-            );
-        }
-    }
+        CodegenRequest request =
+                new CodegenRequest(
+                        cli.inputDir(),
+                        cli.outputDir(),
+                        cli.basePackage(),
+                        cli.config(),
+                        EnumSet.allOf(SupportedLanguage.class),
+                        1,
+                        cli.stateFile(),
+                        cli.threads(),
+                        cli.generateBindings(),
+                        cli.primitiveTypes(),
+                        cli.manifestDir()
+                );
 
-    private static void processFile(
-            Path scriptPath,
-            CliArguments cli,
-            ContractGenerator generator,
-            JavaInterfaceGenerator javaGenerator
-    ) {
         try {
-            String source = Files.readString(scriptPath);
-
-            ScriptDescriptor descriptor =
-                    new ScriptDescriptor(
-                            SupportedLanguage.PYTHON,
-                            source,
-                            scriptPath.getFileName().toString()
-                    );
-
-            ContractModel model =
-                    generator.generate(descriptor, cli.config());
-
-            for (ContractClass contract : model.classes()) {
-                String javaSource = javaGenerator.generate(contract, cli.basePackage());
-
-                Path packageDir = cli.outputDir()
-                        .resolve(cli.basePackage().replace('.', '/'));
-
-                try {
-                    Files.createDirectories(packageDir);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to create package directory", e);
-                }
-
-                Path outputFile = packageDir.resolve(contract.name() + ".java");
-
-                Files.writeString(outputFile, javaSource);
-            }
-
-        } catch (Exception e) {
+            new CodegenPipeline().run(request);
+        } catch (IOException e) {
             throw new RuntimeException(
-                    "Failed to process script: " + scriptPath, e
+                    "Failed to generate sources from: " + cli.inputDir(), e
             );
         }
     }
-}
\ No newline at end of file
+}
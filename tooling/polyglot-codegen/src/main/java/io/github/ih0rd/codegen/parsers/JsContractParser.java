@@ -1,35 +1,691 @@
 package io.github.ih0rd.codegen.parsers;
 
+import io.github.ih0rd.codegen.parsers.JsTokenizer.Tokens;
+import io.github.ih0rd.codegen.types.JsTypeMapper;
 import io.github.ih0rd.contract.CodegenConfig;
+import io.github.ih0rd.contract.ContractClass;
+import io.github.ih0rd.contract.ContractMethod;
+import io.github.ih0rd.contract.ContractModel;
+import io.github.ih0rd.contract.ContractParam;
 import io.github.ih0rd.contract.LanguageParser;
 import io.github.ih0rd.contract.ScriptDescriptor;
-import io.github.ih0rd.contract.ContractModel;
 import io.github.ih0rd.contract.SupportedLanguage;
+import io.github.ih0rd.contract.types.PolyList;
+import io.github.ih0rd.contract.types.PolyMap;
+import io.github.ih0rd.contract.types.PolyObject;
+import io.github.ih0rd.contract.types.PolyPrimitive;
+import io.github.ih0rd.contract.types.PolyType;
+import io.github.ih0rd.contract.types.PolyUnknown;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.SourceVersion;
 
-/// # JsAstParser
+/// # JsContractParser
 ///
-/// JavaScript contract parser (stub).
+/// Extracts a {@link ContractModel} from a JavaScript script evaluated into the global scope.
 ///
-/// Responsibilities:
-/// - Acts as a placeholder for future JavaScript AST-based code generation
-/// - Defines an explicit extension point for JS support
+/// Exported functions:
+/// - Top-level declarations: {@code function f() {}}, {@code async function f() {}},
+///   {@code const f = (a) => ...}, {@code var f = function () {}}
+/// - Global assignments at any depth: {@code globalThis.f = ...}, including aliases of
+///   declared functions ({@code globalThis.add = sum})
+///
+/// Types:
+/// - JSDoc {@code @param {T} name} and {@code @returns {T}}, mapped by {@link JsTypeMapper}
+/// - Without hints, parameters take the type of their default value literal and the return
+///   type is inferred from the first {@code return} (or the expression body of an arrow);
+///   numeric literals are {@code number} (double), {@code @returns {integer}} opts into int
 ///
 /// Design notes:
-/// - JavaScript code generation is NOT supported in the current version
-/// - This class intentionally contains no parsing logic
-/// - No assumptions are made about JavaScript module systems or exports
-/// - ScriptSource is accepted for API symmetry only
+/// - The script is first parsed (never executed) by GraalJS when it is on the classpath,
+///   see {@link JsSyntaxValidator}; extraction then works on {@link JsTokenizer} tokens
+/// - The contract is named after the file: {@code stats_api.js} → {@code StatsApi}
+/// - Names starting with {@code _} are private; {@code @adapter_include} marks methods
+///   for {@link CodegenConfig#onlyIncludedMethods()}
 ///
 public final class JsContractParser implements LanguageParser {
+
+    private static final String JS_TAG_INCLUDE = "adapter_include";
+
+    private static final Set<String> GLOBAL_OBJECTS = Set.of("globalThis", "window", "self", "global");
+
+    private static final Set<String> COMPARISONS = Set.of(
+            "===", "!==", "==", "!=", "<", ">", "<=", ">=", "instanceof", "in"
+    );
+
+    private static final Set<String> SHORT_CIRCUITS = Set.of("?", "&&", "||", "??", ",");
+
     @Override
     public SupportedLanguage language() {
         return SupportedLanguage.JS;
     }
 
     @Override
-    public ContractModel parse(ScriptDescriptor scriptDescriptor, CodegenConfig codegenConfig) {
-        throw new UnsupportedOperationException(
-                "JavaScript contract generation is not supported yet");
+    public ContractModel parse(ScriptDescriptor script, CodegenConfig config) {
+        if (script.fileName() == null) {
+            throw new IllegalStateException("JavaScript contracts are named after their file; fileName is required");
+        }
+
+        JsSyntaxValidator.validate(script.fileName(), script.source());
+
+        Tokens tk = JsTokenizer.tokenize(script.source());
+        JsTypeMapper mapper = new JsTypeMapper(config.recordTypes());
+
+        Map<String, JsFunction> exports = findExports(tk);
+
+        List<ContractMethod> methods = new ArrayList<>();
+        exports.forEach((name, function) -> {
+            JsDoc doc = JsDoc.parse(function.doc);
+            if (!shouldSkip(name, config, doc.include)) {
+                methods.add(new ContractMethod(
+                        name,
+                        parseParams(tk, function, doc, mapper, config),
+                        resolveReturnType(tk, function, doc, mapper, config)
+                ));
+            }
+        });
+
+        return new ContractModel(List.of(new ContractClass(contractName(script.fileName()), methods)));
     }
 
-}
\ No newline at end of file
+    /// Function found in the source.
+    ///
+    /// @param doc         JSDoc attached to the declaring statement, or {@code null}
+    /// @param paramsFrom  first parameter token
+    /// @param paramsTo    end of the parameter tokens (closing parenthesis, or {@code =>})
+    /// @param body        opening brace of a block body, or first token of an expression body
+    /// @param blockBody   {@code true} for a {@code { ... }} body
+    private record JsFunction(String doc, int paramsFrom, int paramsTo, int body, boolean blockBody) {
+
+        JsFunction withDoc(String doc) {
+            return new JsFunction(doc, paramsFrom, paramsTo, body, blockBody);
+        }
+    }
+
+    /// Collects exported functions: declarations in source order, then global assignments.
+    private Map<String, JsFunction> findExports(Tokens tk) {
+        Map<String, JsFunction> exports = new LinkedHashMap<>();
+        Map<String, JsFunction> declared = new HashMap<>();
+
+        for (int i = 0; i < tk.count(); i++) {
+            // function name(...) { ... }
+            if (tk.is(i, "function")) {
+                int name = tk.is(i + 1, "*") ? i + 2 : i + 1;
+                int start = statementStart(tk, i);
+                if (tk.kind(name) == JsTokenizer.NAME && tk.is(name + 1, "(") && isStatementStart(tk, start)) {
+                    JsFunction function = functionAt(tk, i, tk.doc(start));
+                    if (function != null) {
+                        declared.putIfAbsent(tk.text(name), function);
+                        if (tk.depth(i) == 0) {
+                            exports.putIfAbsent(tk.text(name), function);
+                        }
+                    }
+                }
+            } else if ((tk.is(i, "const") || tk.is(i, "let") || tk.is(i, "var"))
+                    && tk.kind(i + 1) == JsTokenizer.NAME
+                    && tk.is(i + 2, "=")) {
+                // const name = <function>
+                JsFunction function = functionAt(tk, i + 3, tk.doc(i));
+                if (function != null) {
+                    declared.putIfAbsent(tk.text(i + 1), function);
+                    if (tk.depth(i) == 0) {
+                        exports.putIfAbsent(tk.text(i + 1), function);
+                    }
+                }
+            }
+        }
+
+        // second pass: aliases may refer to hoisted declarations further down
+        for (int i = 0; i < tk.count(); i++) {
+            // globalThis.name = <function> | <declared name>
+            if (tk.kind(i) == JsTokenizer.NAME
+                    && GLOBAL_OBJECTS.contains(tk.text(i))
+                    && tk.is(i + 1, ".")
+                    && tk.kind(i + 2) == JsTokenizer.NAME
+                    && tk.is(i + 3, "=")
+                    && !tk.is(i - 1, ".")) {
+                String name = tk.text(i + 2);
+                int value = i + 4;
+                JsFunction function = functionAt(tk, value, tk.doc(i));
+                if (function == null && tk.kind(value) == JsTokenizer.NAME && declared.containsKey(tk.text(value))) {
+                    function = declared.get(tk.text(value));
+                    if (tk.doc(i) != null) {
+                        function = function.withDoc(tk.doc(i));
+                    }
+                }
+                if (function != null) {
+                    exports.putIfAbsent(name, function);
+                }
+            }
+        }
+        return exports;
+    }
+
+    /// First token of the statement declaring the {@code function} keyword at {@code keyword}.
+    private int statementStart(Tokens tk, int keyword) {
+        int start = keyword;
+        if (tk.is(start - 1, "async")) {
+            start--;
+        }
+        return start;
+    }
+
+    private boolean isStatementStart(Tokens tk, int token) {
+        if (token == 0 || tk.is(token - 1, ";") || tk.is(token - 1, "{") || tk.is(token - 1, "}")) {
+            return true;
+        }
+        return tk.startsLine(token) && tk.kind(token - 1) != JsTokenizer.OP;
+    }
+
+    /// Function expression, arrow function or declaration starting at {@code at}, or {@code null}.
+    private JsFunction functionAt(Tokens tk, int at, String doc) {
+        int i = at;
+        if (tk.is(i, "async")) {
+            i++;
+        }
+
+        if (tk.is(i, "function")) {
+            i++;
+            if (tk.is(i, "*")) {
+                i++;
+            }
+            if (tk.kind(i) == JsTokenizer.NAME) {
+                i++;
+            }
+            if (!tk.is(i, "(")) {
+                return null;
+            }
+            int close = matching(tk, i);
+            if (close < 0 || !tk.is(close + 1, "{")) {
+                return null;
+            }
+            return new JsFunction(doc, i + 1, close, close + 1, true);
+        }
+
+        // x => ...
+        if (tk.kind(i) == JsTokenizer.NAME && tk.is(i + 1, "=>")) {
+            return arrow(tk, doc, i, i + 1);
+        }
+
+        // (a, b) => ...
+        if (tk.is(i, "(")) {
+            int close = matching(tk, i);
+            if (close >= 0 && tk.is(close + 1, "=>")) {
+                return arrow(tk, doc, i + 1, close);
+            }
+        }
+        return null;
+    }
+
+    private JsFunction arrow(Tokens tk, String doc, int paramsFrom, int paramsTo) {
+        int arrow = tk.is(paramsTo, "=>") ? paramsTo : paramsTo + 1;
+        int body = arrow + 1;
+        if (body >= tk.count()) {
+            return null;
+        }
+        return new JsFunction(doc, paramsFrom, paramsTo, body, tk.is(body, "{"));
+    }
+
+    private boolean shouldSkip(String name, CodegenConfig config, boolean hasTag) {
+        return name.startsWith("_") || (config.onlyIncludedMethods() && !hasTag);
+    }
+
+    private List<ContractParam> parseParams(
+            Tokens tk, JsFunction function, JsDoc doc, JsTypeMapper mapper, CodegenConfig config
+    ) {
+        List<ContractParam> params = new ArrayList<>();
+
+        for (int[] part : splitTopLevel(tk, function.paramsFrom, function.paramsTo, ",")) {
+            int first = part[0];
+
+            // ...rest
+            if (tk.is(first, "...")) {
+                continue;
+            }
+
+            // destructured parameters have no name of their own
+            String name = tk.kind(first) == JsTokenizer.NAME ? tk.text(first) : "arg" + params.size();
+
+            PolyType type;
+            String hint = doc.paramTypes.get(name);
+            if (hint != null) {
+                type = mapper.mapPrimitive(hint);
+            } else if (tk.kind(first) == JsTokenizer.NAME && part[1] - first > 2 && tk.is(first + 1, "=")) {
+                type = inferExprType(tk, first + 2, part[1], config);
+            } else {
+                type = new PolyUnknown();
+            }
+            params.add(new ContractParam(name, type));
+        }
+        return params;
+    }
+
+    private PolyType resolveReturnType(
+            Tokens tk, JsFunction function, JsDoc doc, JsTypeMapper mapper, CodegenConfig config
+    ) {
+        if (doc.returnType != null && !doc.returnType.isBlank()) {
+            return mapper.mapPrimitive(doc.returnType);
+        }
+        if (!function.blockBody) {
+            return inferExprType(tk, function.body, expressionEnd(tk, function.body), config);
+        }
+        return inferReturnType(tk, function.body, config);
+    }
+
+    /// Infers the return type from the first {@code return} of a block body.
+    ///
+    /// Bodies of nested functions and classes are skipped.
+    private PolyType inferReturnType(Tokens tk, int open, CodegenConfig config) {
+        int close = matching(tk, open);
+        int end = close < 0 ? tk.count() : close;
+
+        for (int i = open + 1; i < end; i++) {
+            if (tk.is(i, "function") || tk.is(i, "class")) {
+                int block = i + 1;
+                while (block < end && !tk.is(block, "{")) {
+                    block = tk.is(block, "(") ? Math.max(block, matching(tk, block)) + 1 : block + 1;
+                }
+                i = block < end ? Math.max(block, matching(tk, block)) : end;
+                continue;
+            }
+            if (tk.is(i, "=>") && tk.is(i + 1, "{")) {
+                i = Math.max(i + 1, matching(tk, i + 1));
+                continue;
+            }
+            if (tk.is(i, "return")) {
+                int from = i + 1;
+                // a line break after return ends the statement
+                if (from >= end || tk.startsLine(from) || tk.is(from, ";") || tk.is(from, "}")) {
+                    return new PolyUnknown();
+                }
+                return inferExprType(tk, from, expressionEnd(tk, from), config);
+            }
+        }
+        return new PolyUnknown();
+    }
+
+    /// End (exclusive) of the expression starting at {@code from}: a {@code ;} or {@code ,}
+    /// at its depth, the bracket enclosing it, or a line break where automatic semicolon
+    /// insertion applies.
+    private int expressionEnd(Tokens tk, int from) {
+        int base = tk.depth(from);
+        for (int i = from + 1; i < tk.count(); i++) {
+            int depth = tk.depth(i);
+            if (depth < base) {
+                return i;
+            }
+            if (depth > base) {
+                continue;
+            }
+            if (tk.is(i, ";") || tk.is(i, ",")) {
+                return i;
+            }
+            if (tk.startsLine(i) && tk.kind(i) != JsTokenizer.OP && endsOperand(tk, i - 1)) {
+                return i;
+            }
+        }
+        return tk.count();
+    }
+
+    private boolean endsOperand(Tokens tk, int token) {
+        return tk.kind(token) != JsTokenizer.OP
+                || tk.is(token, ")") || tk.is(token, "]") || tk.is(token, "}")
+                || tk.is(token, "++") || tk.is(token, "--");
+    }
+
+    private PolyType inferExprType(Tokens tk, int from, int to, CodegenConfig config) {
+        if (from >= to) {
+            return new PolyUnknown();
+        }
+
+        // ( expr )
+        if (tk.is(from, "(") && matching(tk, from) == to - 1) {
+            return inferExprType(tk, from + 1, to - 1, config);
+        }
+
+        // Array literal: [ ... ]
+        if (tk.is(from, "[") && matching(tk, from) == to - 1) {
+            if (indexOfTopLevel(tk, from + 1, to - 1, "...") >= 0) {
+                return new PolyList(new PolyUnknown());
+            }
+            return new PolyList(unifyTypes(tk, splitTopLevel(tk, from + 1, to - 1, ","), config));
+        }
+
+        // Object literal: { ... }
+        if (tk.is(from, "{") && matching(tk, from) == to - 1) {
+            return inferObjectLiteral(tk, from + 1, to - 1, config);
+        }
+
+        return inferOperatorType(tk, from, to);
+    }
+
+    /// Unifies the property values of an object literal into a string-keyed map type.
+    ///
+    /// With {@link CodegenConfig#recordTypes()}, literals whose keys are all constant
+    /// identifiers describe an object instead: {@code {min: 1, max: 2}}.
+    private PolyType inferObjectLiteral(Tokens tk, int from, int to, CodegenConfig config) {
+        if (from == to) {
+            return new PolyMap(PolyPrimitive.STRING, new PolyUnknown());
+        }
+
+        Map<String, PolyType> fields = new LinkedHashMap<>();
+        boolean constantKeys = true;
+        PolyType acc = null;
+
+        for (int[] entry : splitTopLevel(tk, from, to, ",")) {
+            PolyType type;
+            String key = fieldName(tk, entry[0]);
+            int colon = indexOfTopLevel(tk, entry[0], entry[1], ":");
+
+            if (colon == entry[0] + 1) {
+                type = inferExprType(tk, colon + 1, entry[1], config);
+            } else if (entry[1] - entry[0] == 1 && tk.kind(entry[0]) == JsTokenizer.NAME) {
+                // shorthand { value }
+                type = new PolyUnknown();
+            } else {
+                // spread, computed keys and methods
+                key = null;
+                type = new PolyUnknown();
+            }
+
+            if (key == null) {
+                constantKeys = false;
+            } else {
+                fields.put(key, type);
+            }
+            acc = (acc == null) ? type : unify(acc, type);
+        }
+
+        if (config.recordTypes() && constantKeys && !fields.isEmpty()) {
+            return new PolyObject(fields);
+        }
+        return new PolyMap(PolyPrimitive.STRING, acc != null ? acc : new PolyUnknown());
+    }
+
+    /// Key token as a field name: an identifier or a quoted string holding a valid
+    /// Java identifier; otherwise {@code null}.
+    private String fieldName(Tokens tk, int key) {
+        String name;
+        if (tk.kind(key) == JsTokenizer.NAME) {
+            name = tk.text(key);
+        } else if (tk.kind(key) == JsTokenizer.STRING && isQuoted(tk, key)) {
+            String text = tk.text(key);
+            name = text.substring(1, Math.max(1, text.length() - 1));
+        } else {
+            return null;
+        }
+        return SourceVersion.isName(name) ? name : null;
+    }
+
+    /// Type of literals and simple operator expressions:
+    /// {@code 1}, {@code -1.5}, {@code "a"}, {@code `a${b}`}, {@code true},
+    /// {@code "a" + b}, {@code a === b}, {@code !a}, {@code typeof a}.
+    private PolyType inferOperatorType(Tokens tk, int from, int to) {
+        if (to - from == 1) {
+            return literalType(tk, from);
+        }
+        if (to - from == 2 && (tk.is(from, "-") || tk.is(from, "+")) && tk.kind(from + 1) == JsTokenizer.NUMBER) {
+            return literalType(tk, from + 1);
+        }
+
+        int base = tk.depth(from);
+        boolean plus = false;
+        boolean stringOperand = false;
+        boolean comparison = false;
+        boolean other = false;
+
+        for (int i = from; i < to; i++) {
+            if (tk.depth(i) != base) {
+                continue;
+            }
+            if (tk.kind(i) == JsTokenizer.STRING) {
+                stringOperand |= isQuoted(tk, i) || tk.charAt(i, 0) == '`';
+            } else if (tk.is(i, "+")) {
+                plus = true;
+            } else if (COMPARISONS.contains(tk.text(i))) {
+                comparison = true;
+            } else if (SHORT_CIRCUITS.contains(tk.text(i))) {
+                return new PolyUnknown();
+            } else if (tk.kind(i) == JsTokenizer.OP && !isBracket(tk, i) && !tk.is(i, ".") && !tk.is(i, "?.")) {
+                other = true;
+            }
+        }
+
+        if (comparison) {
+            return PolyPrimitive.BOOLEAN;
+        }
+        if (tk.is(from, "!")) {
+            return PolyPrimitive.BOOLEAN;
+        }
+        if (tk.is(from, "typeof")) {
+            return PolyPrimitive.STRING;
+        }
+        if (plus && stringOperand && !other) {
+            return PolyPrimitive.STRING;
+        }
+        return new PolyUnknown();
+    }
+
+    private PolyType literalType(Tokens tk, int literal) {
+        return switch (tk.kind(literal)) {
+            // every JS number is a double; BigInt literals (1n) have no contract type
+            case JsTokenizer.NUMBER -> tk.text(literal).endsWith("n") ? new PolyUnknown() : PolyPrimitive.FLOAT;
+            case JsTokenizer.STRING ->
+                    (isQuoted(tk, literal) || tk.charAt(literal, 0) == '`') ? PolyPrimitive.STRING : new PolyUnknown();
+            case JsTokenizer.NAME ->
+                    (tk.is(literal, "true") || tk.is(literal, "false")) ? PolyPrimitive.BOOLEAN : new PolyUnknown();
+            default -> new PolyUnknown();
+        };
+    }
+
+    private PolyType unifyTypes(Tokens tk, List<int[]> expressions, CodegenConfig config) {
+        PolyType acc = null;
+        for (int[] expr : expressions) {
+            PolyType type = inferExprType(tk, expr[0], expr[1], config);
+            acc = (acc == null) ? type : unify(acc, type);
+        }
+        return (acc != null) ? acc : new PolyUnknown();
+    }
+
+    private PolyType unify(PolyType a, PolyType b) {
+        if (a instanceof PolyPrimitive pa && b instanceof PolyPrimitive pb && pa == pb) {
+            return pa;
+        }
+        if (a instanceof PolyList(PolyType elementType) && b instanceof PolyList(PolyType type)) {
+            return new PolyList(unify(elementType, type));
+        }
+        if (a instanceof PolyMap(PolyType type, PolyType aValueType) && b instanceof PolyMap(
+                PolyType keyType, PolyType bValueType
+        )) {
+            return new PolyMap(unify(type, keyType), unify(aValueType, bValueType));
+        }
+        if (a instanceof PolyObject(Map<String, PolyType> aFields)
+                && b instanceof PolyObject(Map<String, PolyType> bFields)
+                && aFields.keySet().equals(bFields.keySet())) {
+            Map<String, PolyType> fields = new LinkedHashMap<>();
+            aFields.forEach((name, type) -> fields.put(name, unify(type, bFields.get(name))));
+            return new PolyObject(fields);
+        }
+        return new PolyUnknown();
+    }
+
+    private boolean isQuoted(Tokens tk, int string) {
+        char c = tk.charAt(string, 0);
+        return c == '"' || c == '\'';
+    }
+
+    private boolean isBracket(Tokens tk, int token) {
+        return tk.is(token, "(") || tk.is(token, ")")
+                || tk.is(token, "[") || tk.is(token, "]")
+                || tk.is(token, "{") || tk.is(token, "}");
+    }
+
+    /// Index of the bracket closing the one at {@code open}, or {@code -1}.
+    ///
+    /// Contents are one level deeper than the brackets, so the closer is the next token
+    /// back at the opener's depth.
+    private int matching(Tokens tk, int open) {
+        int depth = tk.depth(open);
+        for (int i = open + 1; i < tk.count(); i++) {
+            if (tk.depth(i) <= depth) {
+                return tk.depth(i) == depth && isBracket(tk, i) ? i : -1;
+            }
+        }
+        return -1;
+    }
+
+    /// Index of the first {@code target} token at the depth of {@code from}, or {@code -1}.
+    private int indexOfTopLevel(Tokens tk, int from, int to, String target) {
+        int base = tk.depth(from);
+        for (int i = from; i < to; i++) {
+            if (tk.depth(i) == base && tk.is(i, target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /// Splits a token range on separators at the depth of {@code from}; empty parts are dropped.
+    private List<int[]> splitTopLevel(Tokens tk, int from, int to, String separator) {
+        List<int[]> parts = new ArrayList<>();
+        if (from >= to) {
+            return parts;
+        }
+
+        int base = tk.depth(from);
+        int start = from;
+        for (int i = from; i < to; i++) {
+            if (tk.depth(i) == base && tk.is(i, separator)) {
+                if (i > start) {
+                    parts.add(new int[]{start, i});
+                }
+                start = i + 1;
+            }
+        }
+        if (to > start) {
+            parts.add(new int[]{start, to});
+        }
+        return parts;
+    }
+
+    /// {@code stats_api.js} → {@code StatsApi}.
+    private static String contractName(String fileName) {
+        String base = fileName.replace('\\', '/');
+        base = base.substring(base.lastIndexOf('/') + 1);
+        int dot = base.lastIndexOf('.');
+        if (dot > 0) {
+            base = base.substring(0, dot);
+        }
+
+        StringBuilder sb = new StringBuilder(base.length());
+        boolean upper = true;
+        for (int i = 0; i < base.length(); i++) {
+            char c = base.charAt(i);
+            if (!Character.isJavaIdentifierPart(c) || c == '_' || c == '$') {
+                upper = true;
+                continue;
+            }
+            if (sb.isEmpty() && !Character.isJavaIdentifierStart(c)) {
+                sb.append('_');
+            }
+            sb.append(upper ? Character.toUpperCase(c) : c);
+            upper = false;
+        }
+        return sb.isEmpty() ? "Script" : sb.toString();
+    }
+
+    /// Tags of a JSDoc block.
+    ///
+    /// @param paramTypes {@code @param} types by parameter name
+    /// @param returnType {@code @returns} type, or {@code null}
+    /// @param include    {@code true} if tagged {@code @adapter_include}
+    private record JsDoc(Map<String, String> paramTypes, String returnType, boolean include) {
+
+        private static final JsDoc EMPTY = new JsDoc(Map.of(), null, false);
+
+        static JsDoc parse(String doc) {
+            if (doc == null) {
+                return EMPTY;
+            }
+
+            Map<String, String> params = new HashMap<>();
+            String returns = null;
+            boolean include = false;
+
+            int i = doc.indexOf('@');
+            while (i >= 0) {
+                int nameEnd = i + 1;
+                while (nameEnd < doc.length() && Character.isJavaIdentifierPart(doc.charAt(nameEnd))) {
+                    nameEnd++;
+                }
+                String tag = doc.substring(i + 1, nameEnd);
+                int pos = skipSpaces(doc, nameEnd);
+
+                switch (tag) {
+                    case "param", "arg", "argument" -> {
+                        String type = null;
+                        if (pos < doc.length() && doc.charAt(pos) == '{') {
+                            int close = closingBrace(doc, pos);
+                            type = doc.substring(pos + 1, close);
+                            pos = skipSpaces(doc, Math.min(close + 1, doc.length()));
+                        }
+                        String name = paramName(doc, pos);
+                        if (type != null && name != null) {
+                            params.putIfAbsent(name, type.trim());
+                        }
+                    }
+                    case "returns", "return" -> {
+                        if (returns == null && pos < doc.length() && doc.charAt(pos) == '{') {
+                            int close = closingBrace(doc, pos);
+                            returns = doc.substring(pos + 1, close).trim();
+                        }
+                    }
+                    case JS_TAG_INCLUDE -> include = true;
+                    default -> {
+                    }
+                }
+                i = doc.indexOf('@', nameEnd);
+            }
+            return new JsDoc(params, returns, include);
+        }
+
+        private static int skipSpaces(String doc, int pos) {
+            while (pos < doc.length() && (Character.isWhitespace(doc.charAt(pos)) || doc.charAt(pos) == '*')) {
+                pos++;
+            }
+            return pos;
+        }
+
+        private static int closingBrace(String doc, int open) {
+            int balance = 0;
+            for (int i = open; i < doc.length(); i++) {
+                char c = doc.charAt(i);
+                if (c == '{') {
+                    balance++;
+                } else if (c == '}' && --balance == 0) {
+                    return i;
+                }
+            }
+            return doc.length();
+        }
+
+        /// {@code name}, {@code [name]} or {@code [name=default]}; nested properties
+        /// ({@code options.size}) yield {@code null}.
+        private static String paramName(String doc, int pos) {
+            if (pos < doc.length() && doc.charAt(pos) == '[') {
+                pos++;
+            }
+            int end = pos;
+            while (end < doc.length()
+                    && (Character.isJavaIdentifierPart(doc.charAt(end)) || doc.charAt(end) == '.')) {
+                end++;
+            }
+            String name = doc.substring(pos, end);
+            return name.isEmpty() || name.contains(".") ? null : name;
+        }
+    }
+}
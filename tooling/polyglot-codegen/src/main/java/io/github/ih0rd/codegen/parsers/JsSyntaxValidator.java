@@ -0,0 +1,80 @@
+package io.github.ih0rd.codegen.parsers;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Source;
+
+/// # JsSyntaxValidator
+///
+/// Validates JavaScript contracts with the GraalJS parser before extraction.
+///
+/// Responsibilities:
+/// - Parse (never execute) the script in a throwaway context
+/// - Report syntax errors with the GraalJS location and message
+///
+/// Design notes:
+/// - GraalJS is an optional dependency of the codegen module; when it is not on the
+///   classpath, validation is skipped and extraction still runs
+/// - One engine is shared by all validations, so parsing warms up once per build;
+///   contexts are cheap and confined to a single call, which keeps parallel codegen safe
+///
+final class JsSyntaxValidator {
+
+    private static final boolean POLYGLOT_PRESENT = isPolyglotPresent();
+
+    private JsSyntaxValidator() {
+    }
+
+    /// ### validate
+    ///
+    /// @param fileName script name used in error locations
+    /// @param source   JavaScript source
+    /// @throws IllegalStateException if the script has a syntax error
+    static void validate(String fileName, String source) {
+        if (!POLYGLOT_PRESENT || !Holder.AVAILABLE) {
+            return;
+        }
+        Holder.validate(fileName, source);
+    }
+
+    private static boolean isPolyglotPresent() {
+        try {
+            Class.forName("org.graalvm.polyglot.Engine", false, JsSyntaxValidator.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+
+    /// Lazily initialized engine; only loaded once the polyglot API is known to be present.
+    private static final class Holder {
+
+        private static final boolean AVAILABLE;
+        private static final Engine ENGINE;
+
+        static {
+            Engine engine = null;
+            try {
+                engine = Engine.newBuilder("js")
+                        .option("engine.WarnInterpreterOnly", "false")
+                        .build();
+            } catch (LinkageError | RuntimeException ex) {
+                // the js language is not on the classpath
+            }
+            ENGINE = engine;
+            AVAILABLE = engine != null;
+        }
+
+        private static void validate(String fileName, String source) {
+            try (Context context = Context.newBuilder("js").engine(ENGINE).build()) {
+                context.parse(Source.newBuilder("js", source, fileName).buildLiteral());
+            } catch (PolyglotException ex) {
+                if (ex.isSyntaxError()) {
+                    throw new IllegalStateException("Invalid JavaScript in " + fileName + ": " + ex.getMessage(), ex);
+                }
+                throw ex;
+            }
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package io.github.ih0rd.codegen.parsers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/// # JsTokenizer
+///
+/// Single-pass tokenizer for JavaScript contract extraction.
+///
+/// Responsibilities:
+/// - Produce NAME, NUMBER, STRING and OP tokens as source offsets
+/// - Record the bracket depth of every token and whether it starts a new line
+/// - Attach the preceding JSDoc block ({@code /** ... */}) to the next token
+/// - Drop other comments
+///
+/// Design notes:
+/// - Linear in the source length; flat {@code int[]} storage like {@link PythonTokenizer}
+/// - String, template and regular expression literals are single STRING tokens, so
+///   their content never leaks into structure detection; template substitutions
+///   ({@code ${...}}) are skipped with their nesting
+/// - A {@code /} starts a regular expression unless it follows an operand
+///
+final class JsTokenizer {
+
+    static final byte NAME = 0;
+    static final byte NUMBER = 1;
+    static final byte STRING = 2;
+    static final byte OP = 3;
+
+    /// Keywords after which {@code /} starts a regular expression.
+    private static final Set<String> REGEX_PREFIX_KEYWORDS = Set.of(
+            "return", "typeof", "instanceof", "in", "of", "new", "delete",
+            "void", "throw", "case", "do", "else", "yield", "await"
+    );
+
+    /// Multi-character operators, longest first.
+    private static final String[] OPERATORS = {
+            ">>>=", "...", "===", "!==", "**=", "<<=", ">>=", ">>>", "&&=", "||=", "??=",
+            "=>", "==", "!=", "<=", ">=", "&&", "||", "??", "?.", "++", "--",
+            "+=", "-=", "*=", "/=", "%=", "&=", "|=", "^=", "**", "<<", ">>"
+    };
+
+    /// ### Tokens
+    ///
+    /// Tokenized source, addressed by token index.
+    static final class Tokens {
+
+        private final String source;
+
+        private byte[] kinds = new byte[256];
+        private int[] starts = new int[256];
+        private int[] ends = new int[256];
+        private int[] depths = new int[256];
+        private boolean[] newLines = new boolean[256];
+        private int[] docs = new int[256];
+        private int count;
+
+        private final List<String> docTexts = new ArrayList<>();
+
+        private Tokens(String source) {
+            this.source = source;
+        }
+
+        int count() {
+            return count;
+        }
+
+        /// Token kind; {@code -1} past the last token.
+        byte kind(int token) {
+            return token < count ? kinds[token] : -1;
+        }
+
+        /// Bracket depth before the token; a closing bracket has the depth of its opener.
+        int depth(int token) {
+            return depths[token];
+        }
+
+        /// {@code true} if a line break precedes the token.
+        boolean startsLine(int token) {
+            return newLines[token];
+        }
+
+        /// {@code true} if the token is a NAME, NUMBER or OP with exactly this text.
+        boolean is(int token, String text) {
+            if (token < 0 || token >= count) {
+                return false;
+            }
+            int length = ends[token] - starts[token];
+            return kinds[token] != STRING
+                    && length == text.length()
+                    && source.regionMatches(starts[token], text, 0, length);
+        }
+
+        int start(int token) {
+            return starts[token];
+        }
+
+        int end(int token) {
+            return ends[token];
+        }
+
+        String text(int token) {
+            return source.substring(starts[token], ends[token]);
+        }
+
+        char charAt(int token, int offset) {
+            return source.charAt(starts[token] + offset);
+        }
+
+        /// JSDoc block directly preceding the token, or {@code null}.
+        String doc(int token) {
+            return docs[token] < 0 ? null : docTexts.get(docs[token]);
+        }
+
+        private void add(byte kind, int start, int end, int depth, boolean newLine, int doc) {
+            if (count == kinds.length) {
+                int size = count * 2;
+                kinds = Arrays.copyOf(kinds, size);
+                starts = Arrays.copyOf(starts, size);
+                ends = Arrays.copyOf(ends, size);
+                depths = Arrays.copyOf(depths, size);
+                newLines = Arrays.copyOf(newLines, size);
+                docs = Arrays.copyOf(docs, size);
+            }
+            kinds[count] = kind;
+            starts[count] = start;
+            ends[count] = end;
+            depths[count] = depth;
+            newLines[count] = newLine;
+            docs[count] = doc;
+            count++;
+        }
+    }
+
+    private final String source;
+    private final int length;
+    private final Tokens tokens;
+
+    private int pos;
+    private int depth;
+    private boolean newLine = true;
+    private int pendingDoc = -1;
+
+    private JsTokenizer(String source) {
+        this.source = source;
+        this.length = source.length();
+        this.tokens = new Tokens(source);
+    }
+
+    /// ### tokenize
+    ///
+    /// @param source JavaScript source
+    /// @return tokens in source order
+    static Tokens tokenize(String source) {
+        JsTokenizer tokenizer = new JsTokenizer(source);
+        tokenizer.run();
+        return tokenizer.tokens;
+    }
+
+    private void run() {
+        while (pos < length) {
+            char c = source.charAt(pos);
+
+            if (c == '\n' || c == '\r' || c == '\u2028' || c == '\u2029') {
+                newLine = true;
+                pos++;
+            } else if (Character.isWhitespace(c) || c == '\uFEFF') {
+                pos++;
+            } else if (c == '/' && peek(1) == '/') {
+                skipLineComment();
+            } else if (c == '/' && peek(1) == '*') {
+                readBlockComment();
+            } else if (c == '"' || c == '\'') {
+                int start = pos;
+                skipString(c);
+                add(STRING, start);
+            } else if (c == '`') {
+                int start = pos;
+                skipTemplate();
+                add(STRING, start);
+            } else if (c == '/' && regexAllowed()) {
+                int start = pos;
+                skipRegex();
+                add(STRING, start);
+            } else if (isNameStart(c)) {
+                int start = pos;
+                while (pos < length && isNamePart(source.charAt(pos))) {
+                    pos++;
+                }
+                add(NAME, start);
+            } else if (isDigit(c) || (c == '.' && isDigit(peek(1)))) {
+                readNumber();
+            } else {
+                readOperator(c);
+            }
+        }
+    }
+
+    private char peek(int offset) {
+        return pos + offset < length ? source.charAt(pos + offset) : '\0';
+    }
+
+    private void add(byte kind, int start) {
+        tokens.add(kind, start, Math.min(pos, length), depth, newLine, pendingDoc);
+        newLine = false;
+        pendingDoc = -1;
+    }
+
+    private void skipLineComment() {
+        while (pos < length && source.charAt(pos) != '\n' && source.charAt(pos) != '\r') {
+            pos++;
+        }
+    }
+
+    private void readBlockComment() {
+        int start = pos;
+        int end = source.indexOf("*/", pos + 2);
+        pos = end < 0 ? length : end + 2;
+
+        if (source.startsWith("/**", start) && pos - start > 4) {
+            tokens.docTexts.add(source.substring(start + 3, Math.max(start + 3, pos - 2)));
+            pendingDoc = tokens.docTexts.size() - 1;
+        }
+        if (source.substring(start, pos).indexOf('\n') >= 0) {
+            newLine = true;
+        }
+    }
+
+    private void skipString(char quote) {
+        pos++;
+        while (pos < length) {
+            char c = source.charAt(pos);
+            if (c == '\\') {
+                pos += 2;
+            } else if (c == quote) {
+                pos++;
+                return;
+            } else if (c == '\n') {
+                // unterminated
+                return;
+            } else {
+                pos++;
+            }
+        }
+    }
+
+    private void skipTemplate() {
+        pos++;
+        while (pos < length) {
+            char c = source.charAt(pos);
+            if (c == '\\') {
+                pos += 2;
+            } else if (c == '`') {
+                pos++;
+                return;
+            } else if (c == '$' && peek(1) == '{') {
+                pos += 2;
+                skipSubstitution();
+            } else {
+                pos++;
+            }
+        }
+    }
+
+    /// Skips a template substitution up to and including its closing brace.
+    private void skipSubstitution() {
+        int braces = 1;
+        while (pos < length) {
+            char c = source.charAt(pos);
+            if (c == '"' || c == '\'') {
+                skipString(c);
+            } else if (c == '`') {
+                skipTemplate();
+            } else if (c == '/' && peek(1) == '/') {
+                skipLineComment();
+            } else if (c == '/' && peek(1) == '*') {
+                int end = source.indexOf("*/", pos + 2);
+                pos = end < 0 ? length : end + 2;
+            } else {
+                if (c == '{') {
+                    braces++;
+                } else if (c == '}' && --braces == 0) {
+                    pos++;
+                    return;
+                }
+                pos++;
+            }
+        }
+    }
+
+    /// {@code true} if a {@code /} at the current position starts a regular expression.
+    private boolean regexAllowed() {
+        int last = tokens.count - 1;
+        if (last < 0) {
+            return true;
+        }
+        return switch (tokens.kind(last)) {
+            case NUMBER, STRING -> false;
+            case NAME -> REGEX_PREFIX_KEYWORDS.contains(tokens.text(last));
+            default -> !(tokens.is(last, ")") || tokens.is(last, "]") || tokens.is(last, "}")
+                    || tokens.is(last, "++") || tokens.is(last, "--"));
+        };
+    }
+
+    private void skipRegex() {
+        pos++;
+        boolean inClass = false;
+        while (pos < length) {
+            char c = source.charAt(pos);
+            if (c == '\\') {
+                pos += 2;
+                continue;
+            }
+            if (c == '\n') {
+                return;
+            }
+            pos++;
+            if (c == '[') {
+                inClass = true;
+            } else if (c == ']') {
+                inClass = false;
+            } else if (c == '/' && !inClass) {
+                break;
+            }
+        }
+        while (pos < length && isNamePart(source.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private void readNumber() {
+        int start = pos;
+        while (pos < length) {
+            char c = source.charAt(pos);
+            boolean exponentSign = (c == '+' || c == '-')
+                    && (source.charAt(pos - 1) == 'e' || source.charAt(pos - 1) == 'E')
+                    && !source.startsWith("0x", start) && !source.startsWith("0X", start);
+            if (isNamePart(c) || c == '.' || exponentSign) {
+                pos++;
+            } else {
+                break;
+            }
+        }
+        add(NUMBER, start);
+    }
+
+    private void readOperator(char c) {
+        int start = pos;
+
+        switch (c) {
+            case '(', '[', '{' -> {
+                pos++;
+                add(OP, start);
+                depth++;
+                return;
+            }
+            case ')', ']', '}' -> {
+                depth = Math.max(0, depth - 1);
+                pos++;
+                add(OP, start);
+                return;
+            }
+            default -> {
+            }
+        }
+
+        for (String operator : OPERATORS) {
+            if (source.startsWith(operator, pos)) {
+                // "?." followed by a digit is a conditional, not optional chaining
+                if (!operator.equals("?.") || !isDigit(peek(2))) {
+                    pos += operator.length();
+                    add(OP, start);
+                    return;
+                }
+            }
+        }
+
+        pos++;
+        add(OP, start);
+    }
+
+    private static boolean isNameStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '$' || c == '#'
+                || (c > 0x7f && Character.isUnicodeIdentifierStart(c));
+    }
+
+    private static boolean isNamePart(char c) {
+        return isNameStart(c) || isDigit(c) || (c > 0x7f && Character.isUnicodeIdentifierPart(c));
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.ih0rd.codegen.parsers;
 
+import io.github.ih0rd.codegen.parsers.PythonTokenizer.Tokens;
 import io.github.ih0rd.codegen.types.PythonTypeMapper;
 import io.github.ih0rd.contract.CodegenConfig;
 import io.github.ih0rd.contract.ContractClass;
@@ -11,35 +12,38 @@ import io.github.ih0rd.contract.ScriptDescriptor;
 import io.github.ih0rd.contract.SupportedLanguage;
 import io.github.ih0rd.contract.types.PolyList;
 import io.github.ih0rd.contract.types.PolyMap;
+import io.github.ih0rd.contract.types.PolyObject;
 import io.github.ih0rd.contract.types.PolyPrimitive;
 import io.github.ih0rd.contract.types.PolyType;
 import io.github.ih0rd.contract.types.PolyUnknown;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
+import java.util.Set;
 import java.util.regex.Pattern;
-
+import javax.lang.model.SourceVersion;
+
+/// # PythonContractParser
+///
+/// Extracts a {@link ContractModel} from a Python script exported via
+/// {@code polyglot.export_value(...)}.
+///
+/// Design notes:
+/// - Works on the logical lines produced by {@link PythonTokenizer} in a single pass;
+///   expressions are inspected as token ranges, never re-scanned as text
+/// - Comments and string contents cannot be mistaken for definitions or returns
+/// - Multi-line signatures, collections and bracketed expressions need no special handling
+///
 public final class PythonContractParser implements LanguageParser {
 
-    private static final String PYTHON_DECORATOR_INCLUDE = "@adapter_include";
-
-    private static final String S = "\\s*";
-    private static final String W = "\\w+";
-    private static final String Q = "[\"']";
-
-    private static final Pattern EXPORT_START =
-            Pattern.compile("polyglot\\.export_value" + S + "\\(" + S + Q + "(" + W + ")" + Q + S + ",");
+    private static final String PYTHON_DECORATOR_INCLUDE = "adapter_include";
 
-    private static final Pattern CLASS_DEF =
-            Pattern.compile("^" + S + "class" + S + "(" + W + ")" + S + ":");
+    private static final Pattern INT_LITERAL = Pattern.compile("\\d+");
+    private static final Pattern FLOAT_LITERAL = Pattern.compile("\\d+\\.\\d+");
 
-    private static final Pattern DEF_START =
-            Pattern.compile("^" + S + "def" + S + "(" + W + ")");
-
-    private static final Pattern PARAM_PATTERN =
-            Pattern.compile("^(" + W + ")(?:" + S + ":" + S + "([^=]+))?(?:" + S + "=.*)?$");
+    private static final Set<String> WRAPPERS = Set.of("list", "set", "tuple");
 
     private final PythonTypeMapper mapper = new PythonTypeMapper();
 
@@ -50,19 +54,18 @@ public final class PythonContractParser implements LanguageParser {
 
     @Override
     public ContractModel parse(ScriptDescriptor script, CodegenConfig config) {
-        String source = script.source().stripIndent();
-        String[] lines = source.split("\\R");
+        Tokens tk = PythonTokenizer.tokenize(script.source());
 
-        ExportInfo export = findExport(source);
+        ExportInfo export = findExport(tk);
         if (export == null) {
             throw new IllegalStateException("No polyglot.export_value found");
         }
 
         List<ContractMethod> methods;
         if (export.isClass) {
-            methods = parseClassMethods(lines, export.targetName, config);
+            methods = parseClassMethods(tk, export.targetName, config);
         } else {
-            methods = parseDictMethods(lines, export.dictMapping, config);
+            methods = parseDictMethods(tk, export.dictMapping, config);
         }
 
         return new ContractModel(List.of(new ContractClass(export.apiName, methods)));
@@ -72,107 +75,92 @@ public final class PythonContractParser implements LanguageParser {
 
     }
 
-    private ExportInfo findExport(String source) {
-        Matcher m = EXPORT_START.matcher(source);
-        if (!m.find()) {
-            return null;
-        }
-
-        String apiName = m.group(1);
-        int startIdx = m.end();
-
-        String remainder = source.substring(startIdx).trim();
-        String arg2 = extractExpression(remainder);
+    /// Finds {@code polyglot.export_value("Name", target)}.
+    private ExportInfo findExport(Tokens tk) {
+        for (int line = 0; line < tk.lineCount(); line++) {
+            int end = tk.lineEnd(line);
+            for (int i = tk.lineStart(line); i + 6 < end; i++) {
+                if (!tk.is(i, "polyglot")
+                        || !tk.is(i + 1, ".")
+                        || !tk.is(i + 2, "export_value")
+                        || !tk.is(i + 3, "(")
+                        || tk.kind(i + 4) != PythonTokenizer.STRING
+                        || !tk.is(i + 5, ",")) {
+                    continue;
+                }
 
-        if (arg2.startsWith("{")) {
-            Map<String, String> mapping = parseExportDict(arg2);
-            return new ExportInfo(apiName, null, mapping, false);
-        } else {
-            String className = arg2.split("\\W")[0];
-            return new ExportInfo(apiName, className, null, true);
-        }
-    }
+                String apiName = stringValue(tk, i + 4);
+                int target = i + 6;
 
-    private String extractExpression(String s) {
-        if (s.startsWith("{")) {
-            return extractBalancedBlock(s, 0, '{', '}');
-        }
-        int comma = s.indexOf(',');
-        int paren = s.indexOf(')');
-        int end = (comma != -1 && comma < paren) ? comma : paren;
-        if (end == -1) {
-            return s.trim();
+                if (tk.is(target, "{")) {
+                    int close = matching(tk, target, end);
+                    return new ExportInfo(apiName, null, parseExportDict(tk, target + 1, close < 0 ? end : close), false);
+                }
+                if (tk.kind(target) == PythonTokenizer.NAME) {
+                    return new ExportInfo(apiName, tk.text(target), null, true);
+                }
+            }
         }
-        return s.substring(0, end).trim();
+        return null;
     }
 
-    private Map<String, String> parseExportDict(String dictExpr) {
+    private Map<String, String> parseExportDict(Tokens tk, int from, int to) {
         Map<String, String> map = new HashMap<>();
-        String inside = stripOuter(dictExpr, '{', '}');
-        List<String> entries = splitTopLevelComma(inside);
-
-        for (String entry : entries) {
-            int colon = indexOfTopLevel(entry, ':');
-            if (colon > 0) {
-                String key = entry.substring(0, colon).trim();
-                String val = entry.substring(colon + 1).trim();
-                key = stripQuotes(key);
-                map.put(key, val);
+        for (int[] entry : splitTopLevel(tk, from, to, ",")) {
+            int colon = indexOfTopLevel(tk, entry[0], entry[1], ":");
+            if (colon > entry[0]) {
+                String name = tk.kind(entry[0]) == PythonTokenizer.STRING
+                        ? stringValue(tk, entry[0])
+                        : text(tk, entry[0], colon);
+                map.put(name, text(tk, colon + 1, entry[1]));
             }
         }
         return map;
     }
 
-    private List<ContractMethod> parseClassMethods(String[] lines, String className, CodegenConfig config) {
+    private List<ContractMethod> parseClassMethods(Tokens tk, String className, CodegenConfig config) {
         List<ContractMethod> methods = new ArrayList<>();
-        boolean insideClass = false;
-        int classIndent = -1;
-        boolean includeNext = false;
 
-        for (int i = 0; i < lines.length; i++) {
-            String rawLine = lines[i];
-            String trimmed = rawLine.trim();
+        int classLine = findClass(tk, className);
+        if (classLine < 0) {
+            return methods;
+        }
 
-            if (!insideClass) {
-                Matcher m = CLASS_DEF.matcher(rawLine);
-                if (m.find() && m.group(1).equals(className)) {
-                    insideClass = true;
-                    classIndent = indentLevel(rawLine);
-                }
-                continue;
-            }
+        int classIndent = tk.indent(classLine);
+        int methodIndent = -1;
+        boolean includeNext = false;
 
-            if (!trimmed.isBlank() && indentLevel(rawLine) <= classIndent) {
+        for (int line = classLine + 1; line < tk.lineCount(); line++) {
+            int indent = tk.indent(line);
+            if (indent <= classIndent) {
                 break;
             }
-
-            if (trimmed.equals(PYTHON_DECORATOR_INCLUDE)) {
-                includeNext = true;
+            if (methodIndent < 0) {
+                methodIndent = indent;
+            }
+            if (indent != methodIndent) {
                 continue;
             }
 
-            Matcher m = DEF_START.matcher(rawLine);
-            if (!m.find()) {
-                includeNext = false;
+            if (tk.is(tk.lineStart(line), "@")) {
+                includeNext |= isIncludeDecorator(tk, line);
                 continue;
             }
 
-            String methodName = m.group(1);
-            if (shouldSkip(methodName, config, includeNext)) {
-                includeNext = false;
-                continue;
+            int def = defIndex(tk, line);
+            if (def >= 0) {
+                String methodName = tk.text(def + 1);
+                if (!shouldSkip(methodName, config, includeNext)) {
+                    MethodSignature sig = parseSignature(tk, line, def);
+                    methods.add(new ContractMethod(methodName, sig.params, resolveReturnType(sig, tk, line, config)));
+                }
             }
             includeNext = false;
-
-            MethodSignature sig = parseSignature(lines, i);
-            PolyType returnType = resolveReturnType(sig, lines, i + 1, indentLevel(rawLine));
-
-            methods.add(new ContractMethod(methodName, sig.params, returnType));
         }
         return methods;
     }
 
-    private List<ContractMethod> parseDictMethods(String[] lines, Map<String, String> mapping, CodegenConfig config) {
+    private List<ContractMethod> parseDictMethods(Tokens tk, Map<String, String> mapping, CodegenConfig config) {
         List<ContractMethod> methods = new ArrayList<>();
         boolean includeNext = false;
 
@@ -181,295 +169,340 @@ public final class PythonContractParser implements LanguageParser {
                 reverseMap.computeIfAbsent(internalName, interf -> new ArrayList<>()).add(exportName)
         );
 
-        for (int i = 0; i < lines.length; i++) {
-            String rawLine = lines[i];
-            String trimmed = rawLine.trim();
-            if (trimmed.equals(PYTHON_DECORATOR_INCLUDE)) {
-                includeNext = true;
+        for (int line = 0; line < tk.lineCount(); line++) {
+            if (tk.indent(line) != 0) {
                 continue;
             }
 
-            Matcher m = DEF_START.matcher(rawLine);
-            boolean found = m.find();
-            int indent = indentLevel(rawLine);
-            if (found && indent == 0) {
-                String internalName = m.group(1);
-                if (reverseMap.containsKey(internalName)) {
-                    if (shouldSkip(internalName, config, includeNext)) {
-                        includeNext = false;
-                        continue;
-                    }
+            if (tk.is(tk.lineStart(line), "@")) {
+                includeNext |= isIncludeDecorator(tk, line);
+                continue;
+            }
 
-                    MethodSignature sig = parseSignature(lines, i);
-                    PolyType returnType = resolveReturnType(sig, lines, i + 1, indentLevel(rawLine));
+            int def = defIndex(tk, line);
+            if (def >= 0) {
+                String internalName = tk.text(def + 1);
+                if (reverseMap.containsKey(internalName) && !shouldSkip(internalName, config, includeNext)) {
+                    MethodSignature sig = parseSignature(tk, line, def);
+                    PolyType returnType = resolveReturnType(sig, tk, line, config);
 
                     for (String exportName : reverseMap.get(internalName)) {
                         methods.add(new ContractMethod(exportName, sig.params, returnType));
                     }
-                    includeNext = false;
                 }
             }
-
-            if (!trimmed.startsWith("def ") && !trimmed.startsWith("@")) {
-                includeNext = false;
-            }
+            includeNext = false;
         }
         return methods;
     }
 
-    private boolean shouldSkip(String name, CodegenConfig config, boolean hasDecorator) {
-        return name.startsWith("_") || (config.onlyIncludedMethods() && !hasDecorator);
+    private int findClass(Tokens tk, String className) {
+        for (int line = 0; line < tk.lineCount(); line++) {
+            int i = tk.lineStart(line);
+            if (tk.lineEnd(line) - i >= 3
+                    && tk.is(i, "class")
+                    && tk.is(i + 1, className)
+                    && (tk.is(i + 2, ":") || tk.is(i + 2, "("))) {
+                return line;
+            }
+        }
+        return -1;
     }
 
-    private record MethodSignature(List<ContractParam> params, String returnAnnotation) {
-
+    /// Index of the {@code def} keyword ({@code def} or {@code async def}), or {@code -1}.
+    private int defIndex(Tokens tk, int line) {
+        int def = tk.lineStart(line);
+        if (tk.is(def, "async")) {
+            def++;
+        }
+        if (def + 1 < tk.lineEnd(line) && tk.is(def, "def") && tk.kind(def + 1) == PythonTokenizer.NAME) {
+            return def;
+        }
+        return -1;
     }
 
-    private MethodSignature parseSignature(String[] lines, int startLine) {
-        StringBuilder sb = new StringBuilder();
-        int lineIdx = startLine;
+    private boolean isIncludeDecorator(Tokens tk, int line) {
+        int start = tk.lineStart(line);
+        return tk.lineEnd(line) - start == 2 && tk.is(start + 1, PYTHON_DECORATOR_INCLUDE);
+    }
 
-        while (lineIdx < lines.length) {
-            String line = lines[lineIdx].trim();
-            int comment = line.indexOf('#');
-            if (comment >= 0) {
-                line = line.substring(0, comment).trim();
-            }
+    private boolean shouldSkip(String name, CodegenConfig config, boolean hasDecorator) {
+        return name.startsWith("_") || (config.onlyIncludedMethods() && !hasDecorator);
+    }
 
-            sb.append(line);
+    /// @param params           parsed parameters
+    /// @param returnAnnotation return annotation text, or {@code null}
+    /// @param bodyStart        first inline body token, or {@code -1}
+    private record MethodSignature(List<ContractParam> params, String returnAnnotation, int bodyStart) {
 
-            if (indexOfTopLevel(line, ':') >= 0) {
-                break;
-            }
+    }
 
-            lineIdx++;
+    private MethodSignature parseSignature(Tokens tk, int line, int def) {
+        int end = tk.lineEnd(line);
+        int open = def + 2;
+        if (open >= end || !tk.is(open, "(")) {
+            return new MethodSignature(List.of(), null, -1);
         }
 
-        String sig = sb.toString();
-        int openParen = sig.indexOf('(');
-        if (openParen < 0) {
-            return new MethodSignature(List.of(), null);
+        int close = matching(tk, open, end);
+        if (close < 0) {
+            return new MethodSignature(List.of(), null, -1);
         }
 
-        int arrow = sig.lastIndexOf("->");
-        int closeParen = -1;
+        int colon = indexOfTopLevel(tk, close + 1, end, ":");
+        int headerEnd = colon < 0 ? end : colon;
 
-        if (arrow > 0) {
-            closeParen = sig.substring(0, arrow).lastIndexOf(')');
-        } else {
-            int colon = sig.lastIndexOf(':');
-            if (colon > 0) {
-                closeParen = sig.substring(0, colon).lastIndexOf(')');
-            }
-        }
-
-        if (closeParen < 0) {
-            return new MethodSignature(List.of(), null);
+        String returnAnnotation = null;
+        if (close + 1 < headerEnd && tk.is(close + 1, "->")) {
+            returnAnnotation = text(tk, close + 2, headerEnd);
         }
 
-        String paramsStr = sig.substring(openParen + 1, closeParen);
-        String returnStr = (arrow > 0 && sig.lastIndexOf(':') > arrow)
-                ? sig.substring(arrow + 2, sig.lastIndexOf(':')).trim()
-                : null;
-
-        return new MethodSignature(parseParams(paramsStr), returnStr);
+        int bodyStart = (colon >= 0 && colon + 1 < end) ? colon + 1 : -1;
+        return new MethodSignature(parseParams(tk, open + 1, close), returnAnnotation, bodyStart);
     }
 
-    private PolyType resolveReturnType(MethodSignature sig, String[] lines, int bodyStart, int indent) {
+    private PolyType resolveReturnType(MethodSignature sig, Tokens tk, int defLine, CodegenConfig config) {
         if (sig.returnAnnotation != null && !sig.returnAnnotation.isBlank()) {
             return mapper.mapPrimitive(sig.returnAnnotation);
         }
-        return inferReturnType(lines, bodyStart, indent);
+        return inferReturnType(sig, tk, defLine, config);
     }
 
-    private List<ContractParam> parseParams(String raw) {
+    private List<ContractParam> parseParams(Tokens tk, int from, int to) {
         List<ContractParam> params = new ArrayList<>();
-        List<String> parts = splitTopLevelComma(raw);
 
-        for (String part : parts) {
-            String trimmed = part.trim();
-            if (trimmed.equals("self") || trimmed.isBlank()) {
+        for (int[] part : splitTopLevel(tk, from, to, ",")) {
+            int name = part[0];
+
+            // *args, **kwargs, bare * and / separators
+            if (tk.kind(name) != PythonTokenizer.NAME) {
+                continue;
+            }
+            if (part[1] - name == 1) {
+                if (!tk.is(name, "self")) {
+                    params.add(new ContractParam(tk.text(name), new PolyUnknown()));
+                }
                 continue;
             }
 
-            Matcher matcher = PARAM_PATTERN.matcher(trimmed);
-            if (matcher.find()) {
-                String name = matcher.group(1);
-                String typeHint = matcher.group(2);
-                PolyType type = (typeHint != null) ? mapper.mapPrimitive(typeHint) : new PolyUnknown();
-                params.add(new ContractParam(name, type));
+            if (tk.is(name + 1, ":")) {
+                int eq = indexOfTopLevel(tk, name + 2, part[1], "=");
+                String typeHint = text(tk, name + 2, eq < 0 ? part[1] : eq);
+                params.add(new ContractParam(tk.text(name), mapper.mapPrimitive(typeHint)));
+            } else if (tk.is(name + 1, "=")) {
+                params.add(new ContractParam(tk.text(name), new PolyUnknown()));
             }
         }
         return params;
     }
 
-    private PolyType inferReturnType(String[] lines, int start, int methodIndent) {
-        for (int i = start; i < lines.length; i++) {
-            String raw = lines[i];
-            String trimmed = raw.trim();
-
-            // stop when leaving method block
-            if (!trimmed.isBlank() && indentLevel(raw) <= methodIndent) {
-                break;
+    /// Infers the return type from the first {@code return} of the method body.
+    ///
+    /// Bodies of nested functions and classes are skipped.
+    private PolyType inferReturnType(MethodSignature sig, Tokens tk, int defLine, CodegenConfig config) {
+        if (sig.bodyStart >= 0) {
+            PolyType inline = inferReturnStatement(tk, sig.bodyStart, tk.lineEnd(defLine), config);
+            if (inline != null) {
+                return inline;
             }
+        }
 
-            // skip comments
-            if (trimmed.startsWith("#")) {
-                continue;
-            }
+        int methodIndent = tk.indent(defLine);
+        int nestedIndent = -1;
 
-            // optional: skip simple docstring lines
-            if (trimmed.startsWith("\"\"\"") || trimmed.startsWith("'''")) {
-                continue;
+        for (int line = defLine + 1; line < tk.lineCount(); line++) {
+            int indent = tk.indent(line);
+            if (indent <= methodIndent) {
+                break;
             }
-
-            int returnIdx = trimmed.indexOf("return");
-            if (returnIdx < 0) {
-                continue;
+            if (nestedIndent >= 0) {
+                if (indent > nestedIndent) {
+                    continue;
+                }
+                nestedIndent = -1;
             }
-
-            // ensure it's a real keyword (not part of identifier)
-            if (returnIdx > 0 && Character.isJavaIdentifierPart(trimmed.charAt(returnIdx - 1))) {
+            if (defIndex(tk, line) >= 0 || tk.is(tk.lineStart(line), "class")) {
+                nestedIndent = indent;
                 continue;
             }
 
-            String expr = trimmed.substring(returnIdx + "return".length()).trim();
-            if (expr.isEmpty()) {
-                return new PolyUnknown();
+            PolyType type = inferReturnStatement(tk, tk.lineStart(line), tk.lineEnd(line), config);
+            if (type != null) {
+                return type;
             }
+        }
+        return new PolyUnknown();
+    }
 
-            if ((expr.startsWith("[") && notBalanced(expr, '[', ']')) ||
-                    (expr.startsWith("{") && notBalanced(expr, '{', '}')) ||
-                    (expr.startsWith("(") && notBalanced(expr, '(', ')'))) {
-
-                char open = expr.charAt(0);
-                char close = (open == '[') ? ']' : (open == '{') ? '}' : ')';
-                expr = expr + "\n" + collectUntilBalanced(
-                        lines, i + 1, methodIndent, open, close,
-                        balanceDelta(expr, open, close)
-                );
+    /// Type of a {@code return} statement in {@code [from, to)}, either at the start, after a
+    /// compound statement colon ({@code if x: return 1}) or after {@code ;}.
+    ///
+    /// @return inferred type, or {@code null} if there is no {@code return}
+    private PolyType inferReturnStatement(Tokens tk, int from, int to, CodegenConfig config) {
+        int depth = 0;
+        for (int i = from; i < to; i++) {
+            if (depth == 0 && tk.is(i, "return")
+                    && (i == from || tk.is(i - 1, ":") || tk.is(i - 1, ";"))) {
+                int end = indexOfTopLevel(tk, i + 1, to, ";");
+                return inferExprType(tk, i + 1, end < 0 ? to : end, config);
             }
-
-            return inferExprType(expr);
+            depth += bracketDelta(tk, i);
         }
-        return new PolyUnknown();
+        return null;
     }
 
-    private PolyType inferExprType(String expr) {
-        String e = expr.trim();
+    private PolyType inferExprType(Tokens tk, int from, int to, CodegenConfig config) {
+        if (from >= to) {
+            return new PolyUnknown();
+        }
 
         // List literal: [ ... ]
-        if (e.startsWith("[")) {
-            return inferListType(stripOuter(e, '[', ']'));
+        if (tk.is(from, "[")) {
+            return enclosesRest(tk, from, to) ? inferListType(tk, from + 1, to - 1, config) : new PolyUnknown();
         }
 
         // Dict or Set literal: { ... }
-        if (e.startsWith("{")) {
-            String inside = stripOuter(e, '{', '}');
+        if (tk.is(from, "{")) {
+            if (!enclosesRest(tk, from, to)) {
+                return new PolyUnknown();
+            }
+            int inFrom = from + 1;
+            int inTo = to - 1;
 
             // {} → empty dict
-            if (inside.isBlank()) {
+            if (inFrom == inTo) {
                 return new PolyMap(PolyPrimitive.STRING, new PolyUnknown());
             }
 
             // if contains top-level ':' → dict
-            if (indexOfTopLevel(inside, ':') >= 0) {
-                return inferMapType(e);
+            if (indexOfTopLevel(tk, inFrom, inTo, ":") >= 0) {
+                return inferMapType(tk, inFrom, inTo, config);
             }
 
             // otherwise it's a set → treat as List
-            return new PolyList(unifyTypes(splitTopLevelComma(inside)));
+            return new PolyList(unifyTypes(tk, splitTopLevel(tk, inFrom, inTo, ","), config));
         }
 
+        boolean call = tk.kind(from) == PythonTokenizer.NAME
+                && from + 1 < to
+                && tk.is(from + 1, "(")
+                && enclosesRest(tk, from + 1, to);
+
         // list(...), set(...), tuple(...)
-        if (e.startsWith("list(") || e.startsWith("set(") || e.startsWith("tuple(")) {
-            String arg = extractBalancedBlock(e, e.indexOf('('), '(', ')');
-            arg = stripOuter(arg, '(', ')');
-            return inferExprType(arg);
+        if (call && WRAPPERS.contains(tk.text(from))) {
+            return inferExprType(tk, from + 2, to - 1, config);
         }
 
         // dict(...)
-        if (e.startsWith("dict(")) {
-            String args = stripOuter(
-                    extractBalancedBlock(e, e.indexOf('('), '(', ')'),
-                    '(', ')'
-            );
+        if (call && tk.is(from, "dict")) {
+            int argFrom = from + 2;
+            int argTo = to - 1;
 
-            if (args.trim().startsWith("{")) {
-                return inferMapType(args);
+            if (argFrom < argTo && tk.is(argFrom, "{") && enclosesRest(tk, argFrom, argTo)) {
+                return inferMapType(tk, argFrom + 1, argTo - 1, config);
             }
-
-            return inferDictConstructor(args);
+            return inferDictConstructor(tk, argFrom, argTo, config);
         }
 
         // primitive literals
-        return detectLiteralType(e);
+        return detectLiteralType(tk, from, to);
     }
 
-    private PolyType inferListType(String inside) {
-        if (inside.isBlank()) {
+    private PolyType inferListType(Tokens tk, int from, int to, CodegenConfig config) {
+        if (from == to) {
             return new PolyList(new PolyUnknown());
         }
 
-        if (inside.contains(" for ") && inside.contains(" in ")) {
-            int forIdx = inside.indexOf(" for ");
-            String body = inside.substring(0, forIdx).trim();
-            if (body.startsWith("{") && body.endsWith("}")) {
-                PolyType t = inferExprType(body);
-                return new PolyList(t);
+        int forIdx = indexOfTopLevel(tk, from, to, "for");
+        if (forIdx >= 0) {
+            if (tk.is(from, "{") && matching(tk, from, forIdx) == forIdx - 1) {
+                return new PolyList(inferExprType(tk, from, forIdx, config));
             }
             return new PolyList(new PolyUnknown());
         }
 
-        List<String> elements = splitTopLevelComma(inside);
-        PolyType unified = unifyTypes(elements);
-        return new PolyList(unified);
+        return new PolyList(unifyTypes(tk, splitTopLevel(tk, from, to, ","), config));
     }
 
-    private PolyType inferMapType(String expr) {
-        String inside = stripOuter(expr, '{', '}');
-        if (inside.contains(" for ") && inside.contains(" in ") && inside.indexOf(':') > 0) {
+    private PolyType inferMapType(Tokens tk, int from, int to, CodegenConfig config) {
+        if (indexOfTopLevel(tk, from, to, "for") >= 0) {
             return new PolyMap(PolyPrimitive.STRING, new PolyUnknown());
         }
+        return inferEntryValueType(tk, from, to, ":", config);
+    }
 
-        return inferDictValueType(inside);
+    private PolyType inferDictConstructor(Tokens tk, int from, int to, CodegenConfig config) {
+        return inferEntryValueType(tk, from, to, "=", config);
     }
 
-    private PolyType inferDictConstructor(String args) {
-        List<String> entries = splitTopLevelComma(args);
+    /// Unifies values of {@code key<separator>value} entries into a string-keyed map type.
+    ///
+    /// With {@link CodegenConfig#recordTypes()}, entries whose keys are all constant identifiers
+    /// describe an object instead: {@code {"min": 1}} / {@code dict(min=1)}.
+    private PolyType inferEntryValueType(Tokens tk, int from, int to, String separator, CodegenConfig config) {
+        List<int[]> entries = splitTopLevel(tk, from, to, ",");
+        if (config.recordTypes()) {
+            PolyObject object = inferObjectType(tk, entries, separator, config);
+            if (object != null) {
+                return object;
+            }
+        }
+
         PolyType acc = null;
-        for (String entry : entries) {
-            int eq = indexOfTopLevel(entry, '=');
-            if (eq < 0) {
+        for (int[] entry : entries) {
+            int sep = indexOfTopLevel(tk, entry[0], entry[1], separator);
+            if (sep < 0) {
                 continue;
             }
-            PolyType t = inferExprType(entry.substring(eq + 1).trim());
-            acc = (acc == null) ? t : unify(acc, t);
+            PolyType type = inferExprType(tk, sep + 1, entry[1], config);
+            acc = (acc == null) ? type : unify(acc, type);
         }
         PolyType val = (acc != null) ? acc : new PolyUnknown();
         return new PolyMap(PolyPrimitive.STRING, val);
     }
 
-    private PolyType inferDictValueType(String inside) {
-        List<String> entries = splitTopLevelComma(inside);
-        PolyType acc = null;
-        for (String entry : entries) {
-            int colon = indexOfTopLevel(entry, ':');
-            if (colon < 0) {
-                continue;
+    /// Object type of the entries, or {@code null} if any key is not a constant identifier.
+    private PolyObject inferObjectType(Tokens tk, List<int[]> entries, String separator, CodegenConfig config) {
+        Map<String, PolyType> fields = new LinkedHashMap<>();
+        for (int[] entry : entries) {
+            int sep = indexOfTopLevel(tk, entry[0], entry[1], separator);
+            if (sep != entry[0] + 1) {
+                return null;
+            }
+            String key = fieldName(tk, entry[0]);
+            if (key == null) {
+                return null;
             }
-            PolyType t = inferExprType(entry.substring(colon + 1).trim());
-            acc = (acc == null) ? t : unify(acc, t);
+            fields.put(key, inferExprType(tk, sep + 1, entry[1], config));
         }
-        PolyType val = (acc != null) ? acc : new PolyUnknown();
-        return new PolyMap(PolyPrimitive.STRING, val);
+        return fields.isEmpty() ? null : new PolyObject(fields);
+    }
+
+    /// Key token as a field name: a keyword argument or a plain string literal holding
+    /// a valid Java identifier; otherwise {@code null}.
+    private String fieldName(Tokens tk, int key) {
+        String name;
+        if (tk.kind(key) == PythonTokenizer.NAME) {
+            name = tk.text(key);
+        } else if (tk.kind(key) == PythonTokenizer.STRING && isPlainString(tk, key)) {
+            name = stringValue(tk, key);
+        } else {
+            return null;
+        }
+        return SourceVersion.isName(name) ? name : null;
+    }
+
+    /// String literal without prefix (no bytes, raw or f-string).
+    private boolean isPlainString(Tokens tk, int string) {
+        char c = tk.charAt(string, 0);
+        return c == '"' || c == '\'';
     }
 
-    private PolyType unifyTypes(List<String> expressions) {
+    private PolyType unifyTypes(Tokens tk, List<int[]> expressions, CodegenConfig config) {
         PolyType acc = null;
-        for (String expr : expressions) {
-            PolyType t = inferExprType(expr);
-            acc = (acc == null) ? t : unify(acc, t);
+        for (int[] expr : expressions) {
+            PolyType type = inferExprType(tk, expr[0], expr[1], config);
+            acc = (acc == null) ? type : unify(acc, type);
         }
         return (acc != null) ? acc : new PolyUnknown();
     }
@@ -486,191 +519,148 @@ public final class PythonContractParser implements LanguageParser {
         )) {
             return new PolyMap(unify(type, keyType), unify(aValueType, bValueType));
         }
-        return new PolyUnknown();
-    }
-
-    private PolyType detectLiteralType(String v) {
-        if (v.matches("^-?\\d+$")) {
-            return PolyPrimitive.INT;
-        }
-        if (v.matches("^-?\\d+\\.\\d+$")) {
-            return PolyPrimitive.FLOAT;
-        }
-        if ((v.startsWith("\"") && v.endsWith("\"")) || (v.startsWith("'") && v.endsWith("'"))) {
-            return PolyPrimitive.STRING;
-        }
-        if (v.equals("True") || v.equals("False")) {
-            return PolyPrimitive.BOOLEAN;
+        if (a instanceof PolyObject(Map<String, PolyType> aFields)
+                && b instanceof PolyObject(Map<String, PolyType> bFields)
+                && aFields.keySet().equals(bFields.keySet())) {
+            Map<String, PolyType> fields = new LinkedHashMap<>();
+            aFields.forEach((name, type) -> fields.put(name, unify(type, bFields.get(name))));
+            return new PolyObject(fields);
         }
         return new PolyUnknown();
     }
 
-    private int indentLevel(String line) {
-        int count = 0;
-        for (char c : line.toCharArray()) {
-            if (c == ' ') {
-                count++;
-            } else if (c == '\t') {
-                count += 4;
-            } else {
-                break;
-            }
-        }
-        return count;
-    }
+    private PolyType detectLiteralType(Tokens tk, int from, int to) {
+        int literal = from;
 
-    private String stripQuotes(String s) {
-        if ((s.startsWith("\"") && s.endsWith("\"")) || (s.startsWith("'") && s.endsWith("'"))) {
-            return s.substring(1, s.length() - 1);
+        // negative number
+        if (tk.is(from, "-") && to - from == 2) {
+            literal = from + 1;
+        } else if (to - from != 1 && tk.kind(from) != PythonTokenizer.STRING) {
+            return new PolyUnknown();
         }
-        return s;
-    }
 
-    private String stripOuter(String s, char open, char close) {
-        String t = s.trim();
-        if (t.length() >= 2 && t.charAt(0) == open && t.charAt(t.length() - 1) == close) {
-            return t.substring(1, t.length() - 1).trim();
-        }
-        return t;
+        return switch (tk.kind(literal)) {
+            case PythonTokenizer.NUMBER -> {
+                String number = tk.text(literal);
+                if (INT_LITERAL.matcher(number).matches()) {
+                    yield PolyPrimitive.INT;
+                }
+                if (FLOAT_LITERAL.matcher(number).matches()) {
+                    yield PolyPrimitive.FLOAT;
+                }
+                yield new PolyUnknown();
+            }
+            case PythonTokenizer.STRING -> {
+                // implicit concatenation of text literals: "a" "b"
+                for (int i = from; i < to; i++) {
+                    if (tk.kind(i) != PythonTokenizer.STRING || isBytes(tk, i)) {
+                        yield new PolyUnknown();
+                    }
+                }
+                yield PolyPrimitive.STRING;
+            }
+            case PythonTokenizer.NAME ->
+                    (tk.is(literal, "True") || tk.is(literal, "False")) ? PolyPrimitive.BOOLEAN : new PolyUnknown();
+            default -> new PolyUnknown();
+        };
     }
 
-    private String collectUntilBalanced(
-            String[] lines,
-            int start,
-            int methodIndent,
-            char open,
-            char close,
-            int initialDelta) {
-        StringBuilder sb = new StringBuilder();
-        int balance = initialDelta;
-        for (int i = start; i < lines.length; i++) {
-            String raw = lines[i];
-            String trimmed = raw.trim();
-            if (!trimmed.isBlank() && indentLevel(raw) <= methodIndent) {
-                break;
+    private boolean isBytes(Tokens tk, int string) {
+        for (int offset = 0; ; offset++) {
+            char c = tk.charAt(string, offset);
+            if (c == '"' || c == '\'') {
+                return false;
             }
-            sb.append(trimmed).append(" ");
-            balance += balanceDelta(trimmed, open, close);
-            if (balance == 0) {
-                break;
+            if (c == 'b' || c == 'B') {
+                return true;
             }
         }
-        return sb.toString().trim();
     }
 
-    private boolean notBalanced(String s, char open, char close) {
-        return balanceDelta(s, open, close) != 0;
-    }
-
-    private int balanceDelta(String s, char open, char close) {
-        int b = 0;
-        for (char c : s.toCharArray()) {
-            if (c == open) {
-                b++;
-            }
-            if (c == close) {
-                b--;
-            }
+    /// Content of a string literal token, without prefix and quotes.
+    private String stringValue(Tokens tk, int string) {
+        String s = tk.text(string);
+        int start = 0;
+        while (start < s.length() && s.charAt(start) != '"' && s.charAt(start) != '\'') {
+            start++;
         }
-        return b;
+        int quotes = s.startsWith("\"\"\"", start) || s.startsWith("'''", start) ? 3 : 1;
+        int end = Math.max(start + quotes, s.length() - quotes);
+        return s.substring(Math.min(start + quotes, s.length()), end);
     }
 
-    private String extractBalancedBlock(String s, int startIdx, char open, char close) {
-        int balance = 0;
+    /// Source-like text of a token range; tokens separated by whitespace keep one space.
+    private String text(Tokens tk, int from, int to) {
         StringBuilder sb = new StringBuilder();
-        for (int i = startIdx; i < s.length(); i++) {
-            char c = s.charAt(i);
-            sb.append(c);
-            if (c == open) {
-                balance++;
-            }
-            if (c == close) {
-                balance--;
-            }
-            if (balance == 0) {
-                break;
+        for (int i = from; i < to; i++) {
+            if (i > from && tk.end(i - 1) < tk.start(i)) {
+                sb.append(' ');
             }
+            sb.append(tk.text(i));
         }
         return sb.toString();
     }
 
-    private List<String> splitTopLevelComma(String s) {
-        List<String> parts = new ArrayList<>();
-        if (s == null || s.isBlank()) {
-            return parts;
-        }
-
-        StringBuilder cur = new StringBuilder();
-
-        int[] brackets = new int[3];       // square, curly, round
-        boolean[] inQuote = new boolean[1];
-        char[] quoteChar = new char[1];
-
-        for (int i = 0; i < s.length(); i++) {
-            updateScanState(s, i, brackets, inQuote, quoteChar);
-
-            char c = s.charAt(i);
-            if (c == ',' && !inQuote[0]
-                    && brackets[0] == 0
-                    && brackets[1] == 0
-                    && brackets[2] == 0) {
+    /// {@code true} if the bracket at {@code from} closes at the last token of the range.
+    private boolean enclosesRest(Tokens tk, int from, int to) {
+        return matching(tk, from, to) == to - 1;
+    }
 
-                parts.add(cur.toString());
-                cur.setLength(0);
-                continue;
+    /// Index of the bracket closing the one at {@code open} before {@code limit}, or {@code -1}.
+    private int matching(Tokens tk, int open, int limit) {
+        int depth = 0;
+        for (int i = open; i < limit; i++) {
+            depth += bracketDelta(tk, i);
+            if (depth == 0) {
+                return i;
             }
-
-            cur.append(c);
-        }
-
-        if (!cur.isEmpty()) {
-            parts.add(cur.toString());
         }
-        return parts;
+        return -1;
     }
 
-    private int indexOfTopLevel(String s, char target) {
-
-        int[] brackets = new int[3];
-        boolean[] inQuote = new boolean[1];
-        char[] quoteChar = new char[1];
-
-        for (int i = 0; i < s.length(); i++) {
-            updateScanState(s, i, brackets, inQuote, quoteChar);
-
-            char c = s.charAt(i);
-            if (c == target && !inQuote[0]
-                    && brackets[0] == 0
-                    && brackets[1] == 0
-                    && brackets[2] == 0) {
+    /// Index of the first {@code target} token outside brackets, or {@code -1}.
+    private int indexOfTopLevel(Tokens tk, int from, int to, String target) {
+        int depth = 0;
+        for (int i = from; i < to; i++) {
+            if (depth == 0 && tk.is(i, target)) {
                 return i;
             }
+            depth += bracketDelta(tk, i);
         }
-
         return -1;
     }
 
-    private void updateScanState(String s, int i, int[] brackets, boolean[] inQuote, char[] quoteChar) {
-        char c = s.charAt(i);
+    /// Splits a token range on top-level separators; empty parts are dropped.
+    private List<int[]> splitTopLevel(Tokens tk, int from, int to, String separator) {
+        List<int[]> parts = new ArrayList<>();
+        int depth = 0;
+        int start = from;
 
-        if ((c == '\'' || c == '"') && (i == 0 || s.charAt(i - 1) != '\\')) {
-            if (!inQuote[0]) {
-                inQuote[0] = true;
-                quoteChar[0] = c;
-            } else if (c == quoteChar[0]) {
-                inQuote[0] = false;
+        for (int i = from; i < to; i++) {
+            if (depth == 0 && tk.is(i, separator)) {
+                if (i > start) {
+                    parts.add(new int[]{start, i});
+                }
+                start = i + 1;
+                continue;
             }
+            depth += bracketDelta(tk, i);
         }
 
-        if (!inQuote[0]) {
-            switch (c) {
-                case '[' -> brackets[0]++;
-                case ']' -> brackets[0]--;
-                case '{' -> brackets[1]++;
-                case '}' -> brackets[1]--;
-                case '(' -> brackets[2]++;
-                case ')' -> brackets[2]--;
-            }
+        if (to > start) {
+            parts.add(new int[]{start, to});
+        }
+        return parts;
+    }
+
+    private int bracketDelta(Tokens tk, int token) {
+        if (tk.kind(token) != PythonTokenizer.OP || tk.end(token) - tk.start(token) != 1) {
+            return 0;
         }
+        return switch (tk.charAt(token, 0)) {
+            case '(', '[', '{' -> 1;
+            case ')', ']', '}' -> -1;
+            default -> 0;
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,334 @@
+package io.github.ih0rd.codegen.parsers;
+
+import java.util.Arrays;
+
+/// # PythonTokenizer
+///
+/// Single-pass tokenizer that splits Python source into logical lines of tokens.
+///
+/// Responsibilities:
+/// - Produce NAME, NUMBER, STRING and OP tokens as source offsets
+/// - Join physical lines inside brackets and after backslash continuations
+/// - Drop comments and blank lines
+/// - Record the indentation of every logical line, relative to the least indented one
+///
+/// Design notes:
+/// - Linear in the source length; every character is visited once
+/// - Flat {@code int[]} storage, no per-token objects; text is materialized on demand
+/// - String literals (prefixed, triple-quoted, multi-line) are single tokens,
+///   so their content never leaks into structure detection
+/// - A tab counts as four columns of indentation
+///
+final class PythonTokenizer {
+
+    static final byte NAME = 0;
+    static final byte NUMBER = 1;
+    static final byte STRING = 2;
+    static final byte OP = 3;
+
+    /// ### Tokens
+    ///
+    /// Tokenized source. Tokens are addressed by a global index; line {@code l} spans
+    /// tokens {@code [lineStart(l), lineEnd(l))}.
+    static final class Tokens {
+
+        private final String source;
+
+        private byte[] kinds = new byte[256];
+        private int[] starts = new int[256];
+        private int[] ends = new int[256];
+        private int count;
+
+        private int[] lineIndents = new int[64];
+        private int[] lineStarts = new int[65];
+        private int lines;
+
+        private Tokens(String source) {
+            this.source = source;
+        }
+
+        int lineCount() {
+            return lines;
+        }
+
+        int indent(int line) {
+            return lineIndents[line];
+        }
+
+        int lineStart(int line) {
+            return lineStarts[line];
+        }
+
+        int lineEnd(int line) {
+            return lineStarts[line + 1];
+        }
+
+        byte kind(int token) {
+            return kinds[token];
+        }
+
+        int start(int token) {
+            return starts[token];
+        }
+
+        int end(int token) {
+            return ends[token];
+        }
+
+        /// {@code true} if the token is a NAME, NUMBER or OP with exactly this text.
+        boolean is(int token, String text) {
+            int length = ends[token] - starts[token];
+            return kinds[token] != STRING
+                    && length == text.length()
+                    && source.regionMatches(starts[token], text, 0, length);
+        }
+
+        String text(int token) {
+            return source.substring(starts[token], ends[token]);
+        }
+
+        char charAt(int token, int offset) {
+            return source.charAt(starts[token] + offset);
+        }
+
+        private void add(byte kind, int start, int end) {
+            if (count == kinds.length) {
+                kinds = Arrays.copyOf(kinds, count * 2);
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            kinds[count] = kind;
+            starts[count] = start;
+            ends[count] = end;
+            count++;
+        }
+
+        private void endLine(int indent) {
+            if (lineStarts[lines] == count) {
+                return;
+            }
+            if (lines + 1 == lineIndents.length) {
+                lineIndents = Arrays.copyOf(lineIndents, lineIndents.length * 2);
+                lineStarts = Arrays.copyOf(lineStarts, lineStarts.length * 2);
+            }
+            lineIndents[lines] = indent;
+            lines++;
+            lineStarts[lines] = count;
+        }
+
+        private void normalizeIndent() {
+            int min = Integer.MAX_VALUE;
+            for (int i = 0; i < lines; i++) {
+                min = Math.min(min, lineIndents[i]);
+            }
+            for (int i = 0; i < lines; i++) {
+                lineIndents[i] -= min;
+            }
+        }
+    }
+
+    private final String source;
+    private final int length;
+    private final Tokens tokens;
+
+    private int pos;
+    private int depth;
+    private int indent;
+
+    private PythonTokenizer(String source) {
+        this.source = source;
+        this.length = source.length();
+        this.tokens = new Tokens(source);
+    }
+
+    /// ### tokenize
+    ///
+    /// @param source Python source
+    /// @return tokens grouped into logical lines, in source order
+    static Tokens tokenize(String source) {
+        PythonTokenizer tokenizer = new PythonTokenizer(source);
+        tokenizer.run();
+        tokenizer.tokens.normalizeIndent();
+        return tokenizer.tokens;
+    }
+
+    private void run() {
+        boolean lineStart = true;
+
+        while (pos < length) {
+            if (lineStart) {
+                indent = readIndent();
+                lineStart = false;
+                continue;
+            }
+
+            char c = source.charAt(pos);
+
+            if (c == '\n' || c == '\r') {
+                pos += (c == '\r' && isLineBreak(pos + 1)) ? 2 : 1;
+                if (depth == 0) {
+                    tokens.endLine(indent);
+                    lineStart = true;
+                }
+            } else if (c == ' ' || c == '\t' || c == '\f') {
+                pos++;
+            } else if (c == '#') {
+                skipComment();
+            } else if (c == '\\' && isLineBreak(pos + 1)) {
+                pos++;
+                pos += (source.charAt(pos) == '\r' && isLineBreak(pos + 1)) ? 2 : 1;
+            } else if (c == '"' || c == '\'' || (isStringPrefix(c) && isStringStart())) {
+                readString();
+            } else if (isNameStart(c)) {
+                readName();
+            } else if (isDigit(c) || (c == '.' && pos + 1 < length && isDigit(source.charAt(pos + 1)))) {
+                readNumber();
+            } else {
+                readOperator(c);
+            }
+        }
+        tokens.endLine(indent);
+    }
+
+    private int readIndent() {
+        int columns = 0;
+        while (pos < length) {
+            char c = source.charAt(pos);
+            if (c == ' ') {
+                columns++;
+            } else if (c == '\t') {
+                columns += 4;
+            } else if (c != '\f') {
+                break;
+            }
+            pos++;
+        }
+        return columns;
+    }
+
+    private void skipComment() {
+        while (pos < length && !isLineBreak(pos)) {
+            pos++;
+        }
+    }
+
+    private boolean isLineBreak(int i) {
+        return i < length && (source.charAt(i) == '\n' || source.charAt(i) == '\r');
+    }
+
+    private static boolean isStringPrefix(char c) {
+        return switch (c) {
+            case 'r', 'R', 'b', 'B', 'u', 'U', 'f', 'F' -> true;
+            default -> false;
+        };
+    }
+
+    /// Prefixed string literal (r, b, u, f and their two-letter combinations).
+    private boolean isStringStart() {
+        for (int i = pos + 1; i <= pos + 2 && i < length; i++) {
+            char c = source.charAt(i);
+            if (c == '"' || c == '\'') {
+                return true;
+            }
+            if (!isStringPrefix(c)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void readString() {
+        int start = pos;
+        while (source.charAt(pos) != '"' && source.charAt(pos) != '\'') {
+            pos++;
+        }
+
+        char quote = source.charAt(pos);
+        boolean triple = closesTriple(pos, quote);
+        pos += triple ? 3 : 1;
+
+        while (pos < length) {
+            char c = source.charAt(pos);
+            if (c == '\\') {
+                pos += 2;
+            } else if (c == quote && (!triple || closesTriple(pos, quote))) {
+                pos += triple ? 3 : 1;
+                break;
+            } else if (!triple && (c == '\n' || c == '\r')) {
+                // unterminated single-line string
+                break;
+            } else {
+                pos++;
+            }
+        }
+
+        pos = Math.min(pos, length);
+        tokens.add(STRING, start, pos);
+    }
+
+    private boolean closesTriple(int i, char quote) {
+        return i + 2 < length
+                && source.charAt(i + 1) == quote
+                && source.charAt(i + 2) == quote;
+    }
+
+    private static boolean isNameStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_'
+                || (c > 0x7f && Character.isUnicodeIdentifierStart(c));
+    }
+
+    private static boolean isNamePart(char c) {
+        return isNameStart(c) || isDigit(c) || (c > 0x7f && Character.isUnicodeIdentifierPart(c));
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private void readName() {
+        int start = pos;
+        while (pos < length && isNamePart(source.charAt(pos))) {
+            pos++;
+        }
+        tokens.add(NAME, start, pos);
+    }
+
+    private void readNumber() {
+        int start = pos;
+        boolean hex = source.startsWith("0x", pos) || source.startsWith("0X", pos);
+        while (pos < length) {
+            char c = source.charAt(pos);
+            boolean exponentSign = (c == '+' || c == '-')
+                    && !hex
+                    && (source.charAt(pos - 1) == 'e' || source.charAt(pos - 1) == 'E');
+            if (isNamePart(c) || c == '.' || exponentSign) {
+                pos++;
+            } else {
+                break;
+            }
+        }
+        tokens.add(NUMBER, start, pos);
+    }
+
+    private void readOperator(char c) {
+        int start = pos;
+        char next = pos + 1 < length ? source.charAt(pos + 1) : '\0';
+
+        boolean pair = switch (c) {
+            case '-' -> next == '>';
+            case '*', '/' -> next == c;
+            case ':', '=', '!', '<', '>' -> next == '=';
+            default -> false;
+        };
+
+        switch (c) {
+            case '(', '[', '{' -> depth++;
+            case ')', ']', '}' -> depth = Math.max(0, depth - 1);
+            default -> {
+            }
+        }
+
+        pos += pair ? 2 : 1;
+        tokens.add(OP, start, pos);
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.ih0rd.codegen.types;
+
+import io.github.ih0rd.contract.types.PolyList;
+import io.github.ih0rd.contract.types.PolyMap;
+import io.github.ih0rd.contract.types.PolyObject;
+import io.github.ih0rd.contract.types.PolyPrimitive;
+import io.github.ih0rd.contract.types.PolyType;
+import io.github.ih0rd.contract.types.PolyUnknown;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.lang.model.SourceVersion;
+
+/// # JsTypeMapper
+///
+/// Maps JSDoc / TypeScript-style type expressions to canonical {@link PolyType}.
+///
+/// Responsibilities:
+/// - Convert primitive names ({@code number}, {@code integer}, {@code string}, {@code boolean})
+/// - Parse array and map forms: {@code T[]}, {@code Array<T>}, {@code Array.<T>},
+///   {@code Object<K, V>}, {@code Record<K, V>}, {@code Map<K, V>}, {@code {[key: string]: T}}
+/// - Parse record literals ({@code {min: number, max: number}})
+/// - Strip nullability markers ({@code ?T}, {@code !T}, {@code T=}, {@code T | null})
+///
+/// Design notes:
+/// - {@code number} is a double; {@code integer} / {@code int} (Closure / TS-doc convention)
+///   opt into {@link PolyPrimitive#INT}
+/// - Other unions, {@code *}, {@code any} and unknown names fall back to {@link PolyUnknown}
+/// - Record literals become {@link PolyObject} only when record types are enabled,
+///   otherwise a string-keyed map of the unified field types
+///
+public final class JsTypeMapper implements LanguageTypeMapper {
+
+    private static final Map<String, PolyType> PRIMITIVES = Map.ofEntries(
+            Map.entry("number", PolyPrimitive.FLOAT),
+            Map.entry("Number", PolyPrimitive.FLOAT),
+            Map.entry("integer", PolyPrimitive.INT),
+            Map.entry("int", PolyPrimitive.INT),
+            Map.entry("string", PolyPrimitive.STRING),
+            Map.entry("String", PolyPrimitive.STRING),
+            Map.entry("boolean", PolyPrimitive.BOOLEAN),
+            Map.entry("Boolean", PolyPrimitive.BOOLEAN),
+            Map.entry("Array", new PolyList(new PolyUnknown())),
+            Map.entry("Set", new PolyList(new PolyUnknown())),
+            Map.entry("Object", new PolyMap(PolyPrimitive.STRING, new PolyUnknown())),
+            Map.entry("object", new PolyMap(PolyPrimitive.STRING, new PolyUnknown())),
+            Map.entry("Map", new PolyMap(PolyPrimitive.STRING, new PolyUnknown()))
+    );
+
+    private final boolean recordTypes;
+
+    public JsTypeMapper() {
+        this(false);
+    }
+
+    /// @param recordTypes map record literals to {@link PolyObject}
+    public JsTypeMapper(boolean recordTypes) {
+        this.recordTypes = recordTypes;
+    }
+
+    /// ### mapPrimitive
+    ///
+    /// Maps a JSDoc type expression (without the surrounding braces) to {@link PolyType}.
+    ///
+    /// @param languageType JSDoc type (e.g. "number", "Array<string>", "{a: number}")
+    /// @return canonical {@link PolyType}, or {@link PolyUnknown} if unsupported
+    ///
+    @Override
+    public PolyType mapPrimitive(String languageType) {
+        if (languageType == null || languageType.isBlank()) {
+            return new PolyUnknown();
+        }
+        return parseType(languageType.trim());
+    }
+
+    private PolyType parseType(String type) {
+        type = stripParens(type);
+
+        // nullability / optional markers
+        if (type.startsWith("?") || type.startsWith("!")) {
+            return parseType(type.substring(1).trim());
+        }
+        if (type.endsWith("=")) {
+            return parseType(type.substring(0, type.length() - 1).trim());
+        }
+
+        List<String> alternatives = splitTopLevel(type, '|');
+        if (alternatives.size() > 1) {
+            List<String> present = new ArrayList<>();
+            for (String alternative : alternatives) {
+                if (!alternative.equals("null") && !alternative.equals("undefined")) {
+                    present.add(alternative);
+                }
+            }
+            return present.size() == 1 ? parseType(present.getFirst()) : new PolyUnknown();
+        }
+
+        if (PRIMITIVES.containsKey(type)) {
+            return PRIMITIVES.get(type);
+        }
+
+        // T[]
+        if (type.endsWith("[]")) {
+            return new PolyList(parseType(type.substring(0, type.length() - 2).trim()));
+        }
+
+        // {[key: string]: T} and {a: T, b: U}
+        if (type.startsWith("{") && type.endsWith("}")) {
+            return parseObject(type.substring(1, type.length() - 1).trim());
+        }
+
+        // Base<Args> and Base.<Args>
+        int open = type.indexOf('<');
+        if (open > 0 && type.endsWith(">")) {
+            String base = type.substring(0, open).trim();
+            if (base.endsWith(".")) {
+                base = base.substring(0, base.length() - 1);
+            }
+            List<String> args = splitTopLevel(type.substring(open + 1, type.length() - 1), ',');
+
+            switch (base) {
+                case "Array", "Set", "ReadonlyArray", "Iterable" -> {
+                    return new PolyList(args.size() == 1 ? parseType(args.getFirst()) : new PolyUnknown());
+                }
+                case "Object", "Record", "Map" -> {
+                    if (args.size() == 2) {
+                        return new PolyMap(parseType(args.get(0)), parseType(args.get(1)));
+                    }
+                    return new PolyMap(PolyPrimitive.STRING, new PolyUnknown());
+                }
+                default -> {
+                    return new PolyUnknown();
+                }
+            }
+        }
+
+        return new PolyUnknown();
+    }
+
+    private PolyType parseObject(String body) {
+        if (body.isEmpty()) {
+            return new PolyMap(PolyPrimitive.STRING, new PolyUnknown());
+        }
+
+        // index signature: [key: string]: T
+        if (body.startsWith("[")) {
+            int close = body.indexOf(']');
+            int colon = close < 0 ? -1 : body.indexOf(':', close);
+            if (colon < 0) {
+                return new PolyMap(PolyPrimitive.STRING, new PolyUnknown());
+            }
+            String key = body.substring(1, close);
+            int keyColon = key.indexOf(':');
+            PolyType keyType = keyColon < 0 ? PolyPrimitive.STRING : parseType(key.substring(keyColon + 1).trim());
+            return new PolyMap(keyType, parseType(body.substring(colon + 1).trim()));
+        }
+
+        Map<String, PolyType> fields = new LinkedHashMap<>();
+        for (String entry : splitFields(body)) {
+            int colon = entry.indexOf(':');
+            String name = (colon < 0 ? entry : entry.substring(0, colon)).trim();
+            if (name.endsWith("?")) {
+                name = name.substring(0, name.length() - 1);
+            }
+            if (!SourceVersion.isName(name)) {
+                return new PolyMap(PolyPrimitive.STRING, new PolyUnknown());
+            }
+            fields.put(name, colon < 0 ? new PolyUnknown() : parseType(entry.substring(colon + 1).trim()));
+        }
+
+        if (recordTypes) {
+            return new PolyObject(fields);
+        }
+
+        PolyType value = null;
+        for (PolyType field : fields.values()) {
+            value = value == null ? field : unify(value, field);
+        }
+        return new PolyMap(PolyPrimitive.STRING, value == null ? new PolyUnknown() : value);
+    }
+
+    /// Splits record fields on top-level {@code ,} and {@code ;}.
+    private List<String> splitFields(String body) {
+        List<String> fields = new ArrayList<>();
+        for (String part : splitTopLevel(body, ',')) {
+            for (String field : splitTopLevel(part, ';')) {
+                if (!field.isEmpty()) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private String stripParens(String type) {
+        while (type.startsWith("(") && type.endsWith(")") && closingOf(type, 0) == type.length() - 1) {
+            type = type.substring(1, type.length() - 1).trim();
+        }
+        return type;
+    }
+
+    private int closingOf(String type, int open) {
+        int balance = 0;
+        for (int i = open; i < type.length(); i++) {
+            char c = type.charAt(i);
+            if (c == '(' || c == '[' || c == '{' || c == '<') {
+                balance++;
+            } else if (c == ')' || c == ']' || c == '}' || c == '>') {
+                if (--balance == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private List<String> splitTopLevel(String inner, char separator) {
+        List<String> parts = new ArrayList<>();
+        int balance = 0;
+        StringBuilder current = new StringBuilder();
+
+        for (int i = 0; i < inner.length(); i++) {
+            char c = inner.charAt(i);
+            if (c == '(' || c == '[' || c == '{' || c == '<') {
+                balance++;
+            } else if (c == ')' || c == ']' || c == '}' || c == '>') {
+                balance--;
+            }
+
+            if (c == separator && balance == 0) {
+                parts.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (!current.toString().isBlank()) {
+            parts.add(current.toString().trim());
+        }
+        return parts;
+    }
+
+    private PolyType unify(PolyType a, PolyType b) {
+        if (a instanceof PolyPrimitive pa && b instanceof PolyPrimitive pb && pa == pb) {
+            return pa;
+        }
+        if (a instanceof PolyList(PolyType elementType) && b instanceof PolyList(PolyType type)) {
+            return new PolyList(unify(elementType, type));
+        }
+        return new PolyUnknown();
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.ih0rd.codegen;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.ih0rd.contract.ContractClass;
+import io.github.ih0rd.contract.ContractMethod;
+import io.github.ih0rd.contract.ContractParam;
+import io.github.ih0rd.contract.types.PolyList;
+import io.github.ih0rd.contract.types.PolyMap;
+import io.github.ih0rd.contract.types.PolyObject;
+import io.github.ih0rd.contract.types.PolyPrimitive;
+import io.github.ih0rd.contract.types.PolyUnknown;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class JavaBindingGeneratorTest {
+
+    private final JavaBindingGenerator generator = new JavaBindingGenerator();
+
+    @Test
+    void generate_ShouldRenderDirectAccessors() {
+        ContractParam a = new ContractParam("a", PolyPrimitive.INT);
+        ContractParam b = new ContractParam("b", PolyPrimitive.FLOAT);
+        ContractMethod add = new ContractMethod("add", List.of(a, b), PolyPrimitive.FLOAT);
+        ContractMethod name = new ContractMethod("name", List.of(), PolyPrimitive.STRING);
+        ContractMethod raw = new ContractMethod("raw", List.of(), new PolyUnknown());
+
+        String source = generator.generate(new ContractClass("MathApi", List.of(add, name, raw)), "com.demo");
+
+        assertTrue(source.contains("public final class MathApiBinding implements MathApi {"));
+        assertTrue(source.contains("public MathApiBinding(AbstractPolyglotExecutor executor) {"));
+        assertTrue(source.contains(
+                "BoundMembers.of(executor, MathApi.class, \"add\", \"name\", \"raw\");"));
+        assertTrue(source.contains("public Double add(Integer a, Double b) {"));
+        assertTrue(source.contains(
+                "return members.execute(0, result -> result.isNull() ? null : result.asDouble(), a, b);"));
+        assertTrue(source.contains(
+                "return members.execute(1, result -> result.isNull() ? null : result.asString());"));
+        assertTrue(source.contains("result.as(Object.class));"));
+        assertFalse(source.contains("TypeLiteral"));
+    }
+
+    @Test
+    void generate_ShouldUseTypeLiteralsForCollections() {
+        ContractMethod list = new ContractMethod("randomNumbers", List.of(), new PolyList(PolyPrimitive.INT));
+        ContractMethod map = new ContractMethod("get_stats", List.of(),
+                new PolyMap(PolyPrimitive.STRING, PolyPrimitive.FLOAT));
+
+        String source = generator.generate(new ContractClass("StatsApi", List.of(list, map)), "com.demo");
+
+        assertTrue(source.contains("import org.graalvm.polyglot.TypeLiteral;"));
+        assertTrue(source.contains("import java.util.List;"));
+        assertTrue(source.contains("import java.util.Map;"));
+        assertTrue(source.contains("private static final TypeLiteral<List<Integer>> RANDOM_NUMBERS_TYPE ="));
+        assertTrue(source.contains("private static final TypeLiteral<Map<String, Double>> GET_STATS_TYPE ="));
+        assertTrue(source.contains(
+                "return members.execute(0, result -> result.isNull() ? null : result.as(RANDOM_NUMBERS_TYPE));"));
+    }
+
+    @Test
+    void generate_ShouldConvertObjectsIntoRecords() {
+        Map<String, io.github.ih0rd.contract.types.PolyType> fields = new LinkedHashMap<>();
+        fields.put("min", PolyPrimitive.INT);
+        fields.put("samples", new PolyList(PolyPrimitive.FLOAT));
+        ContractParam result = new ContractParam("result", PolyPrimitive.INT);
+        ContractMethod stats = new ContractMethod("stats", List.of(result), new PolyObject(fields));
+        ContractMethod pairs = new ContractMethod("pairs", List.of(),
+                new PolyList(new PolyObject(Map.of("key", PolyPrimitive.STRING))));
+
+        String source = generator.generate(new ContractClass("StatsApi", List.of(stats, pairs)), "com.demo");
+
+        assertTrue(source.contains("public StatsResult stats(Integer result_) {"));
+        assertTrue(source.contains(
+                "return members.execute(0, result -> result.isNull() ? null : toStatsResult(result), result_);"));
+        assertTrue(source.contains("result -> result.isNull() ? null"
+                + " : BoundMembers.list(result, item1 -> toPairsResult(item1)));"));
+        assertTrue(source.contains("private static StatsResult toStatsResult(Value value) {"));
+        assertTrue(source.contains("Value f0 = BoundMembers.field(value, \"min\");"));
+        assertTrue(source.contains("f0.isNull() ? null : f0.asInt(),"));
+        assertTrue(source.contains("f1.isNull() ? null : f1.as(STATS_RESULT_SAMPLES_TYPE));"));
+    }
+
+    @Test
+    void generate_ShouldReadPrimitivesWithoutBoxing() {
+        ContractParam xs = new ContractParam("xs", new PolyList(PolyPrimitive.FLOAT));
+        ContractParam n = new ContractParam("n", PolyPrimitive.INT);
+        ContractMethod mean = new ContractMethod("mean", List.of(xs), PolyPrimitive.FLOAT);
+        ContractMethod range = new ContractMethod("range", List.of(n), new PolyList(PolyPrimitive.INT));
+        ContractMethod count = new ContractMethod("count", List.of(), PolyPrimitive.INT);
+        ContractMethod empty = new ContractMethod("empty", List.of(), PolyPrimitive.BOOLEAN);
+
+        String source = new JavaBindingGenerator(true)
+                .generate(new ContractClass("MathApi", List.of(mean, range, count, empty)), "com.demo");
+
+        assertTrue(source.contains("public double mean(double[] xs) {"));
+        assertTrue(source.contains("return members.executeDouble(0, result -> result.asDouble(), xs);"));
+        assertTrue(source.contains("public int[] range(int n) {"));
+        assertTrue(source.contains(
+                "return members.execute(1, result -> result.isNull() ? null : result.as(int[].class), n);"));
+        assertTrue(source.contains("return members.executeInt(2, result -> result.asInt());"));
+        assertTrue(source.contains("return members.executeBoolean(3, result -> result.asBoolean());"));
+        assertFalse(source.contains("TypeLiteral"));
+    }
+}
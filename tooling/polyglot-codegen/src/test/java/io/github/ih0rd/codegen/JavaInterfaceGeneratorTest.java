@@ -7,10 +7,13 @@ import io.github.ih0rd.contract.ContractMethod;
 import io.github.ih0rd.contract.ContractParam;
 import io.github.ih0rd.contract.types.PolyList;
 import io.github.ih0rd.contract.types.PolyMap;
+import io.github.ih0rd.contract.types.PolyObject;
 import io.github.ih0rd.contract.types.PolyPrimitive;
 import io.github.ih0rd.contract.types.PolyUnknown;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 
@@ -59,4 +62,23 @@ class JavaInterfaceGeneratorTest {
 
         assertTrue(source.contains("Object params(Integer a, List<String> b);"));
     }
+
+    @Test
+    void generate_ShouldRenderNestedRecordsForObjects() {
+        Map<String, io.github.ih0rd.contract.types.PolyType> fields = new LinkedHashMap<>();
+        fields.put("min", PolyPrimitive.INT);
+        fields.put("range", new PolyObject(Map.of("low", PolyPrimitive.FLOAT)));
+        ContractMethod m1 = new ContractMethod("get_stats", List.of(), new PolyObject(fields));
+        ContractMethod m2 = new ContractMethod("pairs", List.of(),
+                new PolyList(new PolyObject(Map.of("key", PolyPrimitive.STRING))));
+
+        String source = generator.generate(new ContractClass("StatsApi", List.of(m1, m2)), "com.demo");
+
+        assertTrue(source.contains("GetStatsResult get_stats();"));
+        assertTrue(source.contains("List<PairsResult> pairs();"));
+        assertTrue(source.contains("record GetStatsResult(Integer min, GetStatsResultRange range) {"));
+        assertTrue(source.contains("record GetStatsResultRange(Double low) {"));
+        assertTrue(source.contains("record PairsResult(String key) {"));
+        assertFalse(source.contains("import java.util.Map;"));
+    }
 }
@@ -48,4 +48,19 @@ class JavaTypeRendererTest {
         PolyMap unknownMap = new PolyMap(new PolyUnknown(), new PolyUnknown());
         assertEquals("Map<Object, Object>", renderer.render(unknownMap));
     }
+
+    @Test
+    void renderMember_ShouldUsePrimitivesWhenEnabled() {
+        JavaTypeRenderer primitives = new JavaTypeRenderer(true);
+
+        assertEquals("int", primitives.renderMember(PolyPrimitive.INT));
+        assertEquals("double", primitives.renderMember(PolyPrimitive.FLOAT));
+        assertEquals("boolean", primitives.renderMember(PolyPrimitive.BOOLEAN));
+        assertEquals("String", primitives.renderMember(PolyPrimitive.STRING));
+        assertEquals("double[]", primitives.renderMember(new PolyList(PolyPrimitive.FLOAT)));
+        assertEquals("List<String>", primitives.renderMember(new PolyList(PolyPrimitive.STRING)));
+        assertEquals("Map<String, Integer>",
+                primitives.renderMember(new PolyMap(PolyPrimitive.STRING, PolyPrimitive.INT)));
+        assertEquals("Integer", renderer.renderMember(PolyPrimitive.INT));
+    }
 }
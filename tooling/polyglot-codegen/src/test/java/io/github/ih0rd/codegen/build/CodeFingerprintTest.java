@@ -0,0 +1,43 @@
+package io.github.ih0rd.codegen.build;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeFingerprintTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void of_ShouldRehashChangedClassDirectory() throws IOException {
+        Path classes = Files.createDirectories(tmp.resolve("classes"));
+        Path type = classes.resolve("Generator.class");
+        Files.writeString(type, "v1");
+        String before = CodeFingerprint.of(classes);
+
+        Files.writeString(type, "v2");
+
+        assertNotEquals(before, CodeFingerprint.of(classes));
+    }
+
+    @Test
+    void of_ShouldRehashReplacedJar() throws IOException {
+        Path jar = tmp.resolve("codegen.jar");
+        Files.writeString(jar, "v1");
+        FileTime modified = Files.getLastModifiedTime(jar);
+        String before = CodeFingerprint.of(jar);
+        assertEquals(before, CodeFingerprint.of(jar));
+
+        Files.writeString(jar, "v2");
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(modified.toMillis() + 1_000));
+
+        assertNotEquals(before, CodeFingerprint.of(jar));
+    }
+}
@@ -0,0 +1,245 @@
+package io.github.ih0rd.codegen.build;
+
+import io.github.ih0rd.codegen.ContractGenerator;
+import io.github.ih0rd.codegen.DefaultContractGenerator;
+import io.github.ih0rd.contract.CodegenConfig;
+import io.github.ih0rd.contract.SupportedLanguage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodegenPipelineTest {
+
+    private static final String FOO = """
+polyglot.export_value("FooApi", Foo)
+
+class Foo:
+    def foo(self):
+        return 1
+""";
+
+    private static final String BAR = """
+polyglot.export_value("BarApi", Bar)
+
+class Bar:
+    def bar(self):
+        return "bar"
+""";
+
+    @TempDir
+    Path tmp;
+
+    private final AtomicInteger parses = new AtomicInteger();
+
+    private boolean generateBindings;
+
+    private Path manifestRoot;
+
+    private final ContractGenerator counting = (descriptor, config) -> {
+        parses.incrementAndGet();
+        return new DefaultContractGenerator().generate(descriptor, config);
+    };
+
+    private CodegenPipeline.Result run() throws IOException {
+        return run(tmp.resolve("out"), tmp.resolve("state.bin"), 1);
+    }
+
+    private CodegenPipeline.Result run(Path out, Path stateFile, int parallelism) throws IOException {
+        return new CodegenPipeline(counting).run(request(out, stateFile, parallelism));
+    }
+
+    private CodegenRequest request(Path out, Path stateFile, int parallelism) {
+        return new CodegenRequest(
+                tmp.resolve("in"),
+                out,
+                "com.demo",
+                new CodegenConfig(false),
+                Set.of(SupportedLanguage.PYTHON),
+                Integer.MAX_VALUE,
+                stateFile,
+                parallelism,
+                generateBindings,
+                false,
+                manifestRoot
+        );
+    }
+
+    @Test
+    void run_ShouldReparseOnlyChangedScripts() throws IOException {
+        Files.createDirectories(tmp.resolve("in/nested"));
+        Files.writeString(tmp.resolve("in/foo.py"), FOO);
+        Files.writeString(tmp.resolve("in/nested/bar.py"), BAR);
+
+        CodegenPipeline.Result first = run();
+        assertEquals(2, parses.get());
+        assertEquals(2, first.written().size());
+
+        Path fooJava = tmp.resolve("out/com/demo/FooApi.java");
+        FileTime fooModified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(fooJava, fooModified);
+
+        Files.writeString(tmp.resolve("in/nested/bar.py"), BAR.replace("\"bar\"", "2"));
+        CodegenPipeline.Result second = run();
+
+        assertEquals(3, parses.get());
+        assertEquals(1, second.reused().size());
+        assertEquals(1, second.written().size());
+        assertEquals(fooModified, Files.getLastModifiedTime(fooJava));
+        assertTrue(Files.readString(tmp.resolve("out/com/demo/BarApi.java")).contains("Integer bar();"));
+    }
+
+    @Test
+    void run_ShouldDeleteOutputsOfRemovedScripts() throws IOException {
+        Files.createDirectories(tmp.resolve("in"));
+        Files.writeString(tmp.resolve("in/foo.py"), FOO);
+        Files.writeString(tmp.resolve("in/bar.py"), BAR);
+        run();
+
+        Files.delete(tmp.resolve("in/bar.py"));
+        CodegenPipeline.Result result = run();
+
+        assertEquals(1, result.deleted().size());
+        assertFalse(Files.exists(tmp.resolve("out/com/demo/BarApi.java")));
+        assertTrue(Files.exists(tmp.resolve("out/com/demo/FooApi.java")));
+    }
+
+    @Test
+    void run_ShouldReparseStateOfOtherCodegenVersion() throws IOException {
+        Files.createDirectories(tmp.resolve("in"));
+        Files.writeString(tmp.resolve("in/foo.py"), FOO);
+        run();
+        assertEquals(1, parses.get());
+
+        CodegenRequest request = request(tmp.resolve("out"), tmp.resolve("state.bin"), 1);
+        String fingerprint = new CodegenPipeline(counting).fingerprint(request);
+        assertNotEquals(String.valueOf(request.config()), fingerprint);
+
+        // same configuration, written by another generator build
+        BuildState state = BuildState.load(tmp.resolve("state.bin"), fingerprint);
+        assertEquals(1, state.scripts().size());
+        new BuildState(request.config() + "|previous-codegen", state.scripts())
+                .save(tmp.resolve("state.bin"));
+
+        CodegenPipeline.Result result = run();
+        assertEquals(2, parses.get());
+        assertEquals(1, result.parsed().size());
+        assertTrue(result.reused().isEmpty());
+    }
+
+    @Test
+    void run_ShouldIgnoreCorruptState() throws IOException {
+        Files.createDirectories(tmp.resolve("in"));
+        Files.writeString(tmp.resolve("in/foo.py"), FOO);
+        Files.writeString(tmp.resolve("state.bin"), "garbage");
+
+        CodegenPipeline.Result result = run();
+
+        assertEquals(1, result.parsed().size());
+        assertTrue(Files.exists(tmp.resolve("out/com/demo/FooApi.java")));
+    }
+
+    @Test
+    void run_ShouldProduceIdenticalOutputInParallel() throws IOException {
+        Files.createDirectories(tmp.resolve("in"));
+        for (int i = 0; i < 40; i++) {
+            Files.writeString(tmp.resolve("in/s" + i + ".py"), FOO.replace("FooApi", "Api" + i));
+        }
+        // same class exported twice: the last script in scan order wins
+        Files.writeString(tmp.resolve("in/zz.py"), BAR.replace("BarApi", "Api0"));
+
+        CodegenPipeline.Result sequential = run(tmp.resolve("seq"), null, 1);
+        CodegenPipeline.Result parallel = run(tmp.resolve("par"), null, 8);
+
+        assertEquals(sequential.parsed(), parallel.parsed());
+        assertEquals(41, parallel.parsed().size());
+        for (Path file : sequential.written()) {
+            Path twin = tmp.resolve("par").resolve(tmp.resolve("seq").relativize(file));
+            assertEquals(Files.readString(file), Files.readString(twin));
+        }
+        assertTrue(Files.readString(tmp.resolve("par/com/demo/Api0.java")).contains("String bar();"));
+    }
+
+    @Test
+    void run_ShouldPropagateParseFailureInParallel() throws IOException {
+        Files.createDirectories(tmp.resolve("in"));
+        Files.writeString(tmp.resolve("in/foo.py"), FOO);
+        Files.writeString(tmp.resolve("in/broken.py"), "class Broken:\n    pass\n");
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> run(tmp.resolve("out"), null, 4));
+        assertTrue(e.getMessage().contains("broken.py"));
+    }
+
+    @Test
+    void run_ShouldTrackGeneratedBindings() throws IOException {
+        Files.createDirectories(tmp.resolve("in"));
+        Files.writeString(tmp.resolve("in/foo.py"), FOO);
+
+        generateBindings = true;
+        CodegenPipeline.Result first = run();
+
+        assertEquals(2, first.written().size());
+        assertTrue(Files.readString(tmp.resolve("out/com/demo/FooApiBinding.java"))
+                .contains("public final class FooApiBinding implements FooApi {"));
+
+        generateBindings = false;
+        CodegenPipeline.Result second = run();
+
+        assertEquals(1, second.reused().size());
+        assertEquals(1, second.deleted().size());
+        assertFalse(Files.exists(tmp.resolve("out/com/demo/FooApiBinding.java")));
+        assertTrue(Files.exists(tmp.resolve("out/com/demo/FooApi.java")));
+    }
+
+    @Test
+    void run_ShouldWriteManifestsWithScriptHash() throws IOException {
+        Files.createDirectories(tmp.resolve("in"));
+        Files.writeString(tmp.resolve("in/foo.py"), FOO);
+
+        manifestRoot = tmp.resolve("resources");
+        CodegenPipeline.Result first = run();
+
+        Path manifest = tmp.resolve("resources/META-INF/polyglot/com.demo.FooApi.properties");
+        assertTrue(first.written().contains(manifest));
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(manifest)) {
+            properties.load(reader);
+        }
+        assertEquals("python", properties.getProperty("language"));
+        assertEquals("foo.py", properties.getProperty("script"));
+        assertEquals("foo", properties.getProperty("methods"));
+        assertEquals(
+                HexFormat.of().formatHex(sha256(Files.readAllBytes(tmp.resolve("in/foo.py")))),
+                properties.getProperty("sha256")
+        );
+
+        manifestRoot = null;
+        CodegenPipeline.Result second = run();
+
+        assertEquals(List.of(manifest), second.deleted());
+        assertFalse(Files.exists(manifest));
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
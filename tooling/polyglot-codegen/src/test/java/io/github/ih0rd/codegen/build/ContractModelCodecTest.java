@@ -0,0 +1,58 @@
+package io.github.ih0rd.codegen.build;
+
+import io.github.ih0rd.contract.ContractClass;
+import io.github.ih0rd.contract.ContractMethod;
+import io.github.ih0rd.contract.ContractModel;
+import io.github.ih0rd.contract.ContractParam;
+import io.github.ih0rd.contract.types.PolyList;
+import io.github.ih0rd.contract.types.PolyMap;
+import io.github.ih0rd.contract.types.PolyObject;
+import io.github.ih0rd.contract.types.PolyPrimitive;
+import io.github.ih0rd.contract.types.PolyType;
+import io.github.ih0rd.contract.types.PolyUnion;
+import io.github.ih0rd.contract.types.PolyUnknown;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContractModelCodecTest {
+
+    @Test
+    void roundTrip_ShouldPreserveAllTypes() throws IOException {
+        Map<String, PolyType> fields = new LinkedHashMap<>();
+        fields.put("z", PolyPrimitive.STRING);
+        fields.put("a", new PolyList(PolyPrimitive.FLOAT));
+
+        ContractMethod method = new ContractMethod(
+                "compute",
+                List.of(
+                        new ContractParam("x", PolyPrimitive.INT),
+                        new ContractParam("y", new PolyUnion(List.of(PolyPrimitive.BOOLEAN, new PolyUnknown())))
+                ),
+                new PolyMap(PolyPrimitive.STRING, new PolyObject(fields))
+        );
+        ContractModel model = new ContractModel(List.of(
+                new ContractClass("Api", List.of(method)),
+                new ContractClass("Empty", List.of())
+        ));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ContractModelCodec.write(new DataOutputStream(bytes), model);
+        ContractModel decoded = ContractModelCodec.read(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))
+        );
+
+        assertEquals(model, decoded);
+        PolyObject object = (PolyObject) ((PolyMap) decoded.classes().get(0).methods().get(0).returnType()).valueType();
+        assertEquals(List.of("z", "a"), List.copyOf(object.fields().keySet()));
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.ih0rd.codegen.build;
+
+import io.github.ih0rd.codegen.DefaultContractGenerator;
+import io.github.ih0rd.contract.CodegenConfig;
+import io.github.ih0rd.contract.SupportedLanguage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Regression check of the interfaces generated for the Python contracts shipped with the examples.
+///
+/// Each case under `example-contracts/` holds a copy of an example script and, in `expected/`,
+/// the interfaces the line-based parser generated for it before the tokenizer-based parser replaced it.
+/// The current output must match them except for the inference changes listed in [#CHANGES],
+/// so any other change of the generated model fails here instead of in the examples.
+class ExampleContractsTest {
+
+    /// Intended differences to the previous parser, as replacements applied to its output.
+    private static final Map<String, List<Change>> CHANGES = Map.of(
+            // comments inside the returned dict literal no longer hide its integer values
+            "codegen-stats_api", List.of(new Change(
+                    "Map<String, Object> stats(Integer n);",
+                    "Map<String, Integer> stats(Integer n);")),
+            // the `:return:` line of the docstring is no longer taken for the return statement
+            "maven-forecast_service", List.of(
+                    new Change(
+                            "package com.demo;\n\npublic interface",
+                            "package com.demo;\n\nimport java.util.Map;\n\npublic interface"),
+                    new Change(
+                            "Object forecast(Object y, Object steps, Object season_period);",
+                            "Map<String, Object> forecast(Object y, Object steps, Object season_period);"))
+    );
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void run_ShouldKeepModelOfExampleContracts() throws IOException, URISyntaxException {
+        Path root = Path.of(ExampleContractsTest.class.getResource("/example-contracts").toURI());
+        List<Path> cases;
+        try (Stream<Path> dirs = Files.list(root)) {
+            cases = dirs.sorted().toList();
+        }
+        assertFalse(cases.isEmpty());
+
+        for (Path example : cases) {
+            String name = example.getFileName().toString();
+            Path out = generate(example, tmp.resolve(name));
+
+            Map<String, String> expected = sources(example.resolve("expected"));
+            Map<String, String> actual = sources(out.resolve("com/demo"));
+            assertEquals(expected.keySet(), actual.keySet(), name);
+
+            for (Map.Entry<String, String> file : expected.entrySet()) {
+                String previous = file.getValue();
+                for (Change change : CHANGES.getOrDefault(name, List.of())) {
+                    assertTrue(previous.contains(change.before()), name + ": " + change.before());
+                    previous = previous.replace(change.before(), change.after());
+                }
+                assertEquals(
+                        withoutChecksum(previous),
+                        withoutChecksum(actual.get(file.getKey())),
+                        name + "/" + file.getKey());
+            }
+        }
+    }
+
+    private Path generate(Path example, Path work) throws IOException {
+        Path in = Files.createDirectories(work.resolve("in"));
+        try (Stream<Path> files = Files.list(example)) {
+            for (Path script : files.filter(path -> path.toString().endsWith(".py")).toList()) {
+                Files.copy(script, in.resolve(script.getFileName().toString()));
+            }
+        }
+        Path out = work.resolve("out");
+        new CodegenPipeline(new DefaultContractGenerator()).run(new CodegenRequest(
+                in,
+                out,
+                "com.demo",
+                new CodegenConfig(false),
+                Set.of(SupportedLanguage.PYTHON),
+                Integer.MAX_VALUE,
+                work.resolve("state.bin"),
+                1,
+                false,
+                false,
+                null
+        ));
+        return out;
+    }
+
+    private static Map<String, String> sources(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.collect(Collectors.toMap(
+                    path -> path.getFileName().toString(),
+                    ExampleContractsTest::read));
+        }
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /// The header checksum covers the interface body, so it follows every intended change.
+    private static String withoutChecksum(String source) {
+        return source.replaceAll("(?m)^ \\* SHA-256 checksum: .*$", "");
+    }
+
+    private record Change(String before, String after) {
+    }
+}
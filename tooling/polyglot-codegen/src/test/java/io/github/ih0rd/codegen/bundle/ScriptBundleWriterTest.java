@@ -0,0 +1,84 @@
+package io.github.ih0rd.codegen.bundle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScriptBundleWriterTest {
+
+    @TempDir
+    Path tmp;
+
+    private static void write(Path path, String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content);
+    }
+
+    @Test
+    void write_ShouldIndexScriptsAndBytecodeInNameOrder() throws Exception {
+        Path scripts = tmp.resolve("resources");
+        Path bytecode = tmp.resolve("bytecode");
+        write(scripts.resolve("python/stats_api.py"), "x = 1\n");
+        write(scripts.resolve("js/forecast_service.js"), "const y = 2;\n");
+        write(scripts.resolve("application.yml"), "ignored: true\n");
+        write(bytecode.resolve("python/__pycache__/stats_api.graalpy250-312.pyc"), "pyc");
+        Path target = tmp.resolve("out/scripts.bundle");
+
+        ScriptBundleWriter.Result result = new ScriptBundleWriter().write(List.of(scripts, bytecode), target);
+
+        assertTrue(result.written());
+        assertEquals(
+                List.of("js/forecast_service.js", "python/__pycache__/stats_api.graalpy250-312.pyc", "python/stats_api.py"),
+                result.entries());
+
+        byte[] bundle = Files.readAllBytes(target);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(target))) {
+            assertArrayEquals("PGSB".getBytes(StandardCharsets.US_ASCII), in.readNBytes(4));
+            assertEquals(1, in.readUnsignedShort());
+            assertEquals(3, in.readInt());
+
+            in.readNBytes(in.readUnsignedShort());
+            int offset = (int) in.readLong();
+            int length = in.readInt();
+            byte[] hash = in.readNBytes(32);
+
+            byte[] content = Arrays.copyOfRange(bundle, offset, offset + length);
+            assertEquals("const y = 2;\n", new String(content, StandardCharsets.UTF_8));
+            assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(content), hash);
+        }
+    }
+
+    @Test
+    void write_ShouldNotRewriteIdenticalBundle() throws IOException {
+        Path scripts = tmp.resolve("resources");
+        write(scripts.resolve("python/stats_api.py"), "x = 1\n");
+        Path target = tmp.resolve("scripts.bundle");
+        ScriptBundleWriter writer = new ScriptBundleWriter();
+
+        writer.write(List.of(scripts), target);
+        ScriptBundleWriter.Result second = writer.write(List.of(scripts, tmp.resolve("missing")), target);
+
+        assertFalse(second.written());
+        write(scripts.resolve("python/stats_api.py"), "x = 2\n");
+        assertTrue(writer.write(List.of(scripts), target).written());
+    }
+
+    @Test
+    void write_ShouldRejectDuplicateEntries() throws IOException {
+        write(tmp.resolve("a/python/stats_api.py"), "x = 1\n");
+        write(tmp.resolve("b/python/stats_api.py"), "x = 2\n");
+
+        assertThrows(IllegalStateException.class,
+                () -> new ScriptBundleWriter().write(List.of(tmp.resolve("a"), tmp.resolve("b")), tmp.resolve("s.bundle")));
+    }
+}
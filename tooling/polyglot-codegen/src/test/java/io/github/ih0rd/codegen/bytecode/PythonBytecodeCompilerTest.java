@@ -0,0 +1,107 @@
+package io.github.ih0rd.codegen.bytecode;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PythonBytecodeCompilerTest {
+
+    private static final String STATS = """
+import polyglot
+from helpers.numbers import mean
+
+class Stats:
+    def avg(self, values):
+        return mean(values)
+
+polyglot.export_value("StatsApi", Stats)
+""";
+
+    private static PythonBytecodeCompiler compiler;
+
+    @TempDir
+    Path tmp;
+
+    @BeforeAll
+    static void createCompiler() {
+        compiler = new PythonBytecodeCompiler();
+    }
+
+    @AfterAll
+    static void closeCompiler() {
+        compiler.close();
+    }
+
+    @Test
+    void compile_ShouldWriteCheckedHashPyc() {
+        byte[] pyc = compiler.compile("python/stats_api.py", STATS);
+
+        assertTrue(compiler.cacheTag().startsWith("graalpy"));
+        assertTrue(pyc.length > 16);
+        // flags: hash-based (0x1) and checked against the source (0x2)
+        assertEquals(0b11, pyc[4]);
+    }
+
+    @Test
+    void compile_ShouldRejectSyntaxErrors() {
+        IllegalStateException ex =
+                assertThrows(IllegalStateException.class, () -> compiler.compile("broken.py", "def broken(:\n"));
+
+        assertTrue(ex.getMessage().contains("broken.py"));
+    }
+
+    @Test
+    void compileAll_ShouldMirrorLayoutAndSkipUnchanged() throws IOException {
+        Path in = tmp.resolve("in");
+        Path out = tmp.resolve("out");
+        write(in.resolve("python/stats_api.py"), STATS);
+        write(in.resolve("python/helpers/numbers.py"), "def mean(values):\n    return sum(values) / len(values)\n");
+        write(in.resolve("python/broken.py"), "def broken(:\n");
+
+        PythonBytecodeCompiler.Result first = compiler.compileAll(in, out);
+
+        Path statsCache = out.resolve("python/__pycache__/stats_api." + compiler.cacheTag() + ".pyc");
+        Path helperCache = out.resolve("python/helpers/__pycache__/numbers." + compiler.cacheTag() + ".pyc");
+        assertEquals(2, first.written().size());
+        assertTrue(Files.isRegularFile(statsCache));
+        assertTrue(Files.isRegularFile(helperCache));
+        assertEquals(1, first.failed().size());
+        assertTrue(first.failed().containsKey(in.resolve("python/broken.py")));
+
+        PythonBytecodeCompiler.Result second = compiler.compileAll(in, out);
+
+        assertTrue(second.written().isEmpty());
+        assertEquals(2, second.unchanged().size());
+    }
+
+    @Test
+    void compileAll_ShouldDeleteCachesOfRemovedScripts() throws IOException {
+        Path in = tmp.resolve("in");
+        Path out = tmp.resolve("out");
+        write(in.resolve("python/stats_api.py"), STATS);
+        write(in.resolve("python/old_api.py"), "x = 1\n");
+        compiler.compileAll(in, out);
+        Path stale = out.resolve("python/__pycache__/other.graalpy000-000.pyc");
+        write(stale, "");
+
+        Files.delete(in.resolve("python/old_api.py"));
+        PythonBytecodeCompiler.Result result = compiler.compileAll(in, out);
+
+        assertEquals(2, result.deleted().size());
+        assertFalse(Files.exists(out.resolve("python/__pycache__/old_api." + compiler.cacheTag() + ".pyc")));
+        assertFalse(Files.exists(stale));
+        assertEquals(1, result.unchanged().size());
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content);
+    }
+}
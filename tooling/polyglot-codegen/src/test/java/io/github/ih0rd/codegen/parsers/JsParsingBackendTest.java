@@ -0,0 +1,190 @@
+package io.github.ih0rd.codegen.parsers;
+
+import io.github.ih0rd.contract.CodegenConfig;
+import io.github.ih0rd.contract.ContractClass;
+import io.github.ih0rd.contract.ContractMethod;
+import io.github.ih0rd.contract.LanguageParser;
+import io.github.ih0rd.contract.ScriptDescriptor;
+import io.github.ih0rd.contract.SupportedLanguage;
+import io.github.ih0rd.contract.types.PolyList;
+import io.github.ih0rd.contract.types.PolyMap;
+import io.github.ih0rd.contract.types.PolyObject;
+import io.github.ih0rd.contract.types.PolyPrimitive;
+import io.github.ih0rd.contract.types.PolyUnknown;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsParsingBackendTest {
+
+    private final LanguageParser parser = new JsContractParser();
+
+    private ContractClass parse(String source, CodegenConfig config) {
+        ScriptDescriptor descriptor = new ScriptDescriptor(
+                SupportedLanguage.JS,
+                source,
+                "stats_api.js"
+        );
+        return parser.parse(descriptor, config).classes().getFirst();
+    }
+
+    private ContractClass parse(String source) {
+        return parse(source, new CodegenConfig(false));
+    }
+
+    private ContractMethod method(ContractClass clazz, String name) {
+        return clazz.methods().stream()
+                .filter(m -> m.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No method " + name));
+    }
+
+    @Test
+    void parse_ShouldNameContractAfterFile() {
+        assertEquals("StatsApi", parse("function ping() { return 1; }").name());
+    }
+
+    @Test
+    void parse_ShouldExtractDeclarationsAndGlobals() {
+        String source = """
+function forecast(data, steps) {
+  return [];
+}
+
+const add = (a, b) => a + b;
+var ping = function () { return 123; };
+
+function _helper() {}
+
+(function () {
+  globalThis.twice = (x) => x * 2;
+})();
+
+globalThis.sum = add;
+""";
+
+        ContractClass clazz = parse(source);
+
+        assertEquals(
+                List.of("forecast", "add", "ping", "twice", "sum"),
+                clazz.methods().stream().map(ContractMethod::name).toList()
+        );
+        assertEquals(2, method(clazz, "forecast").params().size());
+        assertEquals(2, method(clazz, "sum").params().size());
+        assertEquals(PolyPrimitive.FLOAT, method(clazz, "ping").returnType());
+    }
+
+    @Test
+    void parse_ShouldUseJsDocTypes() {
+        String source = """
+/**
+ * Averages the values.
+ *
+ * @param {number[]} values samples
+ * @param {integer} [window=3] window size
+ * @returns {{avg: number, count: integer}}
+ */
+async function average(values, window = 3) {
+  return compute(values, window);
+}
+""";
+
+        ContractMethod method = parse(source, new CodegenConfig(false, true)).methods().getFirst();
+
+        assertEquals("average", method.name());
+        assertEquals(new PolyList(PolyPrimitive.FLOAT), method.params().get(0).type());
+        assertEquals(PolyPrimitive.INT, method.params().get(1).type());
+        assertEquals(
+                new PolyObject(Map.of("avg", PolyPrimitive.FLOAT, "count", PolyPrimitive.INT)),
+                method.returnType()
+        );
+    }
+
+    @Test
+    void parse_ShouldInferTypesFromLiterals() {
+        String source = """
+function label(name, prefix = "id") {
+  const inner = function () { return 1; };
+  return `${prefix}:${name}`;
+}
+
+function ratios() {
+  return [1, 2.5, 3];
+}
+
+function flags() {
+  return { ok: true, failed: false };
+}
+
+const isEmpty = (list) => list.length === 0;
+
+function nothing() {
+  return
+    42;
+}
+""";
+
+        ContractClass clazz = parse(source);
+
+        ContractMethod label = method(clazz, "label");
+        assertInstanceOf(PolyUnknown.class, label.params().get(0).type());
+        assertEquals(PolyPrimitive.STRING, label.params().get(1).type());
+        assertEquals(PolyPrimitive.STRING, label.returnType());
+
+        assertEquals(new PolyList(PolyPrimitive.FLOAT), method(clazz, "ratios").returnType());
+        assertEquals(new PolyMap(PolyPrimitive.STRING, PolyPrimitive.BOOLEAN), method(clazz, "flags").returnType());
+        assertEquals(PolyPrimitive.BOOLEAN, method(clazz, "isEmpty").returnType());
+        assertInstanceOf(PolyUnknown.class, method(clazz, "nothing").returnType());
+    }
+
+    @Test
+    void parse_ShouldIgnoreCommentsStringsAndRegexes() {
+        String source = """
+// function commented() {}
+const text = "function quoted() {}";
+const pattern = /function regex\\(\\) {}/g;
+const template = `${"}"} function templated() {}`;
+
+function real() { return 1 / 2; }
+""";
+
+        ContractClass clazz = parse(source);
+
+        assertEquals(List.of("real"), clazz.methods().stream().map(ContractMethod::name).toList());
+    }
+
+    @Test
+    void parse_ShouldHandleDestructuredAndRestParams() {
+        String source = "function configure({ size }, [first], ...rest) { return null; }";
+
+        ContractMethod method = parse(source).methods().getFirst();
+
+        assertEquals(List.of("arg0", "arg1"), method.params().stream().map(p -> p.name()).toList());
+    }
+
+    @Test
+    void parse_ShouldRespectIncludeTag() {
+        String source = """
+/** @adapter_include */
+function kept() { return 1; }
+
+function dropped() { return 2; }
+""";
+
+        ContractClass clazz = parse(source, new CodegenConfig(true));
+
+        assertEquals(List.of("kept"), clazz.methods().stream().map(ContractMethod::name).toList());
+    }
+
+    @Test
+    void parse_ShouldRejectSyntaxErrors() {
+        IllegalStateException ex = assertThrows(
+                IllegalStateException.class,
+                () -> parse("function broken( { return 1; }")
+        );
+        assertTrue(ex.getMessage().contains("stats_api.js"));
+    }
+}
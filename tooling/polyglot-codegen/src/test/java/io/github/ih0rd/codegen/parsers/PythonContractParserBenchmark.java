@@ -0,0 +1,100 @@
+package io.github.ih0rd.codegen.parsers;
+
+import io.github.ih0rd.contract.CodegenConfig;
+import io.github.ih0rd.contract.ScriptDescriptor;
+import io.github.ih0rd.contract.SupportedLanguage;
+
+import java.util.concurrent.TimeUnit;
+
+/// # PythonContractParserBenchmark
+///
+/// Manual throughput benchmark of {@link PythonContractParser} on large generated modules.
+///
+/// Not part of the test suite; run it from the IDE or with:
+///
+/// ```
+/// mvn -pl polyglot-codegen test-compile exec:java \
+///     -Dexec.classpathScope=test \
+///     -Dexec.mainClass=io.github.ih0rd.codegen.parsers.PythonContractParserBenchmark
+/// ```
+///
+/// Reports the average parse time per module size for a class export and a dict export.
+public final class PythonContractParserBenchmark {
+
+    private static final int[] METHODS = {250, 1_000, 4_000};
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 20;
+
+    private PythonContractParserBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        PythonContractParser parser = new PythonContractParser();
+        CodegenConfig config = new CodegenConfig(false);
+
+        for (int methods : METHODS) {
+            for (boolean dictExport : new boolean[]{false, true}) {
+                String source = module(methods, dictExport);
+                ScriptDescriptor script =
+                        new ScriptDescriptor(SupportedLanguage.PYTHON, source, "bench.py");
+
+                for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                    parser.parse(script, config);
+                }
+
+                long start = System.nanoTime();
+                for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                    parser.parse(script, config);
+                }
+                long avgMicros =
+                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / MEASURED_ROUNDS;
+
+                System.out.printf(
+                        "%-5s export, %6d lines: %,10d us/parse%n",
+                        dictExport ? "dict" : "class",
+                        source.lines().count(),
+                        avgMicros
+                );
+            }
+        }
+    }
+
+    /// Generates a module with multi-line signatures, docstrings, comments and
+    /// multi-line collection returns.
+    public static String module(int methods, boolean dictExport) {
+        StringBuilder sb = new StringBuilder();
+        String indent = dictExport ? "" : "    ";
+
+        if (!dictExport) {
+            sb.append("polyglot.export_value(\"BenchApi\", Bench)\n\n");
+            sb.append("class Bench:\n");
+        }
+
+        for (int i = 0; i < methods; i++) {
+            sb.append(indent).append("def method_").append(i).append("(\n");
+            if (!dictExport) {
+                sb.append(indent).append("        self,\n");
+            }
+            sb.append(indent).append("        a: int,  # count\n");
+            sb.append(indent).append("        b: Dict[str, List[int]] = None,\n");
+            sb.append(indent).append("        c=\"x, y\"):\n");
+            sb.append(indent).append("    \"\"\"Method ").append(i).append(".\n\n");
+            sb.append(indent).append("    return value is documented here\n");
+            sb.append(indent).append("    \"\"\"\n");
+            sb.append(indent).append("    total = a + len(c)\n");
+            sb.append(indent).append("    return {\n");
+            sb.append(indent).append("        'total': total,\n");
+            sb.append(indent).append("        'index': ").append(i).append(",\n");
+            sb.append(indent).append("    }\n\n");
+        }
+
+        if (dictExport) {
+            sb.append("polyglot.export_value(\"BenchApi\", {\n");
+            for (int i = 0; i < methods; i++) {
+                sb.append("    \"m").append(i).append("\": method_").append(i).append(",\n");
+            }
+            sb.append("})\n");
+        }
+        return sb.toString();
+    }
+}
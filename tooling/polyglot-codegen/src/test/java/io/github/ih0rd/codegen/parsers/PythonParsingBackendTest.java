@@ -9,12 +9,15 @@ import io.github.ih0rd.contract.ScriptDescriptor;
 import io.github.ih0rd.contract.SupportedLanguage;
 import io.github.ih0rd.contract.types.PolyList;
 import io.github.ih0rd.contract.types.PolyMap;
+import io.github.ih0rd.contract.types.PolyObject;
 import io.github.ih0rd.contract.types.PolyPrimitive;
 import io.github.ih0rd.contract.types.PolyType;
 import io.github.ih0rd.contract.types.PolyUnknown;
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -246,6 +249,112 @@ class C:
         assertInstanceOf(PolyUnknown.class, ((PolyMap)t).valueType());
     }
 
+    @Test
+    void parse_ShouldHandleMultiLineSignature() {
+        String source = """
+polyglot.export_value("Api", C)
+class C(Base):
+    def m(
+            self,
+            a: int,  # count: items
+            b: Dict[str,
+                    List[int]] = None,
+            c="x, y: z"):
+        return 1
+""";
+
+        ContractMethod method = parse(source).classes().get(0).methods().get(0);
+        assertEquals(3, method.params().size());
+        assertEquals(PolyPrimitive.INT, method.params().get(0).type());
+        assertEquals(new PolyMap(PolyPrimitive.STRING, new PolyList(PolyPrimitive.INT)), method.params().get(1).type());
+        assertInstanceOf(PolyUnknown.class, method.params().get(2).type());
+        assertEquals(PolyPrimitive.INT, method.returnType());
+    }
+
+    @Test
+    void parse_ShouldIgnoreCommentsAndStrings() {
+        String source = """
+polyglot.export_value("Api", C)
+# polyglot.export_value("Other", D)
+class C:
+    def m(self):
+        \"\"\"
+        :return: a dict
+        \"\"\"
+        text = "return 5"
+        return {
+            "a": 1,
+            # "b": "two",
+        }
+""";
+
+        ContractModel model = parse(source);
+        assertEquals("Api", model.classes().get(0).name());
+        assertEquals(new PolyMap(PolyPrimitive.STRING, PolyPrimitive.INT), model.classes().get(0).methods().get(0).returnType());
+    }
+
+    @Test
+    void parse_ShouldSkipNestedFunctions() {
+        String source = """
+polyglot.export_value("Api", C)
+class C:
+    def m(self):
+        def helper():
+            return "nested"
+        if helper(): return [1]
+        return []
+
+    def n(self): return True
+""";
+
+        List<ContractMethod> methods = parse(source).classes().get(0).methods();
+        assertEquals(2, methods.size());
+        assertEquals(new PolyList(PolyPrimitive.INT), methods.get(0).returnType());
+        assertEquals(PolyPrimitive.BOOLEAN, methods.get(1).returnType());
+    }
+
+    @Test
+    void parse_ShouldInferObjectTypes_WhenRecordTypesEnabled() {
+        String source = """
+polyglot.export_value("Api", C)
+class C:
+    def stats(self):
+        return {
+          "min": 1,
+          # "max": 3,
+          "mean": 2.5,
+          "range": dict(low=1, high=3)
+        }
+
+    def pairs(self):
+        return [{"key": "a", "value": 1}, {"key": "b", "value": 2}]
+
+    def dynamic(self):
+        return {"not-an-identifier": 1, "ok": 2}
+""";
+        ScriptDescriptor descriptor = new ScriptDescriptor(SupportedLanguage.PYTHON, source, "test.py");
+        List<ContractMethod> methods =
+                parser.parse(descriptor, new CodegenConfig(false, true)).classes().get(0).methods();
+
+        Map<String, PolyType> range = new LinkedHashMap<>();
+        range.put("low", PolyPrimitive.INT);
+        range.put("high", PolyPrimitive.INT);
+        Map<String, PolyType> stats = new LinkedHashMap<>();
+        stats.put("min", PolyPrimitive.INT);
+        stats.put("mean", PolyPrimitive.FLOAT);
+        stats.put("range", new PolyObject(range));
+
+        PolyType statsType = methods.get(0).returnType();
+        assertEquals(new PolyObject(stats), statsType);
+        assertEquals(List.of("min", "mean", "range"), List.copyOf(((PolyObject) statsType).fields().keySet()));
+        assertEquals(new PolyList(new PolyObject(Map.of("key", PolyPrimitive.STRING, "value", PolyPrimitive.INT))),
+                methods.get(1).returnType());
+        assertEquals(new PolyMap(PolyPrimitive.STRING, PolyPrimitive.INT), methods.get(2).returnType());
+
+        // disabled by default
+        assertEquals(new PolyMap(PolyPrimitive.STRING, new PolyUnknown()), parse(source).classes().get(0).methods().get(0).returnType());
+    }
+
     private PolyType getReturnType(String returnStmt) {
         String source = """
 polyglot.export_value("Api", C)
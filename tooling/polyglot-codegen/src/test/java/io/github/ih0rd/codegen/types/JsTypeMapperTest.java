@@ -0,0 +1,63 @@
+package io.github.ih0rd.codegen.types;
+
+import io.github.ih0rd.contract.types.PolyList;
+import io.github.ih0rd.contract.types.PolyMap;
+import io.github.ih0rd.contract.types.PolyObject;
+import io.github.ih0rd.contract.types.PolyPrimitive;
+import io.github.ih0rd.contract.types.PolyUnknown;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsTypeMapperTest {
+
+    private final JsTypeMapper mapper = new JsTypeMapper();
+
+    @Test
+    void mapPrimitive_ShouldMapBasicTypes() {
+        assertEquals(PolyPrimitive.FLOAT, mapper.mapPrimitive("number"));
+        assertEquals(PolyPrimitive.INT, mapper.mapPrimitive("integer"));
+        assertEquals(PolyPrimitive.STRING, mapper.mapPrimitive("string"));
+        assertEquals(PolyPrimitive.BOOLEAN, mapper.mapPrimitive("boolean"));
+        assertInstanceOf(PolyUnknown.class, mapper.mapPrimitive("*"));
+        assertInstanceOf(PolyUnknown.class, mapper.mapPrimitive(null));
+    }
+
+    @Test
+    void mapPrimitive_ShouldMapArrays() {
+        assertEquals(new PolyList(PolyPrimitive.STRING), mapper.mapPrimitive("string[]"));
+        assertEquals(new PolyList(PolyPrimitive.FLOAT), mapper.mapPrimitive("Array<number>"));
+        assertEquals(new PolyList(PolyPrimitive.INT), mapper.mapPrimitive("Array.<integer>"));
+        assertEquals(new PolyList(new PolyList(PolyPrimitive.FLOAT)), mapper.mapPrimitive("number[][]"));
+    }
+
+    @Test
+    void mapPrimitive_ShouldMapMaps() {
+        PolyMap expected = new PolyMap(PolyPrimitive.STRING, PolyPrimitive.FLOAT);
+        assertEquals(expected, mapper.mapPrimitive("Object<string, number>"));
+        assertEquals(expected, mapper.mapPrimitive("Record<string, number>"));
+        assertEquals(expected, mapper.mapPrimitive("{[key: string]: number}"));
+        assertEquals(new PolyMap(PolyPrimitive.STRING, new PolyUnknown()), mapper.mapPrimitive("Object"));
+    }
+
+    @Test
+    void mapPrimitive_ShouldStripNullability() {
+        assertEquals(PolyPrimitive.STRING, mapper.mapPrimitive("?string"));
+        assertEquals(PolyPrimitive.STRING, mapper.mapPrimitive("string="));
+        assertEquals(PolyPrimitive.STRING, mapper.mapPrimitive("string | null"));
+        assertInstanceOf(PolyUnknown.class, mapper.mapPrimitive("string | number"));
+    }
+
+    @Test
+    void mapPrimitive_ShouldMapRecordLiterals() {
+        String type = "{min: number, max: number}";
+
+        assertEquals(new PolyMap(PolyPrimitive.STRING, PolyPrimitive.FLOAT), mapper.mapPrimitive(type));
+        assertEquals(
+                new PolyObject(Map.of("min", PolyPrimitive.FLOAT, "max", PolyPrimitive.FLOAT)),
+                new JsTypeMapper(true).mapPrimitive(type)
+        );
+    }
+}
@@ -0,0 +1,21 @@
+/**
+ * This file was generated by polyglot-codegen.
+ *
+ * SHA-256 checksum: 68ccdfde2438b208b134374df8249e94953b0191446b6ffb5a9470e3c3e5d142
+ *
+ * Any manual changes will be overwritten.
+ */
+package com.demo;
+
+import java.util.List;
+import java.util.Map;
+
+public interface StatsApi {
+
+    List<Integer> randomNumbers(Integer n);
+
+    Map<String, Object> stats(Integer n);
+
+    String formatStats(Integer n);
+
+}
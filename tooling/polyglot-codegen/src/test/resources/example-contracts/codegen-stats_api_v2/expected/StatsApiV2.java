@@ -0,0 +1,21 @@
+/**
+ * This file was generated by polyglot-codegen.
+ *
+ * SHA-256 checksum: 412453a85cb42065ce2dfe263fec579922766f477d59dcdce16b593ab524ac02
+ *
+ * Any manual changes will be overwritten.
+ */
+package com.demo;
+
+import java.util.List;
+import java.util.Map;
+
+public interface StatsApiV2 {
+
+    List<Integer> randomNumbers(Integer n);
+
+    Map<String, Integer> stats(Integer n);
+
+    String formatStats(Integer n);
+
+}
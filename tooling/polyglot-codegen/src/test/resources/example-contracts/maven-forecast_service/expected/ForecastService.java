@@ -0,0 +1,14 @@
+/**
+ * This file was generated by polyglot-codegen.
+ *
+ * SHA-256 checksum: d3f7468b52a27f2c85156563e838114a705dd4d2167e58074422c940ea1362a1
+ *
+ * Any manual changes will be overwritten.
+ */
+package com.demo;
+
+public interface ForecastService {
+
+    Object forecast(Object y, Object steps, Object season_period);
+
+}
@@ -0,0 +1,21 @@
+/**
+ * This file was generated by polyglot-codegen.
+ *
+ * SHA-256 checksum: 870b666f20f13c26cb69a2d41b63f414771165dd7e7d204528f979d44373fd3c
+ *
+ * Any manual changes will be overwritten.
+ */
+package com.demo;
+
+import java.util.List;
+import java.util.Map;
+
+public interface LibrariesApi {
+
+    List<Map<String, Object>> genUsers(Integer n);
+
+    String formatUsers(Integer n);
+
+    String fakeParagraphs(Integer n);
+
+}
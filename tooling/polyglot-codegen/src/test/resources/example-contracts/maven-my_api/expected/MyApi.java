@@ -0,0 +1,16 @@
+/**
+ * This file was generated by polyglot-codegen.
+ *
+ * SHA-256 checksum: 4794b19cedc84a058d9027af4dff1c501490a0494176af74f73c32d50033f32f
+ *
+ * Any manual changes will be overwritten.
+ */
+package com.demo;
+
+public interface MyApi {
+
+    Integer add(Integer a, Integer b);
+
+    Object ping();
+
+}
@@ -0,0 +1,60 @@
+/**
+ * This file was generated by polyglot-codegen.
+ *
+ * SHA-256 checksum: eea0c1239c613764257967de3f50d6f7f3461602e6560de381515dceb51d9306
+ *
+ * Any manual changes will be overwritten.
+ */
+package com.demo;
+
+import java.util.List;
+
+public interface SimplexSolver {
+
+    Object runSimplex(Object aInput, Object bInput, Object cInput, Object prob, Object ineq, Object enableMsg, Object latex);
+
+    Object set_simplex_input(Object aInput, Object bInput, Object cInput);
+
+    Object update_enter_depart(Object matrix);
+
+    Object add_slack_variables();
+
+    Object create_tableau();
+
+    List<Object> find_pivot();
+
+    Object pivot(Object pivot_index);
+
+    Object get_entering_var();
+
+    Object get_departing_var(Object entering_index);
+
+    Object get_ab();
+
+    Object should_terminate();
+
+    Object get_current_solution();
+
+    Object start_doc();
+
+    Object init_problem_doc();
+
+    Object linear_system_doc(Object matrix);
+
+    Object slack_doc();
+
+    Object init_tableau_doc();
+
+    Object tableau_doc();
+
+    Object infeasible_doc();
+
+    Object pivot_doc(Object pivot);
+
+    Object current_solution_doc(Object solution);
+
+    Object final_solution_doc(Object solution);
+
+    Object print_doc();
+
+}
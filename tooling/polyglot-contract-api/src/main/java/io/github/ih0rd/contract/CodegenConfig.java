@@ -16,6 +16,15 @@ package io.github.ih0rd.contract;
 ///
 ///                                                       When enabled, only methods explicitly marked for inclusion
 ///                            (e.g. via adapter-level markers) will be generated.
-public record CodegenConfig(boolean onlyIncludedMethods) {
+/// @param recordTypes         ### recordTypes
+///
+///                            When enabled, dict/object literals with constant identifier keys are
+///                            described as {@code PolyObject} and generated as Java records
+///                            instead of string-keyed maps.
+public record CodegenConfig(boolean onlyIncludedMethods, boolean recordTypes) {
 
-}
\ No newline at end of file
+    /// Configuration with record types disabled.
+    public CodegenConfig(boolean onlyIncludedMethods) {
+        this(onlyIncludedMethods, false);
+    }
+}
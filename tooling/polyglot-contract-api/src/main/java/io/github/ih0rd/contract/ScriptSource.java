@@ -1,6 +1,7 @@
 package io.github.ih0rd.contract;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 
 /// # ScriptSource
@@ -19,6 +20,7 @@ import java.io.Reader;
 /// ## Responsibilities:
 /// - Resolves scripts by logical name and language
 /// - Provides a {@link Reader} for script content
+/// - Optionally provides precompiled bytecode caches of scripts
 /// - Encapsulates all script I/O concerns outside the core execution flow
 ///
 /// ## Design notes:
@@ -52,4 +54,23 @@ public interface ScriptSource {
   /// @return reader for the script content
   /// @throws IOException if an I/O error occurs while opening the script
   Reader open(SupportedLanguage language, String scriptName) throws IOException;
+
+  /// Opens the precompiled bytecode cache of a script, if one is packaged with it.
+  ///
+  /// Used for Python: caches are CPython-layout {@code .pyc} files written by the
+  /// {@code precompile} goal of the codegen plugin, conventionally resolved next to the
+  /// script as {@code __pycache__/{scriptName}.{cacheTag}.pyc}. The caller validates
+  /// the cache against the script and falls back to the source when it is stale.
+  ///
+  /// The default implementation provides no caches.
+  ///
+  /// @param language   target script language
+  /// @param scriptName logical script name
+  /// @param cacheTag   runtime cache tag (e.g. {@code graalpy250-312})
+  /// @return stream of the cache content, or {@code null} if there is none
+  /// @throws IOException if an I/O error occurs while opening the cache
+  default InputStream openBytecode(SupportedLanguage language, String scriptName, String cacheTag)
+      throws IOException {
+    return null;
+  }
 }